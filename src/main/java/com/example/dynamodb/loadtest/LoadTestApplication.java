@@ -4,6 +4,7 @@ import com.example.dynamodb.loadtest.model.TestConfiguration;
 import com.example.dynamodb.loadtest.service.ConfigurationManager;
 import com.example.dynamodb.loadtest.service.LoadTestService;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
+import com.example.dynamodb.loadtest.service.ProgressReporter;
 import com.example.dynamodb.loadtest.service.ReportGenerationService;
 import com.example.dynamodb.loadtest.service.AccurateDuplicateCounter;
 import org.slf4j.Logger;
@@ -26,8 +27,6 @@ import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -46,9 +45,9 @@ public class LoadTestApplication implements CommandLineRunner {
     private final LoadTestService loadTestService;
     private final ReportGenerationService reportGenerationService;
     private final AccurateDuplicateCounter accurateDuplicateCounter;
+    private final ProgressReporter progressReporter;
 
     private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
-    private final ScheduledExecutorService progressReporter = Executors.newSingleThreadScheduledExecutor();
     private CompletableFuture<TestSummary> currentTestExecution;
     private Instant testStartTime;
 
@@ -56,11 +55,13 @@ public class LoadTestApplication implements CommandLineRunner {
             ConfigurationManager configurationManager,
             LoadTestService loadTestService,
             ReportGenerationService reportGenerationService,
-            AccurateDuplicateCounter accurateDuplicateCounter) {
+            AccurateDuplicateCounter accurateDuplicateCounter,
+            ProgressReporter progressReporter) {
         this.configurationManager = configurationManager;
         this.loadTestService = loadTestService;
         this.reportGenerationService = reportGenerationService;
         this.accurateDuplicateCounter = accurateDuplicateCounter;
+        this.progressReporter = progressReporter;
 
         // Register shutdown hook for graceful termination
         Runtime.getRuntime().addShutdownHook(new Thread(this::initiateGracefulShutdown));
@@ -205,38 +206,14 @@ public class LoadTestApplication implements CommandLineRunner {
      * Starts periodic progress reporting during test execution.
      */
     private void startProgressReporting(TestConfiguration config) {
-        logger.info("Starting progress reporting (updates every 30 seconds)");
-
-        progressReporter.scheduleAtFixedRate(() -> {
-            if (!shutdownRequested.get() && currentTestExecution != null && !currentTestExecution.isDone()) {
-                Duration elapsed = Duration.between(testStartTime, Instant.now());
-                logger.info("Load test in progress... Elapsed time: {}m {}s, Target items: {}, Concurrency: {}",
-                        elapsed.toMinutes(),
-                        elapsed.getSeconds() % 60,
-                        config.getTotalItems(),
-                        config.getConcurrencyLimit());
-
-                System.out.println(String.format("Progress: Test running for %dm %ds...",
-                        elapsed.toMinutes(), elapsed.getSeconds() % 60));
-            }
-        }, 30, 30, TimeUnit.SECONDS);
+        progressReporter.start(config);
     }
 
     /**
      * Stops progress reporting.
      */
     private void stopProgressReporting() {
-        if (!progressReporter.isShutdown()) {
-            progressReporter.shutdown();
-            try {
-                if (!progressReporter.awaitTermination(5, TimeUnit.SECONDS)) {
-                    progressReporter.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                progressReporter.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
+        progressReporter.stop();
     }
 
     /**
@@ -271,6 +248,7 @@ public class LoadTestApplication implements CommandLineRunner {
     @PreDestroy
     public void cleanup() {
         logger.debug("Cleaning up application resources");
+        shutdownRequested.set(true);
         stopProgressReporting();
 
         if (currentTestExecution != null && !currentTestExecution.isDone()) {
@@ -1,12 +1,15 @@
 package com.example.dynamodb.loadtest.config;
 
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -28,6 +31,24 @@ public class AWSClientConfiguration {
     @Value("${aws.region:us-east-1}")
     private String awsRegion;
 
+    /**
+     * Instruments the client when metrics are collected in this context: the
+     * HTTP requests of every API call are counted, SDK retries included, and
+     * the client's connection pool and HTTP metrics are published in-process,
+     * and the capacity DynamoDB reports as consumed is recorded.
+     */
+    private static ClientOverrideConfiguration.Builder addClientMetrics(ClientOverrideConfiguration.Builder builder,
+            ObjectProvider<MetricsCollectionService> metricsCollectionService) {
+        MetricsCollectionService metrics = metricsCollectionService.getIfAvailable();
+        if (metrics == null) {
+            return builder;
+        }
+        return builder
+                .addExecutionInterceptor(new RequestAttemptInterceptor(metrics))
+                .addExecutionInterceptor(new ConsumedCapacityInterceptor(metrics))
+                .addMetricPublisher(new ClientMetricsPublisher(metrics));
+    }
+
     /**
      * Configuration for local development with LocalStack.
      */
@@ -42,13 +63,15 @@ public class AWSClientConfiguration {
         private String awsRegion;
 
         @Bean
-        public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        public DynamoDbAsyncClient dynamoDbAsyncClient(
+                ObjectProvider<MetricsCollectionService> metricsCollectionService) {
             logger.info("Creating DynamoDB client for LocalStack at endpoint: {}", endpointUrl);
 
             return DynamoDbAsyncClient.builder()
                     .region(Region.of(awsRegion))
                     .endpointOverride(URI.create(endpointUrl))
                     .credentialsProvider(DefaultCredentialsProvider.create())
+                    .overrideConfiguration(builder -> addClientMetrics(builder, metricsCollectionService))
                     .build();
         }
 
@@ -76,18 +99,19 @@ public class AWSClientConfiguration {
         private String awsRegion;
 
         @Bean
-        public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        public DynamoDbAsyncClient dynamoDbAsyncClient(
+                ObjectProvider<MetricsCollectionService> metricsCollectionService) {
             logger.info("Creating optimized DynamoDB client for AWS region: {}", awsRegion);
 
             return DynamoDbAsyncClient.builder()
                     .region(Region.of(awsRegion))
                     .credentialsProvider(DefaultCredentialsProvider.create())
-                    .overrideConfiguration(builder -> builder
+                    .overrideConfiguration(builder -> addClientMetrics(builder
                             .apiCallTimeout(Duration.ofSeconds(30))
                             .apiCallAttemptTimeout(Duration.ofSeconds(10))
                             .retryPolicy(retryPolicyBuilder -> retryPolicyBuilder
                                     .numRetries(3)
-                                    .build()))
+                                    .build()), metricsCollectionService))
                     .build();
         }
 
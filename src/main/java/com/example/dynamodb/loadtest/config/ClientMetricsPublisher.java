@@ -0,0 +1,66 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process AWS SDK metric publisher that feeds the metrics of every API call
+ * into {@link MetricsCollectionService}: the wait for a pooled connection and
+ * the pool's state, and the status code and service call time of each HTTP
+ * attempt. Metrics are aggregated as they are published, nothing is sent out
+ * of the process.
+ */
+public class ClientMetricsPublisher implements MetricPublisher {
+
+    private final MetricsCollectionService metricsCollectionService;
+
+    public ClientMetricsPublisher(MetricsCollectionService metricsCollectionService) {
+        this.metricsCollectionService = metricsCollectionService;
+    }
+
+    /**
+     * Records the metrics of one API call. The SDK reports them as a tree: the
+     * API call, one child per attempt, and below each attempt the metrics of
+     * the HTTP client. The tree is walked without relying on collection names.
+     * 
+     * @param metricCollection the metrics of the API call
+     */
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        List<Duration> acquires = metricCollection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION);
+        if (!acquires.isEmpty()) {
+            metricsCollectionService.recordConnectionAcquire(acquires.get(0).toNanos(),
+                    first(metricCollection, HttpMetric.LEASED_CONCURRENCY),
+                    first(metricCollection, HttpMetric.PENDING_CONCURRENCY_ACQUIRES),
+                    first(metricCollection, HttpMetric.MAX_CONCURRENCY));
+        }
+
+        List<Integer> statusCodes = metricCollection.metricValues(HttpMetric.HTTP_STATUS_CODE);
+        List<Duration> serviceCalls = metricCollection.metricValues(CoreMetric.SERVICE_CALL_DURATION);
+        if (!statusCodes.isEmpty() || !serviceCalls.isEmpty()) {
+            metricsCollectionService.recordHttpResponse(statusCodes.isEmpty() ? 0 : statusCodes.get(0),
+                    serviceCalls.isEmpty() ? -1 : serviceCalls.get(0).toNanos());
+        }
+
+        for (MetricCollection child : metricCollection.children()) {
+            publish(child);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nothing is buffered
+    }
+
+    private static int first(MetricCollection metricCollection, SdkMetric<Integer> metric) {
+        List<Integer> values = metricCollection.metricValues(metric);
+        return values.isEmpty() ? 0 : values.get(0);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.EmfMetricSink;
+import com.example.dynamodb.loadtest.service.InMemoryMetricSink;
+import com.example.dynamodb.loadtest.service.MetricSink;
+import com.example.dynamodb.loadtest.service.PutMetricDataSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClientBuilder;
+
+import java.net.URI;
+
+/**
+ * Configuration of the sink the per-second load test metrics are published
+ * to, selected with {@code metrics.cloudwatch.sink}: {@code emf} log lines,
+ * {@code put-metric-data} API calls, or the {@code memory} stand-in. No sink
+ * is created otherwise, which turns publishing off.
+ */
+@Configuration
+public class CloudWatchMetricsConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(CloudWatchMetricsConfiguration.class);
+
+    private static final String SINK_PROPERTY = "metrics.cloudwatch.sink";
+
+    @Value("${metrics.cloudwatch.namespace:DynamoDBLoadTest}")
+    private String namespace;
+
+    @Bean
+    @ConditionalOnProperty(name = SINK_PROPERTY, havingValue = "emf")
+    public MetricSink emfMetricSink() {
+        logger.info("Publishing load test metrics as EMF log lines in namespace {}", namespace);
+        return new EmfMetricSink(System.out, namespace);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = SINK_PROPERTY, havingValue = "put-metric-data")
+    public CloudWatchAsyncClient cloudWatchAsyncClient(@Value("${aws.region:us-east-1}") String awsRegion,
+            @Value("${aws.endpoint-url:}") String endpointUrl) {
+        logger.info("Creating CloudWatch client for region: {}", awsRegion);
+
+        CloudWatchAsyncClientBuilder builder = CloudWatchAsyncClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(DefaultCredentialsProvider.create());
+        if (!endpointUrl.isBlank()) {
+            builder.endpointOverride(URI.create(endpointUrl));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SINK_PROPERTY, havingValue = "put-metric-data")
+    public MetricSink putMetricDataSink(CloudWatchAsyncClient cloudWatchAsyncClient) {
+        logger.info("Publishing load test metrics with PutMetricData in namespace {}", namespace);
+        return new PutMetricDataSink(cloudWatchAsyncClient, namespace);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SINK_PROPERTY, havingValue = "memory")
+    public MetricSink inMemoryMetricSink() {
+        logger.info("Keeping load test metrics in memory instead of publishing them to CloudWatch");
+        return new InMemoryMetricSink();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+
+import java.util.List;
+
+/**
+ * AWS SDK interceptor that records the capacity DynamoDB reports as consumed
+ * by each successful API call. Requests must ask for it with
+ * {@code ReturnConsumedCapacity}; responses without it are ignored.
+ */
+public class ConsumedCapacityInterceptor implements ExecutionInterceptor {
+
+    private final MetricsCollectionService metricsCollectionService;
+
+    public ConsumedCapacityInterceptor(MetricsCollectionService metricsCollectionService) {
+        this.metricsCollectionService = metricsCollectionService;
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        SdkResponse response = context.response();
+        if (response instanceof PutItemResponse putItem) {
+            metricsCollectionService.recordConsumedCapacity(unitsOf(putItem.consumedCapacity()), 0);
+        } else if (response instanceof BatchWriteItemResponse batchWrite) {
+            metricsCollectionService.recordConsumedCapacity(unitsOf(batchWrite.consumedCapacity()), 0);
+        } else if (response instanceof TransactWriteItemsResponse transactWrite) {
+            metricsCollectionService.recordConsumedCapacity(unitsOf(transactWrite.consumedCapacity()), 0);
+        } else if (response instanceof GetItemResponse getItem) {
+            metricsCollectionService.recordConsumedCapacity(0, unitsOf(getItem.consumedCapacity()));
+        } else if (response instanceof BatchGetItemResponse batchGet) {
+            metricsCollectionService.recordConsumedCapacity(0, unitsOf(batchGet.consumedCapacity()));
+        } else if (response instanceof QueryResponse query) {
+            metricsCollectionService.recordConsumedCapacity(0, unitsOf(query.consumedCapacity()));
+        }
+    }
+
+    private static double unitsOf(List<ConsumedCapacity> consumedCapacities) {
+        if (consumedCapacities == null) {
+            return 0.0;
+        }
+        double units = 0.0;
+        for (ConsumedCapacity consumedCapacity : consumedCapacities) {
+            units += unitsOf(consumedCapacity);
+        }
+        return units;
+    }
+
+    private static double unitsOf(ConsumedCapacity consumedCapacity) {
+        if (consumedCapacity == null || consumedCapacity.capacityUnits() == null) {
+            return 0.0;
+        }
+        return consumedCapacity.capacityUnits();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.OperationJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration of the binary operation journal, created only when
+ * {@code metrics.journal.path} is set (e.g. with the
+ * {@code METRICS_JOURNAL_PATH} environment variable). Without it no operation
+ * is journaled.
+ */
+@Configuration
+public class OperationJournalConfiguration {
+
+    private static final String PATH_PROPERTY = "metrics.journal.path";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = PATH_PROPERTY)
+    public OperationJournal operationJournal(@Value("${" + PATH_PROPERTY + "}") String path) throws IOException {
+        return new OperationJournal(Path.of(path));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AWS SDK interceptor that counts the HTTP requests sent for each API call of
+ * a measured operation. The SDK retries some failures on its own before the
+ * application sees them; counting every transmission makes those retries
+ * visible in the retry amplification of the report. Calls started outside of
+ * {@link MetricsCollectionService#issueMeasuredRequest}, such as table checks,
+ * are not counted, so their retries do not inflate the amplification.
+ */
+public class RequestAttemptInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<AtomicInteger> ATTEMPTS = new ExecutionAttribute<>("LoadTestAttempts");
+
+    private final MetricsCollectionService metricsCollectionService;
+
+    public RequestAttemptInterceptor(MetricsCollectionService metricsCollectionService) {
+        this.metricsCollectionService = metricsCollectionService;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        // Runs on the thread that starts the call, even for the async client
+        if (metricsCollectionService.isIssuingMeasuredRequest()) {
+            executionAttributes.putAttribute(ATTEMPTS, new AtomicInteger());
+        }
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        AtomicInteger attempts = executionAttributes.getAttribute(ATTEMPTS);
+        if (attempts == null) {
+            return;
+        }
+        // Called once per HTTP attempt, so every call after the first is an SDK retry
+        metricsCollectionService.recordHttpAttempt(attempts.incrementAndGet() > 1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.dynamodb.loadtest.model;
 
 import jakarta.validation.constraints.*;
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -40,6 +41,98 @@ public class TestConfiguration {
     @Pattern(regexp = "^(local|dev|test|staging|prod|aws)$", message = "Environment must be one of: local, dev, test, staging, prod, aws")
     private String environment;
 
+    @NotBlank(message = "Load pattern cannot be blank")
+    @Pattern(regexp = "^(progressive|constant-rate)$", message = "Load pattern must be one of: progressive, constant-rate")
+    private String loadPattern = LOAD_PATTERN_PROGRESSIVE;
+
+    @Min(value = 1, message = "Target requests per second must be at least 1")
+    @Max(value = 1000000, message = "Target requests per second cannot exceed 1 million")
+    private Integer targetRequestsPerSecond;
+
+    @Min(value = 1, message = "Ramp step duration must be at least 1 second")
+    @Max(value = 86400, message = "Ramp step duration cannot exceed 24 hours")
+    private Integer rampStepDurationSeconds;
+
+    @Min(value = 1, message = "Test duration must be at least 1 second")
+    @Max(value = 604800, message = "Test duration cannot exceed 7 days")
+    private Integer testDurationSeconds;
+
+    @NotBlank(message = "Workload type cannot be blank")
+    @Pattern(regexp = "^(put|batch-write|transact-write)$", message = "Workload type must be one of: put, batch-write, transact-write")
+    private String workloadType = WORKLOAD_TYPE_PUT;
+
+    @NotNull(message = "Transaction size cannot be null")
+    @Min(value = 2, message = "Transaction size must be at least 2")
+    @Max(value = 100, message = "Transaction size cannot exceed 100")
+    private Integer transactionSize = DEFAULT_TRANSACTION_SIZE;
+
+    @NotNull(message = "Transaction overlap percentage cannot be null")
+    @DecimalMin(value = "0.0", message = "Transaction overlap percentage must be between 0% and 100%")
+    @DecimalMax(value = "100.0", message = "Transaction overlap percentage must be between 0% and 100%")
+    private Double transactionOverlapPercentage = 0.0;
+
+    @NotNull(message = "Transaction conflict percentage cannot be null")
+    @DecimalMin(value = "0.0", message = "Transaction conflict percentage must be between 0% and 100%")
+    @DecimalMax(value = "100.0", message = "Transaction conflict percentage must be between 0% and 100%")
+    private Double transactionConflictPercentage = 0.0;
+
+    // Weighted operation mix, e.g. "put:20,get:80"; null runs the workload type
+    // alone
+    @Pattern(regexp = "^(put|get|batch-get|query):\\d+(,(put|get|batch-get|query):\\d+)*$", message = "Workload mix must be a comma-separated list of operation:weight pairs over put, get, batch-get and query")
+    private String workloadMix;
+
+    // How generated items pick their keys; null gives every item a unique key
+    @Pattern(regexp = "^(uniform|zipfian|hotspot|monotonic)$", message = "Key distribution must be one of: uniform, zipfian, hotspot, monotonic")
+    private String keyDistribution;
+
+    @Min(value = 1, message = "Key space size must be at least 1")
+    @Max(value = 100000000, message = "Key space size cannot exceed 100 million")
+    private Integer keySpaceSize;
+
+    @NotNull(message = "Zipfian skew cannot be null")
+    @DecimalMin(value = "0.01", message = "Zipfian skew must be between 0.01 and 10")
+    @DecimalMax(value = "10.0", message = "Zipfian skew must be between 0.01 and 10")
+    private Double zipfianSkew = DEFAULT_ZIPFIAN_SKEW;
+
+    @NotNull(message = "Hotspot traffic percentage cannot be null")
+    @DecimalMin(value = "0.0", message = "Hotspot traffic percentage must be between 0% and 100%")
+    @DecimalMax(value = "100.0", message = "Hotspot traffic percentage must be between 0% and 100%")
+    private Double hotspotTrafficPercentage = DEFAULT_HOTSPOT_TRAFFIC_PERCENTAGE;
+
+    @NotNull(message = "Hotspot key percentage cannot be null")
+    @DecimalMin(value = "0.001", message = "Hotspot key percentage must be between 0.001% and 100%")
+    @DecimalMax(value = "100.0", message = "Hotspot key percentage must be between 0.001% and 100%")
+    private Double hotspotKeyPercentage = DEFAULT_HOTSPOT_KEY_PERCENTAGE;
+
+    // Seed the generated items are derived from; null picks a random seed per run
+    private Long itemSeed;
+
+    // Load pattern constants
+    public static final String LOAD_PATTERN_PROGRESSIVE = "progressive";
+    public static final String LOAD_PATTERN_CONSTANT_RATE = "constant-rate";
+
+    // Workload type constants
+    public static final String WORKLOAD_TYPE_PUT = "put";
+    public static final String WORKLOAD_TYPE_BATCH_WRITE = "batch-write";
+    public static final String WORKLOAD_TYPE_TRANSACT_WRITE = "transact-write";
+
+    // Items per TransactWriteItems request unless configured
+    public static final int DEFAULT_TRANSACTION_SIZE = 4;
+
+    // Key distribution constants
+    public static final String KEY_DISTRIBUTION_UNIFORM = "uniform";
+    public static final String KEY_DISTRIBUTION_ZIPFIAN = "zipfian";
+    public static final String KEY_DISTRIBUTION_HOTSPOT = "hotspot";
+    public static final String KEY_DISTRIBUTION_MONOTONIC = "monotonic";
+
+    // Key distribution defaults: the YCSB Zipfian constant and an 80/20 hotspot
+    public static final double DEFAULT_ZIPFIAN_SKEW = 0.99;
+    public static final double DEFAULT_HOTSPOT_TRAFFIC_PERCENTAGE = 80.0;
+    public static final double DEFAULT_HOTSPOT_KEY_PERCENTAGE = 20.0;
+
+    // Key space of duration-based runs unless configured
+    public static final int DEFAULT_DURATION_KEY_SPACE_SIZE = 1_000_000;
+
     // Default constructor
     public TestConfiguration() {
     }
@@ -113,6 +206,126 @@ public class TestConfiguration {
         this.environment = environment;
     }
 
+    public String getLoadPattern() {
+        return loadPattern;
+    }
+
+    public void setLoadPattern(String loadPattern) {
+        this.loadPattern = loadPattern;
+    }
+
+    public Integer getTargetRequestsPerSecond() {
+        return targetRequestsPerSecond;
+    }
+
+    public void setTargetRequestsPerSecond(Integer targetRequestsPerSecond) {
+        this.targetRequestsPerSecond = targetRequestsPerSecond;
+    }
+
+    public Integer getRampStepDurationSeconds() {
+        return rampStepDurationSeconds;
+    }
+
+    public void setRampStepDurationSeconds(Integer rampStepDurationSeconds) {
+        this.rampStepDurationSeconds = rampStepDurationSeconds;
+    }
+
+    public Integer getTestDurationSeconds() {
+        return testDurationSeconds;
+    }
+
+    public void setTestDurationSeconds(Integer testDurationSeconds) {
+        this.testDurationSeconds = testDurationSeconds;
+    }
+
+    public String getWorkloadType() {
+        return workloadType;
+    }
+
+    public void setWorkloadType(String workloadType) {
+        this.workloadType = workloadType;
+    }
+
+    public String getWorkloadMix() {
+        return workloadMix;
+    }
+
+    public void setWorkloadMix(String workloadMix) {
+        this.workloadMix = workloadMix;
+    }
+
+    public Integer getTransactionSize() {
+        return transactionSize;
+    }
+
+    public void setTransactionSize(Integer transactionSize) {
+        this.transactionSize = transactionSize;
+    }
+
+    public Double getTransactionOverlapPercentage() {
+        return transactionOverlapPercentage;
+    }
+
+    public void setTransactionOverlapPercentage(Double transactionOverlapPercentage) {
+        this.transactionOverlapPercentage = transactionOverlapPercentage;
+    }
+
+    public Double getTransactionConflictPercentage() {
+        return transactionConflictPercentage;
+    }
+
+    public void setTransactionConflictPercentage(Double transactionConflictPercentage) {
+        this.transactionConflictPercentage = transactionConflictPercentage;
+    }
+
+    public String getKeyDistribution() {
+        return keyDistribution;
+    }
+
+    public void setKeyDistribution(String keyDistribution) {
+        this.keyDistribution = keyDistribution;
+    }
+
+    public Integer getKeySpaceSize() {
+        return keySpaceSize;
+    }
+
+    public void setKeySpaceSize(Integer keySpaceSize) {
+        this.keySpaceSize = keySpaceSize;
+    }
+
+    public Double getZipfianSkew() {
+        return zipfianSkew;
+    }
+
+    public void setZipfianSkew(Double zipfianSkew) {
+        this.zipfianSkew = zipfianSkew;
+    }
+
+    public Double getHotspotTrafficPercentage() {
+        return hotspotTrafficPercentage;
+    }
+
+    public void setHotspotTrafficPercentage(Double hotspotTrafficPercentage) {
+        this.hotspotTrafficPercentage = hotspotTrafficPercentage;
+    }
+
+    public Double getHotspotKeyPercentage() {
+        return hotspotKeyPercentage;
+    }
+
+    public void setHotspotKeyPercentage(Double hotspotKeyPercentage) {
+        this.hotspotKeyPercentage = hotspotKeyPercentage;
+    }
+
+    public Long getItemSeed() {
+        return itemSeed;
+    }
+
+    public void setItemSeed(Long itemSeed) {
+        this.itemSeed = itemSeed;
+    }
+
     // Derived properties and validation methods
 
     /**
@@ -148,6 +361,35 @@ public class TestConfiguration {
         return totalItems != null ? totalItems - getItemsForMaxConcurrency() : 0;
     }
 
+    /**
+     * Gets how long each ramp-up step holds its concurrency level.
+     * 
+     * @return the ramp step duration, or null if ramp-up steps are sized by item
+     *         count
+     */
+    public Duration getRampStepDuration() {
+        return rampStepDurationSeconds != null ? Duration.ofSeconds(rampStepDurationSeconds) : null;
+    }
+
+    /**
+     * Gets how long a duration-based (soak) run generates load.
+     * 
+     * @return the test duration, or null if the run is sized by total items
+     */
+    public Duration getTestDuration() {
+        return testDurationSeconds != null ? Duration.ofSeconds(testDurationSeconds) : null;
+    }
+
+    /**
+     * Checks if this configuration runs for a fixed duration, generating items
+     * continuously, instead of writing a fixed number of items.
+     * 
+     * @return true if a test duration is configured
+     */
+    public boolean isDurationMode() {
+        return testDurationSeconds != null;
+    }
+
     /**
      * Checks if this is a local environment configuration.
      * 
@@ -166,6 +408,70 @@ public class TestConfiguration {
         return "prod".equalsIgnoreCase(environment);
     }
 
+    /**
+     * Checks if this configuration drives an open-loop constant arrival rate
+     * instead of the closed-loop progressive ramp.
+     * 
+     * @return true if load pattern is constant-rate
+     */
+    public boolean isConstantRateMode() {
+        return LOAD_PATTERN_CONSTANT_RATE.equalsIgnoreCase(loadPattern);
+    }
+
+    /**
+     * Checks if this configuration writes items with BatchWriteItem requests
+     * instead of one conditional PutItem per item.
+     * 
+     * @return true if workload type is batch-write
+     */
+    public boolean isBatchWriteMode() {
+        return WORKLOAD_TYPE_BATCH_WRITE.equalsIgnoreCase(workloadType);
+    }
+
+    /**
+     * Checks if this configuration writes items in TransactWriteItems requests.
+     * 
+     * @return true if workload type is transact-write
+     */
+    public boolean isTransactWriteMode() {
+        return WORKLOAD_TYPE_TRANSACT_WRITE.equalsIgnoreCase(workloadType);
+    }
+
+    /**
+     * Checks if this configuration mixes reads into the put workload.
+     * 
+     * @return true if a workload mix is configured
+     */
+    public boolean isMixedWorkload() {
+        return workloadMix != null && !workloadMix.isBlank();
+    }
+
+    /**
+     * Checks if generated items draw their keys from a bounded key space with a
+     * key distribution instead of getting unique keys.
+     * 
+     * @return true if a key distribution is configured
+     */
+    public boolean hasKeyDistribution() {
+        return keyDistribution != null && !keyDistribution.isBlank();
+    }
+
+    /**
+     * Gets the number of distinct keys a key distribution draws from. Defaults
+     * to the total items, or to a fixed size for duration-based runs.
+     * 
+     * @return the key space size
+     */
+    public int getEffectiveKeySpaceSize() {
+        if (keySpaceSize != null) {
+            return keySpaceSize;
+        }
+        if (isDurationMode() || totalItems == null) {
+            return DEFAULT_DURATION_KEY_SPACE_SIZE;
+        }
+        return totalItems;
+    }
+
     /**
      * Validates the configuration for logical consistency.
      * 
@@ -184,6 +490,23 @@ public class TestConfiguration {
             return false;
         }
 
+        // Constant-rate mode needs a target rate to pace requests against
+        if (isConstantRateMode() && (targetRequestsPerSecond == null || targetRequestsPerSecond < 1)) {
+            return false;
+        }
+
+        // Reads are mixed into single puts only
+        if (isMixedWorkload() && (isBatchWriteMode() || isTransactWriteMode())) {
+            return false;
+        }
+
+        if (hasKeyDistribution() && (keySpaceSize != null && keySpaceSize < 1
+                || zipfianSkew == null || zipfianSkew <= 0.0
+                || hotspotTrafficPercentage == null || hotspotTrafficPercentage < 0.0 || hotspotTrafficPercentage > 100.0
+                || hotspotKeyPercentage == null || hotspotKeyPercentage <= 0.0 || hotspotKeyPercentage > 100.0)) {
+            return false;
+        }
+
         // Additional logical validations
         return getMaxConcurrencyLevel() >= 1 && getItemsForMaxConcurrency() >= 1;
     }
@@ -202,6 +525,21 @@ public class TestConfiguration {
         safeCopy.duplicatePercentage = this.duplicatePercentage;
         safeCopy.cleanupAfterTest = this.cleanupAfterTest;
         safeCopy.environment = this.environment;
+        safeCopy.loadPattern = this.loadPattern;
+        safeCopy.targetRequestsPerSecond = this.targetRequestsPerSecond;
+        safeCopy.rampStepDurationSeconds = this.rampStepDurationSeconds;
+        safeCopy.testDurationSeconds = this.testDurationSeconds;
+        safeCopy.workloadType = this.workloadType;
+        safeCopy.workloadMix = this.workloadMix;
+        safeCopy.transactionSize = this.transactionSize;
+        safeCopy.transactionOverlapPercentage = this.transactionOverlapPercentage;
+        safeCopy.transactionConflictPercentage = this.transactionConflictPercentage;
+        safeCopy.keyDistribution = this.keyDistribution;
+        safeCopy.keySpaceSize = this.keySpaceSize;
+        safeCopy.zipfianSkew = this.zipfianSkew;
+        safeCopy.hotspotTrafficPercentage = this.hotspotTrafficPercentage;
+        safeCopy.hotspotKeyPercentage = this.hotspotKeyPercentage;
+        safeCopy.itemSeed = this.itemSeed;
         return safeCopy;
     }
 
@@ -218,13 +556,31 @@ public class TestConfiguration {
                 Objects.equals(maxConcurrencyPercentage, that.maxConcurrencyPercentage) &&
                 Objects.equals(duplicatePercentage, that.duplicatePercentage) &&
                 Objects.equals(cleanupAfterTest, that.cleanupAfterTest) &&
-                Objects.equals(environment, that.environment);
+                Objects.equals(environment, that.environment) &&
+                Objects.equals(loadPattern, that.loadPattern) &&
+                Objects.equals(targetRequestsPerSecond, that.targetRequestsPerSecond) &&
+                Objects.equals(rampStepDurationSeconds, that.rampStepDurationSeconds) &&
+                Objects.equals(testDurationSeconds, that.testDurationSeconds) &&
+                Objects.equals(workloadType, that.workloadType) &&
+                Objects.equals(workloadMix, that.workloadMix) &&
+                Objects.equals(transactionSize, that.transactionSize) &&
+                Objects.equals(transactionOverlapPercentage, that.transactionOverlapPercentage) &&
+                Objects.equals(transactionConflictPercentage, that.transactionConflictPercentage) &&
+                Objects.equals(keyDistribution, that.keyDistribution) &&
+                Objects.equals(keySpaceSize, that.keySpaceSize) &&
+                Objects.equals(zipfianSkew, that.zipfianSkew) &&
+                Objects.equals(hotspotTrafficPercentage, that.hotspotTrafficPercentage) &&
+                Objects.equals(hotspotKeyPercentage, that.hotspotKeyPercentage) &&
+                Objects.equals(itemSeed, that.itemSeed);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(tableName, concurrencyLimit, totalItems,
-                maxConcurrencyPercentage, duplicatePercentage, cleanupAfterTest, environment);
+                maxConcurrencyPercentage, duplicatePercentage, cleanupAfterTest, environment,
+                loadPattern, targetRequestsPerSecond, rampStepDurationSeconds, testDurationSeconds,
+                workloadType, workloadMix, transactionSize, transactionOverlapPercentage, transactionConflictPercentage,
+                keyDistribution, keySpaceSize, zipfianSkew, hotspotTrafficPercentage, hotspotKeyPercentage, itemSeed);
     }
 
     @Override
@@ -237,6 +593,21 @@ public class TestConfiguration {
                 ", duplicatePercentage=" + duplicatePercentage +
                 ", cleanupAfterTest=" + cleanupAfterTest +
                 ", environment='" + environment + '\'' +
+                ", loadPattern='" + loadPattern + '\'' +
+                ", targetRequestsPerSecond=" + targetRequestsPerSecond +
+                ", rampStepDurationSeconds=" + rampStepDurationSeconds +
+                ", testDurationSeconds=" + testDurationSeconds +
+                ", workloadType='" + workloadType + '\'' +
+                ", workloadMix='" + workloadMix + '\'' +
+                ", transactionSize=" + transactionSize +
+                ", transactionOverlapPercentage=" + transactionOverlapPercentage +
+                ", transactionConflictPercentage=" + transactionConflictPercentage +
+                ", keyDistribution='" + keyDistribution + '\'' +
+                ", keySpaceSize=" + keySpaceSize +
+                ", zipfianSkew=" + zipfianSkew +
+                ", hotspotTrafficPercentage=" + hotspotTrafficPercentage +
+                ", hotspotKeyPercentage=" + hotspotKeyPercentage +
+                ", itemSeed=" + itemSeed +
                 ", maxConcurrencyLevel=" + getMaxConcurrencyLevel() +
                 ", itemsForMaxConcurrency=" + getItemsForMaxConcurrency() +
                 ", itemsForRampUp=" + getItemsForRampUp() +
@@ -44,6 +44,7 @@ public class TestMetrics {
     public static final String ERROR_TYPE_NETWORK = "Network";
     public static final String ERROR_TYPE_TIMEOUT = "Timeout";
     public static final String ERROR_TYPE_VALIDATION = "Validation";
+    public static final String ERROR_TYPE_TRANSACTION_CANCELED = "TransactionCanceled";
     public static final String ERROR_TYPE_UNKNOWN = "Unknown";
 
     // Default constructor
@@ -157,13 +158,14 @@ public class TestMetrics {
     }
 
     /**
-     * Calculates the average response time in milliseconds.
+     * Calculates the average response time in milliseconds, keeping the
+     * sub-millisecond part.
      * 
      * @return average response time in milliseconds
      */
     public double getAverageResponseTimeMs() {
         int total = getTotalOperations();
-        return total > 0 ? responseTime.toMillis() / (double) total : 0.0;
+        return total > 0 ? responseTime.toNanos() / 1_000_000.0 / total : 0.0;
     }
 
     /**
@@ -176,7 +178,7 @@ public class TestMetrics {
             return 0.0;
         }
         int total = getTotalOperations();
-        double seconds = responseTime.toMillis() / 1000.0;
+        double seconds = responseTime.toNanos() / 1_000_000_000.0;
         return total / seconds;
     }
 
@@ -293,7 +295,7 @@ public class TestMetrics {
      */
     public TestMetrics createSnapshot() {
         return new TestMetrics(
-                Duration.ofMillis(this.responseTime.toMillis()),
+                this.responseTime,
                 this.successCount,
                 this.errorCount,
                 new HashMap<>(this.errorTypes),
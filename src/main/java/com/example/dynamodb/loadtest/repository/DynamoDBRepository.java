@@ -3,8 +3,14 @@ package com.example.dynamodb.loadtest.repository;
 import com.example.dynamodb.loadtest.exception.DynamoDBAccessException;
 import com.example.dynamodb.loadtest.exception.ItemSizeExceededException;
 import com.example.dynamodb.loadtest.model.TestItem;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -23,6 +29,72 @@ public interface DynamoDBRepository {
      */
     CompletableFuture<PutItemResponse> putItem(TestItem item);
 
+    /**
+     * Writes up to 25 items into the DynamoDB table with a single BatchWriteItem
+     * request. Batch puts cannot carry condition expressions, so an existing item
+     * with the same key is overwritten. Items DynamoDB could not process are
+     * returned in the response's unprocessed items and are not retried here.
+     * 
+     * @param items the items to write; primary keys must be unique within the
+     *              batch
+     * @return CompletableFuture containing the BatchWriteItemResponse
+     * @throws DynamoDBAccessException   if there's an error accessing DynamoDB
+     * @throws ItemSizeExceededException if an item exceeds the maximum size limit
+     */
+    CompletableFuture<BatchWriteItemResponse> batchWriteItems(List<TestItem> items);
+
+    /**
+     * Writes 1 to 100 items atomically with a single TransactWriteItems request.
+     * Each put is conditional on the key not existing yet, like
+     * {@link #putItem(TestItem)}, except items flagged with the
+     * {@code shared_key} attribute, which are overwritten unconditionally. If
+     * any condition fails or the transaction conflicts with another one, no
+     * item is written and the request fails with a
+     * TransactionCanceledException carrying one cancellation reason per item.
+     * 
+     * @param items the items to write; primary keys must be unique within the
+     *              transaction
+     * @return CompletableFuture containing the TransactWriteItemsResponse
+     * @throws DynamoDBAccessException   if there's an error accessing DynamoDB
+     * @throws ItemSizeExceededException if an item exceeds the maximum size limit
+     */
+    CompletableFuture<TransactWriteItemsResponse> transactWriteItems(List<TestItem> items);
+
+    /**
+     * Reads one item by primary key with an eventually consistent GetItem. The
+     * response includes the consumed read capacity.
+     * 
+     * @param primaryKey the primary key to read
+     * @return CompletableFuture containing the GetItemResponse; its item is
+     *         empty if the key does not exist
+     * @throws DynamoDBAccessException if there's an error accessing DynamoDB
+     */
+    CompletableFuture<GetItemResponse> getItem(String primaryKey);
+
+    /**
+     * Reads 1 to 100 items with a single eventually consistent BatchGetItem
+     * request. Keys DynamoDB could not read are returned in the response's
+     * unprocessed keys and are not retried here. The response includes the
+     * consumed read capacity.
+     * 
+     * @param primaryKeys the primary keys to read; must be unique
+     * @return CompletableFuture containing the BatchGetItemResponse
+     * @throws DynamoDBAccessException if there's an error accessing DynamoDB
+     */
+    CompletableFuture<BatchGetItemResponse> batchGetItems(List<String> primaryKeys);
+
+    /**
+     * Queries the items of one partition key. The table has no sort key, so
+     * this returns at most one item, but it exercises the Query code path and
+     * its capacity accounting. The response includes the consumed read
+     * capacity.
+     * 
+     * @param primaryKey the partition key to query
+     * @return CompletableFuture containing the QueryResponse
+     * @throws DynamoDBAccessException if there's an error accessing DynamoDB
+     */
+    CompletableFuture<QueryResponse> queryByPartitionKey(String primaryKey);
+
     /**
      * Checks if the specified table exists.
      * 
@@ -41,7 +113,7 @@ public interface DynamoDBRepository {
      * @return CompletableFuture containing a list of primary keys
      * @throws DynamoDBAccessException if there's an error accessing DynamoDB
      */
-    CompletableFuture<java.util.List<String>> scanItemKeys(String tableName, String keyPrefix);
+    CompletableFuture<List<String>> scanItemKeys(String tableName, String keyPrefix);
 
     /**
      * Deletes an item from the DynamoDB table by primary key.
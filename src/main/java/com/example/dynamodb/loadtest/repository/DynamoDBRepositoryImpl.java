@@ -11,7 +11,9 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -25,6 +27,9 @@ public class DynamoDBRepositoryImpl implements DynamoDBRepository {
     private static final Logger logger = LoggerFactory.getLogger(DynamoDBRepositoryImpl.class);
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
     private static final long MAX_ITEM_SIZE_BYTES = 500;
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+    private static final int MAX_TRANSACT_WRITE_ITEMS = 100;
+    private static final int MAX_BATCH_GET_ITEMS = 100;
 
     private final DynamoDbAsyncClient dynamoDbClient;
     private final String tableName;
@@ -59,6 +64,7 @@ public class DynamoDBRepositoryImpl implements DynamoDBRepository {
                     .tableName(tableName)
                     .item(itemMap)
                     .conditionExpression("attribute_not_exists(pk)")
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
                     .build();
 
             return dynamoDbClient.putItem(request)
@@ -79,6 +85,171 @@ public class DynamoDBRepositoryImpl implements DynamoDBRepository {
         }
     }
 
+    @Override
+    public CompletableFuture<BatchWriteItemResponse> batchWriteItems(List<TestItem> items) {
+        logger.debug("Batch writing {} items", items.size());
+
+        if (items.isEmpty() || items.size() > MAX_BATCH_WRITE_ITEMS) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "Batch must contain between 1 and " + MAX_BATCH_WRITE_ITEMS + " items, was " + items.size()));
+        }
+
+        List<WriteRequest> writeRequests = new ArrayList<>(items.size());
+        for (TestItem item : items) {
+            // Validate item size before processing
+            long itemSize = item.getApproximateSize();
+            if (itemSize > MAX_ITEM_SIZE_BYTES) {
+                logger.error("Item size {} bytes exceeds maximum allowed size of {} bytes for item: {}",
+                        itemSize, MAX_ITEM_SIZE_BYTES, item.getPrimaryKey());
+                return CompletableFuture.failedFuture(
+                        new ItemSizeExceededException(item.getPrimaryKey(), itemSize, MAX_ITEM_SIZE_BYTES));
+            }
+
+            try {
+                writeRequests.add(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(convertToAttributeValueMap(item)).build())
+                        .build());
+            } catch (Exception e) {
+                logger.error("Error converting item to DynamoDB format: {}", item.getPrimaryKey(), e);
+                return CompletableFuture.failedFuture(
+                        new DynamoDBAccessException("Failed to convert item: " + item.getPrimaryKey(), e));
+            }
+        }
+
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder()
+                .requestItems(Map.of(tableName, writeRequests))
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+
+        return dynamoDbClient.batchWriteItem(request)
+                .thenApply(response -> {
+                    logger.debug("Batch write of {} items completed with {} unprocessed", items.size(),
+                            response.unprocessedItems().getOrDefault(tableName, List.of()).size());
+                    return response;
+                })
+                .exceptionally(throwable -> {
+                    logger.error("Error batch writing {} items", items.size(), throwable);
+                    throw new DynamoDBAccessException("Failed to batch write " + items.size() + " items", throwable);
+                });
+    }
+
+    @Override
+    public CompletableFuture<TransactWriteItemsResponse> transactWriteItems(List<TestItem> items) {
+        logger.debug("Transactionally writing {} items", items.size());
+
+        if (items.isEmpty() || items.size() > MAX_TRANSACT_WRITE_ITEMS) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "Transaction must contain between 1 and " + MAX_TRANSACT_WRITE_ITEMS + " items, was "
+                            + items.size()));
+        }
+
+        List<TransactWriteItem> transactItems = new ArrayList<>(items.size());
+        for (TestItem item : items) {
+            // Validate item size before processing
+            long itemSize = item.getApproximateSize();
+            if (itemSize > MAX_ITEM_SIZE_BYTES) {
+                logger.error("Item size {} bytes exceeds maximum allowed size of {} bytes for item: {}",
+                        itemSize, MAX_ITEM_SIZE_BYTES, item.getPrimaryKey());
+                return CompletableFuture.failedFuture(
+                        new ItemSizeExceededException(item.getPrimaryKey(), itemSize, MAX_ITEM_SIZE_BYTES));
+            }
+
+            try {
+                Put.Builder put = Put.builder()
+                        .tableName(tableName)
+                        .item(convertToAttributeValueMap(item));
+                // Shared keys are rewritten by many transactions; only they may overwrite
+                if (!Boolean.TRUE.equals(item.getAttribute("shared_key"))) {
+                    put.conditionExpression("attribute_not_exists(pk)");
+                }
+                transactItems.add(TransactWriteItem.builder().put(put.build()).build());
+            } catch (Exception e) {
+                logger.error("Error converting item to DynamoDB format: {}", item.getPrimaryKey(), e);
+                return CompletableFuture.failedFuture(
+                        new DynamoDBAccessException("Failed to convert item: " + item.getPrimaryKey(), e));
+            }
+        }
+
+        TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                .transactItems(transactItems)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+
+        return dynamoDbClient.transactWriteItems(request)
+                .thenApply(response -> {
+                    logger.debug("Transaction of {} items committed", items.size());
+                    return response;
+                })
+                .exceptionally(throwable -> {
+                    logger.debug("Transaction of {} items failed", items.size(), throwable);
+                    throw new DynamoDBAccessException("Failed to transactionally write " + items.size() + " items",
+                            throwable);
+                });
+    }
+
+    @Override
+    public CompletableFuture<GetItemResponse> getItem(String primaryKey) {
+        logger.debug("Getting item with primary key: {}", primaryKey);
+
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(tableName)
+                .key(keyOf(primaryKey))
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+
+        return dynamoDbClient.getItem(request)
+                .exceptionally(throwable -> {
+                    logger.error("Error getting item with primary key: {}", primaryKey, throwable);
+                    throw new DynamoDBAccessException("Failed to get item: " + primaryKey, throwable);
+                });
+    }
+
+    @Override
+    public CompletableFuture<BatchGetItemResponse> batchGetItems(List<String> primaryKeys) {
+        logger.debug("Batch getting {} items", primaryKeys.size());
+
+        if (primaryKeys.isEmpty() || primaryKeys.size() > MAX_BATCH_GET_ITEMS) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "Batch get must contain between 1 and " + MAX_BATCH_GET_ITEMS + " keys, was "
+                            + primaryKeys.size()));
+        }
+
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(primaryKeys.size());
+        for (String primaryKey : primaryKeys) {
+            keys.add(keyOf(primaryKey));
+        }
+
+        BatchGetItemRequest request = BatchGetItemRequest.builder()
+                .requestItems(Map.of(tableName, KeysAndAttributes.builder().keys(keys).build()))
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+
+        return dynamoDbClient.batchGetItem(request)
+                .exceptionally(throwable -> {
+                    logger.error("Error batch getting {} items", primaryKeys.size(), throwable);
+                    throw new DynamoDBAccessException("Failed to batch get " + primaryKeys.size() + " items",
+                            throwable);
+                });
+    }
+
+    @Override
+    public CompletableFuture<QueryResponse> queryByPartitionKey(String primaryKey) {
+        logger.debug("Querying partition key: {}", primaryKey);
+
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk")
+                .expressionAttributeValues(Map.of(":pk", AttributeValue.builder().s(primaryKey).build()))
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+
+        return dynamoDbClient.query(request)
+                .exceptionally(throwable -> {
+                    logger.error("Error querying partition key: {}", primaryKey, throwable);
+                    throw new DynamoDBAccessException("Failed to query partition key: " + primaryKey, throwable);
+                });
+    }
+
     @Override
     public CompletableFuture<Boolean> tableExists(String tableName) {
         logger.debug("Checking if table exists: {}", tableName);
@@ -105,18 +276,18 @@ public class DynamoDBRepositoryImpl implements DynamoDBRepository {
     }
 
     @Override
-    public CompletableFuture<java.util.List<String>> scanItemKeys(String tableName, String keyPrefix) {
+    public CompletableFuture<List<String>> scanItemKeys(String tableName, String keyPrefix) {
         logger.debug("Scanning table {} for items with key prefix: {}", tableName, keyPrefix);
 
-        return scanItemKeysRecursive(tableName, keyPrefix, null, new java.util.ArrayList<>());
+        return scanItemKeysRecursive(tableName, keyPrefix, null, new ArrayList<>());
     }
 
     /**
      * Recursively scans the table to handle pagination and collect all matching
      * keys.
      */
-    private CompletableFuture<java.util.List<String>> scanItemKeysRecursive(String tableName, String keyPrefix,
-            Map<String, AttributeValue> lastEvaluatedKey, java.util.List<String> accumulatedKeys) {
+    private CompletableFuture<List<String>> scanItemKeysRecursive(String tableName, String keyPrefix,
+            Map<String, AttributeValue> lastEvaluatedKey, List<String> accumulatedKeys) {
 
         ScanRequest.Builder requestBuilder = ScanRequest.builder()
                 .tableName(tableName)
@@ -139,7 +310,7 @@ public class DynamoDBRepositoryImpl implements DynamoDBRepository {
         return dynamoDbClient.scan(request)
                 .thenCompose(response -> {
                     // Extract keys from this page
-                    java.util.List<String> pageKeys = response.items().stream()
+                    List<String> pageKeys = response.items().stream()
                             .map(item -> item.get("pk"))
                             .filter(attr -> attr != null && attr.s() != null)
                             .map(attr -> attr.s())
@@ -192,6 +363,10 @@ public class DynamoDBRepositoryImpl implements DynamoDBRepository {
     /**
      * Converts a TestItem to a DynamoDB AttributeValue map.
      */
+    private static Map<String, AttributeValue> keyOf(String primaryKey) {
+        return Map.of("pk", AttributeValue.builder().s(primaryKey).build());
+    }
+
     private Map<String, AttributeValue> convertToAttributeValueMap(TestItem item) {
         Map<String, AttributeValue> itemMap = new HashMap<>();
 
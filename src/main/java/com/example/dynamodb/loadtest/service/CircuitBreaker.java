@@ -127,6 +127,7 @@ public class CircuitBreaker {
                 if (shouldAttemptReset()) {
                     if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
                         halfOpenCalls.set(0);
+                        CircuitBreakerTransitionEvent.emit(State.OPEN, State.HALF_OPEN, failureCount.get());
                         logger.info("Circuit breaker transitioning from OPEN to HALF_OPEN");
                     }
                     // After transitioning to HALF_OPEN, check if we can execute
@@ -186,6 +187,7 @@ public class CircuitBreaker {
 
             if (failures >= failureThreshold) {
                 if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+                    CircuitBreakerTransitionEvent.emit(State.CLOSED, State.OPEN, failures);
                     logger.warn("Circuit breaker transitioning from CLOSED to OPEN after {} failures", failures);
                 }
             }
@@ -193,6 +195,7 @@ public class CircuitBreaker {
             // Any failure in half-open state should open the circuit
             if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
                 successCount.set(0);
+                CircuitBreakerTransitionEvent.emit(State.HALF_OPEN, State.OPEN, failureCount.get());
                 logger.warn("Circuit breaker transitioning from HALF_OPEN to OPEN due to failure");
             }
         }
@@ -202,7 +205,10 @@ public class CircuitBreaker {
      * Resets the circuit breaker to closed state.
      */
     public void reset() {
-        state.set(State.CLOSED);
+        State previous = state.getAndSet(State.CLOSED);
+        if (previous != State.CLOSED) {
+            CircuitBreakerTransitionEvent.emit(previous, State.CLOSED, failureCount.get());
+        }
         failureCount.set(0);
         successCount.set(0);
         halfOpenCalls.set(0);
@@ -213,7 +219,10 @@ public class CircuitBreaker {
      * Forces the circuit breaker to open state.
      */
     public void forceOpen() {
-        state.set(State.OPEN);
+        State previous = state.getAndSet(State.OPEN);
+        if (previous != State.OPEN) {
+            CircuitBreakerTransitionEvent.emit(previous, State.OPEN, failureCount.get());
+        }
         lastFailureTime.set(System.currentTimeMillis());
         logger.warn("Circuit breaker forced to OPEN state");
     }
@@ -0,0 +1,40 @@
+package com.example.dynamodb.loadtest.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a state change of the {@link CircuitBreaker}.
+ */
+@Name(CircuitBreakerTransitionEvent.NAME)
+@Label("Circuit Breaker Transition")
+@Category("DynamoDB Load Test")
+@Description("Circuit breaker state change")
+@StackTrace(false)
+final class CircuitBreakerTransitionEvent extends Event {
+
+    static final String NAME = "com.example.dynamodb.loadtest.CircuitBreakerTransition";
+
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+
+    @Label("Failure Count")
+    int failureCount;
+
+    static void emit(CircuitBreaker.State from, CircuitBreaker.State to, int failureCount) {
+        CircuitBreakerTransitionEvent event = new CircuitBreakerTransitionEvent();
+        if (event.shouldCommit()) {
+            event.fromState = from.name();
+            event.toState = to.name();
+            event.failureCount = failureCount;
+            event.commit();
+        }
+    }
+}
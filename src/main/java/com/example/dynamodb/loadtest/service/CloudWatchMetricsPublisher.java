@@ -0,0 +1,197 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.TimelinePoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the throughput, error types and latency percentiles of every
+ * second of a load test to CloudWatch through a {@link MetricSink}. A
+ * background thread reads the completed seconds from the lock-free timeline
+ * of {@link MetricsCollectionService} and ships them in batches, so the write
+ * path never waits for CloudWatch. Publishing is off unless a sink is
+ * configured with {@code metrics.cloudwatch.sink}.
+ */
+@Service
+public class CloudWatchMetricsPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CloudWatchMetricsPublisher.class);
+
+    // PutMetricData accepts at most 1000 datums per call
+    static final int MAX_DATUMS_PER_REQUEST = 1000;
+
+    // One-second timeline points need high-resolution metrics
+    private static final int STORAGE_RESOLUTION_SECONDS = 1;
+
+    private final MetricsCollectionService metricsCollectionService;
+    private final MetricSink metricSink;
+    private final String tableName;
+    private ScheduledExecutorService scheduler;
+
+    // Only touched by the publishing thread, and by stop() once it has ended
+    private Instant publishedTestStart;
+    private Duration publishedUntil = Duration.ZERO;
+
+    public CloudWatchMetricsPublisher(MetricsCollectionService metricsCollectionService,
+            Optional<MetricSink> metricSink,
+            @Value("${TABLE_NAME:load-test-table}") String tableName) {
+        this.metricsCollectionService = metricsCollectionService;
+        this.metricSink = metricSink.orElse(null);
+        this.tableName = tableName;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (metricSink == null) {
+            logger.debug("No CloudWatch metric sink configured; per-second metrics are not published");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cloudwatch-metrics-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::publishSafely, 1, 1, TimeUnit.SECONDS);
+        logger.info("Publishing per-second load test metrics with {}", metricSink.getClass().getSimpleName());
+    }
+
+    /**
+     * Stops the background thread and ships the seconds not published yet,
+     * including the last, partial second of an ended test.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        publishSafely();
+    }
+
+    /**
+     * Ships the timeline points completed since the last call, split into
+     * batches of at most {@value #MAX_DATUMS_PER_REQUEST} datums.
+     * 
+     * @return the number of datums handed to the sink
+     */
+    public int publishPending() {
+        if (metricSink == null) {
+            return 0;
+        }
+
+        // A new test restarts the timeline at offset zero
+        Instant testStart = metricsCollectionService.getTestStartTime();
+        if (!testStart.equals(publishedTestStart)) {
+            publishedTestStart = testStart;
+            publishedUntil = Duration.ZERO;
+        }
+
+        List<TimelinePoint> points = metricsCollectionService.getTimelineSince(publishedUntil);
+        if (points.isEmpty()) {
+            return 0;
+        }
+
+        List<MetricDatum> datums = new ArrayList<>();
+        for (TimelinePoint point : points) {
+            addDatums(point, datums);
+        }
+        TimelinePoint last = points.get(points.size() - 1);
+        publishedUntil = last.getOffset().plus(last.getDuration());
+
+        for (int from = 0; from < datums.size(); from += MAX_DATUMS_PER_REQUEST) {
+            List<MetricDatum> batch = datums.subList(from, Math.min(datums.size(), from + MAX_DATUMS_PER_REQUEST));
+            metricSink.publish(batch).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    logger.warn("Failed to publish {} load test metrics: {}", batch.size(), error.getMessage());
+                }
+            });
+        }
+        return datums.size();
+    }
+
+    private void publishSafely() {
+        try {
+            publishPending();
+        } catch (Exception e) {
+            // Keep the schedule alive; the next run retries from the same second
+            logger.warn("Failed to publish load test metrics: {}", e.getMessage());
+        }
+    }
+
+    private void addDatums(TimelinePoint point, List<MetricDatum> datums) {
+        Instant timestamp = point.getStartTime();
+        List<Dimension> dimensions = List.of(dimension("TableName", tableName));
+
+        datums.add(datum("Operations", point.getOperations(), StandardUnit.COUNT, timestamp, dimensions));
+        datums.add(datum("Errors", point.getErrors(), StandardUnit.COUNT, timestamp, dimensions));
+        datums.add(datum("Throughput", point.getThroughputPerSecond(), StandardUnit.COUNT_SECOND, timestamp,
+                dimensions));
+
+        // Seconds without operations have no latency to report
+        if (point.getOperations() > 0) {
+            datums.add(datum("P50ResponseTime", millis(point.getP50ResponseTime()), StandardUnit.MILLISECONDS,
+                    timestamp, dimensions));
+            datums.add(datum("P99ResponseTime", millis(point.getP99ResponseTime()), StandardUnit.MILLISECONDS,
+                    timestamp, dimensions));
+            datums.add(datum("MaxResponseTime", millis(point.getMaxResponseTime()), StandardUnit.MILLISECONDS,
+                    timestamp, dimensions));
+        }
+        if (point.getWriteCapacityUnits() > 0 || point.getReadCapacityUnits() > 0) {
+            datums.add(datum("ConsumedWriteCapacityUnits", point.getWriteCapacityUnits(), StandardUnit.COUNT,
+                    timestamp, dimensions));
+            datums.add(datum("ConsumedReadCapacityUnits", point.getReadCapacityUnits(), StandardUnit.COUNT,
+                    timestamp, dimensions));
+        }
+
+        for (Map.Entry<String, Long> error : new TreeMap<>(point.getErrorTypeCounts()).entrySet()) {
+            datums.add(datum("Errors", error.getValue(), StandardUnit.COUNT, timestamp,
+                    List.of(dimension("TableName", tableName), dimension("ErrorType", error.getKey()))));
+        }
+    }
+
+    private static MetricDatum datum(String name, double value, StandardUnit unit, Instant timestamp,
+            List<Dimension> dimensions) {
+        return MetricDatum.builder()
+                .metricName(name)
+                .value(value)
+                .unit(unit)
+                .timestamp(timestamp)
+                .dimensions(dimensions)
+                .storageResolution(STORAGE_RESOLUTION_SECONDS)
+                .build();
+    }
+
+    private static Dimension dimension(String name, String value) {
+        return Dimension.builder().name(name).value(value).build();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
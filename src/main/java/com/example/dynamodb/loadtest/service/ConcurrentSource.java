@@ -0,0 +1,19 @@
+package com.example.dynamodb.loadtest.service;
+
+/**
+ * Source of work items that several lanes can take items from at once.
+ * Taking an item only claims it atomically; any work to build the item is
+ * done by the calling thread outside of shared locks, so lanes do not queue
+ * behind each other's item construction.
+ *
+ * @param <T> the type of work item
+ */
+public interface ConcurrentSource<T> {
+
+    /**
+     * Takes the next item. Safe to call from any number of threads at once.
+     *
+     * @return the next item, or null once the source is exhausted
+     */
+    T poll();
+}
@@ -116,6 +116,67 @@ public class ConfigurationManager {
         config.setDuplicatePercentage(parseDoubleParameter(parameters, "duplicate-percentage"));
         config.setCleanupAfterTest(parseBooleanParameter(parameters, "cleanup-after-test"));
 
+        // Optional load pattern parameters (default to the progressive ramp)
+        String loadPattern = getOptionalParameter(parameters, "load-pattern");
+        if (loadPattern != null) {
+            config.setLoadPattern(loadPattern.toLowerCase());
+        }
+        config.setTargetRequestsPerSecond(parseOptionalIntegerParameter(parameters, "target-requests-per-second"));
+
+        // Optional ramp step hold time (default: ramp-up steps sized by item count)
+        config.setRampStepDurationSeconds(parseOptionalIntegerParameter(parameters, "ramp-step-duration-seconds"));
+
+        // Optional soak mode: generate items continuously for this long
+        config.setTestDurationSeconds(parseOptionalIntegerParameter(parameters, "test-duration-seconds"));
+
+        // Optional workload type (default: one conditional PutItem per item)
+        String workloadType = getOptionalParameter(parameters, "workload-type");
+        if (workloadType != null) {
+            config.setWorkloadType(workloadType.toLowerCase());
+        }
+
+        // Optional read/write operation mix
+        String workloadMix = getOptionalParameter(parameters, "workload-mix");
+        if (workloadMix != null) {
+            config.setWorkloadMix(workloadMix.toLowerCase().replace(" ", ""));
+        }
+
+        // Optional transaction shape for the transact-write workload
+        Integer transactionSize = parseOptionalIntegerParameter(parameters, "transaction-size");
+        if (transactionSize != null) {
+            config.setTransactionSize(transactionSize);
+        }
+        Double overlapPercentage = parseOptionalDoubleParameter(parameters, "transaction-overlap-percentage");
+        if (overlapPercentage != null) {
+            config.setTransactionOverlapPercentage(overlapPercentage);
+        }
+        Double conflictPercentage = parseOptionalDoubleParameter(parameters, "transaction-conflict-percentage");
+        if (conflictPercentage != null) {
+            config.setTransactionConflictPercentage(conflictPercentage);
+        }
+
+        // Optional key distribution (default: a unique key per item)
+        String keyDistribution = getOptionalParameter(parameters, "key-distribution");
+        if (keyDistribution != null) {
+            config.setKeyDistribution(keyDistribution.toLowerCase());
+        }
+        config.setKeySpaceSize(parseOptionalIntegerParameter(parameters, "key-space-size"));
+        Double zipfianSkew = parseOptionalDoubleParameter(parameters, "zipfian-skew");
+        if (zipfianSkew != null) {
+            config.setZipfianSkew(zipfianSkew);
+        }
+        Double hotspotTraffic = parseOptionalDoubleParameter(parameters, "hotspot-traffic-percentage");
+        if (hotspotTraffic != null) {
+            config.setHotspotTrafficPercentage(hotspotTraffic);
+        }
+        Double hotspotKeys = parseOptionalDoubleParameter(parameters, "hotspot-key-percentage");
+        if (hotspotKeys != null) {
+            config.setHotspotKeyPercentage(hotspotKeys);
+        }
+
+        // Optional seed of the generated items (default: random per run)
+        config.setItemSeed(parseOptionalLongParameter(parameters, "item-seed"));
+
         logger.debug("Mapped configuration: {}", config.createSafeCopy());
         return config;
     }
@@ -172,6 +233,83 @@ public class ConfigurationManager {
         return value.trim();
     }
 
+    /**
+     * Gets an optional parameter value.
+     * 
+     * @param parameters    the parameter map
+     * @param parameterName the parameter name (without prefix)
+     * @return the parameter value, or null if not present
+     */
+    private String getOptionalParameter(Map<String, String> parameters, String parameterName) {
+        String value = parameters.get(parameterPrefix + "/" + parameterName);
+
+        if (value == null || value.trim().isEmpty()) {
+            value = parameters.get(parameterName);
+        }
+
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    /**
+     * Parses an optional integer parameter.
+     * 
+     * @param parameters    the parameter map
+     * @param parameterName the parameter name
+     * @return the parsed integer value, or null if not present
+     * @throws IllegalArgumentException if parameter is present but invalid
+     */
+    private Integer parseOptionalIntegerParameter(Map<String, String> parameters, String parameterName) {
+        String value = getOptionalParameter(parameters, parameterName);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer parameter " + parameterName + ": " + value, e);
+        }
+    }
+
+    /**
+     * Parses an optional long parameter.
+     * 
+     * @param parameters    the parameter map
+     * @param parameterName the parameter name
+     * @return the parsed long value, or null if not present
+     * @throws IllegalArgumentException if parameter is present but invalid
+     */
+    private Long parseOptionalLongParameter(Map<String, String> parameters, String parameterName) {
+        String value = getOptionalParameter(parameters, parameterName);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid long parameter " + parameterName + ": " + value, e);
+        }
+    }
+
+    /**
+     * Parses an optional double parameter.
+     * 
+     * @param parameters    the parameter map
+     * @param parameterName the parameter name
+     * @return the parsed double value, or null if not present
+     * @throws IllegalArgumentException if parameter is present but invalid
+     */
+    private Double parseOptionalDoubleParameter(Map<String, String> parameters, String parameterName) {
+        String value = getOptionalParameter(parameters, parameterName);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid double parameter " + parameterName + ": " + value, e);
+        }
+    }
+
     /**
      * Parses an integer parameter.
      * 
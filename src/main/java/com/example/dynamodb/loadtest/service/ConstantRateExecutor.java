@@ -0,0 +1,324 @@
+package com.example.dynamodb.loadtest.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Open-loop executor that issues operations at a constant arrival rate,
+ * however long each operation takes.
+ * Each operation gets an intended start time from a fixed schedule. The
+ * operation receives that intended time so latency can be measured from it,
+ * and queueing behind slow or throttled calls then shows up in the percentiles
+ * (coordinated-omission correction). When the number of outstanding
+ * operations reaches the cap, due sends wait for a free slot instead of being
+ * dropped, and keep their intended start time, so the time spent waiting for
+ * the slot counts towards their latency.
+ * The pacing thread only keeps the schedule: it waits for each send's time
+ * and a free slot, then hands the send to the send executor, which takes the
+ * item from the source and issues the operation. Slow item construction or a
+ * slow operation call therefore does not delay later sends.
+ *
+ * @param <T> the type of work item
+ */
+public class ConstantRateExecutor<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConstantRateExecutor.class);
+
+    // A send issued more than this long after its intended time is counted as late
+    static final long LATE_THRESHOLD_NANOS = Duration.ofMillis(1).toNanos();
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static final Executor VIRTUAL_THREAD_SENDS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Iterator<T> source;
+    private final double targetRatePerSecond;
+    private final int maxOutstanding;
+    private final TimedOperation<T> operation;
+    private final Executor sendExecutor;
+
+    private final ConcurrentSource<T> concurrentSource;
+    private final ReentrantLock sourceLock = new ReentrantLock();
+    private final Semaphore slots;
+    private final AtomicInteger outstanding = new AtomicInteger(0);
+    private final AtomicLong sent = new AtomicLong(0);
+    private final AtomicLong queued = new AtomicLong(0);
+    private final AtomicLong late = new AtomicLong(0);
+    private final AtomicLong maxLatenessNanos = new AtomicLong(0);
+    private final CompletableFuture<Void> drained = new CompletableFuture<>();
+    private final AtomicReference<RuntimeException> sourceFailure = new AtomicReference<>();
+    private volatile boolean sourceExhausted;
+    private volatile boolean pacingFinished;
+
+    /**
+     * Creates a new constant-rate executor that issues each send on its own
+     * virtual thread.
+     *
+     * @param source              the source of work items, consumed lazily
+     * @param targetRatePerSecond the target arrival rate
+     * @param maxOutstanding      the maximum number of operations in flight
+     * @param operation           the asynchronous operation to issue for each item
+     */
+    public ConstantRateExecutor(Iterator<T> source, double targetRatePerSecond, int maxOutstanding,
+            TimedOperation<T> operation) {
+        this(source, targetRatePerSecond, maxOutstanding, operation, VIRTUAL_THREAD_SENDS);
+    }
+
+    /**
+     * Creates a new constant-rate executor.
+     *
+     * @param source              the source of work items, consumed lazily
+     * @param targetRatePerSecond the target arrival rate
+     * @param maxOutstanding      the maximum number of operations in flight
+     * @param operation           the asynchronous operation to issue for each item
+     * @param sendExecutor        the executor that takes each item from the
+     *                            source and issues its operation
+     */
+    @SuppressWarnings("unchecked")
+    public ConstantRateExecutor(Iterator<T> source, double targetRatePerSecond, int maxOutstanding,
+            TimedOperation<T> operation, Executor sendExecutor) {
+        if (targetRatePerSecond <= 0) {
+            throw new IllegalArgumentException("Target rate must be positive, was " + targetRatePerSecond);
+        }
+        if (maxOutstanding < 1) {
+            throw new IllegalArgumentException("Max outstanding must be at least 1, was " + maxOutstanding);
+        }
+        this.source = source;
+        this.targetRatePerSecond = targetRatePerSecond;
+        this.maxOutstanding = maxOutstanding;
+        this.operation = operation;
+        this.sendExecutor = sendExecutor;
+        this.concurrentSource = source instanceof ConcurrentSource<?> ? (ConcurrentSource<T>) source : null;
+        this.slots = new Semaphore(maxOutstanding);
+    }
+
+    /**
+     * Paces the source at the target rate and waits for all issued operations to
+     * complete. This method blocks the calling thread and should be called from
+     * a virtual thread.
+     *
+     * @return statistics describing the achieved arrival rate
+     */
+    public RateStats run() {
+        long startNanos = System.nanoTime();
+        long index = 0;
+
+        logger.info("Starting constant-rate execution at {} req/s (max outstanding: {})",
+                targetRatePerSecond, maxOutstanding);
+
+        // Sends take their items themselves, so the schedule runs until a send finds the source empty
+        while (!sourceExhausted) {
+            // Each time is computed from the start, so rounding does not accumulate into drift
+            long intendedStartNanos = startNanos + (long) (index * NANOS_PER_SECOND / targetRatePerSecond);
+            index++;
+
+            waitUntil(intendedStartNanos);
+
+            // Outstanding limit reached: the send waits and is issued late
+            boolean waitedForSlot = !slots.tryAcquire();
+            if (waitedForSlot) {
+                slots.acquireUninterruptibly();
+            }
+            long lateness = System.nanoTime() - intendedStartNanos;
+
+            outstanding.incrementAndGet();
+            try {
+                sendExecutor.execute(() -> send(intendedStartNanos, lateness, waitedForSlot));
+            } catch (RuntimeException e) {
+                sourceFailure.compareAndSet(null, e);
+                sourceExhausted = true;
+                release();
+            }
+        }
+
+        Duration pacingDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+        pacingFinished = true;
+        if (outstanding.get() == 0) {
+            drained.complete(null);
+        }
+        drained.join();
+        if (sourceFailure.get() != null) {
+            throw sourceFailure.get();
+        }
+
+        RateStats stats = new RateStats(targetRatePerSecond, sent.get(), queued.get(), late.get(),
+                Duration.ofNanos(Math.max(0, maxLatenessNanos.get())), pacingDuration);
+        logger.info("Constant-rate execution completed: {}", stats);
+        return stats;
+    }
+
+    /**
+     * Gets the number of operations currently in flight.
+     *
+     * @return outstanding operation count
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Takes the next item and issues its operation. Sends scheduled after the
+     * source ran out find no item and are not counted.
+     */
+    private void send(long intendedStartNanos, long lateness, boolean waitedForSlot) {
+        T item;
+        try {
+            item = pollNext();
+        } catch (RuntimeException e) {
+            sourceFailure.compareAndSet(null, e);
+            item = null;
+        }
+        if (item == null) {
+            sourceExhausted = true;
+            release();
+            return;
+        }
+
+        sent.incrementAndGet();
+        if (waitedForSlot) {
+            queued.incrementAndGet();
+        }
+        if (lateness > LATE_THRESHOLD_NANOS) {
+            late.incrementAndGet();
+        }
+        maxLatenessNanos.accumulateAndGet(lateness, Math::max);
+
+        CompletableFuture<?> future;
+        try {
+            future = operation.apply(item, intendedStartNanos);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        (future != null ? future : CompletableFuture.completedFuture(null))
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        logger.debug("Constant-rate operation failed: {}", throwable.getMessage());
+                    }
+                    release();
+                });
+    }
+
+    private T pollNext() {
+        if (concurrentSource != null) {
+            return concurrentSource.poll();
+        }
+        sourceLock.lock();
+        try {
+            return source.hasNext() ? source.next() : null;
+        } finally {
+            sourceLock.unlock();
+        }
+    }
+
+    private void release() {
+        slots.release();
+        if (outstanding.decrementAndGet() == 0 && pacingFinished) {
+            drained.complete(null);
+        }
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Operation that receives the intended start time of the request.
+     *
+     * @param <T> the type of work item
+     */
+    @FunctionalInterface
+    public interface TimedOperation<T> {
+        CompletableFuture<?> apply(T item, long intendedStartNanos);
+    }
+
+    /**
+     * Statistics describing how closely the executor tracked the target rate.
+     */
+    public static class RateStats {
+        private final double targetRatePerSecond;
+        private final long sentRequests;
+        private final long queuedRequests;
+        private final long lateRequests;
+        private final Duration maxLateness;
+        private final Duration pacingDuration;
+
+        public RateStats(double targetRatePerSecond, long sentRequests, long queuedRequests, long lateRequests,
+                Duration maxLateness, Duration pacingDuration) {
+            this.targetRatePerSecond = targetRatePerSecond;
+            this.sentRequests = sentRequests;
+            this.queuedRequests = queuedRequests;
+            this.lateRequests = lateRequests;
+            this.maxLateness = maxLateness;
+            this.pacingDuration = pacingDuration;
+        }
+
+        public double getTargetRatePerSecond() {
+            return targetRatePerSecond;
+        }
+
+        public long getSentRequests() {
+            return sentRequests;
+        }
+
+        /**
+         * Gets the number of sends that had to wait for an outstanding
+         * operation to complete before they could be issued.
+         *
+         * @return queued send count
+         */
+        public long getQueuedRequests() {
+            return queuedRequests;
+        }
+
+        public long getLateRequests() {
+            return lateRequests;
+        }
+
+        public Duration getMaxLateness() {
+            return maxLateness;
+        }
+
+        public Duration getPacingDuration() {
+            return pacingDuration;
+        }
+
+        /**
+         * Calculates the achieved send rate over the pacing window.
+         *
+         * @return requests actually sent per second
+         */
+        public double getAchievedRatePerSecond() {
+            double seconds = pacingDuration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? sentRequests / seconds : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "RateStats{" +
+                    "targetRatePerSecond=" + String.format("%.2f", targetRatePerSecond) +
+                    ", achievedRatePerSecond=" + String.format("%.2f", getAchievedRatePerSecond()) +
+                    ", sentRequests=" + sentRequests +
+                    ", queuedRequests=" + queuedRequests +
+                    ", lateRequests=" + lateRequests +
+                    ", maxLateness=" + maxLateness +
+                    ", pacingDuration=" + pacingDuration +
+                    '}';
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.dynamodb.loadtest.service;
 
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.CapacityStats;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.OperationStats;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +31,9 @@ public class CostEstimationService {
                                                                                                       // GB hour
     private static final BigDecimal DATA_TRANSFER_COST_PER_GB = new BigDecimal("0.09"); // $0.09 per GB (first 1GB free)
 
+    // Transactional writes consume two write units per item
+    static final int TRANSACTIONAL_WRITE_UNITS_PER_ITEM = 2;
+
     @Value("${TASK_CPU:4096}")
     private int taskCpu; // CPU units (1024 = 1 vCPU)
 
@@ -77,8 +82,25 @@ public class CostEstimationService {
     }
 
     private BigDecimal calculateDynamoDbWriteCost(TestSummary summary) {
-        // Each successful operation is a write to DynamoDB
+        CapacityStats capacity = summary.getCapacityStats();
+        if (capacity != null && capacity.getWriteCapacityUnits() > 0) {
+            // On-demand tables bill one write request unit per consumed write
+            // capacity unit
+            return DYNAMODB_WRITE_COST_PER_MILLION
+                    .multiply(BigDecimal.valueOf(capacity.getWriteCapacityUnits()))
+                    .divide(new BigDecimal(1_000_000), 6, RoundingMode.HALF_UP);
+        }
+
+        // Without reported consumption, each successful operation is a write to DynamoDB, except reads of a
+        // mixed workload
         long writeOperations = summary.getTotalSuccesses();
+        OperationStats puts = summary.getOperationStats().get(WorkloadMix.OperationType.PUT.getLabel());
+        if (!summary.getOperationStats().isEmpty()) {
+            writeOperations = puts != null ? puts.getSuccesses() : 0;
+        }
+        if (summary.getTransactionStats() != null) {
+            writeOperations *= TRANSACTIONAL_WRITE_UNITS_PER_ITEM;
+        }
 
         return DYNAMODB_WRITE_COST_PER_MILLION
                 .multiply(new BigDecimal(writeOperations))
@@ -86,6 +108,16 @@ public class CostEstimationService {
     }
 
     private BigDecimal calculateDynamoDbReadCost(TestSummary summary) {
+        CapacityStats capacity = summary.getCapacityStats();
+        if (capacity != null && capacity.getReadCapacityUnits() > 0) {
+            return DYNAMODB_READ_COST_PER_MILLION
+                    .multiply(BigDecimal.valueOf(capacity.getReadCapacityUnits()))
+                    .divide(new BigDecimal(1_000_000), 6, RoundingMode.HALF_UP);
+        }
+        if (!summary.getOperationStats().isEmpty()) {
+            return calculateMixedWorkloadReadCost(summary);
+        }
+
         // Minimal reads for table existence checks, etc.
         // Estimate ~1 read per 1000 writes for metadata operations
         long estimatedReads = Math.max(1, summary.getTotalOperations() / 1000);
@@ -95,6 +127,22 @@ public class CostEstimationService {
                 .divide(new BigDecimal(1_000_000), 6, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Prices the reads of a mixed workload by the read capacity DynamoDB
+     * reported as consumed. On-demand tables bill one read request unit per
+     * consumed read capacity unit.
+     */
+    private BigDecimal calculateMixedWorkloadReadCost(TestSummary summary) {
+        double readUnits = summary.getOperationStats().values().stream()
+                .filter(stats -> !WorkloadMix.OperationType.PUT.getLabel().equals(stats.getOperationType()))
+                .mapToDouble(OperationStats::getConsumedCapacityUnits)
+                .sum();
+
+        return DYNAMODB_READ_COST_PER_MILLION
+                .multiply(BigDecimal.valueOf(readUnits))
+                .divide(new BigDecimal(1_000_000), 6, RoundingMode.HALF_UP);
+    }
+
     private BigDecimal calculateEcsComputeCost(TestSummary summary) {
         if (summary.getTestDuration() == null) {
             return BigDecimal.ZERO;
@@ -0,0 +1,79 @@
+package com.example.dynamodb.loadtest.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.function.Supplier;
+
+/**
+ * Flight Recorder event for one request sent to DynamoDB, from the time it is
+ * issued until its response is handled. Retries are separate events with a
+ * higher attempt number. Only attempts slower than the threshold (20 ms by
+ * default) are recorded; lower it in the recording settings to see them all.
+ * The event is committed on the thread that handles the response, and the
+ * request description is only built for attempts that are committed.
+ */
+@Name(DynamoDBAttemptEvent.NAME)
+@Label("DynamoDB Attempt")
+@Category("DynamoDB Load Test")
+@Description("One request sent to DynamoDB")
+@Threshold("20 ms")
+@StackTrace(false)
+final class DynamoDBAttemptEvent extends Event {
+
+    static final String NAME = "com.example.dynamodb.loadtest.DynamoDBAttempt";
+
+    private static final EventType TYPE = EventType.getEventType(DynamoDBAttemptEvent.class);
+
+    @Label("Request")
+    String request;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Error Type")
+    String errorType;
+
+    /**
+     * Starts timing an attempt.
+     *
+     * @param attempt the attempt number (1-based)
+     * @return the started event, or null if the event is not recorded, so a
+     *         disabled event costs a single check and no allocation
+     */
+    static DynamoDBAttemptEvent begin(int attempt) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        DynamoDBAttemptEvent event = new DynamoDBAttemptEvent();
+        event.attempt = attempt;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends an attempt and commits it if it took longer than the threshold.
+     *
+     * @param event     the event returned by {@link #begin(int)}
+     * @param request   describes the request, called only if the event is
+     *                  committed
+     * @param errorType the error type the attempt failed with, or null
+     */
+    static void end(DynamoDBAttemptEvent event, Supplier<String> request, String errorType) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.request = request.get();
+            event.errorType = errorType;
+            event.commit();
+        }
+    }
+}
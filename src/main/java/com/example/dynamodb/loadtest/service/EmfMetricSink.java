@@ -0,0 +1,101 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes metric data as CloudWatch embedded metric format (EMF) log lines.
+ * In ECS, stdout goes to CloudWatch Logs, which extracts the metrics without
+ * any API calls. Datums with the same timestamp and dimensions share one
+ * line.
+ */
+public class EmfMetricSink implements MetricSink {
+
+    // CloudWatch extracts at most 100 metrics from one EMF document
+    static final int MAX_METRICS_PER_DOCUMENT = 100;
+
+    // Not the shared mapper: EMF documents must be single-line JSON
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PrintStream out;
+    private final String namespace;
+
+    public EmfMetricSink(PrintStream out, String namespace) {
+        this.out = out;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(List<MetricDatum> datums) {
+        Map<DocumentKey, List<MetricDatum>> documents = new LinkedHashMap<>();
+        for (MetricDatum datum : datums) {
+            documents.computeIfAbsent(new DocumentKey(datum.timestamp(), datum.dimensions()),
+                    key -> new ArrayList<>()).add(datum);
+        }
+
+        try {
+            for (Map.Entry<DocumentKey, List<MetricDatum>> document : documents.entrySet()) {
+                List<MetricDatum> metrics = document.getValue();
+                for (int from = 0; from < metrics.size(); from += MAX_METRICS_PER_DOCUMENT) {
+                    List<MetricDatum> chunk = metrics.subList(from,
+                            Math.min(metrics.size(), from + MAX_METRICS_PER_DOCUMENT));
+                    out.println(objectMapper.writeValueAsString(toDocument(document.getKey(), chunk)));
+                }
+            }
+            out.flush();
+            return CompletableFuture.completedFuture(null);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Map<String, Object> toDocument(DocumentKey key, List<MetricDatum> datums) {
+        List<String> dimensionNames = new ArrayList<>();
+        Map<String, Object> document = new LinkedHashMap<>();
+        for (Dimension dimension : key.dimensions()) {
+            dimensionNames.add(dimension.name());
+            document.put(dimension.name(), dimension.value());
+        }
+
+        List<Map<String, Object>> metricDefinitions = new ArrayList<>();
+        for (MetricDatum datum : datums) {
+            Map<String, Object> definition = new LinkedHashMap<>();
+            definition.put("Name", datum.metricName());
+            if (datum.unit() != null) {
+                definition.put("Unit", datum.unitAsString());
+            }
+            if (datum.storageResolution() != null) {
+                definition.put("StorageResolution", datum.storageResolution());
+            }
+            metricDefinitions.add(definition);
+            document.put(datum.metricName(), datum.value());
+        }
+
+        Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", namespace);
+        directive.put("Dimensions", List.of(dimensionNames));
+        directive.put("Metrics", metricDefinitions);
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        Instant timestamp = key.timestamp() != null ? key.timestamp() : Instant.now();
+        metadata.put("Timestamp", timestamp.toEpochMilli());
+        metadata.put("CloudWatchMetrics", List.of(directive));
+
+        Map<String, Object> emf = new LinkedHashMap<>();
+        emf.put("_aws", metadata);
+        emf.putAll(document);
+        return emf;
+    }
+
+    private record DocumentKey(Instant timestamp, List<Dimension> dimensions) {
+    }
+}
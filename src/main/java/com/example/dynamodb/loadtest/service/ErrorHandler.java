@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedExce
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
 import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
@@ -66,6 +67,11 @@ public class ErrorHandler {
             return TestMetrics.ERROR_TYPE_DUPLICATE_KEY;
         }
 
+        // A canceled transaction is an outcome to measure, not a transient failure
+        if (exception instanceof TransactionCanceledException) {
+            return TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED;
+        }
+
         // Handle timeout and network errors (check timeout first as it's more specific)
         if (isTimeoutError(exception)) {
             return TestMetrics.ERROR_TYPE_TIMEOUT;
@@ -187,11 +193,15 @@ public class ErrorHandler {
 
                 // Skip sleep for load testing when delay is 0
                 if (delay.toMillis() > 0) {
+                    RetryBackoffEvent backoffEvent = RetryBackoffEvent.begin(attempt, categorizeError(e),
+                            delay.toMillis());
                     try {
                         Thread.sleep(delay.toMillis());
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                         throw new RuntimeException("Retry interrupted", ie);
+                    } finally {
+                        RetryBackoffEvent.end(backoffEvent);
                     }
                 }
             }
@@ -0,0 +1,58 @@
+package com.example.dynamodb.loadtest.service;
+
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Local stand-in for CloudWatch that keeps the most recent published
+ * batches in memory, for tests and runs without AWS access.
+ */
+public class InMemoryMetricSink implements MetricSink {
+
+    static final int DEFAULT_MAX_BATCHES = 3600;
+
+    private final int maxBatches;
+    private final Deque<List<MetricDatum>> batches = new ArrayDeque<>();
+
+    public InMemoryMetricSink() {
+        this(DEFAULT_MAX_BATCHES);
+    }
+
+    public InMemoryMetricSink(int maxBatches) {
+        this.maxBatches = maxBatches;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> publish(List<MetricDatum> datums) {
+        if (batches.size() == maxBatches) {
+            batches.removeFirst();
+        }
+        batches.addLast(List.copyOf(datums));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Gets the retained batches, oldest first.
+     * 
+     * @return the published batches
+     */
+    public synchronized List<List<MetricDatum>> getBatches() {
+        return new ArrayList<>(batches);
+    }
+
+    /**
+     * Gets the datums of all retained batches, oldest first.
+     * 
+     * @return the published datums
+     */
+    public synchronized List<MetricDatum> getDatums() {
+        List<MetricDatum> datums = new ArrayList<>();
+        batches.forEach(datums::addAll);
+        return datums;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Groups a stream of items into BatchWriteItem-sized batches.
+ * A batch is closed when it holds 25 items, when the next item would push it
+ * over the 16MB request limit, or when the next item repeats a primary key
+ * already in the batch. DynamoDB rejects a batch that writes the same key
+ * twice, so repeated keys always go out in a later batch.
+ * Items are pulled from the source only when a batch is built.
+ */
+public class ItemBatcher implements Iterator<List<TestItem>> {
+
+    // BatchWriteItem limits
+    public static final int MAX_BATCH_ITEMS = 25;
+    public static final long MAX_BATCH_BYTES = 16L * 1024 * 1024;
+
+    private final Iterator<TestItem> source;
+    private final int maxItems;
+    private final long maxBytes;
+    private TestItem carryOver;
+
+    /**
+     * Creates a batcher with the BatchWriteItem limits.
+     *
+     * @param source the items to group, consumed lazily
+     */
+    public ItemBatcher(Iterator<TestItem> source) {
+        this(source, MAX_BATCH_ITEMS, MAX_BATCH_BYTES);
+    }
+
+    /**
+     * Creates a batcher with custom limits.
+     *
+     * @param source   the items to group, consumed lazily
+     * @param maxItems the maximum number of items per batch
+     * @param maxBytes the maximum approximate size of a batch in bytes
+     */
+    ItemBatcher(Iterator<TestItem> source, int maxItems, long maxBytes) {
+        if (maxItems < 1 || maxItems > MAX_BATCH_ITEMS) {
+            throw new IllegalArgumentException(
+                    "Batch size must be between 1 and " + MAX_BATCH_ITEMS + ", was " + maxItems);
+        }
+        this.source = source;
+        this.maxItems = maxItems;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return carryOver != null || source.hasNext();
+    }
+
+    @Override
+    public List<TestItem> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more items to batch");
+        }
+
+        List<TestItem> batch = new ArrayList<>(maxItems);
+        Set<String> keys = new HashSet<>();
+        long batchBytes = 0;
+
+        while (batch.size() < maxItems && (carryOver != null || source.hasNext())) {
+            TestItem item = carryOver != null ? carryOver : source.next();
+            carryOver = null;
+
+            long itemBytes = item.getApproximateSize();
+            boolean full = !batch.isEmpty() && batchBytes + itemBytes > maxBytes;
+            if (full || keys.contains(item.getPrimaryKey())) {
+                carryOver = item;
+                break;
+            }
+
+            batch.add(item);
+            keys.add(item.getPrimaryKey());
+            batchBytes += itemBytes;
+        }
+
+        return batch;
+    }
+}
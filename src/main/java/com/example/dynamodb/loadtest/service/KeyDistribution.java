@@ -0,0 +1,233 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestConfiguration;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chooses which key of a fixed key space each generated item uses. Keys are
+ * identified by their index in [0, key space size); index 0 is the most
+ * popular key for skewed distributions. Repeating a key sends traffic to the
+ * same partition again, which is what exposes hot-partition throttling that
+ * unique keys hide.
+ * Implementations are not thread-safe; one item source draws from them.
+ */
+public interface KeyDistribution {
+
+    /**
+     * Draws the index of the next key.
+     *
+     * @param random the random source
+     * @return a key index in [0, key space size)
+     */
+    long nextIndex(SplittableRandom random);
+
+    /**
+     * Gets the number of distinct keys the distribution draws from.
+     *
+     * @return the key space size
+     */
+    long getKeySpaceSize();
+
+    /**
+     * Describes the distribution and its parameters for logs and reports.
+     *
+     * @return a description such as {@code zipfian(s=0.99)}
+     */
+    String getDescription();
+
+    /**
+     * Creates the distribution configured for a test.
+     *
+     * @param config    the test configuration with a key distribution set
+     * @param keySpace  the number of distinct keys to draw from
+     * @return the key distribution
+     * @throws IllegalArgumentException if the distribution name is unknown
+     */
+    static KeyDistribution forConfiguration(TestConfiguration config, long keySpace) {
+        String name = config.getKeyDistribution();
+        if (TestConfiguration.KEY_DISTRIBUTION_UNIFORM.equals(name)) {
+            return new Uniform(keySpace);
+        } else if (TestConfiguration.KEY_DISTRIBUTION_ZIPFIAN.equals(name)) {
+            return new Zipfian(keySpace, config.getZipfianSkew());
+        } else if (TestConfiguration.KEY_DISTRIBUTION_HOTSPOT.equals(name)) {
+            return new Hotspot(keySpace, config.getHotspotTrafficPercentage(), config.getHotspotKeyPercentage());
+        } else if (TestConfiguration.KEY_DISTRIBUTION_MONOTONIC.equals(name)) {
+            return new Monotonic(keySpace);
+        }
+        throw new IllegalArgumentException("Unknown key distribution: " + name);
+    }
+
+    /**
+     * Every key is equally likely.
+     */
+    final class Uniform implements KeyDistribution {
+        private final long keySpace;
+
+        public Uniform(long keySpace) {
+            this.keySpace = requirePositive(keySpace);
+        }
+
+        @Override
+        public long nextIndex(SplittableRandom random) {
+            return (long) (random.nextDouble() * keySpace);
+        }
+
+        @Override
+        public long getKeySpaceSize() {
+            return keySpace;
+        }
+
+        @Override
+        public String getDescription() {
+            return "uniform";
+        }
+    }
+
+    /**
+     * Key popularity follows Zipf's law: the key of rank k is drawn with
+     * probability proportional to 1 / k^s. Sampling uses rejection-inversion
+     * (Hörmann and Derflinger), so it needs constant memory and time for any
+     * key space size.
+     */
+    final class Zipfian implements KeyDistribution {
+        private final long keySpace;
+        private final double skew;
+        private final double hIntegralX1;
+        private final double hIntegralKeySpace;
+        private final double threshold;
+
+        public Zipfian(long keySpace, double skew) {
+            if (skew <= 0) {
+                throw new IllegalArgumentException("Zipfian skew must be positive, was " + skew);
+            }
+            this.keySpace = requirePositive(keySpace);
+            this.skew = skew;
+            this.hIntegralX1 = hIntegral(1.5) - 1.0;
+            this.hIntegralKeySpace = hIntegral(keySpace + 0.5);
+            this.threshold = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+        }
+
+        @Override
+        public long nextIndex(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralKeySpace + random.nextDouble() * (hIntegralX1 - hIntegralKeySpace);
+                double x = hIntegralInverse(u);
+                long rank = (long) (x + 0.5);
+                rank = Math.max(1, Math.min(rank, keySpace));
+                if (rank - x <= threshold || u >= hIntegral(rank + 0.5) - h(rank)) {
+                    return rank - 1;
+                }
+            }
+        }
+
+        @Override
+        public long getKeySpaceSize() {
+            return keySpace;
+        }
+
+        @Override
+        public String getDescription() {
+            return String.format("zipfian(s=%.2f)", skew);
+        }
+
+        private double h(double x) {
+            return Math.exp(-skew * Math.log(x));
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1.0 - skew) * logX) * logX;
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = Math.max(-1.0, x * (1.0 - skew));
+            return Math.exp(helper1(t) * x);
+        }
+
+        // log(1 + x) / x, stable near 0
+        private static double helper1(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+        }
+
+        // (exp(x) - 1) / x, stable near 0
+        private static double helper2(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+        }
+    }
+
+    /**
+     * A fixed share of the traffic goes to a small set of hot keys, the rest is
+     * spread uniformly over the other keys.
+     */
+    final class Hotspot implements KeyDistribution {
+        private final long keySpace;
+        private final long hotKeys;
+        private final double trafficRatio;
+        private final double trafficPercentage;
+        private final double keyPercentage;
+
+        public Hotspot(long keySpace, double trafficPercentage, double keyPercentage) {
+            this.keySpace = requirePositive(keySpace);
+            this.hotKeys = Math.max(1, Math.min(keySpace, (long) (keySpace * keyPercentage / 100.0)));
+            this.trafficRatio = trafficPercentage / 100.0;
+            this.trafficPercentage = trafficPercentage;
+            this.keyPercentage = keyPercentage;
+        }
+
+        @Override
+        public long nextIndex(SplittableRandom random) {
+            if (hotKeys == keySpace || random.nextDouble() < trafficRatio) {
+                return (long) (random.nextDouble() * hotKeys);
+            }
+            return hotKeys + (long) (random.nextDouble() * (keySpace - hotKeys));
+        }
+
+        @Override
+        public long getKeySpaceSize() {
+            return keySpace;
+        }
+
+        @Override
+        public String getDescription() {
+            return String.format("hotspot(%.0f%% of traffic to %.1f%% of keys)", trafficPercentage, keyPercentage);
+        }
+    }
+
+    /**
+     * Keys are used in increasing order, like timestamps or order numbers,
+     * wrapping around once the key space is exhausted.
+     */
+    final class Monotonic implements KeyDistribution {
+        private final long keySpace;
+        private long next;
+
+        public Monotonic(long keySpace) {
+            this.keySpace = requirePositive(keySpace);
+        }
+
+        @Override
+        public long nextIndex(SplittableRandom random) {
+            long index = next;
+            next = (next + 1) % keySpace;
+            return index;
+        }
+
+        @Override
+        public long getKeySpaceSize() {
+            return keySpace;
+        }
+
+        @Override
+        public String getDescription() {
+            return "monotonic";
+        }
+    }
+
+    private static long requirePositive(long keySpace) {
+        if (keySpace < 1) {
+            throw new IllegalArgumentException("Key space size must be positive, was " + keySpace);
+        }
+        return keySpace;
+    }
+}
@@ -0,0 +1,458 @@
+package com.example.dynamodb.loadtest.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compact per-key counts of writes, throttled requests and conditional check
+ * failures, to attribute throttling to hot keys. Memory is fixed no matter how
+ * many distinct keys are seen:
+ * <ul>
+ * <li>Every key is counted in one of a fixed number of hashed key buckets.
+ * Buckets split the key hash into equal ranges, the way DynamoDB splits a
+ * table into partitions. They stand in for partitions only loosely, since
+ * DynamoDB uses its own hash.</li>
+ * <li>Per-key counts are estimated with a count-min sketch, which never
+ * under-counts and over-counts by a small share of the total.</li>
+ * <li>The keys with the highest estimates are kept as heavy-hitter
+ * candidates, a few times as many as are reported.</li>
+ * </ul>
+ * Counting is lock-free; only a key entering the candidates takes a lock,
+ * which stops happening once the candidates are hotter than most keys.
+ */
+public class KeyHeatMap {
+
+    /**
+     * Default number of hashed key buckets.
+     */
+    public static final int DEFAULT_BUCKETS = 64;
+
+    /**
+     * Default number of keys reported per counter.
+     */
+    public static final int DEFAULT_TOP_KEYS = 10;
+
+    // 4 rows of 4096 cells: estimates are off by at most 0.07% of the total
+    // with 98% confidence
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 4096;
+
+    private static final int CANDIDATES_PER_TOP_KEY = 4;
+
+    // Seeds the sketch hash apart from the bucket hash
+    private static final long SKETCH_SEED = 0x9E3779B97F4A7C15L;
+
+    /**
+     * What is counted per key.
+     */
+    public enum Counter {
+        /** A write of the key was issued; batches count every item. */
+        WRITES,
+        /** A request including the key was throttled, or left unprocessed. */
+        THROTTLES,
+        /** A conditional write of the key failed its condition. */
+        CONDITIONAL_FAILURES
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final int bucketCount;
+    private final int topKeys;
+    // Index bucket * COUNTERS.length + counter
+    private final AtomicLongArray buckets;
+    // Index (counter * SKETCH_DEPTH + row) * SKETCH_WIDTH + cell
+    private final AtomicLongArray sketch;
+    private final HeavyHitters[] heavyHitters;
+
+    /**
+     * Creates a heat map with {@value #DEFAULT_BUCKETS} buckets that reports
+     * the {@value #DEFAULT_TOP_KEYS} hottest keys.
+     */
+    public KeyHeatMap() {
+        this(DEFAULT_BUCKETS, DEFAULT_TOP_KEYS);
+    }
+
+    /**
+     * Creates a heat map.
+     *
+     * @param bucketCount the number of hashed key buckets
+     * @param topKeys     the number of keys reported per counter
+     */
+    public KeyHeatMap(int bucketCount, int topKeys) {
+        if (bucketCount < 1 || topKeys < 1) {
+            throw new IllegalArgumentException(
+                    "Bucket and key counts must be positive, were " + bucketCount + " and " + topKeys);
+        }
+        this.bucketCount = bucketCount;
+        this.topKeys = topKeys;
+        this.buckets = new AtomicLongArray(bucketCount * COUNTERS.length);
+        this.sketch = new AtomicLongArray(COUNTERS.length * SKETCH_DEPTH * SKETCH_WIDTH);
+        this.heavyHitters = new HeavyHitters[COUNTERS.length];
+        for (Counter counter : COUNTERS) {
+            heavyHitters[counter.ordinal()] = new HeavyHitters(topKeys * CANDIDATES_PER_TOP_KEY);
+        }
+    }
+
+    /**
+     * Counts an event for a key. Null keys are ignored.
+     *
+     * @param counter what happened
+     * @param key     the primary key it happened to
+     */
+    public void record(Counter counter, String key) {
+        if (key == null) {
+            return;
+        }
+        long hash = mix(OperationJournal.keyHash(key));
+        buckets.incrementAndGet(bucketIndex(hash) * COUNTERS.length + counter.ordinal());
+
+        long sketchHash = mix(hash ^ SKETCH_SEED);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.incrementAndGet(sketchIndex(counter, row, sketchHash)));
+        }
+        heavyHitters[counter.ordinal()].offer(key, estimate);
+    }
+
+    /**
+     * Estimates how often an event happened to a key.
+     *
+     * @param counter what happened
+     * @param key     the primary key
+     * @return the estimate, never below the actual count
+     */
+    public long estimate(Counter counter, String key) {
+        if (key == null) {
+            return 0;
+        }
+        long sketchHash = mix(mix(OperationJournal.keyHash(key)) ^ SKETCH_SEED);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.get(sketchIndex(counter, row, sketchHash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Takes a snapshot of the buckets and the hottest keys. Events counted
+     * while the snapshot is taken may or may not be included.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        List<BucketHeat> bucketHeats = new ArrayList<>(bucketCount);
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            int base = bucket * COUNTERS.length;
+            bucketHeats.add(new BucketHeat(bucket,
+                    buckets.get(base + Counter.WRITES.ordinal()),
+                    buckets.get(base + Counter.THROTTLES.ordinal()),
+                    buckets.get(base + Counter.CONDITIONAL_FAILURES.ordinal())));
+        }
+
+        List<List<KeyHeat>> topKeysByCounter = new ArrayList<>(COUNTERS.length);
+        for (Counter counter : COUNTERS) {
+            // Re-estimate from the sketch: the candidates keep the estimate they were admitted with
+            List<KeyHeat> keys = new ArrayList<>();
+            for (String key : heavyHitters[counter.ordinal()].keys()) {
+                KeyHeat heat = new KeyHeat(key, estimate(Counter.WRITES, key), estimate(Counter.THROTTLES, key),
+                        estimate(Counter.CONDITIONAL_FAILURES, key));
+                if (heat.get(counter) > 0) {
+                    keys.add(heat);
+                }
+            }
+            keys.sort(Comparator.comparingLong((KeyHeat heat) -> heat.get(counter)).reversed()
+                    .thenComparing(KeyHeat::getKey));
+            topKeysByCounter.add(List.copyOf(keys.subList(0, Math.min(topKeys, keys.size()))));
+        }
+        return new Snapshot(bucketHeats, topKeysByCounter);
+    }
+
+    /**
+     * Clears all counts. Must not run concurrently with recording.
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.set(i, 0);
+        }
+        for (HeavyHitters candidates : heavyHitters) {
+            candidates.clear();
+        }
+    }
+
+    private int bucketIndex(long hash) {
+        // Equal ranges of the upper 32 bits of the hash
+        return (int) (((hash >>> 32) * bucketCount) >>> 32);
+    }
+
+    private static int sketchIndex(Counter counter, int row, long sketchHash) {
+        // Row hashes derived from two halves of one hash (Kirsch-Mitzenmacher)
+        int cell = ((int) sketchHash + row * ((int) (sketchHash >>> 32) | 1)) & (SKETCH_WIDTH - 1);
+        return (counter.ordinal() * SKETCH_DEPTH + row) * SKETCH_WIDTH + cell;
+    }
+
+    // SplitMix64 finalizer, to spread FNV-1a's weak upper bits
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * The keys with the highest estimates seen so far. A key already in the
+     * candidates is updated without locking; a new key only takes the lock if
+     * it is hotter than the coldest candidate of a full set.
+     */
+    private static final class HeavyHitters {
+        private final int capacity;
+        private final Map<String, AtomicLong> candidates = new ConcurrentHashMap<>();
+        private volatile long admissionThreshold;
+
+        private HeavyHitters(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(String key, long estimate) {
+            AtomicLong candidate = candidates.get(key);
+            if (candidate != null) {
+                candidate.accumulateAndGet(estimate, Math::max);
+                return;
+            }
+            if (estimate <= admissionThreshold) {
+                return;
+            }
+            synchronized (this) {
+                candidate = candidates.get(key);
+                if (candidate != null) {
+                    candidate.accumulateAndGet(estimate, Math::max);
+                    return;
+                }
+                if (candidates.size() >= capacity) {
+                    Map.Entry<String, AtomicLong> coldest = coldest();
+                    if (coldest.getValue().get() >= estimate) {
+                        admissionThreshold = coldest.getValue().get();
+                        return;
+                    }
+                    candidates.remove(coldest.getKey());
+                }
+                candidates.put(key, new AtomicLong(estimate));
+                if (candidates.size() >= capacity) {
+                    admissionThreshold = coldest().getValue().get();
+                }
+            }
+        }
+
+        private Map.Entry<String, AtomicLong> coldest() {
+            Map.Entry<String, AtomicLong> coldest = null;
+            for (Map.Entry<String, AtomicLong> entry : candidates.entrySet()) {
+                if (coldest == null || entry.getValue().get() < coldest.getValue().get()) {
+                    coldest = entry;
+                }
+            }
+            return coldest;
+        }
+
+        private List<String> keys() {
+            return new ArrayList<>(candidates.keySet());
+        }
+
+        private synchronized void clear() {
+            candidates.clear();
+            admissionThreshold = 0;
+        }
+    }
+
+    /**
+     * Counts of one hashed key bucket.
+     */
+    public static class BucketHeat {
+        private final int bucket;
+        private final long writes;
+        private final long throttles;
+        private final long conditionalFailures;
+
+        public BucketHeat(int bucket, long writes, long throttles, long conditionalFailures) {
+            this.bucket = bucket;
+            this.writes = writes;
+            this.throttles = throttles;
+            this.conditionalFailures = conditionalFailures;
+        }
+
+        public int getBucket() {
+            return bucket;
+        }
+
+        public long getWrites() {
+            return writes;
+        }
+
+        public long getThrottles() {
+            return throttles;
+        }
+
+        public long getConditionalFailures() {
+            return conditionalFailures;
+        }
+
+        public long get(Counter counter) {
+            return switch (counter) {
+                case WRITES -> writes;
+                case THROTTLES -> throttles;
+                case CONDITIONAL_FAILURES -> conditionalFailures;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "BucketHeat{" +
+                    "bucket=" + bucket +
+                    ", writes=" + writes +
+                    ", throttles=" + throttles +
+                    ", conditionalFailures=" + conditionalFailures +
+                    '}';
+        }
+    }
+
+    /**
+     * Estimated counts of one key. Estimates may be slightly high, never low.
+     */
+    public static class KeyHeat {
+        private final String key;
+        private final long writes;
+        private final long throttles;
+        private final long conditionalFailures;
+
+        public KeyHeat(String key, long writes, long throttles, long conditionalFailures) {
+            this.key = key;
+            this.writes = writes;
+            this.throttles = throttles;
+            this.conditionalFailures = conditionalFailures;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getWrites() {
+            return writes;
+        }
+
+        public long getThrottles() {
+            return throttles;
+        }
+
+        public long getConditionalFailures() {
+            return conditionalFailures;
+        }
+
+        public long get(Counter counter) {
+            return switch (counter) {
+                case WRITES -> writes;
+                case THROTTLES -> throttles;
+                case CONDITIONAL_FAILURES -> conditionalFailures;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "KeyHeat{" +
+                    "key='" + key + '\'' +
+                    ", writes=" + writes +
+                    ", throttles=" + throttles +
+                    ", conditionalFailures=" + conditionalFailures +
+                    '}';
+        }
+    }
+
+    /**
+     * Point-in-time view of a heat map.
+     */
+    public static class Snapshot {
+        private final List<BucketHeat> buckets;
+        private final List<List<KeyHeat>> topKeys;
+
+        public Snapshot(List<BucketHeat> buckets, List<List<KeyHeat>> topKeys) {
+            this.buckets = List.copyOf(buckets);
+            this.topKeys = List.copyOf(topKeys);
+        }
+
+        /**
+         * Gets every bucket, in hash order.
+         */
+        public List<BucketHeat> getBuckets() {
+            return buckets;
+        }
+
+        /**
+         * Gets the buckets with the highest count, highest first, leaving out
+         * buckets where it is zero.
+         *
+         * @param counter the count to rank by
+         * @param limit   the maximum number of buckets
+         * @return the buckets
+         */
+        public List<BucketHeat> getHottestBuckets(Counter counter, int limit) {
+            return buckets.stream()
+                    .filter(bucket -> bucket.get(counter) > 0)
+                    .sorted(Comparator.comparingLong((BucketHeat bucket) -> bucket.get(counter)).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+
+        /**
+         * Gets the keys with the highest estimated count, highest first.
+         *
+         * @param counter the count to rank by
+         * @return the keys, empty if nothing was counted
+         */
+        public List<KeyHeat> getTopKeys(Counter counter) {
+            return topKeys.get(counter.ordinal());
+        }
+
+        public long getTotal(Counter counter) {
+            long total = 0;
+            for (BucketHeat bucket : buckets) {
+                total += bucket.get(counter);
+            }
+            return total;
+        }
+
+        /**
+         * Gets how much hotter the hottest bucket is than the average bucket.
+         * Uniformly spread keys come out a little above 1.
+         *
+         * @param counter the count to compare
+         * @return the hottest bucket's count over the mean, 0 if nothing was
+         *         counted
+         */
+        public double getBucketSkew(Counter counter) {
+            long total = getTotal(counter);
+            if (total == 0) {
+                return 0.0;
+            }
+            long hottest = 0;
+            for (BucketHeat bucket : buckets) {
+                hottest = Math.max(hottest, bucket.get(counter));
+            }
+            return hottest * (double) buckets.size() / total;
+        }
+
+        /**
+         * Gets the share of a count that falls in the hottest bucket.
+         *
+         * @param counter the count
+         * @return the share as a percentage, 0 if nothing was counted
+         */
+        public double getHottestBucketShare(Counter counter) {
+            long total = getTotal(counter);
+            return total > 0 ? getBucketSkew(counter) * 100.0 / buckets.size() : 0.0;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Item source whose keys are drawn from a bounded key space by a
+ * {@link KeyDistribution}. An item whose key was drawn before is marked as a
+ * duplicate, as its conditional put is expected to fail. Items are generated
+ * on demand and the source tracks how concentrated the drawn keys were.
+ */
+public class KeyedItemSource implements Iterator<TestItem> {
+
+    private final KeyDistribution distribution;
+    private final String keyPrefix;
+    private final long limit;
+    private final Supplier<String> payloads;
+    private final SplittableRandom random;
+    private final BitSet drawnKeys = new BitSet();
+    private final long hottestKeyCount;
+    private long itemIndex;
+    private long distinctKeys;
+    private long hottestKeyDraws;
+
+    /**
+     * Creates a source.
+     *
+     * @param distribution the distribution keys are drawn from
+     * @param keyPrefix    the prefix of every generated key
+     * @param limit        the number of items to generate, or a negative value
+     *                     for an endless source
+     * @param payloads     supplies the payload of each item
+     * @param random       the random source for key draws
+     */
+    public KeyedItemSource(KeyDistribution distribution, String keyPrefix, long limit, Supplier<String> payloads,
+            SplittableRandom random) {
+        if (distribution.getKeySpaceSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Key space size cannot exceed " + Integer.MAX_VALUE);
+        }
+        this.distribution = distribution;
+        this.keyPrefix = keyPrefix;
+        this.limit = limit;
+        this.payloads = payloads;
+        this.random = random;
+        this.hottestKeyCount = Math.max(1, distribution.getKeySpaceSize() / 100);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return limit < 0 || itemIndex < limit;
+    }
+
+    @Override
+    public TestItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more items to generate");
+        }
+
+        long index = distribution.nextIndex(random);
+        boolean isDuplicate = drawnKeys.get((int) index);
+        if (!isDuplicate) {
+            drawnKeys.set((int) index);
+            distinctKeys++;
+        }
+        if (index < hottestKeyCount) {
+            hottestKeyDraws++;
+        }
+
+        TestItem item = new TestItem(keyPrefix + index, payloads.get());
+        item.addAttribute("item_index", itemIndex++);
+        item.addAttribute("is_duplicate", isDuplicate);
+        item.addAttribute("generation_time", Instant.now().toString());
+        item.addAttribute("expected_result", isDuplicate ? "DUPLICATE_ERROR" : "SUCCESS");
+        return item;
+    }
+
+    /**
+     * Summarizes the keys drawn so far.
+     *
+     * @return the key usage statistics
+     */
+    public KeyUsageStats getStats() {
+        return new KeyUsageStats(distribution.getDescription(), distribution.getKeySpaceSize(), itemIndex,
+                distinctKeys, hottestKeyDraws);
+    }
+
+    /**
+     * How the generated items were spread over the key space.
+     */
+    public static class KeyUsageStats {
+        private final String distribution;
+        private final long keySpaceSize;
+        private final long generatedItems;
+        private final long distinctKeys;
+        private final long hottestKeyDraws;
+
+        public KeyUsageStats(String distribution, long keySpaceSize, long generatedItems, long distinctKeys,
+                long hottestKeyDraws) {
+            this.distribution = distribution;
+            this.keySpaceSize = keySpaceSize;
+            this.generatedItems = generatedItems;
+            this.distinctKeys = distinctKeys;
+            this.hottestKeyDraws = hottestKeyDraws;
+        }
+
+        public String getDistribution() {
+            return distribution;
+        }
+
+        public long getKeySpaceSize() {
+            return keySpaceSize;
+        }
+
+        public long getGeneratedItems() {
+            return generatedItems;
+        }
+
+        public long getDistinctKeys() {
+            return distinctKeys;
+        }
+
+        /**
+         * Gets the number of items written to the hottest 1% of the key space,
+         * the lowest key indexes.
+         *
+         * @return items drawn from the hottest keys
+         */
+        public long getHottestKeyDraws() {
+            return hottestKeyDraws;
+        }
+
+        /**
+         * Calculates the share of items written to the hottest 1% of the keys.
+         *
+         * @return hottest key share (0.0 to 100.0)
+         */
+        public double getHottestKeyPercentage() {
+            return generatedItems > 0 ? hottestKeyDraws * 100.0 / generatedItems : 0.0;
+        }
+
+        /**
+         * Calculates the share of items that reused an already drawn key.
+         *
+         * @return repeated key share (0.0 to 100.0)
+         */
+        public double getRepeatedKeyPercentage() {
+            return generatedItems > 0 ? (generatedItems - distinctKeys) * 100.0 / generatedItems : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "KeyUsageStats{" +
+                    "distribution='" + distribution + '\'' +
+                    ", keySpaceSize=" + keySpaceSize +
+                    ", generatedItems=" + generatedItems +
+                    ", distinctKeys=" + distinctKeys +
+                    ", hottestKeyPercentage=" + String.format("%.2f", getHottestKeyPercentage()) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.dynamodb.loadtest.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free latency histogram in the style of HdrHistogram. Values are counted
+ * in log-linear microsecond buckets: every power of two is split into linear
+ * sub-buckets (512 by default, so a recorded value is off by at most 0.2%),
+ * and memory is fixed no matter how many values are recorded.
+ * Recording threads are spread over stripes by thread id, each stripe with its
+ * own bucket array, so concurrent recorders rarely touch the same counters.
+ * Stripes are merged when a {@link Snapshot} is taken, which is cheap enough
+ * to do for every progress update.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Largest value tracked with full precision (one hour). Larger values are
+     * counted in the last bucket; the maximum is still kept exactly.
+     */
+    public static final Duration HIGHEST_TRACKABLE_VALUE = Duration.ofHours(1);
+
+    /**
+     * Default precision: values are off by at most 2^-9 (0.2%).
+     */
+    public static final int DEFAULT_PRECISION_BITS = 10;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = HIGHEST_TRACKABLE_VALUE.toNanos() / 1_000;
+
+    private static final int MAX_STRIPES = 16;
+
+    // Slots of a stripe's exact totals
+    private static final int TOTAL_NANOS = 0;
+    private static final int MIN_NANOS = 1;
+    private static final int MAX_NANOS = 2;
+
+    // 2^subBucketBits sub-buckets per bucket, the upper half used above the first
+    private final int subBucketBits;
+    private final int subBucketHalfCountBits;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int countsLength;
+
+    private final AtomicReferenceArray<Stripe> stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates a histogram with one stripe per available processor, up to 16.
+     */
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a histogram.
+     *
+     * @param concurrency the expected number of threads recording at the same
+     *                    time; rounded up to a power of two, at most 16
+     */
+    public LatencyHistogram(int concurrency) {
+        this(concurrency, DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Creates a histogram with a custom precision, e.g. a coarser one for
+     * histograms kept per time window.
+     *
+     * @param concurrency   the expected number of threads recording at the
+     *                      same time; rounded up to a power of two, at most 16
+     * @param precisionBits the number of significant bits kept per value, from
+     *                      2 to 16; values are off by at most 2^-(bits - 1)
+     */
+    public LatencyHistogram(int concurrency, int precisionBits) {
+        if (precisionBits < 2 || precisionBits > 16) {
+            throw new IllegalArgumentException("Precision must be between 2 and 16 bits, was " + precisionBits);
+        }
+        this.subBucketBits = precisionBits;
+        this.subBucketHalfCountBits = precisionBits - 1;
+        this.subBucketHalfCount = 1 << subBucketHalfCountBits;
+        this.subBucketMask = (1L << precisionBits) - 1;
+        this.countsLength = countsIndex(HIGHEST_TRACKABLE_MICROS) + 1;
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, concurrency)) * 2 - 1);
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a response time. Negative values are recorded as zero.
+     *
+     * @param nanos the response time in nanoseconds
+     */
+    public void record(long nanos) {
+        stripe().record(Math.max(0, nanos));
+    }
+
+    /**
+     * Merges the stripes into a snapshot. Values recorded while the snapshot
+     * is taken may or may not be included.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[countsLength];
+        long count = 0;
+        long totalNanos = 0;
+        long minNanos = Long.MAX_VALUE;
+        long maxNanos = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int index = 0; index < countsLength; index++) {
+                long bucketCount = stripe.counts.get(index);
+                counts[index] += bucketCount;
+                count += bucketCount;
+            }
+            totalNanos += stripe.totals.get(TOTAL_NANOS);
+            minNanos = Math.min(minNanos, stripe.totals.get(MIN_NANOS));
+            maxNanos = Math.max(maxNanos, stripe.totals.get(MAX_NANOS));
+        }
+        return new Snapshot(this, counts, count, totalNanos, count > 0 ? minNanos : 0, maxNanos);
+    }
+
+    /**
+     * Clears all recorded values. Must not run concurrently with recording.
+     */
+    public void reset() {
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.set(i, null);
+        }
+    }
+
+    // Stripes are allocated on first use, so idle ones cost no memory
+    private Stripe stripe() {
+        int slot = (int) (Thread.currentThread().threadId() & stripeMask);
+        Stripe stripe = stripes.get(slot);
+        if (stripe == null) {
+            Stripe created = new Stripe(countsLength);
+            stripe = stripes.compareAndExchange(slot, null, created);
+            if (stripe == null) {
+                stripe = created;
+            }
+        }
+        return stripe;
+    }
+
+    private int countsIndex(long micros) {
+        long value = Math.min(micros, HIGHEST_TRACKABLE_MICROS);
+        int bucketIndex = 64 - Long.numberOfLeadingZeros(value | subBucketMask) - subBucketBits;
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountBits) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    // Highest microsecond value counted in a bucket
+    private long highestEquivalentMicros(int countsIndex) {
+        int bucketIndex = (countsIndex >> subBucketHalfCountBits) - 1;
+        int subBucketIndex = (countsIndex & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return ((long) subBucketIndex << bucketIndex) + (1L << bucketIndex) - 1;
+    }
+
+    /**
+     * Bucket counts of the threads mapped to one stripe.
+     */
+    private final class Stripe {
+        private final AtomicLongArray counts;
+        // Total, min and max in nanoseconds, kept exactly
+        private final AtomicLongArray totals = new AtomicLongArray(new long[] { 0, Long.MAX_VALUE, 0 });
+
+        private Stripe(int countsLength) {
+            this.counts = new AtomicLongArray(countsLength);
+        }
+
+        private void record(long nanos) {
+            counts.incrementAndGet(countsIndex(nanos / 1_000));
+            totals.addAndGet(TOTAL_NANOS, nanos);
+            long current;
+            while (nanos < (current = totals.get(MIN_NANOS)) && !totals.compareAndSet(MIN_NANOS, current, nanos)) {
+                // Retry until the minimum is at most this value
+            }
+            while (nanos > (current = totals.get(MAX_NANOS)) && !totals.compareAndSet(MAX_NANOS, current, nanos)) {
+                // Retry until the maximum is at least this value
+            }
+        }
+    }
+
+    /**
+     * Immutable merged view of a histogram.
+     */
+    public static final class Snapshot {
+        private final LatencyHistogram histogram;
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long minNanos;
+        private final long maxNanos;
+
+        private Snapshot(LatencyHistogram histogram, long[] counts, long count, long totalNanos, long minNanos,
+                long maxNanos) {
+            this.histogram = histogram;
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public Duration getMin() {
+            return Duration.ofNanos(minNanos);
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        public Duration getMean() {
+            return Duration.ofNanos(count > 0 ? totalNanos / count : 0);
+        }
+
+        /**
+         * Combines this snapshot with a snapshot of a histogram with the same
+         * precision, e.g. to roll consecutive timeline buckets up into one
+         * window.
+         *
+         * @param other the snapshot to add
+         * @return the combined snapshot
+         */
+        public Snapshot merge(Snapshot other) {
+            if (other.counts.length != counts.length) {
+                throw new IllegalArgumentException("Cannot merge snapshots of histograms with different precision");
+            }
+            if (other.count == 0) {
+                return this;
+            }
+            if (count == 0) {
+                return other;
+            }
+            long[] merged = counts.clone();
+            for (int index = 0; index < merged.length; index++) {
+                merged[index] += other.counts[index];
+            }
+            return new Snapshot(histogram, merged, count + other.count, totalNanos + other.totalNanos,
+                    Math.min(minNanos, other.minNanos), Math.max(maxNanos, other.maxNanos));
+        }
+
+        /**
+         * Gets the value at a percentile with the nearest-rank method, at
+         * microsecond resolution. The result is never above the maximum.
+         *
+         * @param percentile the percentile, from 0.0 to 100.0
+         * @return the value, zero if nothing was recorded
+         */
+        public Duration getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * count));
+            long seen = 0;
+            for (int index = 0; index < counts.length; index++) {
+                seen += counts[index];
+                if (seen >= rank) {
+                    long nanos = histogram.highestEquivalentMicros(index) * 1_000 + 999;
+                    return Duration.ofNanos(Math.max(minNanos, Math.min(nanos, maxNanos)));
+                }
+            }
+            return Duration.ofNanos(maxNanos);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.LiveStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exports the live metrics of a running load test so the load generator can
+ * be watched and scraped next to the system under test. The metrics are
+ * always registered as a JMX MBean; a Prometheus text endpoint is served on
+ * {@code PROMETHEUS_PORT} when it is set. Every read goes through
+ * {@link MetricsCollectionService#getLiveStats()}, which never blocks the
+ * recording threads.
+ */
+@Service
+public class LiveMetricsExporter implements LoadTestMetricsMXBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveMetricsExporter.class);
+
+    static final String OBJECT_NAME = "com.example.dynamodb.loadtest:type=LoadTestMetrics";
+    static final String METRICS_PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String PREFIX = "dynamodb_load_test_";
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+    private final MetricsCollectionService metricsCollectionService;
+    private final int prometheusPort;
+    private ObjectName objectName;
+    private HttpServer server;
+
+    public LiveMetricsExporter(MetricsCollectionService metricsCollectionService,
+            @Value("${PROMETHEUS_PORT:0}") int prometheusPort) {
+        this.metricsCollectionService = metricsCollectionService;
+        this.prometheusPort = prometheusPort;
+    }
+
+    /**
+     * Registers the MBean and starts the Prometheus endpoint if a port is
+     * configured. Export is optional, so failures are logged and the load
+     * test runs without it.
+     */
+    @PostConstruct
+    public void start() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            mBeanServer.registerMBean(this, name);
+            objectName = name;
+            logger.info("Registered live load test metrics as JMX MBean {}", OBJECT_NAME);
+        } catch (InstanceAlreadyExistsException e) {
+            logger.warn("JMX MBean {} is already registered; live metrics are not exported over JMX", OBJECT_NAME);
+        } catch (Exception e) {
+            logger.warn("Failed to register JMX MBean {}: {}", OBJECT_NAME, e.getMessage());
+        }
+
+        if (prometheusPort > 0) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(prometheusPort), 0);
+                server.createContext(METRICS_PATH, this::handleScrape);
+                server.start();
+                logger.info("Serving Prometheus metrics on port {} at {}", prometheusPort, METRICS_PATH);
+            } catch (IOException e) {
+                logger.warn("Failed to start Prometheus endpoint on port {}: {}", prometheusPort, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (Exception e) {
+                logger.debug("Failed to unregister JMX MBean {}: {}", objectName, e.getMessage());
+            }
+            objectName = null;
+        }
+    }
+
+    /**
+     * Renders the live metrics in the Prometheus text exposition format.
+     * 
+     * @return the metrics text
+     */
+    public String scrape() {
+        LiveStats stats = metricsCollectionService.getLiveStats();
+        StringBuilder text = new StringBuilder();
+
+        header(text, "operations_total", "counter", "Operations completed, by outcome.");
+        sample(text, "operations_total", "outcome", "success", stats.getSuccesses());
+        sample(text, "operations_total", "outcome", "error", stats.getErrors());
+
+        header(text, "errors_total", "counter", "Failed operations, by error type.");
+        for (Map.Entry<String, Long> error : new TreeMap<>(stats.getErrorTypeCounts()).entrySet()) {
+            sample(text, "errors_total", "type", error.getKey(), error.getValue());
+        }
+
+        header(text, "throughput_operations_per_second", "gauge",
+                "Operations per second of the last complete second.");
+        sample(text, "throughput_operations_per_second", stats.getRecentThroughputPerSecond());
+
+        LatencyHistogram.Snapshot latency = stats.getLatency();
+        header(text, "response_time_seconds", "summary", "Response time of operations.");
+        for (double quantile : QUANTILES) {
+            sample(text, "response_time_seconds", "quantile", Double.toString(quantile),
+                    seconds(latency.getValueAtPercentile(quantile * 100)));
+        }
+        sample(text, "response_time_seconds_sum", seconds(latency.getMean()) * latency.getCount());
+        sample(text, "response_time_seconds_count", latency.getCount());
+
+        header(text, "response_time_max_seconds", "gauge", "Slowest response time so far.");
+        sample(text, "response_time_max_seconds", seconds(latency.getMax()));
+
+        header(text, "consumed_capacity_units_total", "counter", "Capacity units DynamoDB reported as consumed.");
+        sample(text, "consumed_capacity_units_total", "capacity", "write", stats.getWriteCapacityUnits());
+        sample(text, "consumed_capacity_units_total", "capacity", "read", stats.getReadCapacityUnits());
+
+        header(text, "elapsed_seconds", "gauge", "Time since the test started.");
+        sample(text, "elapsed_seconds", seconds(stats.getElapsed()));
+
+        if (stats.getActivePhase() != null) {
+            header(text, "active_phase", "gauge", "The load phase currently running.");
+            sample(text, "active_phase", "phase", stats.getActivePhase(), 1);
+        }
+        return text.toString();
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static void header(StringBuilder text, String name, String type, String help) {
+        text.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, double value) {
+        text.append(PREFIX).append(name).append(' ').append(format(value)).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, String label, String labelValue, double value) {
+        text.append(PREFIX).append(name).append('{').append(label).append("=\"")
+                .append(escape(labelValue)).append("\"} ").append(format(value)).append('\n');
+    }
+
+    // Counters print without a fraction, e.g. 42 instead of 42.0
+    private static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value)
+                : Double.toString(value);
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    @Override
+    public long getOperations() {
+        return metricsCollectionService.getLiveStats().getOperations();
+    }
+
+    @Override
+    public long getSuccesses() {
+        return metricsCollectionService.getLiveStats().getSuccesses();
+    }
+
+    @Override
+    public long getErrors() {
+        return metricsCollectionService.getLiveStats().getErrors();
+    }
+
+    @Override
+    public double getErrorRate() {
+        return metricsCollectionService.getLiveStats().getErrorRate();
+    }
+
+    @Override
+    public double getRecentThroughputPerSecond() {
+        return metricsCollectionService.getLiveStats().getRecentThroughputPerSecond();
+    }
+
+    @Override
+    public double getAverageThroughputPerSecond() {
+        return metricsCollectionService.getLiveStats().getAverageThroughputPerSecond();
+    }
+
+    @Override
+    public double getP50ResponseTimeMillis() {
+        return millis(metricsCollectionService.getLatencySnapshot().getValueAtPercentile(50));
+    }
+
+    @Override
+    public double getP99ResponseTimeMillis() {
+        return millis(metricsCollectionService.getLatencySnapshot().getValueAtPercentile(99));
+    }
+
+    @Override
+    public double getP999ResponseTimeMillis() {
+        return millis(metricsCollectionService.getLatencySnapshot().getValueAtPercentile(99.9));
+    }
+
+    @Override
+    public double getMaxResponseTimeMillis() {
+        return millis(metricsCollectionService.getLatencySnapshot().getMax());
+    }
+
+    @Override
+    public long getElapsedSeconds() {
+        return metricsCollectionService.getLiveStats().getElapsed().getSeconds();
+    }
+
+    @Override
+    public Map<String, Long> getErrorTypeCounts() {
+        return metricsCollectionService.getLiveStats().getErrorTypeCounts();
+    }
+
+    @Override
+    public double getWriteCapacityUnits() {
+        return metricsCollectionService.getLiveStats().getWriteCapacityUnits();
+    }
+
+    @Override
+    public double getReadCapacityUnits() {
+        return metricsCollectionService.getLiveStats().getReadCapacityUnits();
+    }
+
+    @Override
+    public String getActivePhase() {
+        return metricsCollectionService.getLiveStats().getActivePhase();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A single step of a load test plan, run at a fixed concurrency level.
+ * A phase ends when its hold duration has elapsed, when its item budget is
+ * used up, or when the item source is exhausted, whichever comes first.
+ * Phases are run one after another, so each step of a ramp measures exactly
+ * one concurrency level.
+ */
+public class LoadPhase {
+
+    // Maximum number of ramp-up steps before the max concurrency phase
+    static final int MAX_RAMP_UP_STEPS = 10;
+
+    private static final long UNLIMITED = -1;
+
+    private final String name;
+    private final int concurrency;
+    private final long itemBudget;
+    private final Duration holdDuration;
+
+    public LoadPhase(String name, int concurrency, long itemBudget, Duration holdDuration) {
+        this.name = name;
+        this.concurrency = concurrency;
+        this.itemBudget = itemBudget;
+        this.holdDuration = holdDuration;
+    }
+
+    /**
+     * Creates a phase that runs until the item source is exhausted.
+     *
+     * @param name        the phase name
+     * @param concurrency the concurrency level
+     * @return an unbounded phase
+     */
+    public static LoadPhase untilExhausted(String name, int concurrency) {
+        return new LoadPhase(name, concurrency, UNLIMITED, null);
+    }
+
+    /**
+     * Plans the progressive ramp for a configuration: up to ten ramp-up steps of
+     * increasing concurrency, followed by a max concurrency phase that drains the
+     * remaining items. If a ramp step duration is configured, each ramp-up step
+     * is held for that duration. In duration mode without a step duration, the
+     * ramp-up share of the test duration is split evenly across the steps.
+     * Otherwise each step gets an equal share of the ramp-up items.
+     *
+     * @param config the test configuration
+     * @return the ordered list of phases
+     */
+    public static List<LoadPhase> planProgressive(TestConfiguration config) {
+        int maxConcurrencyLevel = config.getMaxConcurrencyLevel();
+        int itemsForRampUp = config.getItemsForRampUp();
+        int rampUpSteps = Math.min(MAX_RAMP_UP_STEPS, maxConcurrencyLevel);
+        Duration stepDuration = config.getRampStepDuration();
+
+        if (stepDuration == null && config.isDurationMode()) {
+            // Same split as items: max concurrency percentage of the time at max level
+            double rampUpShare = 1.0 - config.getMaxConcurrencyPercentage() / 100.0;
+            long rampUpNanos = (long) (config.getTestDuration().toNanos() * rampUpShare);
+            stepDuration = rampUpSteps > 0 ? Duration.ofNanos(rampUpNanos / rampUpSteps) : Duration.ZERO;
+        }
+
+        List<LoadPhase> phases = new ArrayList<>();
+
+        boolean timeBoxed = stepDuration != null;
+        if (timeBoxed ? stepDuration.toNanos() > 0 : itemsForRampUp > 0) {
+            long itemsPerStep = timeBoxed ? UNLIMITED : Math.max(1, itemsForRampUp / rampUpSteps);
+
+            for (int step = 1; step <= rampUpSteps; step++) {
+                int concurrencyLevel = Math.max(1, (step * maxConcurrencyLevel) / rampUpSteps);
+                if (!timeBoxed && (long) (step - 1) * itemsPerStep >= itemsForRampUp) {
+                    break;
+                }
+                long budget = timeBoxed ? UNLIMITED
+                        : Math.min(itemsPerStep, itemsForRampUp - (long) (step - 1) * itemsPerStep);
+                phases.add(new LoadPhase("ramp-up-" + step, concurrencyLevel, budget, stepDuration));
+            }
+        }
+
+        phases.add(untilExhausted("max-concurrency", maxConcurrencyLevel));
+        return phases;
+    }
+
+    /**
+     * Wraps an item source so it reports exhaustion once this phase is over. The
+     * hold duration is measured from the moment this method is called.
+     *
+     * @param source the shared item source
+     * @param <T>    the item type
+     * @return an iterator bounded by this phase's budget and hold duration
+     */
+    public <T> Iterator<T> bound(Iterator<T> source) {
+        return new BoundedIterator<>(source, itemBudget, holdDuration, "Phase " + name + " is complete");
+    }
+
+    /**
+     * Wraps an item source so it reports exhaustion once a run duration has
+     * elapsed, measured from the moment this method is called. Used to bound an
+     * endless source in duration mode.
+     *
+     * @param source   the item source
+     * @param duration how long the source yields items
+     * @param <T>      the item type
+     * @return an iterator that ends when the duration has elapsed
+     */
+    public static <T> Iterator<T> forDuration(Iterator<T> source, Duration duration) {
+        return new BoundedIterator<>(source, UNLIMITED, duration, "Test duration has elapsed");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets the maximum number of items this phase processes.
+     *
+     * @return the item budget, or -1 if unlimited
+     */
+    public long getItemBudget() {
+        return itemBudget;
+    }
+
+    /**
+     * Gets how long this phase holds its concurrency level.
+     *
+     * @return the hold duration, or null if not time-boxed
+     */
+    public Duration getHoldDuration() {
+        return holdDuration;
+    }
+
+    /**
+     * Iterator that ends at an item budget or a deadline, whichever comes first.
+     * Lanes of a phase poll it concurrently: the budget is claimed atomically,
+     * and a source that is not a {@link ConcurrentSource} is polled under a lock.
+     */
+    private static final class BoundedIterator<T> implements Iterator<T>, ConcurrentSource<T> {
+        private final Iterator<T> source;
+        private final ConcurrentSource<T> concurrentSource;
+        private final ReentrantLock sourceLock = new ReentrantLock();
+        private final long itemBudget;
+        private final long deadlineNanos;
+        private final boolean hasDeadline;
+        private final String exhaustedMessage;
+        private final AtomicLong taken = new AtomicLong(0);
+
+        @SuppressWarnings("unchecked")
+        private BoundedIterator(Iterator<T> source, long itemBudget, Duration duration, String exhaustedMessage) {
+            this.source = source;
+            this.concurrentSource = source instanceof ConcurrentSource<?> ? (ConcurrentSource<T>) source : null;
+            this.itemBudget = itemBudget;
+            this.hasDeadline = duration != null;
+            this.deadlineNanos = hasDeadline ? System.nanoTime() + duration.toNanos() : 0;
+            this.exhaustedMessage = exhaustedMessage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (itemBudget == UNLIMITED || taken.get() < itemBudget)
+                    && beforeDeadline()
+                    && source.hasNext();
+        }
+
+        @Override
+        public T next() {
+            T item = poll();
+            if (item == null) {
+                throw new NoSuchElementException(exhaustedMessage);
+            }
+            return item;
+        }
+
+        @Override
+        public T poll() {
+            if (!beforeDeadline() || (itemBudget != UNLIMITED && taken.getAndIncrement() >= itemBudget)) {
+                return null;
+            }
+            if (concurrentSource != null) {
+                return concurrentSource.poll();
+            }
+            sourceLock.lock();
+            try {
+                return source.hasNext() ? source.next() : null;
+            } finally {
+                sourceLock.unlock();
+            }
+        }
+
+        private boolean beforeDeadline() {
+            return !hasDeadline || System.nanoTime() - deadlineNanos < 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LoadPhase{" +
+                "name='" + name + '\'' +
+                ", concurrency=" + concurrency +
+                ", itemBudget=" + itemBudget +
+                ", holdDuration=" + holdDuration +
+                '}';
+    }
+}
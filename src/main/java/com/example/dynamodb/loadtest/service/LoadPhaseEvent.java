@@ -0,0 +1,69 @@
+package com.example.dynamodb.loadtest.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a load phase, from
+ * {@link MetricsCollectionService#beginPhase(String, int)} to
+ * {@link MetricsCollectionService#endPhase(int)}, so the phase boundaries show
+ * in the recording's timeline.
+ */
+@Name(LoadPhaseEvent.NAME)
+@Label("Load Phase")
+@Category("DynamoDB Load Test")
+@Description("A load phase at a fixed concurrency")
+@StackTrace(false)
+final class LoadPhaseEvent extends Event {
+
+    static final String NAME = "com.example.dynamodb.loadtest.LoadPhase";
+
+    @Label("Phase Id")
+    int phaseId;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Concurrency")
+    int concurrency;
+
+    @Label("Successes")
+    long successes;
+
+    @Label("Errors")
+    long errors;
+
+    /**
+     * Starts a phase.
+     *
+     * @return the started event, or null if the event is not recorded
+     */
+    static LoadPhaseEvent begin(int phaseId, String phase, int concurrency) {
+        LoadPhaseEvent event = new LoadPhaseEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.phaseId = phaseId;
+        event.phase = phase;
+        event.concurrency = concurrency;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a phase and commits it with its outcome.
+     *
+     * @param event the event returned by {@link #begin(int, String, int)}
+     */
+    static void end(LoadPhaseEvent event, long successes, long errors) {
+        if (event != null) {
+            event.successes = successes;
+            event.errors = errors;
+            event.commit();
+        }
+    }
+}
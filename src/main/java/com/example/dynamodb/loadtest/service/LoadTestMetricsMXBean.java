@@ -0,0 +1,53 @@
+package com.example.dynamodb.loadtest.service;
+
+import java.util.Map;
+
+/**
+ * JMX view of the live metrics of a running load test, registered as
+ * {@value LiveMetricsExporter#OBJECT_NAME}. Every attribute is read from a
+ * fresh snapshot, so values may advance between attributes of one read.
+ */
+public interface LoadTestMetricsMXBean {
+
+    long getOperations();
+
+    long getSuccesses();
+
+    long getErrors();
+
+    /**
+     * @return error rate (0.0 to 100.0)
+     */
+    double getErrorRate();
+
+    /**
+     * @return operations per second of the last complete second
+     */
+    double getRecentThroughputPerSecond();
+
+    /**
+     * @return operations per second since the test started
+     */
+    double getAverageThroughputPerSecond();
+
+    double getP50ResponseTimeMillis();
+
+    double getP99ResponseTimeMillis();
+
+    double getP999ResponseTimeMillis();
+
+    double getMaxResponseTimeMillis();
+
+    long getElapsedSeconds();
+
+    Map<String, Long> getErrorTypeCounts();
+
+    double getWriteCapacityUnits();
+
+    double getReadCapacityUnits();
+
+    /**
+     * @return the name of the running load phase, or null outside any phase
+     */
+    String getActivePhase();
+}
@@ -4,6 +4,7 @@ import com.example.dynamodb.loadtest.model.TestConfiguration;
 import com.example.dynamodb.loadtest.model.TestItem;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -31,6 +32,17 @@ public interface LoadTestService {
      */
     CompletableFuture<Void> executeWithConcurrency(List<TestItem> items, int concurrency);
 
+    /**
+     * Executes operations with a specific concurrency level, pulling items lazily
+     * from the given iterator. Exactly {@code concurrency} operations are kept in
+     * flight until the iterator is exhausted.
+     * 
+     * @param items       the items to process, consumed lazily
+     * @param concurrency the concurrency level
+     * @return CompletableFuture that completes when all operations are done
+     */
+    CompletableFuture<Void> executeWithConcurrency(Iterator<TestItem> items, int concurrency);
+
     /**
      * Generates test items for the load test.
      * 
@@ -4,10 +4,14 @@ import com.example.dynamodb.loadtest.model.TestConfiguration;
 import com.example.dynamodb.loadtest.model.TestItem;
 import com.example.dynamodb.loadtest.model.TestMetrics;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
+import com.example.dynamodb.loadtest.util.TestDataGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -30,14 +34,17 @@ public class LoadTestServiceImpl implements LoadTestService {
     private final AccurateDuplicateCounter accurateDuplicateCounter;
     private final Executor virtualThreadExecutor;
     private final AtomicLong keyCounter = new AtomicLong(0);
-    private final Random random = new Random();
+
+    // Keys written in the current mixed-workload run, read back by read
+    // operations; null outside mixed runs
+    private volatile WrittenKeyPool writtenKeys;
 
     // Default payload size in bytes (approximately 300 bytes to stay under 500 byte
     // total limit)
     private static final int DEFAULT_PAYLOAD_SIZE = 300;
 
-    // Characters used for generating payload data
-    private static final String PAYLOAD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    // Keys read per BatchGetItem request in mixed workloads
+    static final int BATCH_GET_KEYS = 10;
 
     public LoadTestServiceImpl(
             MetricsCollectionService metricsCollectionService,
@@ -58,21 +65,63 @@ public class LoadTestServiceImpl implements LoadTestService {
             try {
                 // Start metrics collection
                 metricsCollectionService.startTest();
+                writtenKeys = config.isMixedWorkload() ? new WrittenKeyPool() : null;
+
+                long itemSeed = resolveItemSeed(config);
+                Iterator<TestItem> testItems;
+                KeyedItemSource keyedItems = null;
+                if (config.hasKeyDistribution()) {
+                    // Skewed keys: draw every key from a bounded key space
+                    keyedItems = newKeyedItemSource(config, itemSeed);
+                    testItems = config.isDurationMode()
+                            ? LoadPhase.forDuration(keyedItems, config.getTestDuration())
+                            : keyedItems;
+                } else if (config.isDurationMode()) {
+                    // Soak mode: generate items continuously until the duration elapses
+                    logger.info("Generating items continuously for {}s", config.getTestDurationSeconds());
+                    testItems = LoadPhase.forDuration(
+                            new ContinuousItemSource(itemDuplicatePercentage(config)), config.getTestDuration());
+                } else {
+                    // Derive items from the seed as they are sent, instead of materializing them
+                    SeededItemSource seededItems = new SeededItemSource(itemSeed, config.getTotalItems(),
+                            itemDuplicatePercentage(config), DEFAULT_PAYLOAD_SIZE);
+                    logger.info("Generating {} test items on demand ({} duplicates)",
+                            seededItems.getItemCount(), seededItems.getDuplicateCount());
+                    testItems = seededItems.iterator();
+                }
 
-                // Generate test items and pre-stage them to avoid race conditions
-                List<TestItem> testItems = generateAndStageTestItems(config);
-
-                logger.info("Generated and staged {} test items", testItems.size());
-
-                // Execute load test with progressive concurrency ramping
-                executeProgressiveLoadTest(testItems, config).join();
+                if (config.isConstantRateMode()) {
+                    // Open-loop execution at a fixed arrival rate
+                    executeConstantRateLoadTest(testItems, config);
+                } else {
+                    // Execute load test with progressive concurrency ramping
+                    executeProgressiveLoadTest(testItems, config).join();
+                }
 
                 // End metrics collection
                 metricsCollectionService.endTest();
+                if (keyedItems != null) {
+                    metricsCollectionService.recordKeyUsageStats(keyedItems.getStats());
+                }
 
                 // Perform enhanced duplicate accuracy validation
                 TestSummary summary = metricsCollectionService.generateSummary();
-                performEnhancedDuplicateValidation(config, summary);
+                if (config.isDurationMode()) {
+                    logger.info("Skipping duplicate accuracy validation: item count is not fixed in duration mode");
+                } else if (config.hasKeyDistribution()) {
+                    logger.info("Skipping duplicate accuracy validation: repeated keys follow the key distribution");
+                } else if (config.isBatchWriteMode()) {
+                    logger.info("Skipping duplicate accuracy validation: batch writes overwrite duplicate keys");
+                } else if (config.isTransactWriteMode()) {
+                    logger.info("Skipping duplicate accuracy validation: transactions are written all-or-nothing");
+                } else if (config.isMixedWorkload()) {
+                    logger.info("Skipping duplicate accuracy validation: only part of the items are written");
+                } else if (config.isConstantRateMode()) {
+                    logger.info("Skipping duplicate accuracy validation: open-loop sends do not wait for the "
+                            + "writes they duplicate");
+                } else {
+                    performEnhancedDuplicateValidation(config, summary);
+                }
 
                 logger.info("Load test completed. Summary: {}", summary);
 
@@ -87,89 +136,158 @@ public class LoadTestServiceImpl implements LoadTestService {
     }
 
     /**
-     * Executes a progressive load test with ramping concurrency levels.
+     * Executes a progressive load test with ramping concurrency levels. Phases
+     * run strictly one after another over a shared item source, so each ramp-up
+     * step is measured at a single concurrency level and gets its own metric
+     * scope.
      * 
      * @param testItems the items to process
      * @param config    the test configuration
      * @return CompletableFuture that completes when the load test is done
      */
-    private CompletableFuture<Void> executeProgressiveLoadTest(List<TestItem> testItems, TestConfiguration config) {
-        logger.info("Executing progressive load test with {} items", testItems.size());
+    private CompletableFuture<Void> executeProgressiveLoadTest(Iterator<TestItem> testItems,
+            TestConfiguration config) {
+        logger.info("Executing progressive load test");
 
         return CompletableFuture.runAsync(() -> {
             try {
-                // Calculate item distribution
-                int itemsForMaxConcurrency = config.getItemsForMaxConcurrency();
-                int itemsForRampUp = config.getItemsForRampUp();
-                int maxConcurrencyLevel = config.getMaxConcurrencyLevel();
-
-                logger.info("Load test plan: {} items for ramp-up, {} items at max concurrency ({})",
-                        itemsForRampUp, itemsForMaxConcurrency, maxConcurrencyLevel);
-
-                List<CompletableFuture<Void>> phases = new ArrayList<>();
-                int itemIndex = 0;
-
-                // Phase 1: Progressive ramping up to max concurrency
-                if (itemsForRampUp > 0) {
-                    logger.info("Starting ramp-up phase with {} items", itemsForRampUp);
-
-                    // Calculate concurrency levels for ramp-up
-                    int rampUpSteps = Math.min(10, maxConcurrencyLevel); // Max 10 steps
-                    int itemsPerStep = Math.max(1, itemsForRampUp / rampUpSteps);
+                List<LoadPhase> phases = LoadPhase.planProgressive(config);
 
-                    for (int step = 1; step <= rampUpSteps && itemIndex < itemsForRampUp; step++) {
-                        int concurrencyLevel = Math.max(1, (step * maxConcurrencyLevel) / rampUpSteps);
-                        int endIndex = Math.min(itemIndex + itemsPerStep, itemsForRampUp);
+                logger.info("Load test plan: {} items for ramp-up, {} items at max concurrency ({}), {} phases{}{}",
+                        config.getItemsForRampUp(), config.getItemsForMaxConcurrency(),
+                        config.getMaxConcurrencyLevel(), phases.size(),
+                        config.getRampStepDuration() != null
+                                ? ", ramp-up steps held for " + config.getRampStepDuration().toSeconds() + "s"
+                                : "",
+                        config.isBatchWriteMode() ? ", concurrency counted in batch requests"
+                                : config.isTransactWriteMode() ? ", concurrency counted in transactions"
+                                        : config.isMixedWorkload() ? ", operation mix " + config.getWorkloadMix()
+                                                : "");
 
-                        if (itemIndex < endIndex) {
-                            List<TestItem> stepItems = testItems.subList(itemIndex, endIndex);
-                            logger.debug("Ramp-up step {}: {} items at concurrency {}",
-                                    step, stepItems.size(), concurrencyLevel);
+                executePhases(testItems, phases, config);
 
-                            CompletableFuture<Void> stepFuture = executeWithConcurrency(stepItems, concurrencyLevel);
-                            phases.add(stepFuture);
-
-                            itemIndex = endIndex;
-                        }
-                    }
-                }
-
-                // Phase 2: Maximum concurrency execution
-                if (itemsForMaxConcurrency > 0 && itemIndex < testItems.size()) {
-                    int endIndex = Math.min(itemIndex + itemsForMaxConcurrency, testItems.size());
-                    List<TestItem> maxConcurrencyItems = testItems.subList(itemIndex, endIndex);
+                logger.info("Progressive load test completed successfully");
 
-                    logger.info("Starting max concurrency phase: {} items at concurrency {}",
-                            maxConcurrencyItems.size(), maxConcurrencyLevel);
+            } catch (Exception e) {
+                logger.error("Progressive load test execution failed", e);
+                throw new RuntimeException("Progressive load test execution failed", e);
+            }
+        }, virtualThreadExecutor);
+    }
 
-                    CompletableFuture<Void> maxConcurrencyFuture = executeWithConcurrency(
-                            maxConcurrencyItems, maxConcurrencyLevel);
-                    phases.add(maxConcurrencyFuture);
+    /**
+     * Runs phases sequentially. Each phase drains the shared source until its
+     * hold duration or item budget is used up, and all of its operations have
+     * completed before the next phase starts. A failing phase does not stop the
+     * ramp; the first failure is rethrown once all phases have run.
+     * 
+     * @param source the shared item source
+     * @param phases the phases to run, in order
+     * @param config the test configuration, selecting the workload type
+     */
+    private void executePhases(Iterator<TestItem> source, List<LoadPhase> phases, TestConfiguration config) {
+        CompletionException firstFailure = null;
+        WorkloadMix mix = config.isMixedWorkload() ? WorkloadMix.parse(config.getWorkloadMix()) : null;
+
+        for (LoadPhase phase : phases) {
+            if (!source.hasNext()) {
+                logger.info("Item source exhausted, skipping remaining phases from {}", phase.getName());
+                break;
+            }
 
-                    itemIndex = endIndex;
+            logger.info("Starting phase {} at concurrency {}", phase.getName(), phase.getConcurrency());
+            int phaseId = metricsCollectionService.beginPhase(phase.getName(), phase.getConcurrency());
+            try {
+                if (config.isBatchWriteMode()) {
+                    executeBatchesWithConcurrency(phase.bound(source), phase.getConcurrency(), phaseId).join();
+                } else if (config.isTransactWriteMode()) {
+                    executeTransactionsWithConcurrency(phase.bound(source), phase.getConcurrency(), phaseId, config)
+                            .join();
+                } else if (mix != null) {
+                    executeMixedWithConcurrency(phase.bound(source), phase.getConcurrency(), phaseId, mix).join();
+                } else {
+                    executeWithConcurrency(phase.bound(source), phase.getConcurrency(), phaseId).join();
                 }
-
-                // Process any remaining items at max concurrency
-                if (itemIndex < testItems.size()) {
-                    List<TestItem> remainingItems = testItems.subList(itemIndex, testItems.size());
-                    logger.info("Processing {} remaining items at max concurrency {}",
-                            remainingItems.size(), maxConcurrencyLevel);
-
-                    CompletableFuture<Void> remainingFuture = executeWithConcurrency(
-                            remainingItems, maxConcurrencyLevel);
-                    phases.add(remainingFuture);
+            } catch (CompletionException e) {
+                logger.warn("Phase {} completed with errors: {}", phase.getName(), e.getMessage());
+                if (firstFailure == null) {
+                    firstFailure = e;
                 }
+            } finally {
+                metricsCollectionService.endPhase(phaseId);
+            }
+        }
 
-                // Wait for all phases to complete
-                CompletableFuture.allOf(phases.toArray(new CompletableFuture[0])).join();
-
-                logger.info("Progressive load test completed successfully");
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
 
-            } catch (Exception e) {
-                logger.error("Progressive load test execution failed", e);
-                throw new RuntimeException("Progressive load test execution failed", e);
+    /**
+     * Executes an open-loop load test that sends requests at the configured
+     * target rate, independent of how fast DynamoDB responds. The concurrency
+     * limit caps outstanding requests; sends due while the cap is reached wait
+     * for a free slot and are reported as queued, with their latency still
+     * measured from the intended send time. The run is measured as a single
+     * phase at the concurrency limit.
+     * 
+     * @param testItems the items to process
+     * @param config    the test configuration
+     */
+    private void executeConstantRateLoadTest(Iterator<TestItem> testItems, TestConfiguration config) {
+        int maxOutstanding = config.getConcurrencyLimit();
+        logger.info("Executing constant-rate load test at {} {}/s (max outstanding: {})",
+                config.getTargetRequestsPerSecond(),
+                config.isBatchWriteMode() ? "batches" : config.isTransactWriteMode() ? "transactions" : "req",
+                maxOutstanding);
+
+        ConstantRateExecutor.RateStats stats;
+        int phaseId = metricsCollectionService.beginPhase("constant-rate", maxOutstanding);
+        try {
+            if (config.isBatchWriteMode()) {
+                stats = new ConstantRateExecutor<>(
+                        new ItemBatcher(testItems),
+                        config.getTargetRequestsPerSecond(),
+                        maxOutstanding,
+                        (batch, intendedStartNanos) -> processBatch(batch, phaseId, intendedStartNanos),
+                        virtualThreadExecutor)
+                        .run();
+            } else if (config.isTransactWriteMode()) {
+                stats = new ConstantRateExecutor<>(
+                        newTransactionPlanner(testItems, config),
+                        config.getTargetRequestsPerSecond(),
+                        maxOutstanding,
+                        (transaction, intendedStartNanos) -> processTransaction(transaction, phaseId,
+                                intendedStartNanos),
+                        virtualThreadExecutor)
+                        .run();
+            } else if (config.isMixedWorkload()) {
+                WorkloadMix mix = WorkloadMix.parse(config.getWorkloadMix());
+                stats = new ConstantRateExecutor<>(
+                        testItems,
+                        config.getTargetRequestsPerSecond(),
+                        maxOutstanding,
+                        (item, intendedStartNanos) -> processOperation(item, mix, phaseId, intendedStartNanos),
+                        virtualThreadExecutor)
+                        .run();
+            } else {
+                stats = new ConstantRateExecutor<>(
+                        testItems,
+                        config.getTargetRequestsPerSecond(),
+                        maxOutstanding,
+                        (item, intendedStartNanos) -> processItem(item, phaseId, intendedStartNanos),
+                        virtualThreadExecutor)
+                        .run();
             }
-        }, virtualThreadExecutor);
+        } finally {
+            metricsCollectionService.endPhase(phaseId);
+        }
+        metricsCollectionService.recordArrivalRateStats(stats);
+
+        if (stats.getQueuedRequests() > 0 || stats.getLateRequests() > 0) {
+            logger.warn("Load generator could not keep up with target rate: {} queued, {} late sends",
+                    stats.getQueuedRequests(), stats.getLateRequests());
+        }
     }
 
     @Override
@@ -180,119 +298,428 @@ public class LoadTestServiceImpl implements LoadTestService {
             return CompletableFuture.completedFuture(null);
         }
 
-        // Create semaphore to control concurrency
-        Semaphore semaphore = new Semaphore(concurrency);
-
-        // Create list to hold all futures
-        List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
-
-        // Submit each item for processing using Virtual Threads
-        for (TestItem item : items) {
-            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                try {
-                    // Acquire semaphore permit
-                    semaphore.acquire();
-
-                    try {
-                        // Process the item
-                        processItem(item, concurrency);
-                    } finally {
-                        // Always release the permit
-                        semaphore.release();
+        return executeWithConcurrency(items.iterator(), concurrency)
+                .whenComplete((result, throwable) -> {
+                    if (throwable == null) {
+                        logger.info("Successfully completed processing {} items with concurrency {}",
+                                items.size(), concurrency);
                     }
+                });
+    }
 
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    logger.error("Thread interrupted while processing item: {}", item.getPrimaryKey(), e);
-                    throw new RuntimeException("Execution interrupted", e);
-                } catch (Exception e) {
-                    logger.error("Error processing item: {}", item.getPrimaryKey(), e);
-                    // Record error in metrics
-                    metricsCollectionService.recordError("ProcessingError", Duration.ofMillis(0), concurrency);
-                    throw e;
-                }
-            }, virtualThreadExecutor);
-
-            futures.add(future);
-        }
+    @Override
+    public CompletableFuture<Void> executeWithConcurrency(Iterator<TestItem> items, int concurrency) {
+        return executeWithConcurrency(items, concurrency, metricsCollectionService.getActivePhaseId());
+    }
 
-        // Return a future that completes when all items are processed
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+    /**
+     * Streams items as single puts, keeping at most {@code concurrency} writes
+     * in flight.
+     * 
+     * @param items       the items to write
+     * @param concurrency the number of writes in flight
+     * @param phaseId     the phase the writes are recorded under
+     * @return CompletableFuture that completes when all writes are done
+     */
+    private CompletableFuture<Void> executeWithConcurrency(Iterator<TestItem> items, int concurrency, int phaseId) {
+        logger.debug("Streaming items with concurrency level {}", concurrency);
+
+        // Items are pulled lazily and at most `concurrency` operations are in flight.
+        // Each write is asynchronous end to end, so no thread is parked per request
+        // Each write is timed from when its lane became free, so waiting for the source is queue wait
+        return StreamingLoadExecutor.run(items, concurrency,
+                (item, readyNanos) -> processItem(item, phaseId, readyNanos)
+                        .whenComplete((result, throwable) -> {
+                            if (throwable != null) {
+                                logger.error("Error processing item: {}", item.getPrimaryKey(), throwable);
+                                // Record error in metrics
+                                metricsCollectionService.recordPhaseError("ProcessingError", 0L, phaseId);
+                            }
+                        }))
                 .whenComplete((result, throwable) -> {
                     if (throwable != null) {
                         logger.error("Error during concurrent execution", throwable);
-                    } else {
-                        logger.info("Successfully completed processing {} items with concurrency {}",
-                                items.size(), concurrency);
                     }
                 });
     }
 
     /**
-     * Processes a single test item by writing it to DynamoDB with enhanced error
-     * tracking.
+     * Processes a single test item, measuring response time from the given start
+     * time. In open-loop mode this is the intended send time, so any delay before
+     * the request is actually issued counts towards its latency, and is also
+     * recorded on its own as queue wait.
+     * The write is issued from the calling thread and the outcome is recorded in
+     * a completion callback, so no thread waits for DynamoDB.
      * 
-     * @param item             the item to process
-     * @param concurrencyLevel the current concurrency level
+     * @param item       the item to process
+     * @param phaseId    the phase the outcome is recorded under
+     * @param startNanos the {@link System#nanoTime()} the operation is timed
+     *                   from
+     * @return CompletableFuture that completes once the outcome is recorded; it
+     *         does not fail for DynamoDB errors, which are recorded in metrics
      */
-    private void processItem(TestItem item, int concurrencyLevel) {
-        logger.debug("Processing item with key: {} (expected: {}) at concurrency level {}",
+    private CompletableFuture<Void> processItem(TestItem item, int phaseId, long startNanos) {
+        logger.debug("Processing item with key: {} (expected: {}) in phase {}",
                 item.getPrimaryKey(),
                 item.getAttributes().getOrDefault("expected_result", "SUCCESS"),
-                concurrencyLevel);
+                phaseId);
+        metricsCollectionService.recordQueueWait(System.nanoTime() - startNanos);
 
-        Instant startTime = Instant.now();
-        String expectedResult = (String) item.getAttributes().getOrDefault("expected_result", "SUCCESS");
-        boolean isDuplicate = Boolean.TRUE.equals(item.getAttributes().get("is_duplicate"));
+        CompletableFuture<?> write;
+        try {
+            // Execute DynamoDB put operation with enhanced resilience
+            write = resilientDynamoDBService.putItemWithEnhancedResilience(item);
+        } catch (Exception e) {
+            write = CompletableFuture.failedFuture(e);
+        }
+
+        return write.handle((response, throwable) -> {
+            long responseNanos = System.nanoTime() - startNanos;
+            if (throwable == null) {
+                recordItemSuccess(item, responseNanos, phaseId);
+            } else {
+                // Same exception shape as join() would throw
+                Exception e = throwable instanceof CompletionException
+                        ? (CompletionException) throwable
+                        : new CompletionException(throwable);
+                recordItemError(item, e, responseNanos, phaseId);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Streams items as BatchWriteItem batches, keeping at most
+     * {@code concurrency} batch requests in flight.
+     * 
+     * @param items       the items to write, grouped into batches lazily
+     * @param concurrency the number of batch requests in flight
+     * @param phaseId     the phase the batches are recorded under
+     * @return CompletableFuture that completes when all batches are done
+     */
+    private CompletableFuture<Void> executeBatchesWithConcurrency(Iterator<TestItem> items, int concurrency,
+            int phaseId) {
+        logger.debug("Streaming batches with concurrency level {}", concurrency);
+
+        return StreamingLoadExecutor.run(new ItemBatcher(items), concurrency,
+                (batch, readyNanos) -> processBatch(batch, phaseId, readyNanos))
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        logger.error("Error during concurrent batch execution", throwable);
+                    }
+                });
+    }
+
+    /**
+     * Writes a batch with BatchWriteItem and records per-item and per-batch
+     * metrics. Each item's response time runs from the start time until the
+     * round that wrote it completed. Items still unprocessed after the last
+     * re-drive are recorded as capacity errors.
+     * 
+     * @param batch      the items to write, with unique primary keys
+     * @param phaseId    the phase the outcome is recorded under
+     * @param startNanos the {@link System#nanoTime()} the batch is timed from
+     * @return CompletableFuture that completes once the outcome is recorded; it
+     *         does not fail for DynamoDB errors, which are recorded in metrics
+     */
+    private CompletableFuture<Void> processBatch(List<TestItem> batch, int phaseId, long startNanos) {
+        logger.debug("Processing batch of {} items in phase {}", batch.size(), phaseId);
+
+        int duplicateItems = (int) batch.stream()
+                .filter(item -> Boolean.TRUE.equals(item.getAttributes().get("is_duplicate")))
+                .count();
+        metricsCollectionService.recordQueueWait(System.nanoTime() - startNanos);
 
+        CompletableFuture<ResilientDynamoDBService.BatchWriteResult> write;
         try {
-            // Create a TestMetrics object for this operation
-            com.example.dynamodb.loadtest.model.TestMetrics itemMetrics = new com.example.dynamodb.loadtest.model.TestMetrics(
-                    Duration.ZERO, 0, 0, concurrencyLevel);
+            write = resilientDynamoDBService.batchWriteWithRedrive(batch);
+        } catch (Exception e) {
+            write = CompletableFuture.failedFuture(e);
+        }
 
-            // Execute DynamoDB put operation with enhanced resilience
-            resilientDynamoDBService.putItemWithEnhancedResilience(item, itemMetrics).join();
+        return write.handle((result, throwable) -> {
+            long batchResponseNanos = System.nanoTime() - startNanos;
+            Duration batchResponseTime = Duration.ofNanos(batchResponseNanos);
+
+            if (throwable != null) {
+                Exception e = throwable instanceof CompletionException
+                        ? (CompletionException) throwable
+                        : new CompletionException(throwable);
+                metricsCollectionService.recordFailedBatch(batch.size(), duplicateItems, batchResponseTime);
+                for (TestItem item : batch) {
+                    recordItemError(item, e, batchResponseNanos, phaseId);
+                }
+                return null;
+            }
 
-            // Record successful operation
-            Duration responseTime = Duration.between(startTime, Instant.now());
-            metricsCollectionService.recordSuccess(responseTime, concurrencyLevel);
+            metricsCollectionService.recordBatch(result, duplicateItems, batchResponseTime);
+            List<TestItem> items = result.getItems();
+            for (int i = 0; i < items.size(); i++) {
+                long completedNanos = result.getCompletedNanos(i);
+                if (completedNanos != 0) {
+                    metricsCollectionService.recordPhaseSuccess(completedNanos - startNanos, phaseId);
+                } else {
+                    metricsCollectionService.recordPhaseError(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED,
+                            batchResponseNanos, phaseId);
+                }
+            }
 
-            // Log unexpected success for duplicate items
-            if (isDuplicate) {
-                logger.warn("Duplicate item succeeded unexpectedly: {} (this may indicate a race condition)",
-                        item.getPrimaryKey());
+            if (!result.getUnprocessedItems().isEmpty()) {
+                logger.debug("Batch left {} items unprocessed after {} re-drive rounds",
+                        result.getUnprocessedItems().size(), result.getRedriveRounds());
             }
+            return null;
+        });
+    }
+
+    /**
+     * Streams items as TransactWriteItems transactions, keeping at most
+     * {@code concurrency} transactions in flight.
+     * 
+     * @param items       the items to write, grouped into transactions lazily
+     * @param concurrency the number of transactions in flight
+     * @param phaseId     the phase the transactions are recorded under
+     * @param config      the test configuration with the transaction shape
+     * @return CompletableFuture that completes when all transactions are done
+     */
+    private CompletableFuture<Void> executeTransactionsWithConcurrency(Iterator<TestItem> items, int concurrency,
+            int phaseId, TestConfiguration config) {
+        logger.debug("Streaming transactions with concurrency level {}", concurrency);
+
+        return StreamingLoadExecutor.run(newTransactionPlanner(items, config), concurrency,
+                (transaction, readyNanos) -> processTransaction(transaction, phaseId, readyNanos))
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        logger.error("Error during concurrent transaction execution", throwable);
+                    }
+                });
+    }
 
-            logger.debug("Successfully processed item: {} (expected: {}, actual: SUCCESS)",
-                    item.getPrimaryKey(), expectedResult);
+    private TransactionPlanner newTransactionPlanner(Iterator<TestItem> items, TestConfiguration config) {
+        return new TransactionPlanner(items, config.getTransactionSize(),
+                config.getTransactionOverlapPercentage(), config.getTransactionConflictPercentage());
+    }
 
+    /**
+     * Writes a transaction with TransactWriteItems and records per-item and
+     * per-transaction metrics. All items share the transaction's response time.
+     * If DynamoDB cancels the transaction, every item is recorded as a
+     * transaction cancellation and the reason codes are counted per item that
+     * caused it.
+     * 
+     * @param transaction the items to write, with unique primary keys
+     * @param phaseId     the phase the outcome is recorded under
+     * @param startNanos  the {@link System#nanoTime()} the transaction is timed
+     *                    from
+     * @return CompletableFuture that completes once the outcome is recorded; it
+     *         does not fail for DynamoDB errors, which are recorded in metrics
+     */
+    private CompletableFuture<Void> processTransaction(List<TestItem> transaction, int phaseId, long startNanos) {
+        logger.debug("Processing transaction of {} items in phase {}", transaction.size(), phaseId);
+        metricsCollectionService.recordQueueWait(System.nanoTime() - startNanos);
+
+        CompletableFuture<?> write;
+        try {
+            write = resilientDynamoDBService.transactWriteWithResilience(transaction);
         } catch (Exception e) {
-            // Record error with enhanced categorization
-            Duration responseTime = Duration.between(startTime, Instant.now());
-            String errorType = determineErrorType(e);
-
-            // Enhanced logging for duplicate error tracking
-            if (TestMetrics.ERROR_TYPE_DUPLICATE_KEY.equals(errorType)) {
-                if (isDuplicate) {
-                    logger.debug("Duplicate error as expected for item: {} (expected: {}, actual: DUPLICATE_ERROR)",
-                            item.getPrimaryKey(), expectedResult);
-                } else {
-                    logger.warn("Unexpected duplicate error for unique item: {} (this may indicate a race condition)",
-                            item.getPrimaryKey());
+            write = CompletableFuture.failedFuture(e);
+        }
+
+        return write.handle((response, throwable) -> {
+            long responseNanos = System.nanoTime() - startNanos;
+            Duration responseTime = Duration.ofNanos(responseNanos);
+
+            if (throwable == null) {
+                metricsCollectionService.recordCommittedTransaction(transaction.size(), responseTime);
+                for (TestItem item : transaction) {
+                    recordItemSuccess(item, responseNanos, phaseId);
                 }
-            } else if (isDuplicate && "DUPLICATE_ERROR".equals(expectedResult)) {
-                logger.warn("Expected duplicate error but got {}: {} (this may indicate a race condition)",
-                        errorType, item.getPrimaryKey());
+                return null;
+            }
+
+            TransactionCanceledException canceled = findTransactionCanceled(throwable);
+            if (canceled != null) {
+                List<String> codes = new ArrayList<>();
+                if (canceled.hasCancellationReasons()) {
+                    for (CancellationReason reason : canceled.cancellationReasons()) {
+                        // Items that did not cause the cancellation report "None"
+                        if (reason.code() != null && !"None".equals(reason.code())) {
+                            codes.add(reason.code());
+                        }
+                    }
+                }
+                logger.debug("Transaction of {} items canceled: {}", transaction.size(), codes);
+                metricsCollectionService.recordCanceledTransaction(transaction.size(), codes, responseTime);
+                for (int i = 0; i < transaction.size(); i++) {
+                    metricsCollectionService.recordPhaseError(TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED,
+                            responseNanos, phaseId);
+                }
+                return null;
+            }
+
+            Exception e = throwable instanceof CompletionException
+                    ? (CompletionException) throwable
+                    : new CompletionException(throwable);
+            metricsCollectionService.recordFailedTransaction(transaction.size(), responseTime);
+            for (TestItem item : transaction) {
+                recordItemError(item, e, responseNanos, phaseId);
+            }
+            return null;
+        });
+    }
+
+    private static TransactionCanceledException findTransactionCanceled(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionCanceledException) {
+                return (TransactionCanceledException) cause;
             }
+        }
+        return null;
+    }
+
+    /**
+     * Streams a mixed read/write workload, keeping at most {@code concurrency}
+     * operations in flight. Each item from the source is one operation.
+     * 
+     * @param items       the items driving the operations
+     * @param concurrency the number of operations in flight
+     * @param phaseId     the phase the operations are recorded under
+     * @param mix         the weighted operation mix
+     * @return CompletableFuture that completes when all operations are done
+     */
+    private CompletableFuture<Void> executeMixedWithConcurrency(Iterator<TestItem> items, int concurrency,
+            int phaseId, WorkloadMix mix) {
+        logger.debug("Streaming mixed operations with concurrency level {}", concurrency);
+
+        return StreamingLoadExecutor.run(items, concurrency,
+                (item, readyNanos) -> processOperation(item, mix, phaseId, readyNanos))
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        logger.error("Error during concurrent mixed execution", throwable);
+                    }
+                });
+    }
+
+    /**
+     * Runs one operation of a mixed workload. Puts write the item; reads target
+     * keys already written in this run and ignore the item. Until the first
+     * put has succeeded there is nothing to read, so reads are issued as puts.
+     * 
+     * @param item       the item to write if a put is selected
+     * @param mix        the weighted operation mix
+     * @param phaseId    the phase the outcome is recorded under
+     * @param startNanos the {@link System#nanoTime()} the operation is timed
+     *                   from
+     * @return CompletableFuture that completes once the outcome is recorded
+     */
+    private CompletableFuture<Void> processOperation(TestItem item, WorkloadMix mix, int phaseId,
+            long startNanos) {
+        WorkloadMix.OperationType operation = mix.select(ThreadLocalRandom.current().nextDouble());
+        WrittenKeyPool keys = writtenKeys;
+        String key = operation.isRead() && keys != null ? keys.randomKey() : null;
+        if (key == null) {
+            return processItem(item, phaseId, startNanos);
+        }
+        metricsCollectionService.recordQueueWait(System.nanoTime() - startNanos);
+
+        CompletableFuture<Double> read;
+        try {
+            read = switch (operation) {
+                case GET -> resilientDynamoDBService.getItemWithResilience(key)
+                        .thenApply(response -> capacityUnitsOf(response.consumedCapacity()));
+                case BATCH_GET -> resilientDynamoDBService.batchGetWithResilience(keys.randomKeys(BATCH_GET_KEYS))
+                        .thenApply(response -> response.hasConsumedCapacity()
+                                ? response.consumedCapacity().stream().mapToDouble(this::capacityUnitsOf).sum()
+                                : 0.0);
+                case QUERY -> resilientDynamoDBService.queryWithResilience(key)
+                        .thenApply(response -> capacityUnitsOf(response.consumedCapacity()));
+                default -> throw new IllegalStateException("Not a read operation: " + operation);
+            };
+        } catch (Exception e) {
+            read = CompletableFuture.failedFuture(e);
+        }
+
+        return read.handle((capacityUnits, throwable) -> {
+            long responseNanos = System.nanoTime() - startNanos;
+            if (throwable == null) {
+                metricsCollectionService.recordPhaseSuccess(responseNanos, phaseId);
+                metricsCollectionService.recordOperation(operation.getLabel(), responseNanos, null, capacityUnits);
+            } else {
+                Exception e = throwable instanceof CompletionException
+                        ? (CompletionException) throwable
+                        : new CompletionException(throwable);
+                String errorType = determineErrorType(e);
+                logger.debug("Failed {} operation: {}", operation.getLabel(), errorType);
+                metricsCollectionService.recordPhaseError(errorType, responseNanos, phaseId);
+                metricsCollectionService.recordOperation(operation.getLabel(), responseNanos, errorType, 0.0);
+            }
+            return null;
+        });
+    }
 
-            metricsCollectionService.recordError(errorType, responseTime, concurrencyLevel);
+    private double capacityUnitsOf(ConsumedCapacity consumedCapacity) {
+        return consumedCapacity != null && consumedCapacity.capacityUnits() != null
+                ? consumedCapacity.capacityUnits()
+                : 0.0;
+    }
+
+    private void recordItemSuccess(TestItem item, long responseNanos, int phaseId) {
+        String expectedResult = (String) item.getAttributes().getOrDefault("expected_result", "SUCCESS");
+        boolean isDuplicate = Boolean.TRUE.equals(item.getAttributes().get("is_duplicate"));
 
-            logger.debug("Failed to process item: {} - Error: {} (expected: {}, actual: {})",
-                    item.getPrimaryKey(), errorType, expectedResult, errorType);
+        // Record successful operation
+        metricsCollectionService.recordPhaseSuccess(responseNanos, phaseId);
 
-            // Don't re-throw the exception to allow the load test to continue
-            // The error has been recorded in metrics
+        // In mixed workloads, written keys become read targets
+        WrittenKeyPool keys = writtenKeys;
+        if (keys != null) {
+            keys.add(item.getPrimaryKey());
+            metricsCollectionService.recordOperation(WorkloadMix.OperationType.PUT.getLabel(), responseNanos, null,
+                    0.0);
         }
+
+        // Log unexpected success for duplicate items
+        if (isDuplicate) {
+            logger.warn("Duplicate item succeeded unexpectedly: {} (this may indicate a race condition)",
+                    item.getPrimaryKey());
+        }
+
+        logger.debug("Successfully processed item: {} (expected: {}, actual: SUCCESS)",
+                item.getPrimaryKey(), expectedResult);
+    }
+
+    private void recordItemError(TestItem item, Exception e, long responseNanos, int phaseId) {
+        String expectedResult = (String) item.getAttributes().getOrDefault("expected_result", "SUCCESS");
+        boolean isDuplicate = Boolean.TRUE.equals(item.getAttributes().get("is_duplicate"));
+
+        // Record error with enhanced categorization
+        String errorType = determineErrorType(e);
+
+        // Enhanced logging for duplicate error tracking
+        if (TestMetrics.ERROR_TYPE_DUPLICATE_KEY.equals(errorType)) {
+            if (isDuplicate) {
+                logger.debug("Duplicate error as expected for item: {} (expected: {}, actual: DUPLICATE_ERROR)",
+                        item.getPrimaryKey(), expectedResult);
+            } else {
+                logger.warn("Unexpected duplicate error for unique item: {} (this may indicate a race condition)",
+                        item.getPrimaryKey());
+            }
+        } else if (isDuplicate && "DUPLICATE_ERROR".equals(expectedResult)) {
+            logger.warn("Expected duplicate error but got {}: {} (this may indicate a race condition)",
+                    errorType, item.getPrimaryKey());
+        }
+
+        metricsCollectionService.recordPhaseError(errorType, responseNanos, phaseId);
+        if (writtenKeys != null) {
+            metricsCollectionService.recordOperation(WorkloadMix.OperationType.PUT.getLabel(), responseNanos,
+                    errorType, 0.0);
+        }
+
+        logger.debug("Failed to process item: {} - Error: {} (expected: {}, actual: {})",
+                item.getPrimaryKey(), errorType, expectedResult, errorType);
+
+        // Don't re-throw the exception to allow the load test to continue
+        // The error has been recorded in metrics
     }
 
     /**
@@ -311,6 +738,8 @@ public class LoadTestServiceImpl implements LoadTestService {
         // Check for specific DynamoDB exceptions
         if (cause instanceof software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException) {
             return com.example.dynamodb.loadtest.model.TestMetrics.ERROR_TYPE_DUPLICATE_KEY;
+        } else if (cause instanceof software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException) {
+            return com.example.dynamodb.loadtest.model.TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED;
         } else if (cause instanceof software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException) {
             return com.example.dynamodb.loadtest.model.TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED;
         } else if (cause instanceof software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException) {
@@ -331,104 +760,101 @@ public class LoadTestServiceImpl implements LoadTestService {
     }
 
     /**
-     * Generates and stages test items to avoid race conditions during execution.
-     * This method pre-generates all items and optionally stages them to a temporary
-     * file
-     * to prevent memory issues with large datasets.
+     * Gets the seed generated items are derived from, picking a random one if
+     * none is configured. The seed is logged so the run can be reproduced.
      * 
      * @param config the test configuration
-     * @return list of generated test items
+     * @return the item seed
      */
-    private List<TestItem> generateAndStageTestItems(TestConfiguration config) {
-        int count = config.getTotalItems();
-        double duplicatePercentage = config.getDuplicatePercentage();
-
-        logger.info("Generating and staging {} test items (duplicatePercentage: {}%)", count, duplicatePercentage);
-
-        // For large datasets (>10k items), consider using temporary file staging
-        if (count > 10000) {
-            return generateTestItemsWithFileStaging(count, duplicatePercentage);
-        } else {
-            return generateTestItems(count, duplicatePercentage);
-        }
+    private static long resolveItemSeed(TestConfiguration config) {
+        long seed = config.getItemSeed() != null ? config.getItemSeed() : ThreadLocalRandom.current().nextLong();
+        logger.info("Item seed: {} (set item-seed to reproduce the generated items)", seed);
+        return seed;
     }
 
     /**
-     * Generates test items with file staging for large datasets to avoid memory
-     * issues.
+     * Creates the item source for a run with a key distribution. Keys carry the
+     * item seed, so runs with different seeds do not collide with each other.
      * 
-     * @param count               the number of items to generate
-     * @param duplicatePercentage the percentage of duplicate items
-     * @return list of generated test items
+     * @param config   the test configuration
+     * @param itemSeed the seed of the key draws
+     * @return the item source, bounded by the total items unless the run is
+     *         duration-based
      */
-    private List<TestItem> generateTestItemsWithFileStaging(int count, double duplicatePercentage) {
-        logger.info("Using file staging for large dataset: {} items", count);
-
-        // For now, fall back to in-memory generation but with optimized approach
-        // In production, this could write to temporary files and read back
-        return generateTestItemsOptimized(count, duplicatePercentage);
+    private KeyedItemSource newKeyedItemSource(TestConfiguration config, long itemSeed) {
+        KeyDistribution distribution = KeyDistribution.forConfiguration(config, config.getEffectiveKeySpaceSize());
+        logger.info("Drawing keys from a {} distribution over {} keys (duplicate percentage is ignored)",
+                distribution.getDescription(), distribution.getKeySpaceSize());
+        String keyPrefix = "test-item-" + Long.toHexString(itemSeed) + "-k";
+        long limit = config.isDurationMode() ? -1 : config.getTotalItems();
+        return new KeyedItemSource(distribution, keyPrefix, limit,
+                () -> generatePayload(DEFAULT_PAYLOAD_SIZE), new SplittableRandom(itemSeed));
     }
 
     /**
-     * Optimized test item generation that ensures proper duplicate distribution
-     * and avoids race conditions.
+     * Gets the share of generated items that reuse an earlier key. Transactional
+     * runs generate unique items only; their conflicts are shaped by the
+     * transaction planner instead.
      * 
-     * @param count               the number of items to generate
-     * @param duplicatePercentage the percentage of duplicate items
-     * @return list of generated test items
+     * @param config the test configuration
+     * @return the duplicate percentage to generate items with
      */
-    private List<TestItem> generateTestItemsOptimized(int count, double duplicatePercentage) {
-        logger.info("Generating {} test items with optimized approach (duplicatePercentage: {}%)",
-                count, duplicatePercentage);
+    private static double itemDuplicatePercentage(TestConfiguration config) {
+        return config.isTransactWriteMode() ? 0.0 : config.getDuplicatePercentage();
+    }
 
-        List<TestItem> items = new ArrayList<>(count);
-        Set<String> uniqueKeys = new LinkedHashSet<>(); // Preserve insertion order
+    /**
+     * Endless item source for duration-based runs. Items are generated on demand,
+     * so memory use does not depend on how long the test runs. Duplicates reuse
+     * one of the most recently generated unique keys.
+     */
+    private final class ContinuousItemSource implements Iterator<TestItem> {
+        // Number of recent unique keys kept as duplicate candidates
+        private static final int RECENT_KEY_CAPACITY = 1024;
+
+        private final double duplicateRatio;
+        private final SplittableRandom random = TestDataGenerator.threadRandom().split();
+        private final String[] recentKeys = new String[RECENT_KEY_CAPACITY];
+        private long uniqueKeyCount;
+        private long itemIndex;
+
+        private ContinuousItemSource(double duplicatePercentage) {
+            this.duplicateRatio = duplicatePercentage / 100.0;
+        }
 
-        int duplicateCount = duplicatePercentage > 0 ? (int) Math.ceil(count * (duplicatePercentage / 100.0)) : 0;
-        int uniqueCount = count - duplicateCount;
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
 
-        logger.info("Will generate {} unique items and {} duplicate items", uniqueCount, duplicateCount);
+        @Override
+        public TestItem next() {
+            boolean isDuplicate = uniqueKeyCount > 0 && random.nextDouble() < duplicateRatio;
 
-        // Phase 1: Generate all unique items first
-        for (int i = 0; i < uniqueCount; i++) {
-            String key = generateUniqueKey();
-            uniqueKeys.add(key);
+            String key;
+            if (isDuplicate) {
+                key = recentKeys[random.nextInt((int) Math.min(uniqueKeyCount, RECENT_KEY_CAPACITY))];
+            } else {
+                key = generateUniqueKey();
+                recentKeys[(int) (uniqueKeyCount++ % RECENT_KEY_CAPACITY)] = key;
+            }
 
             TestItem item = new TestItem(key, generatePayload(DEFAULT_PAYLOAD_SIZE));
-            item.addAttribute("item_index", i);
-            item.addAttribute("is_duplicate", false);
+            item.addAttribute("item_index", itemIndex++);
+            item.addAttribute("is_duplicate", isDuplicate);
             item.addAttribute("generation_time", Instant.now().toString());
-            item.addAttribute("expected_result", "SUCCESS");
-
-            items.add(item);
+            item.addAttribute("expected_result", isDuplicate ? "DUPLICATE_ERROR" : "SUCCESS");
+            return item;
         }
-
-        // Phase 2: Generate duplicate items using existing keys
-        List<String> keyList = new ArrayList<>(uniqueKeys);
-        for (int i = 0; i < duplicateCount; i++) {
-            String duplicateKey = generateDuplicateKey(keyList);
-
-            TestItem item = new TestItem(duplicateKey, generatePayload(DEFAULT_PAYLOAD_SIZE));
-            item.addAttribute("item_index", uniqueCount + i);
-            item.addAttribute("is_duplicate", true);
-            item.addAttribute("generation_time", Instant.now().toString());
-            item.addAttribute("expected_result", "DUPLICATE_ERROR");
-
-            items.add(item);
-        }
-
-        // Phase 3: Shuffle items to randomize execution order
-        Collections.shuffle(items, random);
-
-        logger.info("Successfully generated {} test items ({} unique, {} duplicates)",
-                items.size(), uniqueCount, duplicateCount);
-
-        return items;
     }
 
     @Override
     public List<TestItem> generateTestItems(int count, double duplicatePercentage) {
-        return generateTestItemsOptimized(count, duplicatePercentage);
+        SeededItemSource source = new SeededItemSource(ThreadLocalRandom.current().nextLong(), count,
+                duplicatePercentage, DEFAULT_PAYLOAD_SIZE);
+        List<TestItem> items = new ArrayList<>(count);
+        source.forEach(items::add);
+        return items;
     }
 
     @Override
@@ -437,7 +863,8 @@ public class LoadTestServiceImpl implements LoadTestService {
         long counter = keyCounter.incrementAndGet();
         int randomSuffix = ThreadLocalRandom.current().nextInt(1000, 9999);
 
-        return String.format("test-item-%d-%d-%d", timestamp, counter, randomSuffix);
+        // Plain concatenation sizes the key exactly, unlike String.format
+        return "test-item-" + timestamp + "-" + counter + "-" + randomSuffix;
     }
 
     @Override
@@ -448,7 +875,7 @@ public class LoadTestServiceImpl implements LoadTestService {
         }
 
         // Select a random existing key
-        int randomIndex = random.nextInt(existingKeys.size());
+        int randomIndex = ThreadLocalRandom.current().nextInt(existingKeys.size());
         String duplicateKey = existingKeys.get(randomIndex);
 
         logger.debug("Generated duplicate key: {}", duplicateKey);
@@ -457,19 +884,7 @@ public class LoadTestServiceImpl implements LoadTestService {
 
     @Override
     public String generatePayload(int sizeBytes) {
-        if (sizeBytes <= 0) {
-            return "";
-        }
-
-        StringBuilder payload = new StringBuilder(sizeBytes);
-
-        // Fill the payload with random characters to reach the desired size
-        for (int i = 0; i < sizeBytes; i++) {
-            int randomIndex = random.nextInt(PAYLOAD_CHARS.length());
-            payload.append(PAYLOAD_CHARS.charAt(randomIndex));
-        }
-
-        return payload.toString();
+        return TestDataGenerator.randomPayload(sizeBytes);
     }
 
     /**
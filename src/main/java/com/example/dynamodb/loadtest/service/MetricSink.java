@@ -0,0 +1,24 @@
+package com.example.dynamodb.loadtest.service;
+
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Destination of the per-second metrics shipped by
+ * {@link CloudWatchMetricsPublisher}. Implementations are called from the
+ * publisher's own thread and never from the write path.
+ */
+public interface MetricSink {
+
+    /**
+     * Publishes one batch of metric data.
+     * 
+     * @param datums at most
+     *               {@value CloudWatchMetricsPublisher#MAX_DATUMS_PER_REQUEST}
+     *               datums
+     * @return a future that completes when the batch has been published
+     */
+    CompletableFuture<Void> publish(List<MetricDatum> datums);
+}
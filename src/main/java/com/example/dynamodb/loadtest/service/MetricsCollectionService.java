@@ -10,46 +10,169 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 /**
  * Service for collecting and aggregating test metrics during load testing.
  * Provides thread-safe operations for recording metrics and generating
  * summaries.
+ * Recording is lock-free and, through {@link #recordPhaseSuccess(long, int)}
+ * and {@link #recordPhaseError(String, long, int)}, allocation-free: every
+ * operation only adds to striped counters and latency histograms.
+ * Memory use does not grow with run length: totals are exact counters,
+ * response time percentiles come from fixed-size latency histograms, and the
+ * timeline is kept as fixed-size rings of rolled-up windows: per-minute
+ * windows, and per-second buckets with their own latency histograms for the
+ * throughput and latency {@link #getTimeline() timeline}.
  */
 @Service
 public class MetricsCollectionService {
 
     private static final Logger logger = LoggerFactory.getLogger(MetricsCollectionService.class);
 
-    private final ConcurrentLinkedQueue<TestMetrics> metricsQueue;
-    private final Map<Integer, TestMetrics> concurrencyLevelMetrics;
-    private final AtomicLong totalOperations;
-    private final AtomicLong totalSuccesses;
-    private final AtomicLong totalErrors;
-    private final Map<String, AtomicLong> errorTypeCounts;
+    // Width of one rolled-up metrics window
+    static final Duration DEFAULT_WINDOW_SIZE = Duration.ofMinutes(1);
+
+    // Number of windows retained (24 hours at the default window size)
+    static final int DEFAULT_MAX_WINDOWS = 1440;
+
+    // Width of one timeline bucket
+    static final Duration DEFAULT_TIMELINE_BUCKET_SIZE = Duration.ofSeconds(1);
+
+    // Number of timeline buckets retained (the last hour at the default bucket size)
+    static final int DEFAULT_TIMELINE_BUCKETS = 3600;
+
+    // Timeline latencies are off by at most 6%, keeping a bucket at a few kilobytes
+    private static final int TIMELINE_PRECISION_BITS = 5;
+
+    /**
+     * Attempt counts above this are counted together in the last bucket of the
+     * attempts histogram.
+     */
+    public static final int MAX_TRACKED_ATTEMPTS = 10;
+
+    /**
+     * Response time percentile keys of the summary, in report order.
+     */
+    public static final List<String> PERCENTILE_KEYS = List.of("p50", "p90", "p95", "p99", "p99.9", "p99.99",
+            "max");
+
+    /**
+     * Phase id for operations recorded outside of any phase.
+     */
+    public static final int NO_PHASE = -1;
+
+    // Set while a measured operation issues its AWS SDK requests
+    private static final ThreadLocal<Boolean> ISSUING_MEASURED_REQUEST = new ThreadLocal<>();
+
+    private final WindowRing windows;
+    private final WindowRing timeline;
+    private final LatencyHistogram latencyHistogram;
+    private final LatencyHistogram queueWaitHistogram;
+    private final LatencyHistogram serviceTimeHistogram;
+    private final LatencyHistogram backoffHistogram;
+    private final LongAdder recordedMetrics;
+    private final LongAdder totalResponseNanos;
+    private final Map<Integer, LevelScope> concurrencyLevels;
+    private final LongAdder totalSuccesses;
+    private final LongAdder totalErrors;
+    private final Map<String, LongAdder> errorTypeCounts;
+    private final DoubleAdder totalWriteUnits;
+    private final DoubleAdder totalReadUnits;
+    // Busiest closed timeline bucket of the run, in units per bucket
+    private final DoubleAccumulator peakBucketWriteUnits;
+    private final DoubleAccumulator peakBucketReadUnits;
+    private final AtomicLong lastCapacityBucket;
+    private final LongAdder inFlightOperations;
+    private final KeyHeatMap keyHeatMap;
     private final ReadWriteLock lock;
     private volatile Instant testStartTime;
     private volatile Instant testEndTime;
+    private volatile long testStartNanos;
+    private volatile long testEndNanos;
+    private volatile ConstantRateExecutor.RateStats arrivalRateStats;
+    private volatile KeyedItemSource.KeyUsageStats keyUsageStats;
+    private final BatchScope batchScope;
+    private final TransactionScope transactionScope;
+    private final RetryScope retryScope;
+    private final HttpClientScope httpClientScope;
+    private final Map<String, OperationScope> operationScopes;
+    private final List<PhaseScope> phases;
+    private volatile PhaseScope currentPhase;
 
     public MetricsCollectionService() {
-        this.metricsQueue = new ConcurrentLinkedQueue<>();
-        this.concurrencyLevelMetrics = new ConcurrentHashMap<>();
-        this.totalOperations = new AtomicLong(0);
-        this.totalSuccesses = new AtomicLong(0);
-        this.totalErrors = new AtomicLong(0);
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MAX_WINDOWS, DEFAULT_TIMELINE_BUCKET_SIZE, DEFAULT_TIMELINE_BUCKETS);
+    }
+
+    /**
+     * Creates a metrics collection service with custom memory bounds.
+     * 
+     * @param windowSize the width of one rolled-up window
+     * @param maxWindows the number of windows retained
+     */
+    MetricsCollectionService(Duration windowSize, int maxWindows) {
+        this(windowSize, maxWindows, DEFAULT_TIMELINE_BUCKET_SIZE, DEFAULT_TIMELINE_BUCKETS);
+    }
+
+    /**
+     * Creates a metrics collection service with custom memory bounds and
+     * timeline resolution.
+     * 
+     * @param windowSize         the width of one rolled-up window
+     * @param maxWindows         the number of windows retained
+     * @param timelineBucketSize the width of one timeline bucket
+     * @param timelineBuckets    the number of timeline buckets retained
+     */
+    MetricsCollectionService(Duration windowSize, int maxWindows, Duration timelineBucketSize,
+            int timelineBuckets) {
+        if (windowSize.isZero() || windowSize.isNegative() || maxWindows < 1
+                || timelineBucketSize.isZero() || timelineBucketSize.isNegative() || timelineBuckets < 1) {
+            throw new IllegalArgumentException("Window size and window count must be positive");
+        }
+        this.windows = new WindowRing(windowSize, maxWindows, false);
+        this.timeline = new WindowRing(timelineBucketSize, timelineBuckets, true);
+        this.latencyHistogram = new LatencyHistogram();
+        this.queueWaitHistogram = new LatencyHistogram();
+        this.serviceTimeHistogram = new LatencyHistogram();
+        this.backoffHistogram = new LatencyHistogram();
+        this.recordedMetrics = new LongAdder();
+        this.totalResponseNanos = new LongAdder();
+        this.concurrencyLevels = new ConcurrentHashMap<>();
+        this.totalSuccesses = new LongAdder();
+        this.totalErrors = new LongAdder();
         this.errorTypeCounts = new ConcurrentHashMap<>();
+        this.totalWriteUnits = new DoubleAdder();
+        this.totalReadUnits = new DoubleAdder();
+        this.peakBucketWriteUnits = new DoubleAccumulator(Math::max, 0);
+        this.peakBucketReadUnits = new DoubleAccumulator(Math::max, 0);
+        this.lastCapacityBucket = new AtomicLong(-1);
+        this.inFlightOperations = new LongAdder();
+        this.keyHeatMap = new KeyHeatMap();
         this.lock = new ReentrantReadWriteLock();
+        this.batchScope = new BatchScope();
+        this.transactionScope = new TransactionScope();
+        this.retryScope = new RetryScope();
+        this.httpClientScope = new HttpClientScope();
+        this.operationScopes = new ConcurrentHashMap<>();
+        this.phases = new CopyOnWriteArrayList<>();
         this.testStartTime = Instant.now();
+        this.testStartNanos = System.nanoTime();
 
         logger.info("Metrics collection service initialized");
     }
 
     /**
-     * Records a single metric entry.
+     * Records a single metric entry. A metric may cover several operations;
+     * its response time is recorded once.
      * 
      * @param metric the metric to record
      */
@@ -59,62 +182,71 @@ public class MetricsCollectionService {
             return;
         }
 
-        lock.readLock().lock();
-        try {
-            // Add to queue for detailed tracking
-            metricsQueue.offer(metric.createSnapshot());
-
-            // Update aggregate counters
-            totalOperations.addAndGet(metric.getTotalOperations());
-            totalSuccesses.addAndGet(metric.getSuccessCount());
-            totalErrors.addAndGet(metric.getErrorCount());
-
-            // Update error type counts
-            for (Map.Entry<String, Integer> errorEntry : metric.getErrorTypes().entrySet()) {
-                errorTypeCounts.computeIfAbsent(errorEntry.getKey(), k -> new AtomicLong(0))
-                        .addAndGet(errorEntry.getValue());
-            }
-
-            // Update concurrency level metrics
-            concurrencyLevelMetrics.merge(metric.getConcurrencyLevel(), metric.createSnapshot(),
-                    (existing, incoming) -> {
-                        existing.merge(incoming);
-                        return existing;
-                    });
-
-            logger.debug("Recorded metric: concurrency={}, success={}, errors={}, responseTime={}ms",
-                    metric.getConcurrencyLevel(), metric.getSuccessCount(), metric.getErrorCount(),
-                    metric.getResponseTime().toMillis());
-
-        } finally {
-            lock.readLock().unlock();
+        PhaseScope phase = currentPhase;
+        LevelScope level = levelScope(metric.getConcurrencyLevel());
+        long elapsedNanos = record(metric.getResponseTime().toNanos(), metric.getSuccessCount(),
+                metric.getErrorCount(), level, phase);
+        for (Map.Entry<String, Integer> errorEntry : metric.getErrorTypes().entrySet()) {
+            recordErrorType(errorEntry.getKey(), errorEntry.getValue(), elapsedNanos, level, phase);
         }
+
+        logger.debug("Recorded metric: concurrency={}, success={}, errors={}, responseTime={}ms",
+                metric.getConcurrencyLevel(), metric.getSuccessCount(), metric.getErrorCount(),
+                metric.getResponseTime().toMillis());
     }
 
     /**
-     * Records response time for a successful operation.
+     * Records response time for a successful operation, attributed to the
+     * active phase.
      * 
      * @param responseTime     the response time
      * @param concurrencyLevel the concurrency level when the operation occurred
      */
     public void recordSuccess(Duration responseTime, int concurrencyLevel) {
-        TestMetrics metric = new TestMetrics(responseTime, 1, 0, concurrencyLevel);
-        recordMetric(metric);
+        record(responseTime.toNanos(), 1, 0, levelScope(concurrencyLevel), currentPhase);
+    }
+
+    /**
+     * Records a successful operation of a phase without allocating. The
+     * operation counts at the concurrency level of the phase.
+     * 
+     * @param responseNanos the response time in nanoseconds
+     * @param phaseId       the id returned by {@link #beginPhase(String, int)},
+     *                      or {@link #NO_PHASE} to only count it in the totals
+     */
+    public void recordPhaseSuccess(long responseNanos, int phaseId) {
+        PhaseScope phase = phaseScope(phaseId);
+        record(responseNanos, 1, 0, phase != null ? phase.level : null, phase);
     }
 
     /**
-     * Records an error with categorization.
+     * Records an error with categorization, attributed to the active phase.
      * 
      * @param errorType        the type of error
      * @param responseTime     the response time (may be null for timeouts)
      * @param concurrencyLevel the concurrency level when the error occurred
      */
     public void recordError(String errorType, Duration responseTime, int concurrencyLevel) {
-        TestMetrics metric = new TestMetrics(
-                responseTime != null ? responseTime : Duration.ZERO,
-                0, 0, concurrencyLevel);
-        metric.addError(errorType);
-        recordMetric(metric);
+        PhaseScope phase = currentPhase;
+        LevelScope level = levelScope(concurrencyLevel);
+        long elapsedNanos = record(responseTime != null ? responseTime.toNanos() : 0, 0, 1, level, phase);
+        recordErrorType(errorType, 1, elapsedNanos, level, phase);
+    }
+
+    /**
+     * Records a failed operation of a phase without allocating. The operation
+     * counts at the concurrency level of the phase.
+     * 
+     * @param errorType     the type of error
+     * @param responseNanos the response time in nanoseconds, 0 if unknown
+     * @param phaseId       the id returned by {@link #beginPhase(String, int)},
+     *                      or {@link #NO_PHASE} to only count it in the totals
+     */
+    public void recordPhaseError(String errorType, long responseNanos, int phaseId) {
+        PhaseScope phase = phaseScope(phaseId);
+        LevelScope level = phase != null ? phase.level : null;
+        long elapsedNanos = record(responseNanos, 0, 1, level, phase);
+        recordErrorType(errorType, 1, elapsedNanos, level, phase);
     }
 
     /**
@@ -165,6 +297,354 @@ public class MetricsCollectionService {
         recordError(TestMetrics.ERROR_TYPE_TIMEOUT, null, concurrencyLevel);
     }
 
+    /**
+     * Records how long an operation waited between the time it was due and the
+     * time it was issued, e.g. behind a constant-rate schedule that fell
+     * behind, or in a free lane waiting for the source to hand out the next
+     * item. Operations issued as soon as they are due record zero.
+     * 
+     * @param waitNanos the queue wait in nanoseconds
+     */
+    public void recordQueueWait(long waitNanos) {
+        queueWaitHistogram.record(waitNanos);
+    }
+
+    /**
+     * Records the time of a single DynamoDB request attempt, from issuing it
+     * to its response, without earlier attempts or backoff.
+     * 
+     * @param serviceNanos the attempt time in nanoseconds
+     */
+    public void recordServiceTime(long serviceNanos) {
+        serviceTimeHistogram.record(serviceNanos);
+    }
+
+    /**
+     * Records the time a request spent waiting between two attempts.
+     * 
+     * @param backoffNanos the backoff wait in nanoseconds
+     */
+    public void recordBackoff(long backoffNanos) {
+        backoffHistogram.record(backoffNanos);
+    }
+
+    /**
+     * Records how many DynamoDB requests one logical operation took, its first
+     * attempt included. A batch write counts as one operation, with its
+     * re-drive rounds as further requests.
+     * 
+     * @param attempts the number of requests sent for the operation
+     */
+    public void recordAttempts(int attempts) {
+        retryScope.recordAttempts(attempts);
+    }
+
+    /**
+     * Records that a failed request attempt is retried by the application.
+     * 
+     * @param errorType the error type of the failed attempt
+     */
+    public void recordRetry(String errorType) {
+        retryScope.recordRetry(errorType);
+    }
+
+    /**
+     * Records one HTTP request sent by the AWS SDK for a measured operation.
+     * The SDK retries some failures on its own before the application sees
+     * them.
+     * 
+     * @param sdkRetry whether the request is an SDK retry of an earlier attempt
+     *                 of the same API call
+     */
+    public void recordHttpAttempt(boolean sdkRetry) {
+        retryScope.recordHttpAttempt(sdkRetry);
+    }
+
+    /**
+     * Issues the AWS SDK request of a measured operation. SDK calls the
+     * request starts on this thread are measured: their HTTP requests are
+     * counted with {@link #recordHttpAttempt(boolean)}. Calls made outside of
+     * measured operations, such as table checks, are not.
+     * 
+     * @param request starts the SDK call
+     * @param <T>     the result type
+     * @return the result of the request
+     */
+    public <T> T issueMeasuredRequest(Supplier<T> request) {
+        ISSUING_MEASURED_REQUEST.set(Boolean.TRUE);
+        try {
+            return request.get();
+        } finally {
+            ISSUING_MEASURED_REQUEST.remove();
+        }
+    }
+
+    /**
+     * Checks whether an SDK call started on this thread belongs to a measured
+     * operation.
+     * 
+     * @return true inside {@link #issueMeasuredRequest(Supplier)}
+     */
+    public boolean isIssuingMeasuredRequest() {
+        return ISSUING_MEASURED_REQUEST.get() != null;
+    }
+
+    /**
+     * Counts a write, throttled request or conditional check failure against
+     * the primary key it involved, for the key heat map.
+     * 
+     * @param counter what happened
+     * @param key     the primary key
+     */
+    public void recordKeyActivity(KeyHeatMap.Counter counter, String key) {
+        keyHeatMap.record(counter, key);
+    }
+
+    /**
+     * Records the capacity DynamoDB reported as consumed by one request. The
+     * units are attributed to the current timeline bucket and to the active
+     * phase. When a later bucket starts, the previous one is folded into the
+     * run's peaks, so they cover the whole run and not just the retained
+     * timeline.
+     * 
+     * @param writeUnits the write capacity units consumed
+     * @param readUnits  the read capacity units consumed
+     */
+    public void recordConsumedCapacity(double writeUnits, double readUnits) {
+        if (writeUnits <= 0 && readUnits <= 0) {
+            return;
+        }
+        totalWriteUnits.add(writeUnits);
+        totalReadUnits.add(readUnits);
+        MetricsWindow bucket = timeline.current(Math.max(0, System.nanoTime() - testStartNanos));
+        if (bucket != null) {
+            closeCapacityBucket(bucket.index);
+            bucket.recordCapacity(writeUnits, readUnits);
+        }
+        PhaseScope phase = currentPhase;
+        if (phase != null) {
+            phase.recordCapacity(writeUnits, readUnits);
+        }
+    }
+
+    /**
+     * Records how long an HTTP request waited for a connection of the AWS SDK
+     * client's pool, with the state of the pool when it got one.
+     * 
+     * @param acquireNanos      the wait for a connection in nanoseconds
+     * @param leasedConnections the connections in use
+     * @param pendingAcquires   the requests still waiting for a connection
+     * @param maxConnections    the size of the pool
+     */
+    public void recordConnectionAcquire(long acquireNanos, int leasedConnections, int pendingAcquires,
+            int maxConnections) {
+        httpClientScope.recordAcquire(acquireNanos, leasedConnections, pendingAcquires, maxConnections);
+    }
+
+    /**
+     * Records the outcome of one HTTP request as measured by the AWS SDK.
+     * 
+     * @param statusCode       the HTTP status code, or 0 if no response was
+     *                         received
+     * @param serviceCallNanos the time from sending the request to receiving
+     *                         the response in nanoseconds, or -1 if unknown
+     */
+    public void recordHttpResponse(int statusCode, long serviceCallNanos) {
+        httpClientScope.recordResponse(statusCode, serviceCallNanos);
+    }
+
+    /**
+     * Gets the HTTP client statistics recorded so far.
+     * 
+     * @return the HTTP client statistics, or null if the client published no
+     *         metrics
+     */
+    public HttpClientStats getHttpClientStats() {
+        return httpClientScope.toStats();
+    }
+
+    /**
+     * Gets the retry statistics recorded so far.
+     * 
+     * @return the retry statistics, or null if no operation recorded its
+     *         attempts
+     */
+    public RetryStats getRetryStats() {
+        return retryScope.toStats();
+    }
+
+    /**
+     * Records the arrival rate statistics of an open-loop (constant-rate) run.
+     * 
+     * @param stats the rate statistics reported by the constant-rate executor
+     */
+    public void recordArrivalRateStats(ConstantRateExecutor.RateStats stats) {
+        this.arrivalRateStats = stats;
+    }
+
+    /**
+     * Records how the items of a run with a key distribution were spread over
+     * the key space.
+     * 
+     * @param stats the key usage statistics reported by the item source
+     */
+    public void recordKeyUsageStats(KeyedItemSource.KeyUsageStats stats) {
+        this.keyUsageStats = stats;
+    }
+
+    /**
+     * Records the outcome of one BatchWriteItem batch. Per-item results are
+     * recorded separately with {@link #recordPhaseSuccess} and
+     * {@link #recordPhaseError}.
+     * 
+     * @param result            the batch outcome after all re-drive rounds
+     * @param duplicateItems    the number of items in the batch that reuse an
+     *                          earlier key
+     * @param batchResponseTime the time from sending the batch until its last
+     *                          round completed
+     */
+    public void recordBatch(ResilientDynamoDBService.BatchWriteResult result, int duplicateItems,
+            Duration batchResponseTime) {
+        batchScope.record(result.getBatchSize(), result.getRedrivenItems(), result.getUnprocessedItems().size(),
+                result.getRedriveRounds(), duplicateItems, batchResponseTime.toNanos());
+    }
+
+    /**
+     * Records a batch whose request failed after its retries, so none of its
+     * items were written.
+     * 
+     * @param batchSize         the number of items in the batch
+     * @param duplicateItems    the number of items in the batch that reuse an
+     *                          earlier key
+     * @param batchResponseTime the time from sending the batch until it failed
+     */
+    public void recordFailedBatch(int batchSize, int duplicateItems, Duration batchResponseTime) {
+        batchScope.recordFailure(batchSize, duplicateItems, batchResponseTime.toNanos());
+    }
+
+    /**
+     * Records a TransactWriteItems transaction that committed. Per-item results
+     * are recorded separately with {@link #recordPhaseSuccess}.
+     * 
+     * @param transactionSize the number of items in the transaction
+     * @param responseTime    the time from sending the transaction until it
+     *                        committed
+     */
+    public void recordCommittedTransaction(int transactionSize, Duration responseTime) {
+        transactionScope.recordCommit(transactionSize, responseTime.toNanos());
+    }
+
+    /**
+     * Records a transaction DynamoDB canceled, so none of its items were
+     * written.
+     * 
+     * @param transactionSize   the number of items in the transaction
+     * @param cancellationCodes the cancellation reason codes of the items that
+     *                          caused the cancellation, one per item
+     * @param responseTime      the time from sending the transaction until it
+     *                          was canceled
+     */
+    public void recordCanceledTransaction(int transactionSize, Collection<String> cancellationCodes,
+            Duration responseTime) {
+        transactionScope.recordCancel(transactionSize, cancellationCodes, responseTime.toNanos());
+    }
+
+    /**
+     * Records a transaction that failed for another reason than a cancellation,
+     * such as a network error after retries.
+     * 
+     * @param transactionSize the number of items in the transaction
+     * @param responseTime    the time from sending the transaction until it
+     *                        failed
+     */
+    public void recordFailedTransaction(int transactionSize, Duration responseTime) {
+        transactionScope.recordFailure(transactionSize, responseTime.toNanos());
+    }
+
+    /**
+     * Records one operation of a mixed read/write workload under its operation
+     * type. The test-wide totals are recorded separately with
+     * {@link #recordPhaseSuccess} and {@link #recordPhaseError}.
+     * 
+     * @param operationType         the operation type label, e.g. "get"
+     * @param responseNanos         the response time in nanoseconds
+     * @param errorType             the error type, or null if it succeeded
+     * @param consumedCapacityUnits the capacity units DynamoDB reported as
+     *                              consumed, 0 if not reported
+     */
+    public void recordOperation(String operationType, long responseNanos, String errorType,
+            double consumedCapacityUnits) {
+        operationScopes.computeIfAbsent(operationType, OperationScope::new)
+                .record(responseNanos, errorType, consumedCapacityUnits);
+    }
+
+    /**
+     * Opens a new metric scope for a load phase. Every metric recorded until the
+     * phase is ended is attributed to it, in addition to the test-wide totals.
+     * 
+     * @param name        the phase name
+     * @param concurrency the concurrency level the phase runs at
+     * @return the id of the phase
+     */
+    public int beginPhase(String name, int concurrency) {
+        lock.writeLock().lock();
+        try {
+            PhaseScope phase = new PhaseScope(phases.size(), name, concurrency, levelScope(concurrency));
+            phases.add(phase);
+            currentPhase = phase;
+            logger.info("Phase {} started: {} at concurrency {}", phase.phaseId, name, concurrency);
+            return phase.phaseId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes the metric scope of a load phase.
+     * 
+     * @param phaseId the id returned by {@link #beginPhase(String, int)}
+     */
+    public void endPhase(int phaseId) {
+        lock.writeLock().lock();
+        try {
+            if (phaseId < 0 || phaseId >= phases.size()) {
+                logger.warn("Unknown phase id {}, ignoring end of phase", phaseId);
+                return;
+            }
+            PhaseScope phase = phases.get(phaseId);
+            if (phase.endTime == null) {
+                LoadPhaseEvent.end(phase.event, phase.successes.sum(), phase.errors.sum());
+            }
+            phase.endNanos = System.nanoTime();
+            phase.endTime = Instant.now();
+            if (currentPhase == phase) {
+                currentPhase = null;
+            }
+            logger.info("Phase {} ended: {}", phaseId, phase.toSummary());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets per-phase summaries in the order the phases were run.
+     * 
+     * @return list of phase summaries
+     */
+    public List<PhaseSummary> getPhaseSummaries() {
+        return phases.stream().map(PhaseScope::toSummary).toList();
+    }
+
+    /**
+     * Gets the id of the phase currently running.
+     * 
+     * @return the phase id, or -1 outside any phase
+     */
+    public int getActivePhaseId() {
+        PhaseScope phase = currentPhase;
+        return phase != null ? phase.phaseId : -1;
+    }
+
     /**
      * Marks the start of the test.
      */
@@ -172,7 +652,9 @@ public class MetricsCollectionService {
         lock.writeLock().lock();
         try {
             this.testStartTime = Instant.now();
+            this.testStartNanos = System.nanoTime();
             this.testEndTime = null;
+            this.testEndNanos = 0;
             logger.info("Test started at {}", testStartTime);
         } finally {
             lock.writeLock().unlock();
@@ -185,9 +667,10 @@ public class MetricsCollectionService {
     public void endTest() {
         lock.writeLock().lock();
         try {
+            this.testEndNanos = System.nanoTime();
             this.testEndTime = Instant.now();
             logger.info("Test ended at {}, duration: {}ms",
-                    testEndTime, Duration.between(testStartTime, testEndTime).toMillis());
+                    testEndTime, Duration.ofNanos(testEndNanos - testStartNanos).toMillis());
 
         } finally {
             lock.writeLock().unlock();
@@ -202,27 +685,95 @@ public class MetricsCollectionService {
     public TestSummary generateSummary() {
         lock.readLock().lock();
         try {
-            Duration testDuration = testEndTime != null
-                    ? Duration.between(testStartTime, testEndTime)
-                    : Duration.between(testStartTime, Instant.now());
-
-            return new TestSummary(
-                    totalOperations.get(),
-                    totalSuccesses.get(),
-                    totalErrors.get(),
-                    new HashMap<>(convertAtomicMapToRegular(errorTypeCounts)),
+            // Durations come from the monotonic clock; the instants are for display only
+            long endNanos = testEndNanos;
+            Duration testDuration = Duration.ofNanos((endNanos != 0 ? endNanos : System.nanoTime()) - testStartNanos);
+
+            Map<Integer, TestMetrics> concurrencyLevelMetrics = new HashMap<>();
+            concurrencyLevels.forEach((level, scope) -> {
+                if (scope.hasOperations()) {
+                    concurrencyLevelMetrics.put(level, scope.toTestMetrics());
+                }
+            });
+
+            long successes = totalSuccesses.sum();
+            long errors = totalErrors.sum();
+            TestSummary summary = new TestSummary(
+                    successes + errors,
+                    successes,
+                    errors,
+                    toCounts(errorTypeCounts),
                     testDuration,
                     testStartTime,
                     testEndTime,
-                    new HashMap<>(concurrencyLevelMetrics),
+                    concurrencyLevelMetrics,
                     calculatePercentiles(),
                     calculateAverageResponseTime(),
                     calculateThroughput(testDuration));
+            summary.setArrivalRateStats(arrivalRateStats);
+            summary.setLatencyBreakdown(getLatencyBreakdown());
+            summary.setKeyUsageStats(keyUsageStats);
+            summary.setKeyHeat(getKeyHeat());
+            summary.setBatchWriteStats(batchScope.toStats());
+            summary.setTransactionStats(transactionScope.toStats());
+            summary.setRetryStats(retryScope.toStats());
+            summary.setHttpClientStats(httpClientScope.toStats());
+            summary.setOperationStats(getOperationStats());
+            summary.setPhaseSummaries(getPhaseSummaries());
+            summary.setTimeline(getTimeline());
+            summary.setCapacityStats(getCapacityStats(testDuration, summary.getTimeline()));
+            return summary;
         } finally {
             lock.readLock().unlock();
         }
     }
 
+    private KeyHeatMap.Snapshot getKeyHeat() {
+        KeyHeatMap.Snapshot heat = keyHeatMap.snapshot();
+        boolean empty = true;
+        for (KeyHeatMap.Counter counter : KeyHeatMap.Counter.values()) {
+            empty &= heat.getTotal(counter) == 0;
+        }
+        return empty ? null : heat;
+    }
+
+    // Folds the last bucket that consumed capacity into the peaks once a later bucket starts
+    private void closeCapacityBucket(long index) {
+        long last = lastCapacityBucket.get();
+        if (last < index && lastCapacityBucket.compareAndSet(last, index) && last >= 0) {
+            MetricsWindow closed = timeline.window(last);
+            if (closed != null) {
+                peakBucketWriteUnits.accumulate(closed.writeUnits.sum());
+                peakBucketReadUnits.accumulate(closed.readUnits.sum());
+            }
+        }
+    }
+
+    private CapacityStats getCapacityStats(Duration testDuration, List<TimelinePoint> points) {
+        double writeUnits = totalWriteUnits.sum();
+        double readUnits = totalReadUnits.sum();
+        if (writeUnits == 0 && readUnits == 0) {
+            return null;
+        }
+
+        // Peaks are per full bucket, so a short last bucket does not inflate them
+        double bucketSeconds = timeline.windowSizeNanos / 1_000_000_000.0;
+        double peakWriteUnits = peakBucketWriteUnits.get() / bucketSeconds;
+        double peakReadUnits = peakBucketReadUnits.get() / bucketSeconds;
+        // The retained points include the bucket still open and late additions to closed ones
+        for (TimelinePoint point : points) {
+            peakWriteUnits = Math.max(peakWriteUnits, point.getWriteCapacityUnits() / bucketSeconds);
+            peakReadUnits = Math.max(peakReadUnits, point.getReadCapacityUnits() / bucketSeconds);
+        }
+        return new CapacityStats(writeUnits, readUnits, peakWriteUnits, peakReadUnits, testDuration);
+    }
+
+    private Map<String, OperationStats> getOperationStats() {
+        Map<String, OperationStats> stats = new TreeMap<>();
+        operationScopes.forEach((type, scope) -> stats.put(type, scope.toStats()));
+        return stats;
+    }
+
     /**
      * Gets metrics for a specific concurrency level.
      * 
@@ -230,33 +781,187 @@ public class MetricsCollectionService {
      * @return metrics for the specified concurrency level, or null if not found
      */
     public TestMetrics getMetricsForConcurrencyLevel(int concurrencyLevel) {
-        TestMetrics metrics = concurrencyLevelMetrics.get(concurrencyLevel);
-        return metrics != null ? metrics.createSnapshot() : null;
+        LevelScope scope = concurrencyLevels.get(concurrencyLevel);
+        return scope != null && scope.hasOperations() ? scope.toTestMetrics() : null;
     }
 
     /**
-     * Gets all recorded metrics as a list.
+     * Gets the recorded metrics rolled up per window, oldest first. Only the most
+     * recent windows are retained; older windows are still counted in the test
+     * totals.
      * 
-     * @return list of all recorded metrics
+     * @return one aggregated metric per retained window
      */
     public List<TestMetrics> getAllMetrics() {
-        return new ArrayList<>(metricsQueue);
+        Instant start = testStartTime;
+        Duration windowSize = Duration.ofNanos(windows.windowSizeNanos);
+        return windows.retained().stream()
+                .map(window -> window.toTestMetrics(start.plus(windowSize.multipliedBy(window.index))))
+                .toList();
+    }
+
+    /**
+     * Gets the throughput and latency timeline of the test, one point per
+     * timeline bucket (one second by default), oldest first. Covers the
+     * retained buckets up to the end of the test, or up to now while it
+     * runs; seconds without operations are included as empty points. Safe
+     * to call from a progress reporter while operations are recorded.
+     * 
+     * @return the timeline, empty if nothing was recorded
+     */
+    public List<TimelinePoint> getTimeline() {
+        long endNanos = testEndNanos;
+        long elapsedNanos = (endNanos != 0 ? endNanos : System.nanoTime()) - testStartNanos;
+        if (recordedMetrics.sum() == 0 || elapsedNanos <= 0) {
+            return List.of();
+        }
+        // A run ending exactly on a bucket boundary has no further bucket
+        long lastIndex = (elapsedNanos - 1) / timeline.windowSizeNanos;
+        return timelinePoints(0, lastIndex, elapsedNanos);
+    }
+
+    /**
+     * Gets the timeline points from the given offset on, for publishers that
+     * ship every point once. While the test runs only complete buckets are
+     * included; once it has ended, the last, partial bucket is included too.
+     * Reads only the lock-free timeline, like {@link #getTimeline()}.
+     * 
+     * @param from the offset to start at, usually the end of the last point
+     *             already shipped
+     * @return the retained points from that offset on, oldest first
+     */
+    public List<TimelinePoint> getTimelineSince(Duration from) {
+        long endNanos = testEndNanos;
+        long elapsedNanos = (endNanos != 0 ? endNanos : System.nanoTime()) - testStartNanos;
+        if (recordedMetrics.sum() == 0 || elapsedNanos <= 0) {
+            return List.of();
+        }
+        long bucketNanos = timeline.windowSizeNanos;
+        long lastIndex = endNanos != 0 ? (elapsedNanos - 1) / bucketNanos : elapsedNanos / bucketNanos - 1;
+        long firstIndex = (from.toNanos() + bucketNanos - 1) / bucketNanos;
+        return timelinePoints(firstIndex, lastIndex, elapsedNanos);
     }
 
     /**
-     * Clears all collected metrics and resets counters.
+     * Gets the latency of the operations completed over the last part of the
+     * test, rolled up from the timeline buckets it covers. While the test runs
+     * only complete buckets are included, so a window shorter than a bucket
+     * covers the last complete bucket. Reads only the lock-free timeline.
+     * 
+     * @param window how far back to look
+     * @return the latency over the window, empty before the first bucket
+     *         completes
+     */
+    public LatencyHistogram.Snapshot getRecentLatency(Duration window) {
+        LatencyHistogram.Snapshot latency = new LatencyHistogram(1, TIMELINE_PRECISION_BITS).snapshot();
+        long endNanos = testEndNanos;
+        long elapsedNanos = (endNanos != 0 ? endNanos : System.nanoTime()) - testStartNanos;
+        if (elapsedNanos <= 0) {
+            return latency;
+        }
+        long bucketNanos = timeline.windowSizeNanos;
+        long lastIndex = endNanos != 0 ? (elapsedNanos - 1) / bucketNanos : elapsedNanos / bucketNanos - 1;
+        long buckets = Math.max(1, (window.toNanos() + bucketNanos - 1) / bucketNanos);
+        for (long index = Math.max(0, lastIndex - buckets + 1); index <= lastIndex; index++) {
+            MetricsWindow bucket = timeline.window(index);
+            if (bucket != null) {
+                latency = latency.merge(bucket.latencies.snapshot());
+            }
+        }
+        return latency;
+    }
+
+    /**
+     * Counts an operation as sent and not completed yet, until
+     * {@link #recordOperationCompleted()} is called for it.
+     */
+    public void recordOperationIssued() {
+        inFlightOperations.increment();
+    }
+
+    /**
+     * Counts an operation issued with {@link #recordOperationIssued()} as
+     * completed, successfully or not.
+     */
+    public void recordOperationCompleted() {
+        inFlightOperations.decrement();
+    }
+
+    /**
+     * Gets the number of operations issued and not completed yet.
+     * 
+     * @return the in-flight operation count
+     */
+    public long getInFlightOperations() {
+        return Math.max(0, inFlightOperations.sum());
+    }
+
+    /**
+     * Gets the wall-clock time the current test started, e.g. for exporters
+     * to notice that a new test restarted the timeline.
+     * 
+     * @return the test start time
+     */
+    public Instant getTestStartTime() {
+        return testStartTime;
+    }
+
+    private List<TimelinePoint> timelinePoints(long fromIndex, long lastIndex, long elapsedNanos) {
+        long bucketNanos = timeline.windowSizeNanos;
+        long firstIndex = Math.max(Math.max(0, fromIndex), lastIndex - timeline.windows.length() + 1);
+
+        Instant start = testStartTime;
+        List<TimelinePoint> points = new ArrayList<>();
+        for (long index = firstIndex; index <= lastIndex; index++) {
+            Duration offset = Duration.ofNanos(index * bucketNanos);
+            Duration covered = Duration.ofNanos(Math.min(bucketNanos, elapsedNanos - index * bucketNanos));
+            MetricsWindow bucket = timeline.window(index);
+            points.add(bucket != null
+                    ? bucket.toTimelinePoint(start.plus(offset), offset, covered)
+                    : new TimelinePoint(start.plus(offset), offset, covered, 0, 0, Map.of(),
+                            Duration.ZERO, Duration.ZERO, Duration.ZERO));
+        }
+        return points;
+    }
+
+    /**
+     * Clears all collected metrics and resets counters. Operations recorded
+     * while the reset runs may be partially counted.
      */
     public void reset() {
         lock.writeLock().lock();
         try {
-            metricsQueue.clear();
-            concurrencyLevelMetrics.clear();
-            totalOperations.set(0);
-            totalSuccesses.set(0);
-            totalErrors.set(0);
+            windows.clear();
+            timeline.clear();
+            latencyHistogram.reset();
+            queueWaitHistogram.reset();
+            serviceTimeHistogram.reset();
+            backoffHistogram.reset();
+            recordedMetrics.reset();
+            totalResponseNanos.reset();
+            concurrencyLevels.clear();
+            totalSuccesses.reset();
+            totalErrors.reset();
             errorTypeCounts.clear();
+            totalWriteUnits.reset();
+            totalReadUnits.reset();
+            peakBucketWriteUnits.reset();
+            peakBucketReadUnits.reset();
+            lastCapacityBucket.set(-1);
+            arrivalRateStats = null;
+            keyUsageStats = null;
+            keyHeatMap.reset();
+            batchScope.clear();
+            transactionScope.clear();
+            retryScope.clear();
+            httpClientScope.clear();
+            operationScopes.clear();
+            phases.clear();
+            currentPhase = null;
             testStartTime = Instant.now();
+            testStartNanos = System.nanoTime();
             testEndTime = null;
+            testEndNanos = 0;
             logger.info("Metrics collection service reset");
         } finally {
             lock.writeLock().unlock();
@@ -269,8 +974,9 @@ public class MetricsCollectionService {
      * @return error rate (0.0 to 100.0)
      */
     public double getCurrentErrorRate() {
-        long total = totalOperations.get();
-        return total > 0 ? (totalErrors.get() * 100.0) / total : 0.0;
+        long errors = totalErrors.sum();
+        long total = totalSuccesses.sum() + errors;
+        return total > 0 ? (errors * 100.0) / total : 0.0;
     }
 
     /**
@@ -279,76 +985,186 @@ public class MetricsCollectionService {
      * @return success rate (0.0 to 100.0)
      */
     public double getCurrentSuccessRate() {
-        long total = totalOperations.get();
-        return total > 0 ? (totalSuccesses.get() * 100.0) / total : 0.0;
+        long successes = totalSuccesses.sum();
+        long total = successes + totalErrors.sum();
+        return total > 0 ? (successes * 100.0) / total : 0.0;
     }
 
     /**
-     * Gets the count of a specific error type.
+     * Gets the response time distribution recorded so far, e.g. for progress
+     * updates while the test is running.
      * 
-     * @param errorType the error type
+     * @return a snapshot of the response time histogram
+     */
+    public LatencyHistogram.Snapshot getLatencySnapshot() {
+        return latencyHistogram.snapshot();
+    }
+
+    /**
+     * Gets the response time broken down into queue wait, per-attempt service
+     * time and backoff, next to the total response time.
+     * 
+     * @return the latency breakdown recorded so far
+     */
+    public LatencyBreakdown getLatencyBreakdown() {
+        return new LatencyBreakdown(queueWaitHistogram.snapshot(), serviceTimeHistogram.snapshot(),
+                backoffHistogram.snapshot(), latencyHistogram.snapshot());
+    }
+
+    /**
+     * Gets the counters of the running test for live export. Reads only the
+     * lock-free structures, so it can be called at any rate without
+     * contending with the recording threads.
+     * 
+     * @return the live statistics recorded so far
+     */
+    public LiveStats getLiveStats() {
+        long endNanos = testEndNanos;
+        long elapsedNanos = Math.max(0, (endNanos != 0 ? endNanos : System.nanoTime()) - testStartNanos);
+
+        // The bucket still being filled would understate the rate
+        double recentThroughput = 0.0;
+        long bucketNanos = timeline.windowSizeNanos;
+        long lastCompleteIndex = elapsedNanos / bucketNanos - 1;
+        if (lastCompleteIndex >= 0) {
+            MetricsWindow bucket = timeline.window(lastCompleteIndex);
+            if (bucket != null) {
+                recentThroughput = (bucket.successes.sum() + bucket.errors.sum()) * 1_000_000_000.0 / bucketNanos;
+            }
+        }
+
+        PhaseScope phase = currentPhase;
+        return new LiveStats(totalSuccesses.sum(), totalErrors.sum(), toCounts(errorTypeCounts),
+                Duration.ofNanos(elapsedNanos), recentThroughput, latencyHistogram.snapshot(),
+                totalWriteUnits.sum(), totalReadUnits.sum(), phase != null ? phase.name : null,
+                phase != null ? phase.concurrency : 0, getInFlightOperations());
+    }
+
+    /**
+     * Gets the count of a specific error type.
+     * 
+     * @param errorType the error type
      * @return count of the specified error type
      */
     public long getErrorTypeCount(String errorType) {
-        AtomicLong count = errorTypeCounts.get(errorType);
-        return count != null ? count.get() : 0;
+        LongAdder count = errorTypeCounts.get(errorType);
+        return count != null ? count.sum() : 0;
     }
 
     // Private helper methods
 
-    private Map<String, Long> convertAtomicMapToRegular(Map<String, AtomicLong> atomicMap) {
-        Map<String, Long> regularMap = new HashMap<>();
-        for (Map.Entry<String, AtomicLong> entry : atomicMap.entrySet()) {
-            regularMap.put(entry.getKey(), entry.getValue().get());
+    private static Map<String, Long> toCounts(Map<String, LongAdder> adders) {
+        Map<String, Long> counts = new HashMap<>();
+        adders.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    // Lock-free recording core; returns the elapsed test time it recorded at
+    private long record(long responseNanos, int successes, int errors, LevelScope level, PhaseScope phase) {
+        long nanos = Math.max(0, responseNanos);
+        recordedMetrics.increment();
+        totalResponseNanos.add(nanos);
+        // Operations without a response time, e.g. network errors, stay out of percentiles
+        if (nanos > 0) {
+            latencyHistogram.record(nanos);
+        }
+        addNonZero(totalSuccesses, successes);
+        addNonZero(totalErrors, errors);
+
+        long elapsedNanos = Math.max(0, System.nanoTime() - testStartNanos);
+        int concurrencyLevel = level != null ? level.concurrencyLevel : 0;
+        MetricsWindow window = windows.current(elapsedNanos);
+        if (window != null) {
+            window.record(successes, errors, nanos, concurrencyLevel);
+        }
+        MetricsWindow bucket = timeline.current(elapsedNanos);
+        if (bucket != null) {
+            bucket.record(successes, errors, nanos, concurrencyLevel);
+        }
+        if (level != null) {
+            level.record(successes, errors, nanos);
+        }
+        if (phase != null) {
+            phase.record(successes, errors, nanos);
         }
-        return regularMap;
+        return elapsedNanos;
     }
 
-    private Map<String, Duration> calculatePercentiles() {
-        List<Duration> responseTimes = metricsQueue.stream()
-                .map(TestMetrics::getResponseTime)
-                .filter(duration -> !duration.isZero())
-                .sorted()
-                .toList();
+    private void recordErrorType(String errorType, long count, long elapsedNanos, LevelScope level,
+            PhaseScope phase) {
+        if (errorType == null || count <= 0) {
+            return;
+        }
+        counter(errorTypeCounts, errorType).add(count);
+        MetricsWindow window = windows.current(elapsedNanos);
+        if (window != null) {
+            counter(window.errorTypeCounts, errorType).add(count);
+        }
+        MetricsWindow bucket = timeline.current(elapsedNanos);
+        if (bucket != null) {
+            counter(bucket.errorTypeCounts, errorType).add(count);
+        }
+        if (level != null) {
+            counter(level.errorTypeCounts, errorType).add(count);
+        }
+        if (phase != null) {
+            counter(phase.errorTypeCounts, errorType).add(count);
+        }
+    }
 
-        Map<String, Duration> percentiles = new HashMap<>();
-        if (!responseTimes.isEmpty()) {
-            percentiles.put("p50", getPercentile(responseTimes, 50));
-            percentiles.put("p90", getPercentile(responseTimes, 90));
-            percentiles.put("p95", getPercentile(responseTimes, 95));
-            percentiles.put("p99", getPercentile(responseTimes, 99));
+    // Skips zero, so an operation only touches the counter of its own outcome
+    private static void addNonZero(LongAdder adder, long value) {
+        if (value != 0) {
+            adder.add(value);
         }
-        return percentiles;
     }
 
-    private Duration getPercentile(List<Duration> sortedDurations, int percentile) {
-        if (sortedDurations.isEmpty()) {
-            return Duration.ZERO;
+    // Looks up before computeIfAbsent, which may lock the bin of an existing key
+    private static LongAdder counter(Map<String, LongAdder> counters, String key) {
+        LongAdder counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private LevelScope levelScope(int concurrencyLevel) {
+        LevelScope level = concurrencyLevels.get(concurrencyLevel);
+        return level != null ? level : concurrencyLevels.computeIfAbsent(concurrencyLevel, LevelScope::new);
+    }
+
+    private PhaseScope phaseScope(int phaseId) {
+        List<PhaseScope> scopes = phases;
+        return phaseId >= 0 && phaseId < scopes.size() ? scopes.get(phaseId) : null;
+    }
+
+    private Map<String, Duration> calculatePercentiles() {
+        LatencyHistogram.Snapshot snapshot = latencyHistogram.snapshot();
+
+        Map<String, Duration> percentiles = new HashMap<>();
+        if (snapshot.getCount() > 0) {
+            percentiles.put("p50", snapshot.getValueAtPercentile(50));
+            percentiles.put("p90", snapshot.getValueAtPercentile(90));
+            percentiles.put("p95", snapshot.getValueAtPercentile(95));
+            percentiles.put("p99", snapshot.getValueAtPercentile(99));
+            percentiles.put("p99.9", snapshot.getValueAtPercentile(99.9));
+            percentiles.put("p99.99", snapshot.getValueAtPercentile(99.99));
+            percentiles.put("max", snapshot.getMax());
         }
-        int index = (int) Math.ceil((percentile / 100.0) * sortedDurations.size()) - 1;
-        index = Math.max(0, Math.min(index, sortedDurations.size() - 1));
-        return sortedDurations.get(index);
+        return percentiles;
     }
 
     private Duration calculateAverageResponseTime() {
-        List<TestMetrics> metrics = new ArrayList<>(metricsQueue);
-        if (metrics.isEmpty()) {
+        long count = recordedMetrics.sum();
+        if (count == 0) {
             return Duration.ZERO;
         }
-
-        long totalMillis = metrics.stream()
-                .mapToLong(m -> m.getResponseTime().toMillis())
-                .sum();
-
-        return Duration.ofMillis(totalMillis / metrics.size());
+        return Duration.ofNanos(totalResponseNanos.sum() / count);
     }
 
     private double calculateThroughput(Duration testDuration) {
         if (testDuration.isZero() || testDuration.isNegative()) {
             return 0.0;
         }
-        double seconds = testDuration.toMillis() / 1000.0;
-        return totalOperations.get() / seconds;
+        double seconds = testDuration.toNanos() / 1_000_000_000.0;
+        return (totalSuccesses.sum() + totalErrors.sum()) / seconds;
     }
 
     /**
@@ -366,6 +1182,18 @@ public class MetricsCollectionService {
         private final Map<String, Duration> responseTimePercentiles;
         private final Duration averageResponseTime;
         private final double throughputPerSecond;
+        private ConstantRateExecutor.RateStats arrivalRateStats;
+        private LatencyBreakdown latencyBreakdown;
+        private KeyedItemSource.KeyUsageStats keyUsageStats;
+        private BatchWriteStats batchWriteStats;
+        private TransactionStats transactionStats;
+        private RetryStats retryStats;
+        private HttpClientStats httpClientStats;
+        private CapacityStats capacityStats;
+        private KeyHeatMap.Snapshot keyHeat;
+        private Map<String, OperationStats> operationStats = Map.of();
+        private List<PhaseSummary> phaseSummaries = List.of();
+        private List<TimelinePoint> timeline = List.of();
 
         public TestSummary(long totalOperations, long totalSuccesses, long totalErrors,
                 Map<String, Long> errorTypeCounts, Duration testDuration,
@@ -431,6 +1259,168 @@ public class MetricsCollectionService {
             return throughputPerSecond;
         }
 
+        /**
+         * Gets the arrival rate statistics for open-loop runs.
+         * 
+         * @return the rate statistics, or null for closed-loop runs
+         */
+        public ConstantRateExecutor.RateStats getArrivalRateStats() {
+            return arrivalRateStats;
+        }
+
+        public void setArrivalRateStats(ConstantRateExecutor.RateStats arrivalRateStats) {
+            this.arrivalRateStats = arrivalRateStats;
+        }
+
+        /**
+         * Gets the response time broken down into its components.
+         * 
+         * @return the latency breakdown, or null if none was recorded
+         */
+        public LatencyBreakdown getLatencyBreakdown() {
+            return latencyBreakdown;
+        }
+
+        public void setLatencyBreakdown(LatencyBreakdown latencyBreakdown) {
+            this.latencyBreakdown = latencyBreakdown;
+        }
+
+        /**
+         * Gets the key usage statistics for runs with a key distribution.
+         * 
+         * @return the key usage statistics, or null if every item had a unique
+         *         key
+         */
+        public KeyedItemSource.KeyUsageStats getKeyUsageStats() {
+            return keyUsageStats;
+        }
+
+        public void setKeyUsageStats(KeyedItemSource.KeyUsageStats keyUsageStats) {
+            this.keyUsageStats = keyUsageStats;
+        }
+
+        /**
+         * Gets the batch statistics for BatchWriteItem runs.
+         * 
+         * @return the batch statistics, or null if no batches were written
+         */
+        public BatchWriteStats getBatchWriteStats() {
+            return batchWriteStats;
+        }
+
+        public void setBatchWriteStats(BatchWriteStats batchWriteStats) {
+            this.batchWriteStats = batchWriteStats;
+        }
+
+        /**
+         * Gets the transaction statistics for TransactWriteItems runs.
+         * 
+         * @return the transaction statistics, or null if no transactions were
+         *         written
+         */
+        public TransactionStats getTransactionStats() {
+            return transactionStats;
+        }
+
+        public void setTransactionStats(TransactionStats transactionStats) {
+            this.transactionStats = transactionStats;
+        }
+
+        /**
+         * Gets the request attempt and retry statistics.
+         * 
+         * @return the retry statistics, or null if no attempts were recorded
+         */
+        public RetryStats getRetryStats() {
+            return retryStats;
+        }
+
+        public void setRetryStats(RetryStats retryStats) {
+            this.retryStats = retryStats;
+        }
+
+        /**
+         * Gets the connection pool and HTTP statistics of the AWS SDK client.
+         * 
+         * @return the HTTP client statistics, or null if none were published
+         */
+        public HttpClientStats getHttpClientStats() {
+            return httpClientStats;
+        }
+
+        public void setHttpClientStats(HttpClientStats httpClientStats) {
+            this.httpClientStats = httpClientStats;
+        }
+
+        /**
+         * Gets the capacity DynamoDB reported as consumed.
+         * 
+         * @return the capacity statistics, or null if no consumption was
+         *         reported
+         */
+        public CapacityStats getCapacityStats() {
+            return capacityStats;
+        }
+
+        public void setCapacityStats(CapacityStats capacityStats) {
+            this.capacityStats = capacityStats;
+        }
+
+        /**
+         * Gets the writes, throttled requests and conditional check failures
+         * per hashed key bucket and for the hottest keys.
+         * 
+         * @return the key heat map, or null if no key activity was recorded
+         */
+        public KeyHeatMap.Snapshot getKeyHeat() {
+            return keyHeat;
+        }
+
+        public void setKeyHeat(KeyHeatMap.Snapshot keyHeat) {
+            this.keyHeat = keyHeat;
+        }
+
+        /**
+         * Gets the per-operation breakdown of a mixed read/write workload.
+         * 
+         * @return statistics by operation type label, empty if no mix was run
+         */
+        public Map<String, OperationStats> getOperationStats() {
+            return operationStats;
+        }
+
+        public void setOperationStats(Map<String, OperationStats> operationStats) {
+            this.operationStats = operationStats != null
+                    ? Collections.unmodifiableMap(new TreeMap<>(operationStats))
+                    : Map.of();
+        }
+
+        /**
+         * Gets the per-phase breakdown of the run, in execution order.
+         * 
+         * @return phase summaries, empty if no phases were recorded
+         */
+        public List<PhaseSummary> getPhaseSummaries() {
+            return phaseSummaries;
+        }
+
+        public void setPhaseSummaries(List<PhaseSummary> phaseSummaries) {
+            this.phaseSummaries = phaseSummaries != null ? List.copyOf(phaseSummaries) : List.of();
+        }
+
+        /**
+         * Gets the throughput and latency timeline of the run, oldest first.
+         * 
+         * @return one point per timeline bucket, empty if none was recorded
+         */
+        public List<TimelinePoint> getTimeline() {
+            return timeline;
+        }
+
+        public void setTimeline(List<TimelinePoint> timeline) {
+            this.timeline = timeline != null ? List.copyOf(timeline) : List.of();
+        }
+
         public double getSuccessRate() {
             return totalOperations > 0 ? (totalSuccesses * 100.0) / totalOperations : 0.0;
         }
@@ -455,4 +1445,1587 @@ public class MetricsCollectionService {
                     '}';
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Fixed-size ring of rolled-up windows, indexed by elapsed test time. A
+     * window replaces the one a full ring earlier in its slot.
+     */
+    private static final class WindowRing {
+        private final long windowSizeNanos;
+        private final AtomicReferenceArray<MetricsWindow> windows;
+        private final boolean withLatencies;
+
+        private WindowRing(Duration windowSize, int maxWindows, boolean withLatencies) {
+            this.windowSizeNanos = windowSize.toNanos();
+            this.windows = new AtomicReferenceArray<>(maxWindows);
+            this.withLatencies = withLatencies;
+        }
+
+        // Returns the window covering the elapsed time, creating it on first use
+        private MetricsWindow current(long elapsedNanos) {
+            long index = elapsedNanos / windowSizeNanos;
+            int slot = (int) (index % windows.length());
+
+            MetricsWindow window = windows.get(slot);
+            while (window == null || window.index < index) {
+                MetricsWindow next = new MetricsWindow(index, withLatencies);
+                if (windows.compareAndSet(slot, window, next)) {
+                    window = next;
+                } else {
+                    window = windows.get(slot);
+                }
+            }
+
+            // A metric for a window that has already been evicted only counts in totals
+            return window.index == index ? window : null;
+        }
+
+        private MetricsWindow window(long index) {
+            MetricsWindow window = windows.get((int) (index % windows.length()));
+            return window != null && window.index == index ? window : null;
+        }
+
+        private List<MetricsWindow> retained() {
+            List<MetricsWindow> retained = new ArrayList<>();
+            for (int i = 0; i < windows.length(); i++) {
+                MetricsWindow window = windows.get(i);
+                if (window != null) {
+                    retained.add(window);
+                }
+            }
+            retained.sort(Comparator.comparingLong(window -> window.index));
+            return retained;
+        }
+
+        private void clear() {
+            for (int i = 0; i < windows.length(); i++) {
+                windows.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * Metrics rolled up over one fixed-size time window.
+     */
+    private static final class MetricsWindow {
+        private final long index;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder responseNanos = new LongAdder();
+        private final AtomicLong maxConcurrencyLevel = new AtomicLong(0);
+        private final Map<String, LongAdder> errorTypeCounts = new ConcurrentHashMap<>();
+        private final DoubleAdder writeUnits = new DoubleAdder();
+        private final DoubleAdder readUnits = new DoubleAdder();
+        // Only timeline buckets keep latencies; null for the rolled-up windows
+        private final LatencyHistogram latencies;
+
+        private MetricsWindow(long index, boolean withLatencies) {
+            this.index = index;
+            this.latencies = withLatencies ? new LatencyHistogram(1, TIMELINE_PRECISION_BITS) : null;
+        }
+
+        private void record(int successCount, int errorCount, long responseNanos, int concurrencyLevel) {
+            addNonZero(successes, successCount);
+            addNonZero(errors, errorCount);
+            this.responseNanos.add(responseNanos);
+            if (latencies != null && responseNanos > 0) {
+                latencies.record(responseNanos);
+            }
+            // Only write when the level grows, so recorders don't contend on the maximum
+            long current;
+            while (concurrencyLevel > (current = maxConcurrencyLevel.get())
+                    && !maxConcurrencyLevel.compareAndSet(current, concurrencyLevel)) {
+                // Retry until the maximum is at least this level
+            }
+        }
+
+        private void recordCapacity(double writeCapacityUnits, double readCapacityUnits) {
+            writeUnits.add(writeCapacityUnits);
+            readUnits.add(readCapacityUnits);
+        }
+
+        private TestMetrics toTestMetrics(Instant windowStart) {
+            Map<String, Integer> errorTypes = new HashMap<>();
+            errorTypeCounts.forEach((type, count) -> errorTypes.put(type, count.intValue()));
+            return new TestMetrics(Duration.ofNanos(responseNanos.sum()),
+                    successes.intValue(), errors.intValue(), errorTypes, (int) maxConcurrencyLevel.get(),
+                    windowStart);
+        }
+
+        private TimelinePoint toTimelinePoint(Instant bucketStart, Duration offset, Duration duration) {
+            LatencyHistogram.Snapshot snapshot = latencies.snapshot();
+            return new TimelinePoint(bucketStart, offset, duration, successes.sum(), errors.sum(),
+                    toCounts(errorTypeCounts), snapshot.getValueAtPercentile(50),
+                    snapshot.getValueAtPercentile(99), snapshot.getMax(), writeUnits.sum(), readUnits.sum());
+        }
+    }
+
+    /**
+     * Live counters for BatchWriteItem batches. Updated without locking from
+     * recording threads.
+     */
+    private static final class BatchScope {
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder failedBatches = new LongAdder();
+        private final LongAdder batchedItems = new LongAdder();
+        private final LongAdder redrivenItems = new LongAdder();
+        private final LongAdder unprocessedItems = new LongAdder();
+        private final LongAdder redriveRounds = new LongAdder();
+        private final LongAdder duplicateItems = new LongAdder();
+        private final LongAdder totalResponseNanos = new LongAdder();
+        private final AtomicLong maxResponseNanos = new AtomicLong(0);
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        private void record(int batchSize, long redriven, int unprocessed, int rounds, int duplicates,
+                long responseNanos) {
+            batches.increment();
+            batchedItems.add(batchSize);
+            redrivenItems.add(redriven);
+            unprocessedItems.add(unprocessed);
+            redriveRounds.add(rounds);
+            duplicateItems.add(duplicates);
+            recordResponseTime(responseNanos);
+        }
+
+        private void recordFailure(int batchSize, int duplicates, long responseNanos) {
+            batches.increment();
+            failedBatches.increment();
+            batchedItems.add(batchSize);
+            duplicateItems.add(duplicates);
+            recordResponseTime(responseNanos);
+        }
+
+        private void recordResponseTime(long responseNanos) {
+            totalResponseNanos.add(responseNanos);
+            maxResponseNanos.accumulateAndGet(responseNanos, Math::max);
+            latencyHistogram.record(responseNanos);
+        }
+
+        private BatchWriteStats toStats() {
+            long batchCount = batches.sum();
+            if (batchCount == 0) {
+                return null;
+            }
+
+            LatencyHistogram.Snapshot latencies = latencyHistogram.snapshot();
+            return new BatchWriteStats(batchCount, failedBatches.sum(), batchedItems.sum(), redrivenItems.sum(),
+                    unprocessedItems.sum(), redriveRounds.sum(), duplicateItems.sum(),
+                    Duration.ofNanos(totalResponseNanos.sum() / batchCount),
+                    latencies.getValueAtPercentile(50),
+                    latencies.getValueAtPercentile(99),
+                    Duration.ofNanos(maxResponseNanos.get()));
+        }
+
+        private void clear() {
+            batches.reset();
+            failedBatches.reset();
+            batchedItems.reset();
+            redrivenItems.reset();
+            unprocessedItems.reset();
+            redriveRounds.reset();
+            duplicateItems.reset();
+            totalResponseNanos.reset();
+            maxResponseNanos.set(0);
+            latencyHistogram.reset();
+        }
+    }
+
+    /**
+     * Metrics for BatchWriteItem batches, complementing the per-item metrics of
+     * the summary.
+     */
+    public static class BatchWriteStats {
+        private final long batches;
+        private final long failedBatches;
+        private final long batchedItems;
+        private final long redrivenItems;
+        private final long unprocessedItems;
+        private final long redriveRounds;
+        private final long duplicateItems;
+        private final Duration averageBatchResponseTime;
+        private final Duration p50BatchResponseTime;
+        private final Duration p99BatchResponseTime;
+        private final Duration maxBatchResponseTime;
+
+        public BatchWriteStats(long batches, long failedBatches, long batchedItems, long redrivenItems,
+                long unprocessedItems, long redriveRounds, long duplicateItems, Duration averageBatchResponseTime,
+                Duration p50BatchResponseTime, Duration p99BatchResponseTime, Duration maxBatchResponseTime) {
+            this.batches = batches;
+            this.failedBatches = failedBatches;
+            this.batchedItems = batchedItems;
+            this.redrivenItems = redrivenItems;
+            this.unprocessedItems = unprocessedItems;
+            this.redriveRounds = redriveRounds;
+            this.duplicateItems = duplicateItems;
+            this.averageBatchResponseTime = averageBatchResponseTime;
+            this.p50BatchResponseTime = p50BatchResponseTime;
+            this.p99BatchResponseTime = p99BatchResponseTime;
+            this.maxBatchResponseTime = maxBatchResponseTime;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public long getFailedBatches() {
+            return failedBatches;
+        }
+
+        public long getBatchedItems() {
+            return batchedItems;
+        }
+
+        /**
+         * Gets the number of items re-sent because DynamoDB returned them as
+         * unprocessed.
+         * 
+         * @return re-sent item count
+         */
+        public long getRedrivenItems() {
+            return redrivenItems;
+        }
+
+        /**
+         * Gets the number of items still unprocessed after the last re-drive.
+         * 
+         * @return items that were never written
+         */
+        public long getUnprocessedItems() {
+            return unprocessedItems;
+        }
+
+        public long getRedriveRounds() {
+            return redriveRounds;
+        }
+
+        /**
+         * Gets the number of submitted items that reuse an earlier key. In batch
+         * mode these overwrite the earlier item instead of failing.
+         * 
+         * @return duplicate item count
+         */
+        public long getDuplicateItems() {
+            return duplicateItems;
+        }
+
+        public Duration getAverageBatchResponseTime() {
+            return averageBatchResponseTime;
+        }
+
+        public Duration getP50BatchResponseTime() {
+            return p50BatchResponseTime;
+        }
+
+        public Duration getP99BatchResponseTime() {
+            return p99BatchResponseTime;
+        }
+
+        public Duration getMaxBatchResponseTime() {
+            return maxBatchResponseTime;
+        }
+
+        public double getAverageBatchSize() {
+            return batches > 0 ? (double) batchedItems / batches : 0.0;
+        }
+
+        /**
+         * Calculates how full the batches were on average.
+         * 
+         * @return average fill ratio (0.0 to 100.0) of the 25-item limit
+         */
+        public double getFillRatio() {
+            return getAverageBatchSize() * 100.0 / ItemBatcher.MAX_BATCH_ITEMS;
+        }
+
+        /**
+         * Calculates the share of item writes DynamoDB returned as unprocessed,
+         * counting re-sent items as additional writes.
+         * 
+         * @return unprocessed rate (0.0 to 100.0)
+         */
+        public double getUnprocessedRate() {
+            long sent = batchedItems + redrivenItems;
+            return sent > 0 ? (redrivenItems + unprocessedItems) * 100.0 / sent : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "BatchWriteStats{" +
+                    "batches=" + batches +
+                    ", failedBatches=" + failedBatches +
+                    ", batchedItems=" + batchedItems +
+                    ", fillRatio=" + String.format("%.2f%%", getFillRatio()) +
+                    ", unprocessedRate=" + String.format("%.2f%%", getUnprocessedRate()) +
+                    ", redrivenItems=" + redrivenItems +
+                    ", unprocessedItems=" + unprocessedItems +
+                    ", averageBatchResponseTime=" + averageBatchResponseTime +
+                    ", maxBatchResponseTime=" + maxBatchResponseTime +
+                    '}';
+        }
+    }
+
+    /**
+     * Live counters for request attempts and retries. Updated without locking
+     * from recording threads.
+     */
+    private static final class RetryScope {
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder httpAttempts = new LongAdder();
+        private final LongAdder sdkRetries = new LongAdder();
+        // Index n counts operations that took n requests; the last also counts more
+        private final AtomicLongArray attemptCounts = new AtomicLongArray(MAX_TRACKED_ATTEMPTS + 1);
+        private final Map<String, LongAdder> retriedErrors = new ConcurrentHashMap<>();
+
+        private void recordAttempts(int attempts) {
+            if (attempts < 1) {
+                return;
+            }
+            operations.increment();
+            requests.add(attempts);
+            attemptCounts.incrementAndGet(Math.min(attempts, MAX_TRACKED_ATTEMPTS));
+        }
+
+        private void recordRetry(String errorType) {
+            retriedErrors.computeIfAbsent(errorType, k -> new LongAdder()).increment();
+        }
+
+        private void recordHttpAttempt(boolean sdkRetry) {
+            httpAttempts.increment();
+            if (sdkRetry) {
+                sdkRetries.increment();
+            }
+        }
+
+        private RetryStats toStats() {
+            long operationCount = operations.sum();
+            if (operationCount == 0) {
+                return null;
+            }
+
+            long[] counts = new long[attemptCounts.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = attemptCounts.get(i);
+            }
+            return new RetryStats(operationCount, requests.sum(), httpAttempts.sum(), sdkRetries.sum(), counts,
+                    toCounts(retriedErrors));
+        }
+
+        private void clear() {
+            operations.reset();
+            requests.reset();
+            httpAttempts.reset();
+            sdkRetries.reset();
+            for (int i = 0; i < attemptCounts.length(); i++) {
+                attemptCounts.set(i, 0);
+            }
+            retriedErrors.clear();
+        }
+    }
+
+    /**
+     * Request attempts per logical operation over the three retry layers: the
+     * application retries of {@link ResilientDynamoDBService}, the re-drive
+     * rounds of batch writes and the retries of the AWS SDK itself.
+     */
+    public static class RetryStats {
+        private final long operations;
+        private final long requests;
+        private final long httpAttempts;
+        private final long sdkRetries;
+        private final long[] attemptCounts;
+        private final Map<String, Long> retriedErrorCounts;
+
+        public RetryStats(long operations, long requests, long httpAttempts, long sdkRetries, long[] attemptCounts,
+                Map<String, Long> retriedErrorCounts) {
+            this.operations = operations;
+            this.requests = requests;
+            this.httpAttempts = httpAttempts;
+            this.sdkRetries = sdkRetries;
+            this.attemptCounts = attemptCounts.clone();
+            this.retriedErrorCounts = Map.copyOf(retriedErrorCounts);
+        }
+
+        /**
+         * Gets the number of logical operations, each counted once however
+         * many requests it took.
+         * 
+         * @return logical operation count
+         */
+        public long getOperations() {
+            return operations;
+        }
+
+        /**
+         * Gets the number of DynamoDB requests the application sent, retries
+         * and re-drive rounds included.
+         * 
+         * @return application request count
+         */
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getApplicationRetries() {
+            return requests - operations;
+        }
+
+        /**
+         * Gets the number of HTTP requests the AWS SDK sent for the measured
+         * operations. Requests outside of them, such as table checks, are not
+         * counted.
+         * 
+         * @return HTTP request count, 0 if the SDK client is not instrumented
+         */
+        public long getHttpAttempts() {
+            return httpAttempts;
+        }
+
+        public long getSdkRetries() {
+            return sdkRetries;
+        }
+
+        /**
+         * Gets the number of requests that actually reached DynamoDB on behalf
+         * of the measured operations.
+         * 
+         * @return application requests plus the SDK retries beneath them
+         */
+        public long getPhysicalRequests() {
+            return requests + sdkRetries;
+        }
+
+        /**
+         * Calculates the retry amplification factor: physical requests per
+         * logical operation. 1.0 means no operation was retried.
+         * 
+         * @return the amplification factor
+         */
+        public double getAmplificationFactor() {
+            return operations > 0 ? (double) getPhysicalRequests() / operations : 0.0;
+        }
+
+        /**
+         * Gets the number of operations that took a number of application
+         * requests.
+         * 
+         * @param attempts the number of requests, from 1; the count for
+         *                 {@link #MAX_TRACKED_ATTEMPTS} includes operations that
+         *                 took more
+         * @return the operation count
+         */
+        public long getOperationsWithAttempts(int attempts) {
+            return attempts >= 1 && attempts < attemptCounts.length ? attemptCounts[attempts] : 0;
+        }
+
+        /**
+         * Gets the highest attempt count any operation reached, capped at
+         * {@link #MAX_TRACKED_ATTEMPTS}.
+         * 
+         * @return the highest attempt count, 0 if none were recorded
+         */
+        public int getMaxAttempts() {
+            for (int attempts = attemptCounts.length - 1; attempts >= 1; attempts--) {
+                if (attemptCounts[attempts] > 0) {
+                    return attempts;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Gets the application retries by the error type of the failed
+         * attempt.
+         * 
+         * @return retry counts by error type
+         */
+        public Map<String, Long> getRetriedErrorCounts() {
+            return retriedErrorCounts;
+        }
+
+        @Override
+        public String toString() {
+            return "RetryStats{" +
+                    "operations=" + operations +
+                    ", requests=" + requests +
+                    ", httpAttempts=" + httpAttempts +
+                    ", sdkRetries=" + sdkRetries +
+                    ", amplificationFactor=" + String.format("%.2f", getAmplificationFactor()) +
+                    '}';
+        }
+    }
+
+    /**
+     * Live counters for the AWS SDK HTTP client. Updated without locking from
+     * the threads the SDK publishes its metrics on.
+     */
+    private static final class HttpClientScope {
+        private final LatencyHistogram acquireHistogram = new LatencyHistogram();
+        private final LatencyHistogram serviceCallHistogram = new LatencyHistogram();
+        private final LongAdder saturatedAcquires = new LongAdder();
+        private final AtomicLong maxConnections = new AtomicLong(0);
+        private final AtomicLong peakLeased = new AtomicLong(0);
+        private final AtomicLong peakPending = new AtomicLong(0);
+        private final Map<Integer, LongAdder> statusCodeCounts = new ConcurrentHashMap<>();
+
+        private void recordAcquire(long acquireNanos, int leased, int pending, int max) {
+            acquireHistogram.record(acquireNanos);
+            maxConnections.accumulateAndGet(max, Math::max);
+            peakLeased.accumulateAndGet(leased, Math::max);
+            peakPending.accumulateAndGet(pending, Math::max);
+            // A request that finds others queued, or the pool fully leased, waits for a connection
+            if (pending > 0 || (max > 0 && leased >= max)) {
+                saturatedAcquires.increment();
+            }
+        }
+
+        private void recordResponse(int statusCode, long serviceCallNanos) {
+            statusCodeCounts.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+            if (serviceCallNanos >= 0) {
+                serviceCallHistogram.record(serviceCallNanos);
+            }
+        }
+
+        private HttpClientStats toStats() {
+            LatencyHistogram.Snapshot acquires = acquireHistogram.snapshot();
+            if (acquires.getCount() == 0 && statusCodeCounts.isEmpty()) {
+                return null;
+            }
+
+            Map<Integer, Long> statusCodes = new TreeMap<>();
+            statusCodeCounts.forEach((code, count) -> statusCodes.put(code, count.sum()));
+            return new HttpClientStats(acquires, serviceCallHistogram.snapshot(), saturatedAcquires.sum(),
+                    (int) maxConnections.get(), (int) peakLeased.get(), (int) peakPending.get(), statusCodes);
+        }
+
+        private void clear() {
+            acquireHistogram.reset();
+            serviceCallHistogram.reset();
+            saturatedAcquires.reset();
+            maxConnections.set(0);
+            peakLeased.set(0);
+            peakPending.set(0);
+            statusCodeCounts.clear();
+        }
+    }
+
+    /**
+     * Counters and latency of a running test, read without locking for live
+     * export while operations are recorded.
+     */
+    public static class LiveStats {
+        private final long successes;
+        private final long errors;
+        private final Map<String, Long> errorTypeCounts;
+        private final Duration elapsed;
+        private final double recentThroughputPerSecond;
+        private final LatencyHistogram.Snapshot latency;
+        private final double writeCapacityUnits;
+        private final double readCapacityUnits;
+        private final String activePhase;
+        private final int activeConcurrency;
+        private final long inFlightOperations;
+
+        public LiveStats(long successes, long errors, Map<String, Long> errorTypeCounts, Duration elapsed,
+                double recentThroughputPerSecond, LatencyHistogram.Snapshot latency, double writeCapacityUnits,
+                double readCapacityUnits, String activePhase, int activeConcurrency, long inFlightOperations) {
+            this.successes = successes;
+            this.errors = errors;
+            this.errorTypeCounts = Map.copyOf(errorTypeCounts);
+            this.elapsed = elapsed;
+            this.recentThroughputPerSecond = recentThroughputPerSecond;
+            this.latency = latency;
+            this.writeCapacityUnits = writeCapacityUnits;
+            this.readCapacityUnits = readCapacityUnits;
+            this.activePhase = activePhase;
+            this.activeConcurrency = activeConcurrency;
+            this.inFlightOperations = inFlightOperations;
+        }
+
+        public long getSuccesses() {
+            return successes;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getOperations() {
+            return successes + errors;
+        }
+
+        public Map<String, Long> getErrorTypeCounts() {
+            return errorTypeCounts;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Gets the throughput of the last complete timeline bucket.
+         * 
+         * @return operations per second, 0 before the first bucket completes
+         */
+        public double getRecentThroughputPerSecond() {
+            return recentThroughputPerSecond;
+        }
+
+        public double getAverageThroughputPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? getOperations() / seconds : 0.0;
+        }
+
+        public double getErrorRate() {
+            long total = getOperations();
+            return total > 0 ? (errors * 100.0) / total : 0.0;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        public double getWriteCapacityUnits() {
+            return writeCapacityUnits;
+        }
+
+        public double getReadCapacityUnits() {
+            return readCapacityUnits;
+        }
+
+        /**
+         * Gets the name of the load phase currently running.
+         * 
+         * @return the phase name, or null outside any phase
+         */
+        public String getActivePhase() {
+            return activePhase;
+        }
+
+        /**
+         * Gets the concurrency of the load phase currently running.
+         * 
+         * @return the concurrency, or 0 outside any phase
+         */
+        public int getActiveConcurrency() {
+            return activeConcurrency;
+        }
+
+        public long getInFlightOperations() {
+            return inFlightOperations;
+        }
+    }
+
+    /**
+     * Connection pool and HTTP metrics published by the AWS SDK client, to
+     * tell a saturated client apart from a slow table.
+     */
+    public static class HttpClientStats {
+        private final LatencyHistogram.Snapshot connectionAcquire;
+        private final LatencyHistogram.Snapshot serviceCall;
+        private final long saturatedAcquires;
+        private final int maxConnections;
+        private final int peakLeasedConnections;
+        private final int peakPendingAcquires;
+        private final Map<Integer, Long> statusCodeCounts;
+
+        public HttpClientStats(LatencyHistogram.Snapshot connectionAcquire, LatencyHistogram.Snapshot serviceCall,
+                long saturatedAcquires, int maxConnections, int peakLeasedConnections, int peakPendingAcquires,
+                Map<Integer, Long> statusCodeCounts) {
+            this.connectionAcquire = connectionAcquire;
+            this.serviceCall = serviceCall;
+            this.saturatedAcquires = saturatedAcquires;
+            this.maxConnections = maxConnections;
+            this.peakLeasedConnections = peakLeasedConnections;
+            this.peakPendingAcquires = peakPendingAcquires;
+            this.statusCodeCounts = Collections.unmodifiableMap(new TreeMap<>(statusCodeCounts));
+        }
+
+        /**
+         * Gets the time requests waited for a pooled connection.
+         * 
+         * @return the connection acquire time distribution
+         */
+        public LatencyHistogram.Snapshot getConnectionAcquire() {
+            return connectionAcquire;
+        }
+
+        /**
+         * Gets the time from sending a request to receiving its response, as
+         * measured by the SDK for each attempt.
+         * 
+         * @return the service call time distribution
+         */
+        public LatencyHistogram.Snapshot getServiceCall() {
+            return serviceCall;
+        }
+
+        public long getSaturatedAcquires() {
+            return saturatedAcquires;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public int getPeakLeasedConnections() {
+            return peakLeasedConnections;
+        }
+
+        public int getPeakPendingAcquires() {
+            return peakPendingAcquires;
+        }
+
+        /**
+         * Gets the number of responses by HTTP status code, with 0 for
+         * requests that received no response.
+         * 
+         * @return response counts by status code, in ascending order
+         */
+        public Map<Integer, Long> getStatusCodeCounts() {
+            return statusCodeCounts;
+        }
+
+        /**
+         * Calculates the share of connection acquires that found the pool
+         * fully leased or other requests already waiting.
+         * 
+         * @return saturation rate (0.0 to 100.0)
+         */
+        public double getSaturationRate() {
+            long acquires = connectionAcquire.getCount();
+            return acquires > 0 ? saturatedAcquires * 100.0 / acquires : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "HttpClientStats{" +
+                    "maxConnections=" + maxConnections +
+                    ", peakLeasedConnections=" + peakLeasedConnections +
+                    ", peakPendingAcquires=" + peakPendingAcquires +
+                    ", saturationRate=" + String.format("%.2f%%", getSaturationRate()) +
+                    ", acquireP99=" + connectionAcquire.getValueAtPercentile(99) +
+                    ", serviceCallP99=" + serviceCall.getValueAtPercentile(99) +
+                    ", statusCodeCounts=" + statusCodeCounts +
+                    '}';
+        }
+    }
+
+    /**
+     * Live counters for TransactWriteItems transactions. Updated without locking
+     * from recording threads.
+     */
+    private static final class TransactionScope {
+        private final LongAdder transactions = new LongAdder();
+        private final LongAdder committedTransactions = new LongAdder();
+        private final LongAdder canceledTransactions = new LongAdder();
+        private final LongAdder failedTransactions = new LongAdder();
+        private final LongAdder transactedItems = new LongAdder();
+        private final LongAdder committedItems = new LongAdder();
+        private final Map<String, LongAdder> cancellationReasons = new ConcurrentHashMap<>();
+        private final LongAdder totalResponseNanos = new LongAdder();
+        private final AtomicLong maxResponseNanos = new AtomicLong(0);
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        private void recordCommit(int transactionSize, long responseNanos) {
+            record(transactionSize, responseNanos);
+            committedTransactions.increment();
+            committedItems.add(transactionSize);
+        }
+
+        private void recordCancel(int transactionSize, Collection<String> cancellationCodes, long responseNanos) {
+            record(transactionSize, responseNanos);
+            canceledTransactions.increment();
+            for (String code : cancellationCodes) {
+                cancellationReasons.computeIfAbsent(code, k -> new LongAdder()).increment();
+            }
+        }
+
+        private void recordFailure(int transactionSize, long responseNanos) {
+            record(transactionSize, responseNanos);
+            failedTransactions.increment();
+        }
+
+        private void record(int transactionSize, long responseNanos) {
+            transactions.increment();
+            transactedItems.add(transactionSize);
+            totalResponseNanos.add(responseNanos);
+            maxResponseNanos.accumulateAndGet(responseNanos, Math::max);
+            latencyHistogram.record(responseNanos);
+        }
+
+        private TransactionStats toStats() {
+            long transactionCount = transactions.sum();
+            if (transactionCount == 0) {
+                return null;
+            }
+
+            Map<String, Long> reasons = new TreeMap<>();
+            cancellationReasons.forEach((code, count) -> reasons.put(code, count.sum()));
+            LatencyHistogram.Snapshot latencies = latencyHistogram.snapshot();
+            return new TransactionStats(transactionCount, committedTransactions.sum(), canceledTransactions.sum(),
+                    failedTransactions.sum(), transactedItems.sum(), committedItems.sum(), reasons,
+                    Duration.ofNanos(totalResponseNanos.sum() / transactionCount),
+                    latencies.getValueAtPercentile(50),
+                    latencies.getValueAtPercentile(99),
+                    Duration.ofNanos(maxResponseNanos.get()));
+        }
+
+        private void clear() {
+            transactions.reset();
+            committedTransactions.reset();
+            canceledTransactions.reset();
+            failedTransactions.reset();
+            transactedItems.reset();
+            committedItems.reset();
+            cancellationReasons.clear();
+            totalResponseNanos.reset();
+            maxResponseNanos.set(0);
+            latencyHistogram.reset();
+        }
+    }
+
+    /**
+     * Metrics for TransactWriteItems transactions, complementing the per-item
+     * metrics of the summary.
+     */
+    public static class TransactionStats {
+        private final long transactions;
+        private final long committedTransactions;
+        private final long canceledTransactions;
+        private final long failedTransactions;
+        private final long transactedItems;
+        private final long committedItems;
+        private final Map<String, Long> cancellationReasons;
+        private final Duration averageResponseTime;
+        private final Duration p50ResponseTime;
+        private final Duration p99ResponseTime;
+        private final Duration maxResponseTime;
+
+        public TransactionStats(long transactions, long committedTransactions, long canceledTransactions,
+                long failedTransactions, long transactedItems, long committedItems,
+                Map<String, Long> cancellationReasons, Duration averageResponseTime, Duration p50ResponseTime,
+                Duration p99ResponseTime, Duration maxResponseTime) {
+            this.transactions = transactions;
+            this.committedTransactions = committedTransactions;
+            this.canceledTransactions = canceledTransactions;
+            this.failedTransactions = failedTransactions;
+            this.transactedItems = transactedItems;
+            this.committedItems = committedItems;
+            this.cancellationReasons = Collections.unmodifiableMap(new TreeMap<>(cancellationReasons));
+            this.averageResponseTime = averageResponseTime;
+            this.p50ResponseTime = p50ResponseTime;
+            this.p99ResponseTime = p99ResponseTime;
+            this.maxResponseTime = maxResponseTime;
+        }
+
+        public long getTransactions() {
+            return transactions;
+        }
+
+        public long getCommittedTransactions() {
+            return committedTransactions;
+        }
+
+        public long getCanceledTransactions() {
+            return canceledTransactions;
+        }
+
+        public long getFailedTransactions() {
+            return failedTransactions;
+        }
+
+        public long getTransactedItems() {
+            return transactedItems;
+        }
+
+        public long getCommittedItems() {
+            return committedItems;
+        }
+
+        /**
+         * Gets how often each cancellation reason code was reported, counted once
+         * per item that caused a cancellation (for example ConditionalCheckFailed
+         * or TransactionConflict).
+         * 
+         * @return reason code counts, sorted by code
+         */
+        public Map<String, Long> getCancellationReasons() {
+            return cancellationReasons;
+        }
+
+        public Duration getAverageResponseTime() {
+            return averageResponseTime;
+        }
+
+        public Duration getP50ResponseTime() {
+            return p50ResponseTime;
+        }
+
+        public Duration getP99ResponseTime() {
+            return p99ResponseTime;
+        }
+
+        public Duration getMaxResponseTime() {
+            return maxResponseTime;
+        }
+
+        public double getAverageTransactionSize() {
+            return transactions > 0 ? (double) transactedItems / transactions : 0.0;
+        }
+
+        /**
+         * Calculates the share of transactions that committed.
+         * 
+         * @return commit rate (0.0 to 100.0)
+         */
+        public double getCommitRate() {
+            return transactions > 0 ? committedTransactions * 100.0 / transactions : 0.0;
+        }
+
+        /**
+         * Calculates the share of transactions DynamoDB canceled.
+         * 
+         * @return cancellation rate (0.0 to 100.0)
+         */
+        public double getCancellationRate() {
+            return transactions > 0 ? canceledTransactions * 100.0 / transactions : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "TransactionStats{" +
+                    "transactions=" + transactions +
+                    ", committedTransactions=" + committedTransactions +
+                    ", canceledTransactions=" + canceledTransactions +
+                    ", failedTransactions=" + failedTransactions +
+                    ", transactedItems=" + transactedItems +
+                    ", cancellationReasons=" + cancellationReasons +
+                    ", averageResponseTime=" + averageResponseTime +
+                    ", maxResponseTime=" + maxResponseTime +
+                    '}';
+        }
+    }
+
+    /**
+     * Live counters for one operation type of a mixed workload. Updated without
+     * locking from recording threads.
+     */
+    private static final class OperationScope {
+        private final String operationType;
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorTypeCounts = new ConcurrentHashMap<>();
+        private final DoubleAdder consumedCapacityUnits = new DoubleAdder();
+        private final LongAdder totalResponseNanos = new LongAdder();
+        private final AtomicLong maxResponseNanos = new AtomicLong(0);
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        private OperationScope(String operationType) {
+            this.operationType = operationType;
+        }
+
+        private void record(long responseNanos, String errorType, double capacityUnits) {
+            operations.increment();
+            if (errorType != null) {
+                errors.increment();
+                errorTypeCounts.computeIfAbsent(errorType, k -> new LongAdder()).increment();
+            }
+            consumedCapacityUnits.add(capacityUnits);
+            totalResponseNanos.add(responseNanos);
+            maxResponseNanos.accumulateAndGet(responseNanos, Math::max);
+            latencyHistogram.record(responseNanos);
+        }
+
+        private OperationStats toStats() {
+            long operationCount = operations.sum();
+            Map<String, Long> errorTypes = new TreeMap<>();
+            errorTypeCounts.forEach((type, count) -> errorTypes.put(type, count.sum()));
+            LatencyHistogram.Snapshot latencies = latencyHistogram.snapshot();
+            return new OperationStats(operationType, operationCount, errors.sum(), errorTypes,
+                    consumedCapacityUnits.sum(),
+                    Duration.ofNanos(operationCount > 0 ? totalResponseNanos.sum() / operationCount : 0),
+                    latencies.getValueAtPercentile(50),
+                    latencies.getValueAtPercentile(99),
+                    Duration.ofNanos(maxResponseNanos.get()));
+        }
+    }
+
+    /**
+     * Metrics for one operation type of a mixed read/write workload.
+     */
+    public static class OperationStats {
+        private final String operationType;
+        private final long operations;
+        private final long errors;
+        private final Map<String, Long> errorTypeCounts;
+        private final double consumedCapacityUnits;
+        private final Duration averageResponseTime;
+        private final Duration p50ResponseTime;
+        private final Duration p99ResponseTime;
+        private final Duration maxResponseTime;
+
+        public OperationStats(String operationType, long operations, long errors, Map<String, Long> errorTypeCounts,
+                double consumedCapacityUnits, Duration averageResponseTime, Duration p50ResponseTime,
+                Duration p99ResponseTime, Duration maxResponseTime) {
+            this.operationType = operationType;
+            this.operations = operations;
+            this.errors = errors;
+            this.errorTypeCounts = Collections.unmodifiableMap(new TreeMap<>(errorTypeCounts));
+            this.consumedCapacityUnits = consumedCapacityUnits;
+            this.averageResponseTime = averageResponseTime;
+            this.p50ResponseTime = p50ResponseTime;
+            this.p99ResponseTime = p99ResponseTime;
+            this.maxResponseTime = maxResponseTime;
+        }
+
+        public String getOperationType() {
+            return operationType;
+        }
+
+        public long getOperations() {
+            return operations;
+        }
+
+        public long getSuccesses() {
+            return operations - errors;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public Map<String, Long> getErrorTypeCounts() {
+            return errorTypeCounts;
+        }
+
+        /**
+         * Gets the capacity units DynamoDB reported as consumed by this operation
+         * type. Puts do not request consumed capacity and report 0.
+         * 
+         * @return consumed capacity units
+         */
+        public double getConsumedCapacityUnits() {
+            return consumedCapacityUnits;
+        }
+
+        public Duration getAverageResponseTime() {
+            return averageResponseTime;
+        }
+
+        public Duration getP50ResponseTime() {
+            return p50ResponseTime;
+        }
+
+        public Duration getP99ResponseTime() {
+            return p99ResponseTime;
+        }
+
+        public Duration getMaxResponseTime() {
+            return maxResponseTime;
+        }
+
+        public double getErrorRate() {
+            return operations > 0 ? errors * 100.0 / operations : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "OperationStats{" +
+                    "operationType='" + operationType + '\'' +
+                    ", operations=" + operations +
+                    ", errors=" + errors +
+                    ", consumedCapacityUnits=" + consumedCapacityUnits +
+                    ", averageResponseTime=" + averageResponseTime +
+                    ", p99ResponseTime=" + p99ResponseTime +
+                    '}';
+        }
+    }
+
+    /**
+     * Live counters for one concurrency level. Updated without locking from
+     * recording threads; read as a {@link TestMetrics} for the summary.
+     */
+    private static final class LevelScope {
+        private final int concurrencyLevel;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder responseNanos = new LongAdder();
+        private final Map<String, LongAdder> errorTypeCounts = new ConcurrentHashMap<>();
+
+        private LevelScope(int concurrencyLevel) {
+            this.concurrencyLevel = concurrencyLevel;
+        }
+
+        private void record(int successCount, int errorCount, long responseNanos) {
+            addNonZero(successes, successCount);
+            addNonZero(errors, errorCount);
+            this.responseNanos.add(responseNanos);
+        }
+
+        private boolean hasOperations() {
+            return successes.sum() + errors.sum() > 0;
+        }
+
+        private TestMetrics toTestMetrics() {
+            Map<String, Integer> errorTypes = new HashMap<>();
+            errorTypeCounts.forEach((type, count) -> errorTypes.put(type, count.intValue()));
+            return new TestMetrics(Duration.ofNanos(responseNanos.sum()), successes.intValue(),
+                    errors.intValue(), errorTypes, concurrencyLevel, Instant.now());
+        }
+    }
+
+    /**
+     * Live counters for a single phase. Updated without locking from recording
+     * threads.
+     */
+    private static final class PhaseScope {
+        private final int phaseId;
+        private final String name;
+        private final int concurrency;
+        private final LevelScope level;
+        private final Instant startTime = Instant.now();
+        private final long startNanos = System.nanoTime();
+        private volatile long endNanos;
+        private volatile Instant endTime;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+        private final Map<String, LongAdder> errorTypeCounts = new ConcurrentHashMap<>();
+        private final DoubleAdder writeUnits = new DoubleAdder();
+        private final DoubleAdder readUnits = new DoubleAdder();
+        private final LoadPhaseEvent event;
+
+        private PhaseScope(int phaseId, String name, int concurrency, LevelScope level) {
+            this.phaseId = phaseId;
+            this.name = name;
+            this.concurrency = concurrency;
+            this.level = level;
+            this.event = LoadPhaseEvent.begin(phaseId, name, concurrency);
+        }
+
+        private void record(int successCount, int errorCount, long responseNanos) {
+            addNonZero(successes, successCount);
+            addNonZero(errors, errorCount);
+            if (responseNanos > 0) {
+                latencyHistogram.record(responseNanos);
+            }
+        }
+
+        private void recordCapacity(double writeCapacityUnits, double readCapacityUnits) {
+            writeUnits.add(writeCapacityUnits);
+            readUnits.add(readCapacityUnits);
+        }
+
+        private PhaseSummary toSummary() {
+            // endNanos is written before endTime, so it is set once endTime is
+            Instant end = endTime;
+            LatencyHistogram.Snapshot latencies = latencyHistogram.snapshot();
+            return new PhaseSummary(phaseId, name, concurrency, startTime, end,
+                    Duration.ofNanos((end != null ? endNanos : System.nanoTime()) - startNanos),
+                    successes.sum(), errors.sum(), toCounts(errorTypeCounts),
+                    latencies.getMean(), latencies.getValueAtPercentile(99), latencies.getMax(),
+                    writeUnits.sum(), readUnits.sum());
+        }
+    }
+
+    /**
+     * Capacity DynamoDB reported as consumed over the test, for sizing
+     * provisioned capacity from a run. Conditional writes that fail still
+     * consume write capacity, but DynamoDB does not report it for them.
+     */
+    public static class CapacityStats {
+        private final double writeCapacityUnits;
+        private final double readCapacityUnits;
+        private final double peakWriteUnitsPerSecond;
+        private final double peakReadUnitsPerSecond;
+        private final Duration testDuration;
+
+        public CapacityStats(double writeCapacityUnits, double readCapacityUnits, double peakWriteUnitsPerSecond,
+                double peakReadUnitsPerSecond, Duration testDuration) {
+            this.writeCapacityUnits = writeCapacityUnits;
+            this.readCapacityUnits = readCapacityUnits;
+            this.peakWriteUnitsPerSecond = peakWriteUnitsPerSecond;
+            this.peakReadUnitsPerSecond = peakReadUnitsPerSecond;
+            this.testDuration = testDuration;
+        }
+
+        public double getWriteCapacityUnits() {
+            return writeCapacityUnits;
+        }
+
+        public double getReadCapacityUnits() {
+            return readCapacityUnits;
+        }
+
+        /**
+         * Gets the write capacity consumed in the busiest timeline bucket.
+         * 
+         * @return peak write capacity units per second
+         */
+        public double getPeakWriteUnitsPerSecond() {
+            return peakWriteUnitsPerSecond;
+        }
+
+        /**
+         * Gets the read capacity consumed in the busiest timeline bucket.
+         * 
+         * @return peak read capacity units per second
+         */
+        public double getPeakReadUnitsPerSecond() {
+            return peakReadUnitsPerSecond;
+        }
+
+        public double getAverageWriteUnitsPerSecond() {
+            double seconds = testDuration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? writeCapacityUnits / seconds : 0.0;
+        }
+
+        public double getAverageReadUnitsPerSecond() {
+            double seconds = testDuration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? readCapacityUnits / seconds : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "CapacityStats{" +
+                    "writeCapacityUnits=" + writeCapacityUnits +
+                    ", readCapacityUnits=" + readCapacityUnits +
+                    ", peakWriteUnitsPerSecond=" + peakWriteUnitsPerSecond +
+                    ", peakReadUnitsPerSecond=" + peakReadUnitsPerSecond +
+                    '}';
+        }
+    }
+
+    /**
+     * Response time distribution split into where the time went: waiting to be
+     * issued, DynamoDB request attempts, and backoff between attempts. Service
+     * time is counted per attempt, so a retried operation contributes several
+     * service times but one total.
+     */
+    public static class LatencyBreakdown {
+        private final LatencyHistogram.Snapshot queueWait;
+        private final LatencyHistogram.Snapshot serviceTime;
+        private final LatencyHistogram.Snapshot backoff;
+        private final LatencyHistogram.Snapshot total;
+
+        public LatencyBreakdown(LatencyHistogram.Snapshot queueWait, LatencyHistogram.Snapshot serviceTime,
+                LatencyHistogram.Snapshot backoff, LatencyHistogram.Snapshot total) {
+            this.queueWait = queueWait;
+            this.serviceTime = serviceTime;
+            this.backoff = backoff;
+            this.total = total;
+        }
+
+        public LatencyHistogram.Snapshot getQueueWait() {
+            return queueWait;
+        }
+
+        public LatencyHistogram.Snapshot getServiceTime() {
+            return serviceTime;
+        }
+
+        public LatencyHistogram.Snapshot getBackoff() {
+            return backoff;
+        }
+
+        public LatencyHistogram.Snapshot getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "LatencyBreakdown{" +
+                    "queueWaitP99=" + queueWait.getValueAtPercentile(99) +
+                    ", serviceTimeP99=" + serviceTime.getValueAtPercentile(99) +
+                    ", backoffP99=" + backoff.getValueAtPercentile(99) +
+                    ", totalP99=" + total.getValueAtPercentile(99) +
+                    '}';
+        }
+    }
+
+    /**
+     * Metrics for a single load phase, such as one step of a concurrency ramp.
+     */
+    public static class PhaseSummary {
+        private final int phaseId;
+        private final String name;
+        private final int concurrency;
+        private final Instant startTime;
+        private final Instant endTime;
+        private final Duration duration;
+        private final long successes;
+        private final long errors;
+        private final Map<String, Long> errorTypeCounts;
+        private final Duration averageResponseTime;
+        private final Duration p99ResponseTime;
+        private final Duration maxResponseTime;
+        private final double writeCapacityUnits;
+        private final double readCapacityUnits;
+
+        public PhaseSummary(int phaseId, String name, int concurrency, Instant startTime, Instant endTime,
+                Duration duration, long successes, long errors, Map<String, Long> errorTypeCounts,
+                Duration averageResponseTime, Duration p99ResponseTime, Duration maxResponseTime) {
+            this(phaseId, name, concurrency, startTime, endTime, duration, successes, errors, errorTypeCounts,
+                    averageResponseTime, p99ResponseTime, maxResponseTime, 0, 0);
+        }
+
+        public PhaseSummary(int phaseId, String name, int concurrency, Instant startTime, Instant endTime,
+                Duration duration, long successes, long errors, Map<String, Long> errorTypeCounts,
+                Duration averageResponseTime, Duration p99ResponseTime, Duration maxResponseTime,
+                double writeCapacityUnits, double readCapacityUnits) {
+            this.phaseId = phaseId;
+            this.name = name;
+            this.concurrency = concurrency;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.duration = duration;
+            this.successes = successes;
+            this.errors = errors;
+            this.errorTypeCounts = new HashMap<>(errorTypeCounts);
+            this.averageResponseTime = averageResponseTime;
+            this.p99ResponseTime = p99ResponseTime;
+            this.maxResponseTime = maxResponseTime;
+            this.writeCapacityUnits = writeCapacityUnits;
+            this.readCapacityUnits = readCapacityUnits;
+        }
+
+        public int getPhaseId() {
+            return phaseId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        /**
+         * Gets the time the phase ended.
+         * 
+         * @return the end time, or null if the phase is still running
+         */
+        public Instant getEndTime() {
+            return endTime;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public long getSuccesses() {
+            return successes;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getTotalOperations() {
+            return successes + errors;
+        }
+
+        public Map<String, Long> getErrorTypeCounts() {
+            return new HashMap<>(errorTypeCounts);
+        }
+
+        public Duration getAverageResponseTime() {
+            return averageResponseTime;
+        }
+
+        public Duration getP99ResponseTime() {
+            return p99ResponseTime;
+        }
+
+        public Duration getMaxResponseTime() {
+            return maxResponseTime;
+        }
+
+        public double getWriteCapacityUnits() {
+            return writeCapacityUnits;
+        }
+
+        public double getReadCapacityUnits() {
+            return readCapacityUnits;
+        }
+
+        /**
+         * Calculates the write capacity consumed per second while this phase
+         * was running.
+         * 
+         * @return write capacity units per second over the phase duration
+         */
+        public double getWriteUnitsPerSecond() {
+            double seconds = duration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? writeCapacityUnits / seconds : 0.0;
+        }
+
+        /**
+         * Calculates the read capacity consumed per second while this phase
+         * was running.
+         * 
+         * @return read capacity units per second over the phase duration
+         */
+        public double getReadUnitsPerSecond() {
+            double seconds = duration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? readCapacityUnits / seconds : 0.0;
+        }
+
+        /**
+         * Calculates the throughput achieved while this phase was running.
+         * 
+         * @return operations per second over the phase duration
+         */
+        public double getThroughputPerSecond() {
+            double seconds = duration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? getTotalOperations() / seconds : 0.0;
+        }
+
+        public double getErrorRate() {
+            long total = getTotalOperations();
+            return total > 0 ? (errors * 100.0) / total : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "PhaseSummary{" +
+                    "phaseId=" + phaseId +
+                    ", name='" + name + '\'' +
+                    ", concurrency=" + concurrency +
+                    ", duration=" + duration +
+                    ", successes=" + successes +
+                    ", errors=" + errors +
+                    ", throughputPerSecond=" + String.format("%.2f", getThroughputPerSecond()) +
+                    ", averageResponseTime=" + averageResponseTime +
+                    ", p99ResponseTime=" + p99ResponseTime +
+                    ", maxResponseTime=" + maxResponseTime +
+                    '}';
+        }
+    }
+
+    /**
+     * Throughput and latency of one timeline bucket.
+     */
+    public static class TimelinePoint {
+        private final Instant startTime;
+        private final Duration offset;
+        private final Duration duration;
+        private final long successes;
+        private final long errors;
+        private final Map<String, Long> errorTypeCounts;
+        private final Duration p50ResponseTime;
+        private final Duration p99ResponseTime;
+        private final Duration maxResponseTime;
+        private final double writeCapacityUnits;
+        private final double readCapacityUnits;
+
+        public TimelinePoint(Instant startTime, Duration offset, Duration duration, long successes, long errors,
+                Map<String, Long> errorTypeCounts, Duration p50ResponseTime, Duration p99ResponseTime,
+                Duration maxResponseTime) {
+            this(startTime, offset, duration, successes, errors, errorTypeCounts, p50ResponseTime, p99ResponseTime,
+                    maxResponseTime, 0, 0);
+        }
+
+        public TimelinePoint(Instant startTime, Duration offset, Duration duration, long successes, long errors,
+                Map<String, Long> errorTypeCounts, Duration p50ResponseTime, Duration p99ResponseTime,
+                Duration maxResponseTime, double writeCapacityUnits, double readCapacityUnits) {
+            this.startTime = startTime;
+            this.offset = offset;
+            this.duration = duration;
+            this.successes = successes;
+            this.errors = errors;
+            this.errorTypeCounts = new HashMap<>(errorTypeCounts);
+            this.p50ResponseTime = p50ResponseTime;
+            this.p99ResponseTime = p99ResponseTime;
+            this.maxResponseTime = maxResponseTime;
+            this.writeCapacityUnits = writeCapacityUnits;
+            this.readCapacityUnits = readCapacityUnits;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        /**
+         * Gets the start of the bucket relative to the start of the test.
+         * 
+         * @return the offset from the test start
+         */
+        public Duration getOffset() {
+            return offset;
+        }
+
+        /**
+         * Gets the time covered by the bucket, shorter than the bucket size for
+         * the last bucket of a run.
+         * 
+         * @return the covered duration
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public long getSuccesses() {
+            return successes;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getOperations() {
+            return successes + errors;
+        }
+
+        public Map<String, Long> getErrorTypeCounts() {
+            return new HashMap<>(errorTypeCounts);
+        }
+
+        public Duration getP50ResponseTime() {
+            return p50ResponseTime;
+        }
+
+        public Duration getP99ResponseTime() {
+            return p99ResponseTime;
+        }
+
+        public Duration getMaxResponseTime() {
+            return maxResponseTime;
+        }
+
+        public double getThroughputPerSecond() {
+            double seconds = duration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? getOperations() / seconds : 0.0;
+        }
+
+        public double getErrorRate() {
+            long total = getOperations();
+            return total > 0 ? (errors * 100.0) / total : 0.0;
+        }
+
+        public double getWriteCapacityUnits() {
+            return writeCapacityUnits;
+        }
+
+        public double getReadCapacityUnits() {
+            return readCapacityUnits;
+        }
+
+        @Override
+        public String toString() {
+            return "TimelinePoint{" +
+                    "offset=" + offset +
+                    ", successes=" + successes +
+                    ", errors=" + errors +
+                    ", throughputPerSecond=" + String.format("%.2f", getThroughputPerSecond()) +
+                    ", p99ResponseTime=" + p99ResponseTime +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only binary journal of every DynamoDB operation, for post-mortems:
+ * a run can be re-sliced offline with {@link OperationJournalReader} without
+ * running it again. Each operation is one fixed-width record of
+ * {@value #RECORD_SIZE} bytes written straight into a memory-mapped file, so
+ * nothing is queued on the heap and the operating system writes the pages
+ * back in the background.
+ * <p>
+ * The file is claimed in chunks of mapped records. Recording threads are
+ * spread over writers by thread id, like the stripes of
+ * {@link LatencyHistogram}, each writer filling its own chunk, so concurrent
+ * recorders rarely contend. Writers are not kept per thread because the load
+ * runs on virtual threads, which would each leave a mostly empty chunk
+ * behind. Unused record slots are left zeroed and skipped by the reader.
+ * <p>
+ * Layout, big-endian: a {@value #RECORD_SIZE}-byte header (magic, version,
+ * record size, wall-clock time of the time origin in epoch milliseconds),
+ * then records of start and end nanoseconds since the time origin, key hash,
+ * phase id, attempts, error code and operation code.
+ */
+public class OperationJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationJournal.class);
+
+    static final int MAGIC = 0x444A524E; // "DJRN"
+    static final short VERSION = 1;
+    static final int RECORD_SIZE = 32;
+
+    // Record field offsets
+    static final int START_OFFSET = 0;
+    static final int END_OFFSET = 8;
+    static final int KEY_HASH_OFFSET = 16;
+    static final int PHASE_OFFSET = 24;
+    static final int ATTEMPTS_OFFSET = 28;
+    static final int ERROR_OFFSET = 30;
+    static final int OPERATION_OFFSET = 31;
+
+    /**
+     * Default chunk size: 32,768 records (1 MiB) claimed at a time per writer.
+     */
+    public static final int DEFAULT_CHUNK_RECORDS = 32_768;
+
+    private static final int MAX_WRITERS = 16;
+
+    /**
+     * Error types by journal error code; code 0 is a success. Error types not
+     * in the table are journaled as {@link TestMetrics#ERROR_TYPE_UNKNOWN}.
+     * Codes are part of the file format: append new types, never reorder.
+     */
+    static final List<String> ERROR_TYPES = List.of(
+            "",
+            TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED,
+            TestMetrics.ERROR_TYPE_DUPLICATE_KEY,
+            TestMetrics.ERROR_TYPE_THROTTLING,
+            TestMetrics.ERROR_TYPE_NETWORK,
+            TestMetrics.ERROR_TYPE_TIMEOUT,
+            TestMetrics.ERROR_TYPE_VALIDATION,
+            TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED,
+            TestMetrics.ERROR_TYPE_UNKNOWN);
+
+    /**
+     * Journaled operation types. Codes are part of the file format; code 0
+     * marks an unused record slot.
+     */
+    public enum Operation {
+        PUT(1, "put"),
+        BATCH_WRITE(2, "batch-write"),
+        TRANSACT_WRITE(3, "transact-write"),
+        GET(4, "get"),
+        BATCH_GET(5, "batch-get"),
+        QUERY(6, "query");
+
+        private final byte code;
+        private final String label;
+
+        Operation(int code, String label) {
+            this.code = (byte) code;
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isWrite() {
+            return this == PUT || this == BATCH_WRITE || this == TRANSACT_WRITE;
+        }
+
+        static Operation fromCode(byte code) {
+            for (Operation operation : values()) {
+                if (operation.code == code) {
+                    return operation;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long chunkBytes;
+    private final long originNanos;
+    private final long originEpochMillis;
+    private final AtomicLong nextChunkOffset;
+    private final Writer[] writers;
+    private final int writerMask;
+    private final LongAdder records = new LongAdder();
+    private final LongAdder droppedRecords = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Creates a journal, replacing any file at the path.
+     *
+     * @param path the journal file
+     * @throws IOException if the file cannot be created
+     */
+    public OperationJournal(Path path) throws IOException {
+        this(path, DEFAULT_CHUNK_RECORDS);
+    }
+
+    /**
+     * Creates a journal, replacing any file at the path.
+     *
+     * @param path         the journal file
+     * @param chunkRecords the number of records each writer maps at a time
+     * @throws IOException if the file cannot be created
+     */
+    public OperationJournal(Path path, int chunkRecords) throws IOException {
+        if (chunkRecords < 1) {
+            throw new IllegalArgumentException("Chunk records must be positive, was " + chunkRecords);
+        }
+        this.path = path;
+        this.chunkBytes = (long) chunkRecords * RECORD_SIZE;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.originNanos = System.nanoTime();
+        this.originEpochMillis = System.currentTimeMillis();
+
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, RECORD_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(originEpochMillis);
+        header.force();
+        this.nextChunkOffset = new AtomicLong(RECORD_SIZE);
+
+        int writerCount = Integer.highestOneBit(
+                Math.max(1, Math.min(MAX_WRITERS, Runtime.getRuntime().availableProcessors())) * 2 - 1);
+        this.writers = new Writer[writerCount];
+        for (int i = 0; i < writerCount; i++) {
+            writers[i] = new Writer();
+        }
+        this.writerMask = writerCount - 1;
+        logger.info("Journaling every operation to {}", path);
+    }
+
+    /**
+     * Appends one operation. Operations appended after the journal is closed,
+     * or once the file cannot be extended, are counted as dropped.
+     *
+     * @param operation  the operation type
+     * @param startNanos the {@link System#nanoTime()} the operation was issued
+     * @param endNanos   the {@link System#nanoTime()} it completed
+     * @param attempts   the number of requests it took, retries included
+     * @param errorType  the error type it failed with, or null if it succeeded
+     * @param phaseId    the load phase it ran in, or -1 if none
+     * @param key        the primary key, the first one for multi-item
+     *                   operations, or null
+     */
+    public void append(Operation operation, long startNanos, long endNanos, int attempts, String errorType,
+            int phaseId, String key) {
+        Writer writer = writers[(int) Thread.currentThread().threadId() & writerMask];
+        if (writer.append(operation.code, startNanos - originNanos, endNanos - originNanos, keyHash(key),
+                phaseId, (short) Math.min(attempts, Short.MAX_VALUE), errorCode(errorType))) {
+            records.increment();
+        } else {
+            droppedRecords.increment();
+        }
+    }
+
+    /**
+     * Gets the number of operations journaled.
+     *
+     * @return the record count
+     */
+    public long getRecordCount() {
+        return records.sum();
+    }
+
+    /**
+     * Gets the number of operations that could not be journaled.
+     *
+     * @return the dropped record count
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Flushes every mapped chunk to the file and closes it. Operations still
+     * completing are dropped.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Writer writer : writers) {
+            writer.close();
+        }
+        channel.force(false);
+        channel.close();
+        logger.info("Operation journal {} closed: {} operations journaled, {} dropped",
+                path, getRecordCount(), getDroppedRecords());
+    }
+
+    /**
+     * Hashes a primary key to the 64-bit FNV-1a hash of its characters, the
+     * key identity kept in the journal. Null keys hash to 0.
+     *
+     * @param key the primary key
+     * @return the key hash
+     */
+    public static long keyHash(String key) {
+        if (key == null) {
+            return 0;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static byte errorCode(String errorType) {
+        if (errorType == null) {
+            return 0;
+        }
+        int code = ERROR_TYPES.indexOf(errorType);
+        return (byte) (code > 0 ? code : ERROR_TYPES.indexOf(TestMetrics.ERROR_TYPE_UNKNOWN));
+    }
+
+    /**
+     * Fills one mapped chunk at a time, claiming the next chunk of the file
+     * when the current one is full.
+     */
+    private final class Writer {
+        private MappedByteBuffer chunk;
+        private boolean failed;
+
+        private synchronized boolean append(byte operation, long start, long end, long keyHash, int phaseId,
+                short attempts, byte error) {
+            if (closed || failed) {
+                return false;
+            }
+            if (chunk == null || !chunk.hasRemaining()) {
+                // A full chunk is left to the operating system to write back
+                try {
+                    chunk = channel.map(FileChannel.MapMode.READ_WRITE, nextChunkOffset.getAndAdd(chunkBytes),
+                            chunkBytes);
+                } catch (IOException | RuntimeException e) {
+                    failed = true;
+                    chunk = null;
+                    logger.warn("Cannot extend operation journal {}, dropping further operations: {}",
+                            path, e.getMessage());
+                    return false;
+                }
+            }
+            chunk.putLong(start)
+                    .putLong(end)
+                    .putLong(keyHash)
+                    .putInt(phaseId)
+                    .putShort(attempts)
+                    .put(error)
+                    .put(operation);
+            return true;
+        }
+
+        private synchronized void close() {
+            if (chunk != null) {
+                chunk.force();
+                chunk = null;
+            }
+        }
+    }
+}
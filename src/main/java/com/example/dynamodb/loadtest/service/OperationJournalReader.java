@@ -0,0 +1,338 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import com.example.dynamodb.loadtest.service.OperationJournal.Operation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Offline reader of an {@link OperationJournal}. It rebuilds latency
+ * histograms and per-interval time series from the journaled operations,
+ * filtered by any predicate (a phase, an operation type, a key, a time
+ * range), so a finished run can be re-sliced without running it again. The
+ * file is read through read-only mappings, one window at a time, so journals
+ * of any size are scanned without loading them on the heap.
+ * <p>
+ * Run it against a journal with
+ * {@code java -cp dynamodb-load-test.jar -Dloader.main=com.example.dynamodb.loadtest.service.OperationJournalReader
+ * org.springframework.boot.loader.launch.PropertiesLauncher <journal> [phase-id]}.
+ */
+public class OperationJournalReader {
+
+    // Records mapped at a time while scanning
+    private static final long WINDOW_RECORDS = 1 << 20;
+
+    private final Path path;
+    private final Instant originTime;
+
+    /**
+     * Opens a journal and validates its header.
+     *
+     * @param path the journal file
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public OperationJournalReader(Path path) throws IOException {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < OperationJournal.RECORD_SIZE) {
+                throw new IOException("Not an operation journal, too short: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, OperationJournal.RECORD_SIZE);
+            int magic = header.getInt();
+            short version = header.getShort();
+            short recordSize = header.getShort();
+            if (magic != OperationJournal.MAGIC || recordSize != OperationJournal.RECORD_SIZE) {
+                throw new IOException("Not an operation journal: " + path);
+            }
+            if (version != OperationJournal.VERSION) {
+                throw new IOException("Unsupported operation journal version " + version + ": " + path);
+            }
+            this.originTime = Instant.ofEpochMilli(header.getLong());
+        }
+    }
+
+    /**
+     * Gets the wall-clock time the journal's nanosecond offsets count from.
+     *
+     * @return the time origin
+     */
+    public Instant getOriginTime() {
+        return originTime;
+    }
+
+    /**
+     * Visits every journaled operation, in file order. Operations of the same
+     * writer are in completion order; across writers they are not ordered.
+     *
+     * @param consumer the visitor
+     * @throws IOException if the file cannot be read
+     */
+    public void forEach(Consumer<Entry> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size() - channel.size() % OperationJournal.RECORD_SIZE;
+            long windowBytes = WINDOW_RECORDS * OperationJournal.RECORD_SIZE;
+            for (long offset = OperationJournal.RECORD_SIZE; offset < size; offset += windowBytes) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(windowBytes, size - offset));
+                while (window.hasRemaining()) {
+                    int position = window.position();
+                    Operation operation = Operation.fromCode(
+                            window.get(position + OperationJournal.OPERATION_OFFSET));
+                    if (operation != null) {
+                        consumer.accept(new Entry(operation,
+                                window.getLong(position + OperationJournal.START_OFFSET),
+                                window.getLong(position + OperationJournal.END_OFFSET),
+                                window.getShort(position + OperationJournal.ATTEMPTS_OFFSET),
+                                window.get(position + OperationJournal.ERROR_OFFSET),
+                                window.getInt(position + OperationJournal.PHASE_OFFSET),
+                                window.getLong(position + OperationJournal.KEY_HASH_OFFSET)));
+                    }
+                    window.position(position + OperationJournal.RECORD_SIZE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the response time histogram of the matching operations.
+     *
+     * @param filter the operations to include
+     * @return the histogram snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public LatencyHistogram.Snapshot histogram(Predicate<Entry> filter) throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        forEach(entry -> {
+            if (filter.test(entry)) {
+                histogram.record(entry.getResponseNanos());
+            }
+        });
+        return histogram.snapshot();
+    }
+
+    /**
+     * Rebuilds the time series of the matching operations, each bucketed by
+     * the interval it completed in, like the live timeline. Intervals without
+     * operations are left out.
+     *
+     * @param interval the bucket width
+     * @param filter   the operations to include
+     * @return the points in time order
+     * @throws IOException if the file cannot be read
+     */
+    public List<TimeSeriesPoint> timeSeries(Duration interval, Predicate<Entry> filter) throws IOException {
+        long intervalNanos = interval.toNanos();
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("Interval must be positive, was " + interval);
+        }
+        Map<Long, LatencyHistogram> latencies = new TreeMap<>();
+        Map<Long, long[]> errors = new TreeMap<>();
+        forEach(entry -> {
+            if (!filter.test(entry)) {
+                return;
+            }
+            long bucket = Math.floorDiv(entry.getEndNanos(), intervalNanos);
+            latencies.computeIfAbsent(bucket, b -> new LatencyHistogram(1, 7)).record(entry.getResponseNanos());
+            long[] errorCount = errors.computeIfAbsent(bucket, b -> new long[1]);
+            if (!entry.isSuccess()) {
+                errorCount[0]++;
+            }
+        });
+
+        List<TimeSeriesPoint> points = new ArrayList<>(latencies.size());
+        latencies.forEach((bucket, histogram) -> points.add(new TimeSeriesPoint(
+                Duration.ofNanos(bucket * intervalNanos), interval, histogram.snapshot(), errors.get(bucket)[0])));
+        return points;
+    }
+
+    /**
+     * Prints the latency of a journal, per operation type and per second,
+     * optionally for a single phase.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: OperationJournalReader <journal> [phase-id]");
+            System.exit(2);
+        }
+        OperationJournalReader reader = new OperationJournalReader(Path.of(args[0]));
+        Predicate<Entry> phase = args.length == 2
+                ? entry -> entry.getPhaseId() == Integer.parseInt(args[1])
+                : entry -> true;
+
+        System.out.println("Journal " + args[0] + ", time origin " + reader.getOriginTime());
+        Map<String, long[]> errorsByType = new TreeMap<>();
+        reader.forEach(entry -> {
+            if (phase.test(entry) && !entry.isSuccess()) {
+                errorsByType.computeIfAbsent(entry.getErrorType(), type -> new long[1])[0]++;
+            }
+        });
+        System.out.println(formatLatency("all", reader.histogram(phase)));
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram.Snapshot snapshot = reader.histogram(phase.and(entry -> entry.getOperation() == operation));
+            if (snapshot.getCount() > 0) {
+                System.out.println(formatLatency(operation.getLabel(), snapshot));
+            }
+        }
+        errorsByType.forEach((type, count) -> System.out.printf("errors %-20s %d%n", type, count[0]));
+
+        System.out.println();
+        System.out.printf("%8s %10s %8s %10s %10s %10s%n", "second", "ops/s", "errors", "p50 ms", "p99 ms", "max ms");
+        for (TimeSeriesPoint point : reader.timeSeries(Duration.ofSeconds(1), phase)) {
+            System.out.printf("%8d %10.1f %8d %10.2f %10.2f %10.2f%n",
+                    point.getOffset().toSeconds(),
+                    point.getThroughputPerSecond(),
+                    point.getErrors(),
+                    point.getLatency().getValueAtPercentile(50).toNanos() / 1_000_000.0,
+                    point.getLatency().getValueAtPercentile(99).toNanos() / 1_000_000.0,
+                    point.getLatency().getMax().toNanos() / 1_000_000.0);
+        }
+    }
+
+    private static String formatLatency(String label, LatencyHistogram.Snapshot snapshot) {
+        return String.format("%-15s count=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                label, snapshot.getCount(),
+                snapshot.getValueAtPercentile(50).toNanos() / 1_000_000.0,
+                snapshot.getValueAtPercentile(99).toNanos() / 1_000_000.0,
+                snapshot.getValueAtPercentile(99.9).toNanos() / 1_000_000.0,
+                snapshot.getMax().toNanos() / 1_000_000.0);
+    }
+
+    /**
+     * One journaled operation.
+     */
+    public static final class Entry {
+        private final Operation operation;
+        private final long startNanos;
+        private final long endNanos;
+        private final int attempts;
+        private final byte errorCode;
+        private final int phaseId;
+        private final long keyHash;
+
+        Entry(Operation operation, long startNanos, long endNanos, int attempts, byte errorCode, int phaseId,
+                long keyHash) {
+            this.operation = operation;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.attempts = attempts;
+            this.errorCode = errorCode;
+            this.phaseId = phaseId;
+            this.keyHash = keyHash;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * Gets the time the operation was issued, in nanoseconds since the
+         * journal's time origin.
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * Gets the time the operation completed, in nanoseconds since the
+         * journal's time origin.
+         */
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        public long getResponseNanos() {
+            return endNanos - startNanos;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public boolean isSuccess() {
+            return errorCode == 0;
+        }
+
+        /**
+         * Gets the error type the operation failed with.
+         *
+         * @return the error type, or null if it succeeded
+         */
+        public String getErrorType() {
+            if (errorCode == 0) {
+                return null;
+            }
+            return errorCode > 0 && errorCode < OperationJournal.ERROR_TYPES.size()
+                    ? OperationJournal.ERROR_TYPES.get(errorCode)
+                    : TestMetrics.ERROR_TYPE_UNKNOWN;
+        }
+
+        /**
+         * Gets the load phase the operation was issued in.
+         *
+         * @return the phase id, or -1 if it ran outside a phase
+         */
+        public int getPhaseId() {
+            return phaseId;
+        }
+
+        /**
+         * Gets the hash of the operation's primary key, see
+         * {@link OperationJournal#keyHash(String)}.
+         */
+        public long getKeyHash() {
+            return keyHash;
+        }
+    }
+
+    /**
+     * Operations completed within one interval.
+     */
+    public static final class TimeSeriesPoint {
+        private final Duration offset;
+        private final Duration interval;
+        private final LatencyHistogram.Snapshot latency;
+        private final long errors;
+
+        TimeSeriesPoint(Duration offset, Duration interval, LatencyHistogram.Snapshot latency, long errors) {
+            this.offset = offset;
+            this.interval = interval;
+            this.latency = latency;
+            this.errors = errors;
+        }
+
+        /**
+         * Gets the start of the interval, relative to the journal's time origin.
+         */
+        public Duration getOffset() {
+            return offset;
+        }
+
+        public long getOperations() {
+            return latency.getCount();
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        public double getThroughputPerSecond() {
+            return latency.getCount() * 1_000_000_000.0 / interval.toNanos();
+        }
+    }
+}
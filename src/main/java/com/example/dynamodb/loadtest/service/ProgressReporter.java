@@ -0,0 +1,372 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestConfiguration;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.LiveStats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints the progress of a running load test at a fixed interval: current
+ * throughput, rolling p50/p99, error rate by type, operations in flight, the
+ * current phase and concurrency, and the estimated time to completion. Lines
+ * are human-readable text or, with {@code metrics.progress.format=json}, one
+ * JSON object per line for log parsers.
+ * <p>
+ * Progress is read from the live counters of {@link MetricsCollectionService}
+ * and its lock-free timeline, so reporting never blocks the recording
+ * threads.
+ */
+@Service
+public class ProgressReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressReporter.class);
+
+    public static final String FORMAT_TEXT = "text";
+    public static final String FORMAT_JSON = "json";
+
+    private final MetricsCollectionService metricsCollectionService;
+    private final Duration interval;
+    private final boolean json;
+    private final PrintStream out;
+    // Not the shared mapper: every report must be single-line JSON
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ScheduledExecutorService scheduler;
+    private TestConfiguration config;
+
+    // Only touched by the reporting thread, and by stop() once it has ended
+    private long previousOperations;
+    private Duration previousElapsed = Duration.ZERO;
+
+    @Autowired
+    public ProgressReporter(MetricsCollectionService metricsCollectionService,
+            @Value("${metrics.progress.interval-seconds:10}") int intervalSeconds,
+            @Value("${metrics.progress.format:text}") String format) {
+        this(metricsCollectionService, Duration.ofSeconds(intervalSeconds), format, System.out);
+    }
+
+    /**
+     * Creates a reporter.
+     *
+     * @param metricsCollectionService the live metrics to report
+     * @param interval                 the time between two reports
+     * @param format                   {@value #FORMAT_TEXT} or
+     *                                 {@value #FORMAT_JSON}
+     * @param out                      the stream reports are printed to
+     */
+    ProgressReporter(MetricsCollectionService metricsCollectionService, Duration interval, String format,
+            PrintStream out) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Progress interval must be positive, was " + interval);
+        }
+        if (!FORMAT_TEXT.equalsIgnoreCase(format) && !FORMAT_JSON.equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Unknown progress format: " + format);
+        }
+        this.metricsCollectionService = metricsCollectionService;
+        this.interval = interval;
+        this.json = FORMAT_JSON.equalsIgnoreCase(format);
+        this.out = out;
+    }
+
+    /**
+     * Starts reporting the progress of a test.
+     *
+     * @param config the configuration of the test, for the completion estimate
+     */
+    public synchronized void start(TestConfiguration config) {
+        if (scheduler != null) {
+            return;
+        }
+        this.config = config;
+        previousOperations = 0;
+        previousElapsed = Duration.ZERO;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::reportSafely, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        logger.info("Reporting progress every {}s as {}", interval.toSeconds(), json ? FORMAT_JSON : FORMAT_TEXT);
+    }
+
+    /**
+     * Stops reporting and prints a last report, marked final. Does nothing if
+     * reporting was not started.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        out.println(format(progress(), true));
+        out.flush();
+    }
+
+    /**
+     * Takes the progress since the previous call.
+     *
+     * @return the progress
+     */
+    Progress progress() {
+        LiveStats live = metricsCollectionService.getLiveStats();
+        LatencyHistogram.Snapshot latency = metricsCollectionService.getRecentLatency(interval);
+
+        // Throughput since the previous report; a restarted test starts over
+        long operations = live.getOperations();
+        Duration elapsed = live.getElapsed();
+        double throughput = live.getAverageThroughputPerSecond();
+        long deltaNanos = elapsed.minus(previousElapsed).toNanos();
+        if (operations >= previousOperations && deltaNanos > 0 && !previousElapsed.isZero()) {
+            throughput = (operations - previousOperations) * 1_000_000_000.0 / deltaNanos;
+        }
+        previousOperations = operations;
+        previousElapsed = elapsed;
+
+        Double percentComplete = null;
+        Duration remaining = null;
+        if (config != null && config.isDurationMode()) {
+            Duration duration = config.getTestDuration();
+            percentComplete = Math.min(100.0, elapsed.toNanos() * 100.0 / duration.toNanos());
+            remaining = duration.compareTo(elapsed) > 0 ? duration.minus(elapsed) : Duration.ZERO;
+        } else if (config != null && config.getTotalItems() != null && config.getTotalItems() > 0) {
+            long total = config.getTotalItems();
+            percentComplete = Math.min(100.0, operations * 100.0 / total);
+            double rate = throughput > 0 ? throughput : live.getAverageThroughputPerSecond();
+            if (operations >= total) {
+                remaining = Duration.ZERO;
+            } else if (rate > 0) {
+                remaining = Duration.ofMillis((long) ((total - operations) * 1_000.0 / rate));
+            }
+        }
+
+        return new Progress(elapsed, live.getActivePhase(), live.getActiveConcurrency(), operations,
+                throughput, latency.getValueAtPercentile(50), latency.getValueAtPercentile(99),
+                live.getErrorRate(), new TreeMap<>(live.getErrorTypeCounts()), live.getInFlightOperations(),
+                percentComplete, remaining);
+    }
+
+    /**
+     * Formats a report as one line of text or JSON.
+     *
+     * @param progress the progress to report
+     * @param last     whether this is the report printed when the test ends
+     * @return the line
+     */
+    String format(Progress progress, boolean last) {
+        return json ? formatJson(progress, last) : formatText(progress, last);
+    }
+
+    private String formatText(Progress progress, boolean last) {
+        StringBuilder line = new StringBuilder(last ? "Final progress: " : "Progress: ");
+        line.append(formatDuration(progress.getElapsed()));
+        if (progress.getPhase() != null) {
+            line.append(String.format(" | phase %s @ %d", progress.getPhase(), progress.getConcurrency()));
+        }
+        line.append(String.format(" | %d ops, %.1f ops/s", progress.getOperations(),
+                progress.getThroughputPerSecond()));
+        line.append(String.format(" | p50 %.2f ms, p99 %.2f ms", toMillis(progress.getP50()),
+                toMillis(progress.getP99())));
+        line.append(String.format(" | errors %.2f%%", progress.getErrorRate()));
+        if (!progress.getErrorTypeCounts().isEmpty()) {
+            line.append(' ').append(progress.getErrorTypeCounts());
+        }
+        line.append(" | in flight ").append(progress.getInFlightOperations());
+        if (progress.getPercentComplete() != null) {
+            line.append(String.format(" | %.1f%% done", progress.getPercentComplete()));
+        }
+        if (progress.getRemaining() != null) {
+            line.append(", ETA ").append(formatDuration(progress.getRemaining()));
+        }
+        return line.toString();
+    }
+
+    private String formatJson(Progress progress, boolean last) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("type", last ? "progress-final" : "progress");
+        report.put("timestamp", Instant.now().toString());
+        report.put("elapsedSeconds", round(progress.getElapsed().toMillis() / 1_000.0));
+        report.put("phase", progress.getPhase());
+        report.put("concurrency", progress.getConcurrency());
+        report.put("operations", progress.getOperations());
+        report.put("throughputPerSecond", round(progress.getThroughputPerSecond()));
+        report.put("p50Ms", round(toMillis(progress.getP50())));
+        report.put("p99Ms", round(toMillis(progress.getP99())));
+        report.put("errorRatePercent", round(progress.getErrorRate()));
+        report.put("errorsByType", progress.getErrorTypeCounts());
+        report.put("inFlight", progress.getInFlightOperations());
+        report.put("percentComplete", progress.getPercentComplete() != null
+                ? round(progress.getPercentComplete())
+                : null);
+        report.put("etaSeconds", progress.getRemaining() != null
+                ? round(progress.getRemaining().toMillis() / 1_000.0)
+                : null);
+        try {
+            return objectMapper.writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot write progress report", e);
+        }
+    }
+
+    private void reportSafely() {
+        try {
+            out.println(format(progress(), false));
+            out.flush();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; one failed report must not end reporting
+            logger.warn("Failed to report progress: {}", e.getMessage());
+        }
+    }
+
+    private static String formatDuration(Duration duration) {
+        return String.format("%dm %02ds", duration.toMinutes(), duration.toSecondsPart());
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * Progress of a running test at one point in time.
+     */
+    public static class Progress {
+        private final Duration elapsed;
+        private final String phase;
+        private final int concurrency;
+        private final long operations;
+        private final double throughputPerSecond;
+        private final Duration p50;
+        private final Duration p99;
+        private final double errorRate;
+        private final Map<String, Long> errorTypeCounts;
+        private final long inFlightOperations;
+        private final Double percentComplete;
+        private final Duration remaining;
+
+        public Progress(Duration elapsed, String phase, int concurrency, long operations,
+                double throughputPerSecond, Duration p50, Duration p99, double errorRate,
+                Map<String, Long> errorTypeCounts, long inFlightOperations, Double percentComplete,
+                Duration remaining) {
+            this.elapsed = elapsed;
+            this.phase = phase;
+            this.concurrency = concurrency;
+            this.operations = operations;
+            this.throughputPerSecond = throughputPerSecond;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.errorRate = errorRate;
+            this.errorTypeCounts = errorTypeCounts;
+            this.inFlightOperations = inFlightOperations;
+            this.percentComplete = percentComplete;
+            this.remaining = remaining;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Gets the load phase running at the time of the report.
+         *
+         * @return the phase name, or null outside any phase
+         */
+        public String getPhase() {
+            return phase;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public long getOperations() {
+            return operations;
+        }
+
+        /**
+         * Gets the throughput since the previous report, or since the start
+         * of the test for the first one.
+         *
+         * @return operations per second
+         */
+        public double getThroughputPerSecond() {
+            return throughputPerSecond;
+        }
+
+        /**
+         * Gets the median latency over the last reporting interval.
+         */
+        public Duration getP50() {
+            return p50;
+        }
+
+        /**
+         * Gets the 99th percentile latency over the last reporting interval.
+         */
+        public Duration getP99() {
+            return p99;
+        }
+
+        /**
+         * Gets the share of operations that failed since the start of the test.
+         *
+         * @return the error rate as a percentage
+         */
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public Map<String, Long> getErrorTypeCounts() {
+            return errorTypeCounts;
+        }
+
+        public long getInFlightOperations() {
+            return inFlightOperations;
+        }
+
+        /**
+         * Gets how much of the test is done, by items for item-count tests
+         * and by time for duration-based tests.
+         *
+         * @return the percentage, or null if the test has no known end
+         */
+        public Double getPercentComplete() {
+            return percentComplete;
+        }
+
+        /**
+         * Gets the estimated time to completion.
+         *
+         * @return the remaining time, or null if it cannot be estimated yet
+         */
+        public Duration getRemaining() {
+            return remaining;
+        }
+    }
+}
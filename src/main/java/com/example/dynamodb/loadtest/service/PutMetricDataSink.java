@@ -0,0 +1,32 @@
+package com.example.dynamodb.loadtest.service;
+
+import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes metric data to CloudWatch with one asynchronous PutMetricData
+ * call per batch.
+ */
+public class PutMetricDataSink implements MetricSink {
+
+    private final CloudWatchAsyncClient cloudWatchClient;
+    private final String namespace;
+
+    public PutMetricDataSink(CloudWatchAsyncClient cloudWatchClient, String namespace) {
+        this.cloudWatchClient = cloudWatchClient;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(List<MetricDatum> datums) {
+        PutMetricDataRequest request = PutMetricDataRequest.builder()
+                .namespace(namespace)
+                .metricData(datums)
+                .build();
+        return cloudWatchClient.putMetricData(request).thenApply(response -> null);
+    }
+}
@@ -1,7 +1,16 @@
 package com.example.dynamodb.loadtest.service;
 
 import com.example.dynamodb.loadtest.model.TestMetrics;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.BatchWriteStats;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.CapacityStats;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.HttpClientStats;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.LatencyBreakdown;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.OperationStats;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.PhaseSummary;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.RetryStats;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.TimelinePoint;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.TransactionStats;
 import com.example.dynamodb.loadtest.service.CostEstimationService.CostEstimate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +22,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,6 +39,9 @@ public class ReportGenerationService {
     private static final String SUB_SEPARATOR = "-".repeat(60);
     private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // Longer timelines are merged into fewer, wider rows
+    static final int MAX_TIMELINE_ROWS = 60;
+
     @Autowired
     private CostEstimationService costEstimationService;
 
@@ -61,9 +74,21 @@ public class ReportGenerationService {
             printHeader(out);
             printTestOverview(summary, out);
             printPerformanceMetrics(summary, out);
+            printLatencyBreakdown(summary, out);
+            printHttpClientAnalysis(summary, out);
+            printRetryAmplification(summary, out);
+            printArrivalRateAnalysis(summary, out);
+            printKeyDistributionAnalysis(summary, out);
+            printKeyHeatMap(summary, out);
+            printBatchWriteAnalysis(summary, out);
+            printTransactionAnalysis(summary, out);
+            printOperationMixAnalysis(summary, out);
+            printConsumedCapacity(summary, out);
             printCostAnalysis(summary, out);
             printErrorAnalysis(summary, out);
             printConcurrencyAnalysis(summary, out);
+            printPhaseAnalysis(summary, out);
+            printTimeline(summary, out);
             printFooter(out);
 
             logger.info("Load test report generated successfully");
@@ -89,7 +114,7 @@ public class ReportGenerationService {
         sb.append(String.format("  Total Operations: %,d\n", summary.getTotalOperations()));
         sb.append(String.format("  Success Rate: %.2f%%\n", summary.getSuccessRate()));
         sb.append(String.format("  Error Rate: %.2f%%\n", summary.getErrorRate()));
-        sb.append(String.format("  Average Response Time: %dms\n", summary.getAverageResponseTime().toMillis()));
+        sb.append(String.format("  Average Response Time: %s\n", formatMillis(summary.getAverageResponseTime())));
         sb.append(String.format("  Throughput: %.2f ops/sec\n", summary.getThroughputPerSecond()));
         sb.append(String.format("  Test Duration: %s\n", formatDuration(summary.getTestDuration())));
 
@@ -143,15 +168,380 @@ public class ReportGenerationService {
         out.println();
 
         out.println("Response Time Statistics:");
-        out.printf("  Average:         %dms%n", summary.getAverageResponseTime().toMillis());
+        out.printf("  Average:         %s%n", formatMillis(summary.getAverageResponseTime()));
 
         Map<String, Duration> percentiles = summary.getResponseTimePercentiles();
-        if (!percentiles.isEmpty()) {
-            percentiles.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .forEach(entry -> out.printf("  %s:             %dms%n",
-                            entry.getKey().toUpperCase(), entry.getValue().toMillis()));
+        for (String key : MetricsCollectionService.PERCENTILE_KEYS) {
+            Duration value = percentiles.get(key);
+            if (value != null) {
+                out.printf("  %-17s%s%n", key.toUpperCase() + ":", formatMillis(value));
+            }
+        }
+        out.println();
+    }
+
+    private void printLatencyBreakdown(TestSummary summary, PrintStream out) {
+        LatencyBreakdown breakdown = summary.getLatencyBreakdown();
+        if (breakdown == null || breakdown.getServiceTime().getCount() == 0) {
+            return;
+        }
+
+        out.println("LATENCY BREAKDOWN");
+        out.println(SUB_SEPARATOR);
+        out.printf("%-14s %-10s %-11s %-11s %-11s %-11s%n", "Component", "Count", "P50", "P99", "P99.9", "Max");
+        out.println(SUB_SEPARATOR);
+        printLatencyComponent("Queue Wait", breakdown.getQueueWait(), out);
+        printLatencyComponent("Service Time", breakdown.getServiceTime(), out);
+        printLatencyComponent("Backoff", breakdown.getBackoff(), out);
+        printLatencyComponent("Total", breakdown.getTotal(), out);
+        out.println("Service time is per DynamoDB attempt; the total includes queue wait, all attempts and backoff.");
+
+        // Attribute the tail to whichever component comes closest to explaining it
+        Duration queueP99 = breakdown.getQueueWait().getValueAtPercentile(99);
+        Duration serviceP99 = breakdown.getServiceTime().getValueAtPercentile(99);
+        Duration backoffP99 = breakdown.getBackoff().getValueAtPercentile(99);
+        if (queueP99.compareTo(serviceP99) > 0 && queueP99.compareTo(backoffP99) >= 0) {
+            out.println("P99 is dominated by queue wait: the load generator is saturated, not DynamoDB.");
+        } else if (backoffP99.compareTo(serviceP99) > 0) {
+            out.println("P99 is dominated by backoff: retries after throttling, not slow requests.");
+        } else {
+            out.println("P99 is dominated by DynamoDB service time.");
+        }
+        out.println();
+    }
+
+    private static void printLatencyComponent(String name, LatencyHistogram.Snapshot snapshot, PrintStream out) {
+        out.printf("%-14s %-10d %-11s %-11s %-11s %-11s%n",
+                name,
+                snapshot.getCount(),
+                formatMillis(snapshot.getValueAtPercentile(50)),
+                formatMillis(snapshot.getValueAtPercentile(99)),
+                formatMillis(snapshot.getValueAtPercentile(99.9)),
+                formatMillis(snapshot.getMax()));
+    }
+
+    private void printHttpClientAnalysis(TestSummary summary, PrintStream out) {
+        HttpClientStats stats = summary.getHttpClientStats();
+        if (stats == null) {
+            return;
+        }
+
+        out.println("HTTP CLIENT ANALYSIS");
+        out.println(SUB_SEPARATOR);
+        if (stats.getMaxConnections() > 0) {
+            out.printf("Connection Pool:   %d connections (peak %d leased, %d waiting)%n",
+                    stats.getMaxConnections(), stats.getPeakLeasedConnections(), stats.getPeakPendingAcquires());
+        }
+        out.printf("Pool Saturation:   %.2f%% of requests found no free connection%n", stats.getSaturationRate());
+        out.println();
+
+        out.printf("%-14s %-10s %-11s %-11s %-11s %-11s%n", "Component", "Count", "P50", "P99", "P99.9", "Max");
+        out.println(SUB_SEPARATOR);
+        printLatencyComponent("Pool Acquire", stats.getConnectionAcquire(), out);
+        printLatencyComponent("Service Call", stats.getServiceCall(), out);
+        out.println();
+
+        out.println("HTTP Status Codes:");
+        stats.getStatusCodeCounts().forEach((code, count) -> out.printf("  %-16s %,d%n",
+                code == 0 ? "No response" : String.valueOf(code), count));
+
+        // Requests that wait longer for a connection than DynamoDB takes to answer are client-bound
+        Duration acquireP99 = stats.getConnectionAcquire().getValueAtPercentile(99);
+        Duration serviceCallP99 = stats.getServiceCall().getValueAtPercentile(99);
+        if (stats.getSaturationRate() > 0 && acquireP99.compareTo(serviceCallP99) > 0) {
+            out.println("The connection pool is saturated: requests wait longer for a connection than for");
+            out.println("DynamoDB. Raise the client's maxConcurrency before reading latency as table latency.");
+        }
+        out.println();
+    }
+
+    private void printRetryAmplification(TestSummary summary, PrintStream out) {
+        RetryStats stats = summary.getRetryStats();
+        if (stats == null) {
+            return;
+        }
+
+        out.println("RETRY AMPLIFICATION");
+        out.println(SUB_SEPARATOR);
+        out.printf("Operations:        %,d logical operations%n", stats.getOperations());
+        out.printf("Requests:          %,d (%,d application retries and re-drives)%n",
+                stats.getRequests(), stats.getApplicationRetries());
+        if (stats.getHttpAttempts() > 0) {
+            out.printf("HTTP Requests:     %,d (%,d SDK retries)%n", stats.getHttpAttempts(), stats.getSdkRetries());
+        } else {
+            out.println("HTTP Requests:     not instrumented (SDK retries unknown)");
+        }
+        out.printf("Amplification:     %.2fx physical requests per operation%n", stats.getAmplificationFactor());
+        out.println();
+
+        out.println("Attempts per Operation:");
+        for (int attempts = 1; attempts <= stats.getMaxAttempts(); attempts++) {
+            long operations = stats.getOperationsWithAttempts(attempts);
+            String label = attempts == MetricsCollectionService.MAX_TRACKED_ATTEMPTS ? attempts + "+" : "" + attempts;
+            out.printf("  %-16s %,d (%.2f%%)%n", label, operations, operations * 100.0 / stats.getOperations());
+        }
+
+        Map<String, Long> retriedErrors = stats.getRetriedErrorCounts();
+        if (!retriedErrors.isEmpty()) {
+            out.println("Retried Errors:");
+            retriedErrors.entrySet().stream()
+                    .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
+                    .forEach(entry -> out.printf("  %-16s %,d%n", formatErrorType(entry.getKey()), entry.getValue()));
+        }
+
+        // Every retry of a throttled request spends capacity the table does not have
+        if (stats.getAmplificationFactor() >= 1.5) {
+            out.printf("Retries add %.0f%% to the offered load; throttled retries compete with new requests.%n",
+                    (stats.getAmplificationFactor() - 1) * 100);
+        }
+        out.println("SDK retries happen below the application and are not counted per operation.");
+        out.println();
+    }
+
+    private void printArrivalRateAnalysis(TestSummary summary, PrintStream out) {
+        ConstantRateExecutor.RateStats stats = summary.getArrivalRateStats();
+        if (stats == null) {
+            return;
+        }
+
+        out.println("ARRIVAL RATE (OPEN LOOP)");
+        out.println(SUB_SEPARATOR);
+        out.printf("Target Rate:       %.2f requests/second%n", stats.getTargetRatePerSecond());
+        out.printf("Achieved Rate:     %.2f requests/second (%.1f%% of target)%n",
+                stats.getAchievedRatePerSecond(),
+                stats.getTargetRatePerSecond() > 0
+                        ? stats.getAchievedRatePerSecond() * 100.0 / stats.getTargetRatePerSecond()
+                        : 0.0);
+        out.printf("Sent Requests:     %,d%n", stats.getSentRequests());
+        out.printf("Queued Sends:      %,d (outstanding limit reached)%n", stats.getQueuedRequests());
+        out.printf("Late Sends:        %,d (max lateness %dms)%n",
+                stats.getLateRequests(), stats.getMaxLateness().toMillis());
+        out.println("Response times are measured from the intended send time (coordinated-omission corrected).");
+        out.println();
+    }
+
+    private void printKeyDistributionAnalysis(TestSummary summary, PrintStream out) {
+        KeyedItemSource.KeyUsageStats stats = summary.getKeyUsageStats();
+        if (stats == null) {
+            return;
+        }
+
+        out.println("KEY DISTRIBUTION ANALYSIS");
+        out.println(SUB_SEPARATOR);
+        out.printf("Distribution:      %s%n", stats.getDistribution());
+        out.printf("Key Space:         %,d keys%n", stats.getKeySpaceSize());
+        out.printf("Distinct Keys:     %,d of %,d items (%.2f%% repeated keys)%n",
+                stats.getDistinctKeys(), stats.getGeneratedItems(), stats.getRepeatedKeyPercentage());
+        out.printf("Hottest 1%% Keys:   %.2f%% of items%n", stats.getHottestKeyPercentage());
+        long throttled = throttledOperations(summary.getErrorTypeCounts());
+        out.printf("Throttled:         %,d (%.2f%% of operations)%n",
+                throttled, throttleRate(throttled, summary.getTotalOperations()));
+
+        // Adaptive capacity shows up as throttling that fades in later phases
+        List<PhaseSummary> phases = summary.getPhaseSummaries();
+        if (phases != null && phases.size() > 1) {
+            out.println("Throttling by Phase:");
+            for (PhaseSummary phase : phases) {
+                long phaseThrottled = throttledOperations(phase.getErrorTypeCounts());
+                out.printf("  %-16s %,d (%.2f%%)%n", phase.getName(), phaseThrottled,
+                        throttleRate(phaseThrottled, phase.getTotalOperations()));
+            }
         }
+        out.println("Repeated keys are expected to fail the put condition and count as Duplicate Key errors.");
+        out.println();
+    }
+
+    private void printKeyHeatMap(TestSummary summary, PrintStream out) {
+        KeyHeatMap.Snapshot heat = summary.getKeyHeat();
+        if (heat == null) {
+            return;
+        }
+
+        long throttles = heat.getTotal(KeyHeatMap.Counter.THROTTLES);
+        out.println("KEY HEAT MAP");
+        out.println(SUB_SEPARATOR);
+        out.printf("Key Buckets:       %d hashed buckets%n", heat.getBuckets().size());
+        out.printf("Writes:            %,d (hottest bucket %.2fx the mean)%n",
+                heat.getTotal(KeyHeatMap.Counter.WRITES), heat.getBucketSkew(KeyHeatMap.Counter.WRITES));
+        out.printf("Throttled:         %,d requests (%.1f%% in the hottest bucket)%n",
+                throttles, heat.getHottestBucketShare(KeyHeatMap.Counter.THROTTLES));
+        out.printf("Condition Failed:  %,d%n", heat.getTotal(KeyHeatMap.Counter.CONDITIONAL_FAILURES));
+
+        // Rank by throttling when there is any, so the buckets that caused it come first
+        KeyHeatMap.Counter rankBy = throttles > 0 ? KeyHeatMap.Counter.THROTTLES : KeyHeatMap.Counter.WRITES;
+        out.println();
+        out.println("Hottest Buckets:");
+        out.printf("  %-8s %-12s %-12s %-12s %-12s%n", "Bucket", "Writes", "Throttled", "Throttle %", "Cond. Failed");
+        for (KeyHeatMap.BucketHeat bucket : heat.getHottestBuckets(rankBy, 5)) {
+            out.printf("  %-8d %-12d %-12d %-12s %-12d%n", bucket.getBucket(), bucket.getWrites(),
+                    bucket.getThrottles(),
+                    bucket.getWrites() > 0 ? String.format("%.2f%%", bucket.getThrottles() * 100.0 / bucket.getWrites())
+                            : "-",
+                    bucket.getConditionalFailures());
+        }
+
+        printHotKeys("Hottest Keys:", heat.getTopKeys(KeyHeatMap.Counter.WRITES), out);
+        printHotKeys("Most Throttled Keys:", heat.getTopKeys(KeyHeatMap.Counter.THROTTLES), out);
+        printHotKeys("Most Failed Conditions:", heat.getTopKeys(KeyHeatMap.Counter.CONDITIONAL_FAILURES), out);
+
+        out.println();
+        out.println("Per-key counts are count-min estimates and may be slightly high. Buckets are");
+        out.println("ranges of a key hash standing in for partitions, not DynamoDB's own partitions;");
+        out.println("throttling that stays in one bucket points at a hot key rather than table capacity.");
+        out.println();
+    }
+
+    private static void printHotKeys(String title, List<KeyHeatMap.KeyHeat> keys, PrintStream out) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        out.println();
+        out.println(title);
+        out.printf("  %-32s %-12s %-12s %-12s%n", "Key", "Writes", "Throttled", "Cond. Failed");
+        for (KeyHeatMap.KeyHeat key : keys) {
+            out.printf("  %-32s %-12d %-12d %-12d%n", key.getKey(), key.getWrites(), key.getThrottles(),
+                    key.getConditionalFailures());
+        }
+    }
+
+    private static long throttledOperations(Map<String, Long> errorCounts) {
+        return errorCounts.getOrDefault(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED, 0L)
+                + errorCounts.getOrDefault(TestMetrics.ERROR_TYPE_THROTTLING, 0L);
+    }
+
+    private static double throttleRate(long throttled, long operations) {
+        return operations > 0 ? throttled * 100.0 / operations : 0.0;
+    }
+
+    private void printBatchWriteAnalysis(TestSummary summary, PrintStream out) {
+        BatchWriteStats stats = summary.getBatchWriteStats();
+        if (stats == null) {
+            return;
+        }
+
+        out.println("BATCH WRITE ANALYSIS");
+        out.println(SUB_SEPARATOR);
+        out.printf("Batches:           %,d (%,d failed)%n", stats.getBatches(), stats.getFailedBatches());
+        out.printf("Batched Items:     %,d%n", stats.getBatchedItems());
+        out.printf("Batch Fill Ratio:  %.2f%% (avg %.1f of %d items)%n",
+                stats.getFillRatio(), stats.getAverageBatchSize(), ItemBatcher.MAX_BATCH_ITEMS);
+        out.printf("Unprocessed Rate:  %.2f%% of item writes%n", stats.getUnprocessedRate());
+        out.printf("Re-driven Items:   %,d (%,d re-drive rounds)%n",
+                stats.getRedrivenItems(), stats.getRedriveRounds());
+        out.printf("Never Processed:   %,d (counted as capacity errors)%n", stats.getUnprocessedItems());
+        out.println();
+
+        out.println("Batch Response Time:");
+        out.printf("  Average:         %s%n", formatMillis(stats.getAverageBatchResponseTime()));
+        out.printf("  P50:             %s%n", formatMillis(stats.getP50BatchResponseTime()));
+        out.printf("  P99:             %s%n", formatMillis(stats.getP99BatchResponseTime()));
+        out.printf("  Max:             %s%n", formatMillis(stats.getMaxBatchResponseTime()));
+        out.println("Per-item response times above run until the round that wrote the item completed.");
+        out.println();
+
+        out.printf("Duplicate Items:   %,d submitted%n", stats.getDuplicateItems());
+        out.println("BatchWriteItem cannot use condition expressions, so duplicate keys overwrite the");
+        out.println("existing item and are counted as successes, not as Duplicate Key errors. The");
+        out.println("duplicate count is taken from the generated items, not from DynamoDB responses.");
+        out.println();
+    }
+
+    private void printTransactionAnalysis(TestSummary summary, PrintStream out) {
+        TransactionStats stats = summary.getTransactionStats();
+        if (stats == null) {
+            return;
+        }
+
+        out.println("TRANSACTION ANALYSIS");
+        out.println(SUB_SEPARATOR);
+        out.printf("Transactions:      %,d (avg %.1f items)%n",
+                stats.getTransactions(), stats.getAverageTransactionSize());
+        out.printf("Committed:         %,d (%.2f%%, %,d items)%n",
+                stats.getCommittedTransactions(), stats.getCommitRate(), stats.getCommittedItems());
+        out.printf("Canceled:          %,d (%.2f%%)%n",
+                stats.getCanceledTransactions(), stats.getCancellationRate());
+        out.printf("Failed:            %,d (not canceled, e.g. network errors)%n", stats.getFailedTransactions());
+        out.println();
+
+        if (!stats.getCancellationReasons().isEmpty()) {
+            out.println("Cancellation Reasons (per item that caused a cancellation):");
+            stats.getCancellationReasons().forEach((code, count) -> out.printf("  %-24s %,d%n", code, count));
+            out.println();
+        }
+
+        out.println("Transaction Response Time:");
+        out.printf("  Average:         %s%n", formatMillis(stats.getAverageResponseTime()));
+        out.printf("  P50:             %s%n", formatMillis(stats.getP50ResponseTime()));
+        out.printf("  P99:             %s%n", formatMillis(stats.getP99ResponseTime()));
+        out.printf("  Max:             %s%n", formatMillis(stats.getMaxResponseTime()));
+        out.println("All items of a transaction share its response time. A canceled transaction writes");
+        out.println("none of its items, so every item is counted as a TransactionCanceled error.");
+        out.println();
+    }
+
+    private void printOperationMixAnalysis(TestSummary summary, PrintStream out) {
+        Map<String, OperationStats> operations = summary.getOperationStats();
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        long totalOperations = operations.values().stream().mapToLong(OperationStats::getOperations).sum();
+
+        out.println("OPERATION MIX ANALYSIS");
+        out.println(SUB_SEPARATOR);
+        out.printf("%-10s %-12s %-8s %-12s %-10s %-10s %-10s %-10s %-10s%n",
+                "Operation", "Operations", "Share", "Error Rate", "Avg", "P50", "P99", "Max", "Cap Units");
+        out.println(SUB_SEPARATOR);
+
+        for (OperationStats stats : operations.values()) {
+            out.printf("%-10s %-12d %-8s %-12s %-10s %-10s %-10s %-10s %-10.1f%n",
+                    stats.getOperationType(),
+                    stats.getOperations(),
+                    String.format("%.1f%%", totalOperations > 0 ? stats.getOperations() * 100.0 / totalOperations
+                            : 0.0),
+                    String.format("%.2f%%", stats.getErrorRate()),
+                    formatMillis(stats.getAverageResponseTime()),
+                    formatMillis(stats.getP50ResponseTime()),
+                    formatMillis(stats.getP99ResponseTime()),
+                    formatMillis(stats.getMaxResponseTime()),
+                    stats.getConsumedCapacityUnits());
+        }
+        out.println("Reads target keys written earlier in the run. Cap Units are the read capacity");
+        out.println("DynamoDB reported; write capacity is shown under CONSUMED CAPACITY.");
+        out.println();
+    }
+
+    private void printConsumedCapacity(TestSummary summary, PrintStream out) {
+        CapacityStats capacity = summary.getCapacityStats();
+        if (capacity == null) {
+            return;
+        }
+
+        out.println("CONSUMED CAPACITY");
+        out.println(SUB_SEPARATOR);
+        out.printf("%-14s %-14s %-12s %-12s%n", "Capacity", "Total Units", "Avg Units/s", "Peak Units/s");
+        out.println(SUB_SEPARATOR);
+        out.printf("%-14s %-14.1f %-12.2f %-12.2f%n", "Write (WCU)", capacity.getWriteCapacityUnits(),
+                capacity.getAverageWriteUnitsPerSecond(), capacity.getPeakWriteUnitsPerSecond());
+        out.printf("%-14s %-14.1f %-12.2f %-12.2f%n", "Read (RCU)", capacity.getReadCapacityUnits(),
+                capacity.getAverageReadUnitsPerSecond(), capacity.getPeakReadUnitsPerSecond());
+
+        List<PhaseSummary> phases = summary.getPhaseSummaries();
+        if (phases != null && !phases.isEmpty()) {
+            out.println();
+            out.println("Capacity by Phase:");
+            out.printf("  %-16s %-12s %-12s%n", "Phase", "WCU/s", "RCU/s");
+            for (PhaseSummary phase : phases) {
+                out.printf("  %-16s %-12.2f %-12.2f%n", phase.getName(), phase.getWriteUnitsPerSecond(),
+                        phase.getReadUnitsPerSecond());
+            }
+        }
+
+        out.println();
+        out.printf("Provisioned mode would need at least %.0f WCU and %.0f RCU to sustain the peak%n",
+                Math.ceil(capacity.getPeakWriteUnitsPerSecond()), Math.ceil(capacity.getPeakReadUnitsPerSecond()));
+        out.println("second without throttling. Peaks are per timeline bucket; conditional writes that");
+        out.println("fail consume write capacity DynamoDB does not report.");
         out.println();
     }
 
@@ -162,11 +552,26 @@ public class ReportGenerationService {
         try {
             CostEstimate estimate = costEstimationService.calculateCostEstimate(summary);
 
+            OperationStats puts = summary.getOperationStats().get(WorkloadMix.OperationType.PUT.getLabel());
+            long writeOperations = summary.getOperationStats().isEmpty() ? summary.getTotalSuccesses()
+                    : puts != null ? puts.getSuccesses() : 0;
+            CapacityStats capacity = summary.getCapacityStats();
+
             out.println("AWS Service Costs (US East 1 pricing):");
-            out.printf("  DynamoDB Writes:       %s (%,d operations)%n",
-                    estimate.formatCurrency(estimate.dynamoDbWriteCost), summary.getTotalSuccesses());
-            out.printf("  DynamoDB Reads:        %s (metadata operations)%n",
-                    estimate.formatCurrency(estimate.dynamoDbReadCost));
+            if (capacity != null && capacity.getWriteCapacityUnits() > 0) {
+                out.printf("  DynamoDB Writes:       %s (%,.1f consumed write units)%n",
+                        estimate.formatCurrency(estimate.dynamoDbWriteCost), capacity.getWriteCapacityUnits());
+            } else {
+                out.printf("  DynamoDB Writes:       %s (%,d operations%s)%n",
+                        estimate.formatCurrency(estimate.dynamoDbWriteCost), writeOperations,
+                        summary.getTransactionStats() != null ? ", 2 WCU each in transactions" : "");
+            }
+            out.printf("  DynamoDB Reads:        %s (%s)%n",
+                    estimate.formatCurrency(estimate.dynamoDbReadCost),
+                    capacity != null && capacity.getReadCapacityUnits() > 0
+                            ? String.format("%,.1f consumed read units", capacity.getReadCapacityUnits())
+                            : summary.getOperationStats().isEmpty() ? "metadata operations"
+                                    : "consumed read capacity");
             out.printf("  ECS Fargate Compute:   %s (%.1f vCPU, %.1fGB RAM)%n",
                     estimate.formatCurrency(estimate.ecsComputeCost),
                     Integer.parseInt(System.getProperty("TASK_CPU", "4096")) / 1024.0,
@@ -287,7 +692,7 @@ public class ReportGenerationService {
         if (concurrencyMetrics.isEmpty()) {
             out.println("No concurrency-level metrics available.");
         } else {
-            out.printf("%-12s %-12s %-12s %-12s %-15s%n",
+            out.printf("%-12s %-12s %-13s %-13s %-15s%n",
                     "Concurrency", "Operations", "Success Rate", "Avg Resp Time", "Throughput");
             out.println(SUB_SEPARATOR);
 
@@ -297,17 +702,106 @@ public class ReportGenerationService {
                         int level = entry.getKey();
                         TestMetrics metrics = entry.getValue();
 
-                        out.printf("%-12d %-12d %-12.2f%% %-12dms %-15.2f%n",
+                        out.printf("%-12d %-12d %-12.2f%% %-13s %-15.2f%n",
                                 level,
                                 metrics.getTotalOperations(),
                                 metrics.getSuccessRate(),
-                                (long) metrics.getAverageResponseTimeMs(),
+                                String.format("%.3fms", metrics.getAverageResponseTimeMs()),
                                 metrics.getThroughputPerSecond());
                     });
         }
         out.println();
     }
 
+    private void printPhaseAnalysis(TestSummary summary, PrintStream out) {
+        List<PhaseSummary> phases = summary.getPhaseSummaries();
+        if (phases == null || phases.isEmpty()) {
+            return;
+        }
+
+        out.println("PHASE ANALYSIS");
+        out.println(SUB_SEPARATOR);
+        out.printf("%-16s %-12s %-10s %-12s %-12s %-10s %-10s %-12s%n",
+                "Phase", "Concurrency", "Duration", "Operations", "Error Rate", "Avg Resp", "P99 Resp", "Throughput");
+        out.println(SUB_SEPARATOR);
+
+        for (PhaseSummary phase : phases) {
+            out.printf("%-16s %-12d %-10s %-12d %-12s %-10s %-10s %-12.2f%n",
+                    phase.getName(),
+                    phase.getConcurrency(),
+                    formatDuration(phase.getDuration()),
+                    phase.getTotalOperations(),
+                    String.format("%.2f%%", phase.getErrorRate()),
+                    formatMillis(phase.getAverageResponseTime()),
+                    formatMillis(phase.getP99ResponseTime()),
+                    phase.getThroughputPerSecond());
+        }
+        out.println();
+    }
+
+    private void printTimeline(TestSummary summary, PrintStream out) {
+        List<TimelinePoint> timeline = summary.getTimeline();
+        if (timeline == null || timeline.isEmpty()) {
+            return;
+        }
+
+        // Each row merges consecutive points; its minimum shows dips the average hides
+        int pointsPerRow = (timeline.size() + MAX_TIMELINE_ROWS - 1) / MAX_TIMELINE_ROWS;
+        boolean showCapacity = summary.getCapacityStats() != null;
+        out.println("THROUGHPUT TIMELINE");
+        out.println(SUB_SEPARATOR);
+        out.printf("%-10s %-12s %-12s %-10s %-10s %-10s%s%n",
+                "Time", "Ops/sec", "Min Ops/sec", "Errors", "Throttled", "P99 Resp",
+                showCapacity ? String.format(" %-10s %-10s", "WCU/s", "RCU/s") : "");
+        out.println(SUB_SEPARATOR);
+
+        for (int from = 0; from < timeline.size(); from += pointsPerRow) {
+            List<TimelinePoint> row = timeline.subList(from, Math.min(timeline.size(), from + pointsPerRow));
+            long operations = 0;
+            long errors = 0;
+            long throttled = 0;
+            long durationNanos = 0;
+            double writeUnits = 0;
+            double readUnits = 0;
+            double minThroughput = Double.MAX_VALUE;
+            Duration p99 = Duration.ZERO;
+            for (TimelinePoint point : row) {
+                operations += point.getOperations();
+                errors += point.getErrors();
+                throttled += throttledOperations(point.getErrorTypeCounts());
+                durationNanos += point.getDuration().toNanos();
+                writeUnits += point.getWriteCapacityUnits();
+                readUnits += point.getReadCapacityUnits();
+                minThroughput = Math.min(minThroughput, point.getThroughputPerSecond());
+                if (point.getP99ResponseTime().compareTo(p99) > 0) {
+                    p99 = point.getP99ResponseTime();
+                }
+            }
+            double seconds = durationNanos / 1_000_000_000.0;
+            out.printf("%-10s %-12.2f %-12.2f %-10d %-10d %-10s%s%n",
+                    formatOffset(row.get(0).getOffset()),
+                    seconds > 0 ? operations / seconds : 0.0,
+                    minThroughput,
+                    errors,
+                    throttled,
+                    formatMillis(p99),
+                    showCapacity ? String.format(" %-10.2f %-10.2f", seconds > 0 ? writeUnits / seconds : 0.0,
+                            seconds > 0 ? readUnits / seconds : 0.0) : "");
+        }
+        if (pointsPerRow > 1) {
+            out.printf("Each row covers %d timeline points; P99 Resp is the worst of the row.%n", pointsPerRow);
+        }
+        out.println();
+    }
+
+    private static String formatOffset(Duration offset) {
+        long totalSeconds = offset.getSeconds();
+        if (totalSeconds >= 3600) {
+            return String.format("%d:%02d:%02d", totalSeconds / 3600, (totalSeconds % 3600) / 60, totalSeconds % 60);
+        }
+        return String.format("%02d:%02d", totalSeconds / 60, totalSeconds % 60);
+    }
+
     private void printFooter(PrintStream out) {
         out.println(SEPARATOR);
         out.println("Report generated at: " +
@@ -315,6 +809,11 @@ public class ReportGenerationService {
         out.println(SEPARATOR);
     }
 
+    // Latencies are printed in milliseconds at microsecond resolution
+    private static String formatMillis(Duration value) {
+        return String.format("%.3fms", value.toNanos() / 1_000 / 1000.0);
+    }
+
     private String formatDuration(Duration duration) {
         if (duration == null) {
             return "Unknown";
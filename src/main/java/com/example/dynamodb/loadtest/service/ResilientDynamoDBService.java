@@ -3,14 +3,35 @@ package com.example.dynamodb.loadtest.service;
 import com.example.dynamodb.loadtest.model.TestItem;
 import com.example.dynamodb.loadtest.model.TestMetrics;
 import com.example.dynamodb.loadtest.repository.DynamoDBRepository;
+import com.example.dynamodb.loadtest.service.OperationJournal.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.Duration;
-import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Resilient DynamoDB service that combines circuit breaker pattern and error
@@ -22,16 +43,98 @@ public class ResilientDynamoDBService {
 
     private static final Logger logger = LoggerFactory.getLogger(ResilientDynamoDBService.class);
 
+    // Limited retries for better duplicate error accuracy
+    private static final int MAX_LIMITED_RETRY_ATTEMPTS = 3;
+
+    // Re-drive rounds for items a batch write returns as unprocessed
+    static final int MAX_BATCH_REDRIVE_ROUNDS = 5;
+
+    // Backoff reason of a batch re-drive, which is not caused by an error
+    private static final String UNPROCESSED_ITEMS = "UnprocessedItems";
+
+    // Transaction cancellation reasons attributed to the key heat map
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final Set<String> THROTTLING_CANCELLATION_CODES = Set.of("ThrottlingError",
+            "ProvisionedThroughputExceeded");
+
     private final DynamoDBRepository dynamoDBRepository;
     private final ErrorHandler errorHandler;
     private final CircuitBreaker circuitBreaker;
+    private final MetricsCollectionService metricsCollectionService;
+    private final OperationJournal operationJournal;
+    private final Executor retryExecutor;
 
     public ResilientDynamoDBService(DynamoDBRepository dynamoDBRepository,
             ErrorHandler errorHandler,
             CircuitBreaker circuitBreaker) {
+        this(dynamoDBRepository, errorHandler, circuitBreaker, null);
+    }
+
+    /**
+     * Creates a resilient service that records the service time of every
+     * request attempt, the backoff between attempts and the number of attempts
+     * each operation took.
+     * 
+     * @param dynamoDBRepository       the repository issuing the requests
+     * @param errorHandler             the error categorization and backoff policy
+     * @param circuitBreaker           the circuit breaker of the synchronous paths
+     * @param metricsCollectionService the metrics to record attempts in, or
+     *                                 null to not record them
+     */
+    public ResilientDynamoDBService(DynamoDBRepository dynamoDBRepository,
+            ErrorHandler errorHandler,
+            CircuitBreaker circuitBreaker,
+            MetricsCollectionService metricsCollectionService) {
+        this(dynamoDBRepository, errorHandler, circuitBreaker, metricsCollectionService, Optional.empty());
+    }
+
+    /**
+     * Creates a resilient service that also journals every asynchronous
+     * operation, with its attempts and outcome, when a journal is configured.
+     * 
+     * @param dynamoDBRepository       the repository issuing the requests
+     * @param errorHandler             the error categorization and backoff policy
+     * @param circuitBreaker           the circuit breaker of the synchronous paths
+     * @param metricsCollectionService the metrics to record attempts in, or
+     *                                 null to not record them
+     * @param operationJournal         the journal to append operations to, if
+     *                                 journaling is on
+     */
+    public ResilientDynamoDBService(DynamoDBRepository dynamoDBRepository,
+            ErrorHandler errorHandler,
+            CircuitBreaker circuitBreaker,
+            MetricsCollectionService metricsCollectionService,
+            Optional<OperationJournal> operationJournal) {
+        this(dynamoDBRepository, errorHandler, circuitBreaker, metricsCollectionService, operationJournal,
+                Thread::startVirtualThread);
+    }
+
+    /**
+     * Creates a resilient service that issues retries from the given executor
+     * once their backoff has elapsed.
+     * 
+     * @param dynamoDBRepository       the repository issuing the requests
+     * @param errorHandler             the error categorization and backoff policy
+     * @param circuitBreaker           the circuit breaker of the synchronous paths
+     * @param metricsCollectionService the metrics to record attempts in, or
+     *                                 null to not record them
+     * @param operationJournal         the journal to append operations to, if
+     *                                 journaling is on
+     * @param retryExecutor            the executor retries are issued from
+     */
+    @Autowired
+    public ResilientDynamoDBService(DynamoDBRepository dynamoDBRepository,
+            ErrorHandler errorHandler,
+            CircuitBreaker circuitBreaker,
+            MetricsCollectionService metricsCollectionService,
+            Optional<OperationJournal> operationJournal,
+            @Qualifier("virtualThreadExecutor") Executor retryExecutor) {
         this.dynamoDBRepository = dynamoDBRepository;
         this.errorHandler = errorHandler;
         this.circuitBreaker = circuitBreaker;
+        this.metricsCollectionService = metricsCollectionService;
+        this.operationJournal = operationJournal.orElse(null);
+        this.retryExecutor = retryExecutor;
     }
 
     /**
@@ -43,14 +146,15 @@ public class ResilientDynamoDBService {
      */
     public CompletableFuture<PutItemResponse> putItemWithResilience(TestItem item, TestMetrics metrics) {
         return CompletableFuture.supplyAsync(() -> {
-            Instant startTime = Instant.now();
+            long startNanos = System.nanoTime();
+            AtomicInteger requests = new AtomicInteger();
 
             try {
                 // For local development, try direct execution first to avoid unnecessary
                 // fallbacks
                 PutItemResponse response;
                 try {
-                    response = executeWithRetry(item);
+                    response = executeWithRetry(item, requests);
                     logger.debug("Direct execution successful for item: {}", item.getPrimaryKey());
                 } catch (Exception directException) {
                     logger.debug("Direct execution failed, trying with circuit breaker for item: {}",
@@ -58,13 +162,13 @@ public class ResilientDynamoDBService {
                     // Execute with circuit breaker protection
                     response = circuitBreaker.execute(
                             // Main operation with retry logic
-                            () -> executeWithRetry(item),
+                            () -> executeWithRetry(item, requests),
                             // Fallback operation
                             () -> createFallbackResponse(item));
                 }
 
                 // Record success metrics
-                Duration responseTime = Duration.between(startTime, Instant.now());
+                Duration responseTime = Duration.ofNanos(System.nanoTime() - startNanos);
                 metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
                 metrics.addSuccess();
 
@@ -73,12 +177,14 @@ public class ResilientDynamoDBService {
 
             } catch (Exception e) {
                 // Handle error and update metrics
-                Duration responseTime = Duration.between(startTime, Instant.now());
+                Duration responseTime = Duration.ofNanos(System.nanoTime() - startNanos);
                 metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
                 errorHandler.handleDynamoDBError(e, metrics);
 
                 logger.error("Failed to put item with resilience: {}", item.getPrimaryKey(), e);
                 throw new RuntimeException("Failed to put item: " + item.getPrimaryKey(), e);
+            } finally {
+                recordAttempts(requests);
             }
         });
     }
@@ -86,38 +192,138 @@ public class ResilientDynamoDBService {
     /**
      * Enhanced version with better duplicate error handling and no fallback for
      * accurate counting.
+     * The write path is fully asynchronous: the repository future is composed
+     * with asynchronous retries and a metrics callback, so no thread blocks
+     * waiting for DynamoDB and the common ForkJoinPool is not used.
      * 
      * @param item    the item to put
      * @param metrics the metrics object to update
      * @return CompletableFuture with the put item response
      */
     public CompletableFuture<PutItemResponse> putItemWithEnhancedResilience(TestItem item, TestMetrics metrics) {
-        return CompletableFuture.supplyAsync(() -> {
-            Instant startTime = Instant.now();
+        return putItemWithEnhancedResilience(item, metrics, System.nanoTime());
+    }
 
-            try {
-                // Execute with limited retry for accurate duplicate error counting
-                PutItemResponse response = executeWithLimitedRetry(item);
+    /**
+     * Puts an item like {@link #putItemWithEnhancedResilience(TestItem, TestMetrics)}
+     * for callers that record the outcome themselves, without a per-item
+     * metrics object.
+     * 
+     * @param item the item to put
+     * @return CompletableFuture with the put item response
+     */
+    public CompletableFuture<PutItemResponse> putItemWithEnhancedResilience(TestItem item) {
+        return putItemWithEnhancedResilience(item, null, 0);
+    }
 
-                // Record success metrics
-                Duration responseTime = Duration.between(startTime, Instant.now());
-                metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
-                metrics.addSuccess();
+    private CompletableFuture<PutItemResponse> putItemWithEnhancedResilience(TestItem item, TestMetrics metrics,
+            long startNanos) {
+        return countingAttempts(Operation.PUT, List.of(item.getPrimaryKey()),
+                requests -> putItemWithLimitedRetry(item, 1, requests))
+                .handle((response, throwable) -> {
+                    // Record metrics on the completing thread
+                    if (metrics != null) {
+                        Duration responseTime = Duration.ofNanos(System.nanoTime() - startNanos);
+                        metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
+                    }
 
-                logger.debug("Successfully put item with enhanced resilience: {}", item.getPrimaryKey());
-                return response;
+                    if (throwable == null) {
+                        if (metrics != null) {
+                            metrics.addSuccess();
+                        }
+                        logger.debug("Successfully put item with enhanced resilience: {}", item.getPrimaryKey());
+                        return response;
+                    }
 
-            } catch (Exception e) {
-                // Handle error and update metrics
-                Duration responseTime = Duration.between(startTime, Instant.now());
-                metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
-                errorHandler.handleDynamoDBError(e, metrics);
+                    Exception e = unwrap(throwable);
+                    errorHandler.handleDynamoDBError(e, metrics);
 
-                logger.debug("Failed to put item with enhanced resilience: {} - {}",
-                        item.getPrimaryKey(), errorHandler.categorizeError(e));
-                throw new RuntimeException("Failed to put item: " + item.getPrimaryKey(), e);
-            }
-        });
+                    logger.debug("Failed to put item with enhanced resilience: {} - {}",
+                            item.getPrimaryKey(), errorHandler.categorizeError(e));
+                    throw new CompletionException(
+                            new RuntimeException("Failed to put item: " + item.getPrimaryKey(), e));
+                });
+    }
+
+    /**
+     * Writes up to 25 items with a single BatchWriteItem request. Whole-request
+     * failures are retried like single puts. Items DynamoDB returns as
+     * unprocessed are re-sent with exponential backoff, up to
+     * {@value #MAX_BATCH_REDRIVE_ROUNDS} times. The write path is fully
+     * asynchronous, like {@link #putItemWithEnhancedResilience}.
+     * 
+     * @param items the items to write; primary keys must be unique within the
+     *              batch
+     * @return CompletableFuture with the batch outcome, including any items
+     *         still unprocessed after the last re-drive. It fails only if a
+     *         request fails after its retries.
+     */
+    public CompletableFuture<BatchWriteResult> batchWriteWithRedrive(List<TestItem> items) {
+        List<TestItem> batch = List.copyOf(items);
+        return countingAttempts(Operation.BATCH_WRITE, keysOf(batch),
+                requests -> writeBatchWithRedrive(batch, batch, 0, 0, new long[batch.size()], requests));
+    }
+
+    /**
+     * Writes 2 to 100 items atomically with a single TransactWriteItems request.
+     * Transient failures are retried like single puts. A canceled transaction is
+     * not retried: the cancellation is the outcome under test and is returned
+     * to the caller with its reasons.
+     * 
+     * @param items the items to write; primary keys must be unique within the
+     *              transaction
+     * @return CompletableFuture with the response, failed with the unwrapped
+     *         cause if the transaction was canceled or retries are exhausted
+     */
+    public CompletableFuture<TransactWriteItemsResponse> transactWriteWithResilience(List<TestItem> items) {
+        List<TestItem> transaction = List.copyOf(items);
+        List<String> keys = keysOf(transaction);
+        return countingAttempts(Operation.TRANSACT_WRITE, keys,
+                requests -> withLimitedRetry(() -> dynamoDBRepository.transactWriteItems(transaction),
+                        () -> "transaction of " + transaction.size() + " items", keys, 1, requests));
+    }
+
+    /**
+     * Reads an item with limited retry, for mixed read/write workloads.
+     * 
+     * @param primaryKey the primary key to read
+     * @return CompletableFuture with the response, failed with the unwrapped
+     *         cause once retries are exhausted
+     */
+    public CompletableFuture<GetItemResponse> getItemWithResilience(String primaryKey) {
+        List<String> keys = List.of(primaryKey);
+        return countingAttempts(Operation.GET, keys,
+                requests -> withLimitedRetry(() -> dynamoDBRepository.getItem(primaryKey),
+                        () -> "get " + primaryKey, keys, 1, requests));
+    }
+
+    /**
+     * Reads up to 100 items with a single BatchGetItem request and limited
+     * retry. Unprocessed keys are left in the response for the caller to count.
+     * 
+     * @param primaryKeys the primary keys to read; must be unique
+     * @return CompletableFuture with the response, failed with the unwrapped
+     *         cause once retries are exhausted
+     */
+    public CompletableFuture<BatchGetItemResponse> batchGetWithResilience(List<String> primaryKeys) {
+        List<String> keys = List.copyOf(primaryKeys);
+        return countingAttempts(Operation.BATCH_GET, keys,
+                requests -> withLimitedRetry(() -> dynamoDBRepository.batchGetItems(keys),
+                        () -> "batch get of " + keys.size() + " items", keys, 1, requests));
+    }
+
+    /**
+     * Queries one partition key with limited retry.
+     * 
+     * @param primaryKey the partition key to query
+     * @return CompletableFuture with the response, failed with the unwrapped
+     *         cause once retries are exhausted
+     */
+    public CompletableFuture<QueryResponse> queryWithResilience(String primaryKey) {
+        List<String> keys = List.of(primaryKey);
+        return countingAttempts(Operation.QUERY, keys,
+                requests -> withLimitedRetry(() -> dynamoDBRepository.queryByPartitionKey(primaryKey),
+                        () -> "query " + primaryKey, keys, 1, requests));
     }
 
     /**
@@ -129,14 +335,15 @@ public class ResilientDynamoDBService {
      */
     public CompletableFuture<PutItemResponse> putItemWithCircuitBreaker(TestItem item, TestMetrics metrics) {
         return CompletableFuture.supplyAsync(() -> {
-            Instant startTime = Instant.now();
+            long startNanos = System.nanoTime();
+            AtomicInteger requests = new AtomicInteger();
 
             try {
                 // Execute with circuit breaker protection (no fallback)
-                PutItemResponse response = circuitBreaker.execute(() -> executeWithRetry(item));
+                PutItemResponse response = circuitBreaker.execute(() -> executeWithRetry(item, requests));
 
                 // Record success metrics
-                Duration responseTime = Duration.between(startTime, Instant.now());
+                Duration responseTime = Duration.ofNanos(System.nanoTime() - startNanos);
                 metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
                 metrics.addSuccess();
 
@@ -145,12 +352,14 @@ public class ResilientDynamoDBService {
 
             } catch (Exception e) {
                 // Handle error and update metrics
-                Duration responseTime = Duration.between(startTime, Instant.now());
+                Duration responseTime = Duration.ofNanos(System.nanoTime() - startNanos);
                 metrics.setResponseTime(metrics.getResponseTime().plus(responseTime));
                 errorHandler.handleDynamoDBError(e, metrics);
 
                 logger.error("Failed to put item with circuit breaker: {}", item.getPrimaryKey(), e);
                 throw new RuntimeException("Failed to put item: " + item.getPrimaryKey(), e);
+            } finally {
+                recordAttempts(requests);
             }
         });
     }
@@ -224,14 +433,16 @@ public class ResilientDynamoDBService {
     /**
      * Executes a put item operation with retry logic.
      * 
-     * @param item the item to put
+     * @param item     the item to put
+     * @param requests counts the requests sent
      * @return the put item response
      * @throws Exception if the operation fails after all retries
      */
-    private PutItemResponse executeWithRetry(TestItem item) throws Exception {
+    private PutItemResponse executeWithRetry(TestItem item, AtomicInteger requests) throws Exception {
         return errorHandler.executeWithRetry(() -> {
+            requests.incrementAndGet();
             try {
-                return dynamoDBRepository.putItem(item).get();
+                return issue(() -> dynamoDBRepository.putItem(item)).get();
             } catch (Exception e) {
                 // Unwrap CompletionException if present
                 Throwable cause = e.getCause();
@@ -249,56 +460,297 @@ public class ResilientDynamoDBService {
     /**
      * Executes a put item operation with limited retry for accurate duplicate error
      * counting.
-     * Only retries on network/timeout errors, not on duplicate key errors.
      * 
-     * @param item the item to put
-     * @return the put item response
-     * @throws Exception if the operation fails after all retries
+     * @param item     the item to put
+     * @param attempt  the current attempt number (1-based)
+     * @param requests counts the requests sent
+     * @return CompletableFuture with the put item response, failed with the
+     *         unwrapped cause once retries are exhausted
      */
-    private PutItemResponse executeWithLimitedRetry(TestItem item) throws Exception {
-        int maxAttempts = 3; // Limited retries for better duplicate error accuracy
-        Exception lastException = null;
+    private CompletableFuture<PutItemResponse> putItemWithLimitedRetry(TestItem item, int attempt,
+            AtomicInteger requests) {
+        return withLimitedRetry(() -> dynamoDBRepository.putItem(item), item::getPrimaryKey,
+                List.of(item.getPrimaryKey()), attempt, requests);
+    }
 
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                return dynamoDBRepository.putItem(item).get();
-            } catch (Exception e) {
-                lastException = e;
+    /**
+     * Runs an asynchronous DynamoDB request with limited retry.
+     * Only retries on network/timeout/capacity errors, not on duplicate key
+     * errors. The backoff is scheduled with a delayed executor rather than by
+     * sleeping, and the next attempt is issued from the retry executor, so
+     * retries never queue up behind the single scheduler thread. Each
+     * attempt's service time and each backoff are recorded separately from the
+     * total the caller measures, and each retry is
+     * recorded with the error type that caused it, and throttled attempts and
+     * failed conditions are counted against the keys of the request.
+     * 
+     * @param request     issues one attempt of the request
+     * @param description describes the request for logging and the JFR event;
+     *                    only called when one of them is recorded
+     * @param keys        the primary keys the request involves, in request
+     *                    order
+     * @param attempt     the current attempt number (1-based)
+     * @param requests    counts the requests sent for the logical operation
+     * @param <T>         the response type
+     * @return CompletableFuture with the response, failed with the unwrapped
+     *         cause once retries are exhausted
+     */
+    private <T> CompletableFuture<T> withLimitedRetry(Supplier<CompletableFuture<T>> request,
+            Supplier<String> description, List<String> keys, int attempt, AtomicInteger requests) {
+        requests.incrementAndGet();
+        long attemptStartNanos = System.nanoTime();
+        DynamoDBAttemptEvent attemptEvent = DynamoDBAttemptEvent.begin(attempt);
+        CompletableFuture<T> attemptFuture;
+        try {
+            attemptFuture = issue(request);
+        } catch (Exception e) {
+            attemptFuture = CompletableFuture.failedFuture(e);
+        }
 
-                // Unwrap CompletionException if present
-                Throwable cause = e.getCause();
-                Exception actualException = (cause instanceof Exception) ? (Exception) cause : e;
+        return attemptFuture.handle((response, throwable) -> {
+            if (metricsCollectionService != null) {
+                metricsCollectionService.recordServiceTime(System.nanoTime() - attemptStartNanos);
+            }
+            if (throwable == null) {
+                DynamoDBAttemptEvent.end(attemptEvent, description, null);
+                return CompletableFuture.completedFuture(response);
+            }
 
-                String errorType = errorHandler.categorizeError(actualException);
+            Exception actualException = unwrap(throwable);
+            String errorType = errorHandler.categorizeError(actualException);
+            DynamoDBAttemptEvent.end(attemptEvent, description, errorType);
+            recordKeyErrors(actualException, errorType, keys);
 
-                // Don't retry duplicate key errors - they should be counted accurately
-                if (TestMetrics.ERROR_TYPE_DUPLICATE_KEY.equals(errorType)) {
-                    logger.debug("Duplicate key error detected, not retrying: {}", item.getPrimaryKey());
-                    throw actualException;
+            // Don't retry duplicate key errors - they should be counted accurately
+            if (TestMetrics.ERROR_TYPE_DUPLICATE_KEY.equals(errorType)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Duplicate key error detected, not retrying: {}", description.get());
                 }
+                return CompletableFuture.<T>failedFuture(actualException);
+            }
 
-                // Only retry on network/timeout/capacity errors
-                if (!errorHandler.shouldRetry(actualException, attempt) || attempt >= maxAttempts) {
-                    break;
-                }
+            // Only retry on network/timeout/capacity errors
+            if (!errorHandler.shouldRetry(actualException, attempt) || attempt >= MAX_LIMITED_RETRY_ATTEMPTS) {
+                return CompletableFuture.<T>failedFuture(actualException);
+            }
+
+            Duration delay = errorHandler.calculateBackoff(attempt);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Retry attempt {} for {} after {} ms: {}",
+                        attempt, description.get(), delay.toMillis(), errorType);
+            }
+            if (metricsCollectionService != null) {
+                metricsCollectionService.recordRetry(errorType);
+            }
 
-                Duration delay = errorHandler.calculateBackoff(attempt);
-                logger.debug("Retry attempt {} for item {} after {} ms: {}",
-                        attempt, item.getPrimaryKey(), delay.toMillis(), errorType);
+            return backoff(delay, attempt, errorType,
+                    () -> withLimitedRetry(request, description, keys, attempt + 1, requests));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Writes one batch and re-drives unprocessed items until all of them are
+     * written or the re-drive budget is used up.
+     * 
+     * @param batch          the full batch, as originally submitted
+     * @param pending        the items to write in this round
+     * @param redriveRound   the number of re-drive rounds already done
+     * @param redrivenItems  the number of items re-sent so far
+     * @param completedNanos per-item completion times, index-aligned with batch
+     * @param requests       counts the requests sent, over all rounds
+     * @return CompletableFuture with the outcome of the batch
+     */
+    private CompletableFuture<BatchWriteResult> writeBatchWithRedrive(List<TestItem> batch, List<TestItem> pending,
+            int redriveRound, long redrivenItems, long[] completedNanos, AtomicInteger requests) {
+        return withLimitedRetry(() -> dynamoDBRepository.batchWriteItems(pending),
+                () -> "batch of " + pending.size() + " items", keysOf(pending), 1, requests)
+                .thenCompose(response -> {
+                    long now = System.nanoTime();
+                    Set<String> unprocessedKeys = findUnprocessedKeys(response);
+                    for (int i = 0; i < batch.size(); i++) {
+                        // Items written in an earlier round already have a completion time
+                        if (completedNanos[i] == 0 && !unprocessedKeys.contains(batch.get(i).getPrimaryKey())) {
+                            completedNanos[i] = now;
+                        }
+                    }
+                    List<TestItem> unprocessed = pending.stream()
+                            .filter(item -> unprocessedKeys.contains(item.getPrimaryKey()))
+                            .toList();
+                    // Items come back unprocessed when their partition is throttled
+                    if (metricsCollectionService != null) {
+                        for (TestItem item : unprocessed) {
+                            metricsCollectionService.recordKeyActivity(KeyHeatMap.Counter.THROTTLES,
+                                    item.getPrimaryKey());
+                        }
+                    }
 
-                if (delay.toMillis() > 0) {
-                    try {
-                        Thread.sleep(delay.toMillis());
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Retry interrupted", ie);
+                    if (unprocessed.isEmpty() || redriveRound >= MAX_BATCH_REDRIVE_ROUNDS) {
+                        if (!unprocessed.isEmpty()) {
+                            logger.debug("Giving up on {} unprocessed items after {} re-drive rounds",
+                                    unprocessed.size(), redriveRound);
+                        }
+                        return CompletableFuture.completedFuture(new BatchWriteResult(
+                                batch, completedNanos, unprocessed, redriveRound, redrivenItems));
                     }
+
+                    Duration delay = errorHandler.calculateBackoff(redriveRound + 1);
+                    logger.debug("Re-driving {} unprocessed items after {} ms (round {})",
+                            unprocessed.size(), delay.toMillis(), redriveRound + 1);
+
+                    return backoff(delay, redriveRound + 1, UNPROCESSED_ITEMS,
+                            () -> writeBatchWithRedrive(batch, unprocessed, redriveRound + 1,
+                                    redrivenItems + unprocessed.size(), completedNanos, requests));
+                });
+    }
+
+    /**
+     * Collects the primary keys of the write requests a batch response returned
+     * as unprocessed.
+     */
+    private Set<String> findUnprocessedKeys(BatchWriteItemResponse response) {
+        if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> unprocessedKeys = new HashSet<>();
+        for (List<WriteRequest> writeRequests : response.unprocessedItems().values()) {
+            for (WriteRequest writeRequest : writeRequests) {
+                if (writeRequest.putRequest() != null && writeRequest.putRequest().item().containsKey("pk")) {
+                    unprocessedKeys.add(writeRequest.putRequest().item().get("pk").s());
+                }
+            }
+        }
+        return unprocessedKeys;
+    }
+
+    /**
+     * Runs a logical operation, counting it as in flight until it completes,
+     * and records how many requests it took once it completes, successfully or
+     * not. Writes are counted against every key written. The operation is
+     * journaled, under its first key, from the time it is issued, so time
+     * queued before it is not included.
+     */
+    private <T> CompletableFuture<T> countingAttempts(Operation type, List<String> keys,
+            Function<AtomicInteger, CompletableFuture<T>> operation) {
+        AtomicInteger requests = new AtomicInteger();
+        long startNanos = System.nanoTime();
+        int phaseId = metricsCollectionService != null ? metricsCollectionService.getActivePhaseId() : -1;
+        if (metricsCollectionService != null) {
+            metricsCollectionService.recordOperationIssued();
+            if (type.isWrite()) {
+                for (String key : keys) {
+                    metricsCollectionService.recordKeyActivity(KeyHeatMap.Counter.WRITES, key);
+                }
+            }
+        }
+        CompletableFuture<T> result = operation.apply(requests);
+        if (metricsCollectionService == null && operationJournal == null) {
+            return result;
+        }
+        return result.whenComplete((response, throwable) -> {
+            if (metricsCollectionService != null) {
+                metricsCollectionService.recordOperationCompleted();
+            }
+            recordAttempts(requests);
+            if (operationJournal != null) {
+                String errorType = throwable != null ? errorHandler.categorizeError(unwrap(throwable)) : null;
+                operationJournal.append(type, startNanos, System.nanoTime(), requests.get(), errorType,
+                        phaseId, keys.isEmpty() ? null : keys.get(0));
+            }
+        });
+    }
+
+    /**
+     * Starts one request of a logical operation, so the AWS SDK requests it
+     * sends are counted toward the operation's physical requests.
+     */
+    private <T> CompletableFuture<T> issue(Supplier<CompletableFuture<T>> request) {
+        return metricsCollectionService != null ? metricsCollectionService.issueMeasuredRequest(request)
+                : request.get();
+    }
+
+    private static List<String> keysOf(List<TestItem> items) {
+        return items.stream().map(TestItem::getPrimaryKey).toList();
+    }
+
+    /**
+     * Counts a throttled attempt against every key of the request, and a failed
+     * condition against the key that failed it. A canceled transaction reports
+     * a reason per item, in request order.
+     */
+    private void recordKeyErrors(Exception e, String errorType, List<String> keys) {
+        if (metricsCollectionService == null) {
+            return;
+        }
+        if (TestMetrics.ERROR_TYPE_THROTTLING.equals(errorType)
+                || TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED.equals(errorType)) {
+            for (String key : keys) {
+                metricsCollectionService.recordKeyActivity(KeyHeatMap.Counter.THROTTLES, key);
+            }
+        } else if (TestMetrics.ERROR_TYPE_DUPLICATE_KEY.equals(errorType)) {
+            for (String key : keys) {
+                metricsCollectionService.recordKeyActivity(KeyHeatMap.Counter.CONDITIONAL_FAILURES, key);
+            }
+        } else if (e instanceof TransactionCanceledException canceled && canceled.hasCancellationReasons()) {
+            List<CancellationReason> reasons = canceled.cancellationReasons();
+            for (int i = 0; i < Math.min(reasons.size(), keys.size()); i++) {
+                String code = reasons.get(i).code();
+                if (CONDITIONAL_CHECK_FAILED.equals(code)) {
+                    metricsCollectionService.recordKeyActivity(KeyHeatMap.Counter.CONDITIONAL_FAILURES, keys.get(i));
+                } else if (THROTTLING_CANCELLATION_CODES.contains(code)) {
+                    metricsCollectionService.recordKeyActivity(KeyHeatMap.Counter.THROTTLES, keys.get(i));
                 }
             }
         }
+    }
+
+    private void recordAttempts(AtomicInteger requests) {
+        if (metricsCollectionService != null) {
+            metricsCollectionService.recordAttempts(requests.get());
+        }
+    }
+
+    /**
+     * Waits out a backoff, records how long it actually took, scheduling
+     * delay included, and then issues the next attempt from the retry
+     * executor. The attempt runs inside the delayed task, so it never falls
+     * back to the thread that scheduled the backoff.
+     * 
+     * @param delay   the planned delay
+     * @param attempt the attempt or re-drive round that preceded the backoff
+     * @param reason  the error type that caused it, for the JFR event
+     * @param next    issues the next attempt
+     * @param <T>     the response type
+     * @return CompletableFuture with the outcome of the next attempt
+     */
+    private <T> CompletableFuture<T> backoff(Duration delay, int attempt, String reason,
+            Supplier<CompletableFuture<T>> next) {
+        long backoffStartNanos = System.nanoTime();
+        RetryBackoffEvent backoffEvent = RetryBackoffEvent.begin(attempt, reason, delay.toMillis());
+        Executor afterBackoff = CompletableFuture.delayedExecutor(
+                Math.max(0, delay.toMillis()), TimeUnit.MILLISECONDS, retryExecutor);
+        return CompletableFuture.supplyAsync(() -> {
+            RetryBackoffEvent.end(backoffEvent);
+            if (metricsCollectionService != null) {
+                metricsCollectionService.recordBackoff(System.nanoTime() - backoffStartNanos);
+            }
+            return next.get();
+        }, afterBackoff).thenCompose(Function.identity());
+    }
 
-        throw lastException != null ? lastException
-                : new RuntimeException("Operation failed after " + maxAttempts + " attempts");
+    /**
+     * Unwraps the exception carried by a failed future.
+     * 
+     * @param throwable the failure, possibly wrapped in a CompletionException
+     * @return the underlying exception
+     */
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
     }
 
     /**
@@ -356,4 +808,96 @@ public class ResilientDynamoDBService {
     public CircuitBreaker getCircuitBreaker() {
         return circuitBreaker;
     }
-}
\ No newline at end of file
+
+    /**
+     * Outcome of a batch write after all re-drive rounds.
+     */
+    public static class BatchWriteResult {
+        private final List<TestItem> items;
+        private final long[] completedNanos;
+        private final List<TestItem> unprocessedItems;
+        private final int redriveRounds;
+        private final long redrivenItems;
+
+        public BatchWriteResult(List<TestItem> items, long[] completedNanos, List<TestItem> unprocessedItems,
+                int redriveRounds, long redrivenItems) {
+            this.items = List.copyOf(items);
+            this.completedNanos = completedNanos.clone();
+            this.unprocessedItems = List.copyOf(unprocessedItems);
+            this.redriveRounds = redriveRounds;
+            this.redrivenItems = redrivenItems;
+        }
+
+        /**
+         * Gets the items of the batch, in submission order.
+         * 
+         * @return the batch items
+         */
+        public List<TestItem> getItems() {
+            return items;
+        }
+
+        /**
+         * Gets the {@link System#nanoTime()} at which the request that wrote an
+         * item completed.
+         * 
+         * @param index the index of the item in {@link #getItems()}
+         * @return the completion time, or 0 if the item was never written
+         */
+        public long getCompletedNanos(int index) {
+            return completedNanos[index];
+        }
+
+        /**
+         * Gets the items that were still unprocessed after the last re-drive.
+         * 
+         * @return the items that were not written
+         */
+        public List<TestItem> getUnprocessedItems() {
+            return unprocessedItems;
+        }
+
+        public int getRedriveRounds() {
+            return redriveRounds;
+        }
+
+        /**
+         * Gets the number of items re-sent because DynamoDB returned them as
+         * unprocessed.
+         * 
+         * @return re-sent item count, over all rounds
+         */
+        public long getRedrivenItems() {
+            return redrivenItems;
+        }
+
+        public int getBatchSize() {
+            return items.size();
+        }
+
+        public int getWrittenItems() {
+            return items.size() - unprocessedItems.size();
+        }
+
+        /**
+         * Gets the number of items DynamoDB returned as unprocessed, over all
+         * rounds.
+         * 
+         * @return unprocessed item count, including items re-driven successfully
+         */
+        public long getUnprocessedReturns() {
+            return redrivenItems + unprocessedItems.size();
+        }
+
+        @Override
+        public String toString() {
+            return "BatchWriteResult{" +
+                    "batchSize=" + items.size() +
+                    ", writtenItems=" + getWrittenItems() +
+                    ", unprocessedItems=" + unprocessedItems.size() +
+                    ", redriveRounds=" + redriveRounds +
+                    ", redrivenItems=" + redrivenItems +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.dynamodb.loadtest.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for the wait between two attempts of an operation.
+ * Its duration is the actual wait, scheduling delay included, and the planned
+ * delay is kept alongside it.
+ */
+@Name(RetryBackoffEvent.NAME)
+@Label("Retry Backoff")
+@Category("DynamoDB Load Test")
+@Description("Backoff before retrying a DynamoDB request")
+@StackTrace(false)
+final class RetryBackoffEvent extends Event {
+
+    static final String NAME = "com.example.dynamodb.loadtest.RetryBackoff";
+
+    private static final EventType TYPE = EventType.getEventType(RetryBackoffEvent.class);
+
+    @Label("Attempt")
+    @Description("The attempt that failed")
+    int attempt;
+
+    @Label("Reason")
+    @Description("The error type, or UnprocessedItems for a batch re-drive")
+    String reason;
+
+    @Label("Planned Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedDelay;
+
+    /**
+     * Starts timing a backoff.
+     *
+     * @return the started event, or null if the event is not recorded, so a
+     *         disabled event costs a single check and no allocation
+     */
+    static RetryBackoffEvent begin(int attempt, String reason, long plannedDelayMillis) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        RetryBackoffEvent event = new RetryBackoffEvent();
+        event.attempt = attempt;
+        event.reason = reason;
+        event.plannedDelay = plannedDelayMillis;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a backoff and commits it.
+     *
+     * @param event the event returned by {@link #begin(int, String, long)}
+     */
+    static void end(RetryBackoffEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import com.example.dynamodb.loadtest.util.TestDataGenerator;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Item source that derives every item of a fixed-size run from a seed and the
+ * item's index, instead of generating and shuffling all items up front.
+ * Whether item i is a duplicate, which key a duplicate reuses and the payload
+ * are all computed on demand, so memory use does not depend on the item count,
+ * items can be generated by several workers over disjoint index ranges, and
+ * the same seed reproduces the same run.
+ * Exactly {@code ceil(count * duplicatePercentage / 100)} items are
+ * duplicates, leaving at least one unique item. They are picked with a seeded
+ * permutation of the indexes (a small Feistel network, cycle-walked into the
+ * index range), which scatters them over the run like a shuffle would. The
+ * first item is always unique, and a duplicate reuses the key of a unique item
+ * earlier in the run, so in a sequential run the unique item is written first
+ * and the duplicate is the conditional put that fails.
+ */
+public class SeededItemSource implements Iterable<TestItem> {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final int FEISTEL_ROUNDS = 4;
+
+    // Random draws for an earlier unique item before falling back to a scan
+    private static final int MAX_TARGET_DRAWS = 16;
+
+    private final long seed;
+    private final long itemCount;
+    private final long duplicateCount;
+    private final int payloadSize;
+    private final String keyPrefix;
+
+    // Feistel permutation over [0, 2^(2 * halfBits)), covering [0, itemCount)
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[FEISTEL_ROUNDS];
+
+    // Unique item that is made a duplicate in place of the first item, or -1
+    private final long swappedIndex;
+
+    /**
+     * Creates a source.
+     *
+     * @param seed                the seed all items are derived from
+     * @param itemCount           the number of items in the run
+     * @param duplicatePercentage the percentage of items reusing another key
+     * @param payloadSize         the payload size in characters
+     */
+    public SeededItemSource(long seed, long itemCount, double duplicatePercentage, int payloadSize) {
+        if (itemCount < 0 || itemCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Item count must be between 0 and " + Integer.MAX_VALUE
+                    + ", was " + itemCount);
+        }
+        this.seed = seed;
+        this.itemCount = itemCount;
+        this.duplicateCount = duplicatePercentage > 0 && itemCount > 0
+                ? Math.min(itemCount - 1, (long) Math.ceil(itemCount * (duplicatePercentage / 100.0)))
+                : 0;
+        this.payloadSize = Math.max(0, payloadSize);
+        this.keyPrefix = "test-item-" + Long.toHexString(seed) + "-";
+
+        int bits = 64 - Long.numberOfLeadingZeros(Math.max(1, itemCount - 1));
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+            roundKeys[round] = mix(seed + (round + 1) * GOLDEN_GAMMA);
+        }
+        // A duplicate first item would have no earlier key to reuse: swap its
+        // role with the first unique position
+        this.swappedIndex = itemCount > 0 && position(0) < duplicateCount ? indexAt(duplicateCount) : -1;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Checks whether an item reuses the key of another item.
+     *
+     * @param index the item index, in [0, item count)
+     * @return true if the item is a duplicate
+     */
+    public boolean isDuplicate(long index) {
+        checkIndex(index);
+        if (index == 0 || index == swappedIndex) {
+            return index == swappedIndex;
+        }
+        return position(index) < duplicateCount;
+    }
+
+    /**
+     * Gets the index of the item whose key an item reuses.
+     *
+     * @param index the item index, in [0, item count)
+     * @return the index of an earlier unique item for duplicates, the index
+     *         itself for unique items
+     */
+    public long targetIndexAt(long index) {
+        if (!isDuplicate(index)) {
+            return index;
+        }
+        long draw = mix(seed ^ mix(index));
+        for (int attempt = 0; attempt < MAX_TARGET_DRAWS; attempt++) {
+            long candidate = Math.floorMod(draw, index);
+            if (!isDuplicate(candidate)) {
+                return candidate;
+            }
+            draw = mix(draw + GOLDEN_GAMMA);
+        }
+        // Mostly duplicates below this index: take the closest earlier unique
+        // item; the first item is always unique
+        long candidate = index - 1;
+        while (isDuplicate(candidate)) {
+            candidate--;
+        }
+        return candidate;
+    }
+
+    /**
+     * Derives the primary key of an item. Unique items get a key of their own;
+     * duplicates get the key of an earlier unique item picked from the seed.
+     *
+     * @param index the item index, in [0, item count)
+     * @return the primary key
+     */
+    public String keyAt(long index) {
+        return keyPrefix + targetIndexAt(index);
+    }
+
+    /**
+     * Derives the item at an index. The result only depends on the seed, the
+     * source parameters and the index, so this is safe to call from several
+     * threads.
+     *
+     * @param index the item index, in [0, item count)
+     * @return a new item
+     */
+    public TestItem itemAt(long index) {
+        boolean isDuplicate = isDuplicate(index);
+        TestItem item = new TestItem(keyAt(index), payloadAt(index));
+        item.addAttribute("item_index", index);
+        item.addAttribute("is_duplicate", isDuplicate);
+        item.addAttribute("generation_time", Instant.now().toString());
+        item.addAttribute("expected_result", isDuplicate ? "DUPLICATE_ERROR" : "SUCCESS");
+        return item;
+    }
+
+    @Override
+    public Iterator<TestItem> iterator() {
+        return iterator(0, itemCount);
+    }
+
+    /**
+     * Iterates over a range of items, e.g. the share of one worker. The
+     * iterator is also a {@link ConcurrentSource}: lanes claim indexes with an
+     * atomic cursor and build their items in parallel.
+     *
+     * @param fromIndex the first item index, inclusive
+     * @param toIndex   the last item index, exclusive
+     * @return an iterator generating the items lazily
+     */
+    public Iterator<TestItem> iterator(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > itemCount || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") outside [0, " + itemCount + ")");
+        }
+        return new RangeIterator(fromIndex, toIndex);
+    }
+
+    /**
+     * Iterator over an index range that claims indexes atomically, so it can be
+     * shared by concurrent lanes without a lock.
+     */
+    private final class RangeIterator implements Iterator<TestItem>, ConcurrentSource<TestItem> {
+        private final AtomicLong next;
+        private final long toIndex;
+
+        private RangeIterator(long fromIndex, long toIndex) {
+            this.next = new AtomicLong(fromIndex);
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next.get() < toIndex;
+        }
+
+        @Override
+        public TestItem next() {
+            TestItem item = poll();
+            if (item == null) {
+                throw new NoSuchElementException("No more items in range");
+            }
+            return item;
+        }
+
+        @Override
+        public TestItem poll() {
+            // Only the claim is shared; the item is built by the claiming thread
+            long index = next.getAndIncrement();
+            return index < toIndex ? itemAt(index) : null;
+        }
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= itemCount) {
+            throw new IndexOutOfBoundsException("Item index " + index + " outside [0, " + itemCount + ")");
+        }
+    }
+
+    private String payloadAt(long index) {
+        return TestDataGenerator.payloadAt(mix(seed ^ (index * GOLDEN_GAMMA)), payloadSize);
+    }
+
+    // Cycle walking: values outside the index range are permuted again until
+    // they land inside it, which keeps the mapping a bijection on [0, itemCount)
+    private long position(long index) {
+        long value = index;
+        do {
+            value = feistel(value);
+        } while (value >= itemCount);
+        return value;
+    }
+
+    private long indexAt(long position) {
+        long value = position;
+        do {
+            value = inverseFeistel(value);
+        } while (value >= itemCount);
+        return value;
+    }
+
+    private long feistel(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+            long next = left ^ (mix(right ^ roundKeys[round]) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long inverseFeistel(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (int round = FEISTEL_ROUNDS - 1; round >= 0; round--) {
+            long previous = right ^ (mix(left ^ roundKeys[round]) & halfMask);
+            right = left;
+            left = previous;
+        }
+        return (left << halfBits) | right;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.dynamodb.loadtest.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Streaming executor that pulls work items lazily from a source and keeps a
+ * fixed number of operations in flight.
+ * The executor runs one lane per concurrency slot. A lane only takes the next
+ * item from the source once its previous operation has completed, so memory
+ * usage depends on the concurrency level rather than on the number of items.
+ * Timed operations also receive the time their lane became free, taken
+ * before the item was polled, so waiting for the source counts as queue wait.
+ * A source that is a {@link ConcurrentSource} is polled without a lock, so
+ * lanes build their items in parallel. Any other source is polled under a
+ * lock, which does not pin the carrier of a virtual thread.
+ *
+ * @param <T> the type of work item
+ */
+public class StreamingLoadExecutor<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingLoadExecutor.class);
+
+    private final Iterator<T> source;
+    private final ConcurrentSource<T> concurrentSource;
+    private final ReentrantLock sourceLock = new ReentrantLock();
+    private final int concurrency;
+    private final TimedOperation<T> operation;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AtomicInteger activeLanes;
+    private final AtomicLong issuedOperations = new AtomicLong(0);
+    private final AtomicLong completedOperations = new AtomicLong(0);
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    /**
+     * Creates a new streaming executor.
+     *
+     * @param source      the source of work items, consumed lazily
+     * @param concurrency the number of operations to keep in flight
+     * @param operation   the asynchronous operation to run for each item
+     */
+    public StreamingLoadExecutor(Iterator<T> source, int concurrency, Function<T, CompletableFuture<?>> operation) {
+        this(source, concurrency, (TimedOperation<T>) (item, readyNanos) -> operation.apply(item));
+    }
+
+    /**
+     * Creates a new streaming executor for a timed operation.
+     *
+     * @param source      the source of work items, consumed lazily
+     * @param concurrency the number of operations to keep in flight
+     * @param operation   the asynchronous operation to run for each item, given
+     *                    the time its lane became free
+     */
+    @SuppressWarnings("unchecked")
+    public StreamingLoadExecutor(Iterator<T> source, int concurrency, TimedOperation<T> operation) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, was " + concurrency);
+        }
+        this.source = source;
+        this.concurrentSource = source instanceof ConcurrentSource<?> ? (ConcurrentSource<T>) source : null;
+        this.concurrency = concurrency;
+        this.operation = operation;
+        this.activeLanes = new AtomicInteger(concurrency);
+    }
+
+    /**
+     * Convenience method that creates an executor and starts it.
+     *
+     * @param source      the source of work items
+     * @param concurrency the number of operations to keep in flight
+     * @param operation   the asynchronous operation to run for each item
+     * @param <T>         the type of work item
+     * @return CompletableFuture that completes when the source is exhausted and
+     *         all operations have finished
+     */
+    public static <T> CompletableFuture<Void> run(Iterator<T> source, int concurrency,
+            Function<T, CompletableFuture<?>> operation) {
+        return new StreamingLoadExecutor<>(source, concurrency, operation).start();
+    }
+
+    /**
+     * Convenience method that creates an executor for a timed operation and
+     * starts it.
+     *
+     * @param source      the source of work items
+     * @param concurrency the number of operations to keep in flight
+     * @param operation   the asynchronous operation to run for each item, given
+     *                    the time its lane became free
+     * @param <T>         the type of work item
+     * @return CompletableFuture that completes when the source is exhausted and
+     *         all operations have finished
+     */
+    public static <T> CompletableFuture<Void> run(Iterator<T> source, int concurrency,
+            TimedOperation<T> operation) {
+        return new StreamingLoadExecutor<>(source, concurrency, operation).start();
+    }
+
+    /**
+     * Starts all lanes. Each lane issues its first operation right away, so the
+     * first request goes out without waiting for the rest of the source.
+     *
+     * @return CompletableFuture that completes when the source is exhausted and
+     *         all operations have finished. It completes exceptionally with the
+     *         first operation failure, after all other operations have finished.
+     */
+    public CompletableFuture<Void> start() {
+        for (int lane = 0; lane < concurrency; lane++) {
+            runLane();
+        }
+        return completion;
+    }
+
+    /**
+     * Gets the number of operations issued so far.
+     *
+     * @return issued operation count
+     */
+    public long getIssuedOperations() {
+        return issuedOperations.get();
+    }
+
+    /**
+     * Gets the number of operations completed so far.
+     *
+     * @return completed operation count
+     */
+    public long getCompletedOperations() {
+        return completedOperations.get();
+    }
+
+    /**
+     * Gets the number of operations currently in flight.
+     *
+     * @return in-flight operation count
+     */
+    public long getInFlightOperations() {
+        return issuedOperations.get() - completedOperations.get();
+    }
+
+    /**
+     * Runs a lane until it has to wait for an asynchronous completion.
+     * Operations that complete synchronously are handled in a loop rather than
+     * through callbacks, so long runs of fast operations do not grow the stack.
+     */
+    private void runLane() {
+        while (true) {
+            long readyNanos = System.nanoTime();
+            T item = pollNext();
+            if (item == null) {
+                laneFinished();
+                return;
+            }
+
+            CompletableFuture<?> future = issue(item, readyNanos);
+            if (!future.isDone()) {
+                future.whenComplete((result, throwable) -> {
+                    onOperationComplete(throwable);
+                    runLane();
+                });
+                return;
+            }
+
+            onOperationComplete(captureFailure(future));
+        }
+    }
+
+    private CompletableFuture<?> issue(T item, long readyNanos) {
+        issuedOperations.incrementAndGet();
+        try {
+            CompletableFuture<?> future = operation.apply(item, readyNanos);
+            return future != null ? future : CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private T pollNext() {
+        if (concurrentSource != null) {
+            return concurrentSource.poll();
+        }
+        sourceLock.lock();
+        try {
+            return source.hasNext() ? source.next() : null;
+        } finally {
+            sourceLock.unlock();
+        }
+    }
+
+    private void onOperationComplete(Throwable throwable) {
+        completedOperations.incrementAndGet();
+        if (throwable != null && firstFailure.compareAndSet(null, throwable)) {
+            logger.debug("First operation failure recorded by streaming executor: {}", throwable.getMessage());
+        }
+    }
+
+    private void laneFinished() {
+        if (activeLanes.decrementAndGet() == 0) {
+            Throwable failure = firstFailure.get();
+            if (failure != null) {
+                completion.completeExceptionally(failure);
+            } else {
+                completion.complete(null);
+            }
+        }
+    }
+
+    private static Throwable captureFailure(CompletableFuture<?> future) {
+        if (!future.isCompletedExceptionally()) {
+            return null;
+        }
+        try {
+            future.join();
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    /**
+     * Asynchronous operation that is told when its lane became free.
+     *
+     * @param <T> the type of work item
+     */
+    @FunctionalInterface
+    public interface TimedOperation<T> {
+
+        /**
+         * Starts the operation for an item.
+         *
+         * @param item       the work item
+         * @param readyNanos the {@link System#nanoTime()} at which the lane
+         *                   became free, before the item was polled
+         * @return CompletableFuture that completes when the operation is done
+         */
+        CompletableFuture<?> apply(T item, long readyNanos);
+    }
+}
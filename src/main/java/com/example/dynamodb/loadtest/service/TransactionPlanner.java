@@ -0,0 +1,138 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Groups a stream of items into TransactWriteItems transactions and shapes
+ * how the transactions contend with each other.
+ * With the overlap probability, one item of a transaction is moved onto one of
+ * a small pool of shared keys. Concurrent transactions touching the same
+ * shared key collide, which DynamoDB reports as TransactionConflict.
+ * With the conflict probability, one item reuses the key of an item planned in
+ * an earlier transaction, so its put condition fails and the transaction is
+ * canceled with ConditionalCheckFailed. The reused key only exists if that
+ * earlier transaction committed, so the configured conflict rate is an upper
+ * bound on the conditional check failures actually seen.
+ * Items are pulled from the source only when a transaction is built.
+ */
+public class TransactionPlanner implements Iterator<List<TestItem>> {
+
+    // TransactWriteItems limit
+    public static final int MAX_TRANSACTION_ITEMS = 100;
+
+    // Item attribute marking a put on a shared key, written without condition
+    public static final String SHARED_KEY_ATTRIBUTE = "shared_key";
+
+    // Number of shared keys overlapping transactions are spread over
+    static final int SHARED_KEY_POOL_SIZE = 16;
+    static final String SHARED_KEY_PREFIX = "test-item-shared-";
+
+    // Number of recently planned keys kept as conflict candidates
+    private static final int RECENT_KEY_CAPACITY = 1024;
+
+    private final Iterator<TestItem> source;
+    private final int transactionSize;
+    private final double overlapRatio;
+    private final double conflictRatio;
+    private final Random random;
+    private final String[] recentKeys = new String[RECENT_KEY_CAPACITY];
+    private long plannedKeyCount;
+    private TestItem carryOver;
+
+    /**
+     * Creates a planner.
+     *
+     * @param source              the items to group, consumed lazily; keys are
+     *                            expected to be unique
+     * @param transactionSize     the number of items per transaction (2 to 100)
+     * @param overlapPercentage   the percentage of transactions that write a
+     *                            shared key
+     * @param conflictPercentage  the percentage of transactions that reuse an
+     *                            earlier key
+     */
+    public TransactionPlanner(Iterator<TestItem> source, int transactionSize, double overlapPercentage,
+            double conflictPercentage) {
+        this(source, transactionSize, overlapPercentage, conflictPercentage, new Random());
+    }
+
+    TransactionPlanner(Iterator<TestItem> source, int transactionSize, double overlapPercentage,
+            double conflictPercentage, Random random) {
+        if (transactionSize < 2 || transactionSize > MAX_TRANSACTION_ITEMS) {
+            throw new IllegalArgumentException(
+                    "Transaction size must be between 2 and " + MAX_TRANSACTION_ITEMS + ", was " + transactionSize);
+        }
+        this.source = source;
+        this.transactionSize = transactionSize;
+        this.overlapRatio = overlapPercentage / 100.0;
+        this.conflictRatio = conflictPercentage / 100.0;
+        this.random = random;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return carryOver != null || source.hasNext();
+    }
+
+    @Override
+    public List<TestItem> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more items to plan");
+        }
+
+        List<TestItem> transaction = new ArrayList<>(transactionSize);
+        Set<String> keys = new HashSet<>();
+
+        while (transaction.size() < transactionSize && (carryOver != null || source.hasNext())) {
+            TestItem item = carryOver != null ? carryOver : source.next();
+            carryOver = null;
+
+            // A transaction cannot write the same key twice
+            if (keys.contains(item.getPrimaryKey())) {
+                carryOver = item;
+                break;
+            }
+            transaction.add(item);
+            keys.add(item.getPrimaryKey());
+        }
+
+        // Conflict candidates are taken before this transaction's keys are added
+        if (transaction.size() > 1 && plannedKeyCount > 0 && random.nextDouble() < conflictRatio) {
+            String reusedKey = recentKeys[random.nextInt((int) Math.min(plannedKeyCount, RECENT_KEY_CAPACITY))];
+            if (keys.add(reusedKey)) {
+                TestItem conflicting = transaction.get(transaction.size() - 1);
+                keys.remove(conflicting.getPrimaryKey());
+                conflicting.setPrimaryKey(reusedKey);
+                conflicting.addAttribute("is_duplicate", true);
+                conflicting.addAttribute("expected_result", "DUPLICATE_ERROR");
+            }
+        }
+
+        if (random.nextDouble() < overlapRatio) {
+            String sharedKey = SHARED_KEY_PREFIX + random.nextInt(SHARED_KEY_POOL_SIZE);
+            TestItem overlapping = transaction.get(0);
+            if (!keys.contains(sharedKey) && !Boolean.TRUE.equals(overlapping.getAttribute("is_duplicate"))) {
+                keys.remove(overlapping.getPrimaryKey());
+                keys.add(sharedKey);
+                overlapping.setPrimaryKey(sharedKey);
+                overlapping.addAttribute(SHARED_KEY_ATTRIBUTE, true);
+            }
+        }
+
+        for (TestItem item : transaction) {
+            if (!Boolean.TRUE.equals(item.getAttribute("is_duplicate"))
+                    && !Boolean.TRUE.equals(item.getAttribute(SHARED_KEY_ATTRIBUTE))) {
+                recentKeys[(int) (plannedKeyCount++ % RECENT_KEY_CAPACITY)] = item.getPrimaryKey();
+            }
+        }
+
+        return transaction;
+    }
+}
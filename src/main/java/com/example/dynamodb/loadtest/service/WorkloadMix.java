@@ -0,0 +1,158 @@
+package com.example.dynamodb.loadtest.service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Weighted selector over the operation types of a mixed read/write workload.
+ * A mix is parsed from a specification such as {@code put:20,get:70,query:10};
+ * each operation is picked with probability weight / total weight.
+ */
+public final class WorkloadMix {
+
+    /**
+     * Operation types a mixed workload can issue.
+     */
+    public enum OperationType {
+        PUT("put"),
+        GET("get"),
+        BATCH_GET("batch-get"),
+        QUERY("query");
+
+        private final String label;
+
+        OperationType(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the name used in configuration and reports.
+         *
+         * @return the operation label
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isRead() {
+            return this != PUT;
+        }
+
+        static OperationType fromLabel(String label) {
+            for (OperationType type : values()) {
+                if (type.label.equals(label)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation type: " + label);
+        }
+    }
+
+    private final Map<OperationType, Integer> weights;
+    private final OperationType[] types;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private WorkloadMix(Map<OperationType, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+        this.types = weights.keySet().toArray(new OperationType[0]);
+        this.cumulativeWeights = new int[types.length];
+        int total = 0;
+        for (int i = 0; i < types.length; i++) {
+            total += weights.get(types[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Parses a mix specification of comma-separated {@code operation:weight}
+     * pairs. Operations may appear at most once; weights of 0 are allowed as
+     * long as the total is positive.
+     *
+     * @param specification the mix, e.g. {@code put:20,get:80}
+     * @return the parsed mix
+     * @throws IllegalArgumentException if the specification is malformed
+     */
+    public static WorkloadMix parse(String specification) {
+        if (specification == null || specification.isBlank()) {
+            throw new IllegalArgumentException("Workload mix cannot be empty");
+        }
+
+        Map<OperationType, Integer> weights = new EnumMap<>(OperationType.class);
+        for (String entry : specification.replace(" ", "").toLowerCase().split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workload mix entry: " + entry);
+            }
+            OperationType type = OperationType.fromLabel(parts[0]);
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in workload mix entry: " + entry, e);
+            }
+            if (weight < 0 || weights.put(type, weight) != null) {
+                throw new IllegalArgumentException("Invalid or repeated workload mix entry: " + entry);
+            }
+        }
+
+        long total = weights.values().stream().mapToLong(Integer::longValue).sum();
+        if (total <= 0 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Workload mix weights must add up to a positive value");
+        }
+        return new WorkloadMix(weights);
+    }
+
+    /**
+     * Picks an operation for a uniformly distributed value.
+     *
+     * @param uniform a value in [0.0, 1.0), e.g. from
+     *                {@link java.util.concurrent.ThreadLocalRandom}
+     * @return the selected operation type
+     */
+    public OperationType select(double uniform) {
+        int point = (int) (uniform * totalWeight);
+        for (int i = 0; i < types.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+
+    /**
+     * Gets the configured weight per operation type.
+     *
+     * @return weights in operation type order
+     */
+    public Map<OperationType, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Calculates the share of operations that are reads.
+     *
+     * @return read share (0.0 to 100.0)
+     */
+    public double getReadPercentage() {
+        int reads = weights.entrySet().stream()
+                .filter(entry -> entry.getKey().isRead())
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        return reads * 100.0 / totalWeight;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        weights.forEach((type, weight) -> {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(type.getLabel()).append(':').append(weight);
+        });
+        return sb.toString();
+    }
+}
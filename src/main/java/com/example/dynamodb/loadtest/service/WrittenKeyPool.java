@@ -0,0 +1,87 @@
+package com.example.dynamodb.loadtest.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size pool of primary keys written during the run, used as read
+ * targets in mixed workloads. Once full, new keys overwrite the oldest ones,
+ * so memory use does not grow with run length and reads favour recent writes.
+ */
+public class WrittenKeyPool {
+
+    // Number of written keys kept as read targets
+    static final int DEFAULT_CAPACITY = 100_000;
+
+    private final AtomicReferenceArray<String> keys;
+    private final AtomicLong added = new AtomicLong(0);
+
+    public WrittenKeyPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    WrittenKeyPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, was " + capacity);
+        }
+        this.keys = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Adds a key that was written successfully.
+     *
+     * @param key the primary key
+     */
+    public void add(String key) {
+        long position = added.getAndIncrement();
+        keys.set((int) (position % keys.length()), key);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return (int) Math.min(added.get(), keys.length());
+    }
+
+    /**
+     * Picks a random retained key.
+     *
+     * @return a written key, or null if none is available yet
+     */
+    public String randomKey() {
+        int size = size();
+        if (size == 0) {
+            return null;
+        }
+        // A slot can still be empty while its writer is between the two updates
+        String key = keys.get(ThreadLocalRandom.current().nextInt(size));
+        return key != null ? key : keys.get(0);
+    }
+
+    /**
+     * Picks up to {@code count} distinct random keys, as BatchGetItem rejects
+     * repeated keys. Fewer keys are returned if the pool is small.
+     *
+     * @param count the number of keys wanted
+     * @return distinct written keys, empty if none was written yet
+     */
+    public List<String> randomKeys(int count) {
+        int wanted = Math.min(count, size());
+        Set<String> picked = new HashSet<>();
+        // Bounded attempts, so a pool with many repeated keys cannot spin
+        for (int attempt = 0; attempt < wanted * 4 && picked.size() < wanted; attempt++) {
+            String key = randomKey();
+            if (key != null) {
+                picked.add(key);
+            }
+        }
+        return new ArrayList<>(picked);
+    }
+}
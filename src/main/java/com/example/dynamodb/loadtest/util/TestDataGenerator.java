@@ -0,0 +1,113 @@
+package com.example.dynamodb.loadtest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Utility class for generating test item data on the load generation hot path.
+ * Payloads are slices of a pool of random characters filled once at startup,
+ * so a payload costs one array copy instead of one random draw per character.
+ * Random numbers come from a {@link SplittableRandom} per thread, seeded from
+ * the thread id, so generator threads never contend on a shared random source
+ * or lock, not even when their generator is created.
+ */
+public class TestDataGenerator {
+
+    /**
+     * Characters payloads are made of.
+     */
+    public static final String PAYLOAD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    /**
+     * Size of the random character pool payloads are sliced from (1 MB).
+     */
+    public static final int POOL_SIZE = 1 << 20;
+
+    // Fixed seed, so seeded payloads are the same in every JVM
+    private static final long POOL_SEED = 0x5eed_da7aL;
+
+    private static final byte[] POOL = fillPool();
+
+    // Per-JVM seed the per-thread generators are derived from
+    private static final long THREAD_SEED_BASE = mix(System.nanoTime() ^ System.identityHashCode(POOL));
+
+    // Each thread's generator is seeded from its own id, without any shared state
+    private static final ThreadLocal<SplittableRandom> THREAD_RANDOM = ThreadLocal.withInitial(
+            () -> new SplittableRandom(mix(THREAD_SEED_BASE ^ Thread.currentThread().threadId())));
+
+    private TestDataGenerator() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Gets the random generator of the calling thread. It must not be shared
+     * with other threads.
+     *
+     * @return the thread's random generator
+     */
+    public static SplittableRandom threadRandom() {
+        return THREAD_RANDOM.get();
+    }
+
+    /**
+     * Generates a payload of random characters.
+     *
+     * @param length the payload length in characters
+     * @return the payload, empty if the length is not positive
+     */
+    public static String randomPayload(int length) {
+        if (length <= 0) {
+            return "";
+        }
+        return slice(threadRandom().nextLong(), length);
+    }
+
+    /**
+     * Derives a payload from a value, e.g. a hash of a seed and an item index.
+     * The same value always gives the same payload.
+     *
+     * @param value  the value the payload is derived from
+     * @param length the payload length in characters
+     * @return the payload, empty if the length is not positive
+     */
+    public static String payloadAt(long value, int length) {
+        if (length <= 0) {
+            return "";
+        }
+        return slice(value, length);
+    }
+
+    private static String slice(long value, int length) {
+        if (length <= POOL_SIZE) {
+            int offset = (int) Math.floorMod(value, (long) POOL_SIZE - length + 1);
+            // Pool characters are ASCII, so this copies the bytes without decoding
+            return new String(POOL, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] payload = new byte[length];
+        int offset = (int) Math.floorMod(value, (long) POOL_SIZE);
+        for (int filled = 0; filled < length;) {
+            int chunk = Math.min(length - filled, POOL_SIZE - offset);
+            System.arraycopy(POOL, offset, payload, filled, chunk);
+            filled += chunk;
+            offset = 0;
+        }
+        return new String(payload, StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] fillPool() {
+        SplittableRandom random = new SplittableRandom(POOL_SEED);
+        byte[] pool = new byte[POOL_SIZE];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = (byte) PAYLOAD_CHARS.charAt(random.nextInt(PAYLOAD_CHARS.length()));
+        }
+        return pool;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.dynamodb.loadtest.service.LoadTestService;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
 import com.example.dynamodb.loadtest.service.ReportGenerationService;
 import com.example.dynamodb.loadtest.service.AccurateDuplicateCounter;
+import com.example.dynamodb.loadtest.service.ProgressReporter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -37,6 +38,9 @@ class LoadTestApplicationIntegrationTest {
         @Mock
         private AccurateDuplicateCounter accurateDuplicateCounter;
 
+        @Mock
+        private ProgressReporter progressReporter;
+
         @Test
         void testApplicationStartupAndExecution() throws Exception {
                 // Arrange
@@ -49,7 +53,8 @@ class LoadTestApplicationIntegrationTest {
                                 .thenReturn(CompletableFuture.completedFuture(testSummary));
 
                 LoadTestApplication application = new LoadTestApplication(
-                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter);
+                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter,
+                                progressReporter);
 
                 // Act
                 assertDoesNotThrow(() -> application.run());
@@ -69,7 +74,8 @@ class LoadTestApplicationIntegrationTest {
                 when(configurationManager.loadConfiguration()).thenReturn(failedFuture);
 
                 LoadTestApplication application = new LoadTestApplication(
-                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter);
+                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter,
+                                progressReporter);
 
                 // Act & Assert
                 Exception exception = assertThrows(Exception.class, () -> application.run());
@@ -92,7 +98,8 @@ class LoadTestApplicationIntegrationTest {
                 when(loadTestService.executeLoadTest(testConfig)).thenReturn(failedFuture);
 
                 LoadTestApplication application = new LoadTestApplication(
-                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter);
+                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter,
+                                progressReporter);
 
                 // Act & Assert
                 Exception exception = assertThrows(Exception.class, () -> application.run());
@@ -115,7 +122,8 @@ class LoadTestApplicationIntegrationTest {
                                 .thenReturn(CompletableFuture.completedFuture(testSummary));
 
                 LoadTestApplication application = new LoadTestApplication(
-                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter);
+                                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter,
+                                progressReporter);
 
                 // Act
                 assertDoesNotThrow(() -> application.run());
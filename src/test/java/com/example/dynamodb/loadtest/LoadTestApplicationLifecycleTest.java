@@ -6,6 +6,7 @@ import com.example.dynamodb.loadtest.service.LoadTestService;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
 import com.example.dynamodb.loadtest.service.ReportGenerationService;
 import com.example.dynamodb.loadtest.service.AccurateDuplicateCounter;
+import com.example.dynamodb.loadtest.service.ProgressReporter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,12 +41,16 @@ class LoadTestApplicationLifecycleTest {
     @Mock
     private AccurateDuplicateCounter accurateDuplicateCounter;
 
+    @Mock
+    private ProgressReporter progressReporter;
+
     private LoadTestApplication application;
 
     @BeforeEach
     void setUp() {
         application = new LoadTestApplication(
-                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter);
+                configurationManager, loadTestService, reportGenerationService, accurateDuplicateCounter,
+                progressReporter);
     }
 
     @Test
@@ -160,6 +165,8 @@ class LoadTestApplicationLifecycleTest {
         verify(configurationManager).loadConfiguration();
         verify(loadTestService).executeLoadTest(config);
         verify(reportGenerationService).generateReport(any(TestSummary.class));
+        verify(progressReporter).start(config);
+        verify(progressReporter, atLeastOnce()).stop();
     }
 
     @Test
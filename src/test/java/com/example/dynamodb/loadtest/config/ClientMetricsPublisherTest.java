@@ -0,0 +1,53 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ClientMetricsPublisher.
+ */
+class ClientMetricsPublisherTest {
+
+    @Test
+    void publish_RetriedApiCall_RecordsEveryAttempt() {
+        // Given - a throttled attempt that waited for a connection, then a successful one
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ClientMetricsPublisher publisher = new ClientMetricsPublisher(metrics);
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(80));
+        addAttempt(apiCall, 400, Duration.ofMillis(30), 50, 4);
+        addAttempt(apiCall, 200, Duration.ofMillis(5), 20, 0);
+
+        // When
+        publisher.publish(apiCall.collect());
+
+        // Then
+        MetricsCollectionService.HttpClientStats stats = metrics.getHttpClientStats();
+        assertThat(stats.getConnectionAcquire().getCount()).isEqualTo(2);
+        assertThat(stats.getSaturatedAcquires()).isEqualTo(1);
+        assertThat(stats.getMaxConnections()).isEqualTo(50);
+        assertThat(stats.getPeakPendingAcquires()).isEqualTo(4);
+        assertThat(stats.getServiceCall().getCount()).isEqualTo(2);
+        assertThat(stats.getStatusCodeCounts()).isEqualTo(Map.of(200, 1L, 400, 1L));
+    }
+
+    private static void addAttempt(MetricCollector apiCall, int statusCode, Duration acquire, int leased,
+            int pending) {
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, statusCode);
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(4));
+        MetricCollector httpClient = attempt.createChild("HttpClient");
+        httpClient.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, acquire);
+        httpClient.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+        httpClient.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+        httpClient.reportMetric(HttpMetric.MAX_CONCURRENCY, 50);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ConsumedCapacityInterceptor.
+ */
+class ConsumedCapacityInterceptorTest {
+
+    @Test
+    void afterExecution_WriteAndReadResponses_RecordsConsumedUnits() {
+        // Given
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        metrics.startTest();
+        ConsumedCapacityInterceptor interceptor = new ConsumedCapacityInterceptor(metrics);
+
+        // When - a put of a 2 KB item, a batch of 25 small items, a get and a query
+        intercept(interceptor, PutItemResponse.builder().consumedCapacity(units(2.0)).build());
+        intercept(interceptor, BatchWriteItemResponse.builder().consumedCapacity(List.of(units(25.0))).build());
+        intercept(interceptor, GetItemResponse.builder().consumedCapacity(units(0.5)).build());
+        intercept(interceptor, QueryResponse.builder().consumedCapacity(units(1.5)).build());
+        metrics.recordSuccess(Duration.ofMillis(5), 1);
+        metrics.endTest();
+
+        // Then
+        MetricsCollectionService.CapacityStats capacity = metrics.generateSummary().getCapacityStats();
+        assertThat(capacity.getWriteCapacityUnits()).isEqualTo(27.0);
+        assertThat(capacity.getReadCapacityUnits()).isEqualTo(2.0);
+    }
+
+    @Test
+    void afterExecution_ResponsesWithoutCapacity_RecordsNothing() {
+        // Given
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ConsumedCapacityInterceptor interceptor = new ConsumedCapacityInterceptor(metrics);
+
+        // When
+        intercept(interceptor, PutItemResponse.builder().build());
+        intercept(interceptor, DescribeTableResponse.builder().build());
+        metrics.recordSuccess(Duration.ofMillis(5), 1);
+
+        // Then
+        assertThat(metrics.generateSummary().getCapacityStats()).isNull();
+    }
+
+    private static void intercept(ConsumedCapacityInterceptor interceptor, SdkResponse response) {
+        Context.AfterExecution context = mock(Context.AfterExecution.class);
+        when(context.response()).thenReturn(response);
+        interceptor.afterExecution(context, new ExecutionAttributes());
+    }
+
+    private static ConsumedCapacity units(double capacityUnits) {
+        return ConsumedCapacity.builder().tableName("load-test").capacityUnits(capacityUnits).build();
+    }
+}
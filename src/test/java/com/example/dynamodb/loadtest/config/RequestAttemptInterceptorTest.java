@@ -0,0 +1,64 @@
+package com.example.dynamodb.loadtest.config;
+
+import com.example.dynamodb.loadtest.service.MetricsCollectionService;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RequestAttemptInterceptor.
+ */
+class RequestAttemptInterceptorTest {
+
+    @Test
+    void beforeTransmission_RetriedCall_CountsSdkRetries() {
+        // Given
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        RequestAttemptInterceptor interceptor = new RequestAttemptInterceptor(metrics);
+        ExecutionAttributes firstCall = new ExecutionAttributes();
+        ExecutionAttributes secondCall = new ExecutionAttributes();
+
+        // When - the first call is sent three times, the second once
+        metrics.issueMeasuredRequest(() -> {
+            interceptor.beforeExecution(null, firstCall);
+            return null;
+        });
+        interceptor.beforeTransmission(null, firstCall);
+        interceptor.beforeTransmission(null, firstCall);
+        interceptor.beforeTransmission(null, firstCall);
+        metrics.issueMeasuredRequest(() -> {
+            interceptor.beforeExecution(null, secondCall);
+            return null;
+        });
+        interceptor.beforeTransmission(null, secondCall);
+        metrics.recordAttempts(2);
+
+        // Then
+        MetricsCollectionService.RetryStats stats = metrics.getRetryStats();
+        assertThat(stats.getHttpAttempts()).isEqualTo(4);
+        assertThat(stats.getSdkRetries()).isEqualTo(2);
+        assertThat(stats.getPhysicalRequests()).isEqualTo(4);
+    }
+
+    @Test
+    void beforeTransmission_UnmeasuredCall_NotCounted() {
+        // Given
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        RequestAttemptInterceptor interceptor = new RequestAttemptInterceptor(metrics);
+        ExecutionAttributes tableCheck = new ExecutionAttributes();
+
+        // When - a table check outside of any measured operation is retried by the SDK
+        interceptor.beforeExecution(null, tableCheck);
+        interceptor.beforeTransmission(null, tableCheck);
+        interceptor.beforeTransmission(null, tableCheck);
+        metrics.recordAttempts(1);
+
+        // Then
+        MetricsCollectionService.RetryStats stats = metrics.getRetryStats();
+        assertThat(stats.getHttpAttempts()).isZero();
+        assertThat(stats.getSdkRetries()).isZero();
+        assertThat(stats.getAmplificationFactor()).isEqualTo(1.0);
+        assertThat(metrics.isIssuingMeasuredRequest()).isFalse();
+    }
+}
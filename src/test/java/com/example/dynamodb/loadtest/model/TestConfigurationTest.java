@@ -329,6 +329,58 @@ class TestConfigurationTest {
         assertFalse(invalidConfig8.isValid());
     }
 
+    @Test
+    @DisplayName("Should require target rate in constant-rate mode")
+    void shouldRequireTargetRateInConstantRateMode() {
+        TestConfiguration config = createValidConfig();
+        assertFalse(config.isConstantRateMode());
+
+        config.setLoadPattern(TestConfiguration.LOAD_PATTERN_CONSTANT_RATE);
+        assertTrue(config.isConstantRateMode());
+        assertFalse(config.isValid());
+
+        config.setTargetRequestsPerSecond(20000);
+        assertTrue(config.isValid());
+    }
+
+    @Test
+    @DisplayName("Should only allow workload mix with single puts")
+    void shouldOnlyAllowWorkloadMixWithPutWorkload() {
+        TestConfiguration config = createValidConfig();
+        config.setWorkloadMix("put:20,get:80");
+        assertTrue(config.isMixedWorkload());
+        assertTrue(config.isValid());
+
+        config.setWorkloadType(TestConfiguration.WORKLOAD_TYPE_BATCH_WRITE);
+        assertFalse(config.isValid());
+    }
+
+    @Test
+    @DisplayName("Should default key space to total items unless configured")
+    void shouldDefaultKeySpaceToTotalItems() {
+        TestConfiguration config = createValidConfig();
+        config.setKeyDistribution(TestConfiguration.KEY_DISTRIBUTION_ZIPFIAN);
+        assertTrue(config.hasKeyDistribution());
+        assertEquals(config.getTotalItems(), config.getEffectiveKeySpaceSize());
+        assertTrue(config.isValid());
+
+        config.setTestDurationSeconds(60);
+        assertEquals(TestConfiguration.DEFAULT_DURATION_KEY_SPACE_SIZE, config.getEffectiveKeySpaceSize());
+
+        config.setKeySpaceSize(500);
+        assertEquals(500, config.getEffectiveKeySpaceSize());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive Zipfian skew")
+    void shouldRejectNonPositiveZipfianSkew() {
+        TestConfiguration config = createValidConfig();
+        config.setKeyDistribution(TestConfiguration.KEY_DISTRIBUTION_ZIPFIAN);
+        config.setZipfianSkew(0.0);
+
+        assertFalse(config.isValid());
+    }
+
     @Test
     @DisplayName("Should create safe copy correctly")
     void shouldCreateSafeCopyCorrectly() {
@@ -211,6 +211,16 @@ class TestMetricsTest {
         assertEquals(0.0, metrics.getAverageResponseTimeMs(), 0.01);
     }
 
+    @Test
+    @DisplayName("Should keep sub-millisecond response times")
+    void shouldKeepSubMillisecondResponseTimes() {
+        TestMetrics metrics = new TestMetrics(Duration.ofNanos(1_250_000), 4, 0, 1);
+
+        assertEquals(0.3125, metrics.getAverageResponseTimeMs(), 0.0001);
+        assertEquals(3200.0, metrics.getThroughputPerSecond(), 0.01);
+        assertEquals(Duration.ofNanos(1_250_000), metrics.createSnapshot().getResponseTime());
+    }
+
     @Test
     @DisplayName("Should calculate throughput correctly")
     void shouldCalculateThroughputCorrectly() {
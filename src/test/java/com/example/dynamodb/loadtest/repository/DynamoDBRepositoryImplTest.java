@@ -13,6 +13,7 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -60,6 +61,7 @@ class DynamoDBRepositoryImplTest {
 
                 PutItemRequest capturedRequest = requestCaptor.getValue();
                 assertThat(capturedRequest.tableName()).isEqualTo(tableName);
+                assertThat(capturedRequest.returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL);
 
                 Map<String, AttributeValue> itemMap = capturedRequest.item();
                 assertThat(itemMap).containsKey("pk");
@@ -195,4 +197,45 @@ class DynamoDBRepositoryImplTest {
                 assertThat(result).isSameAs(expectedResponse);
                 verify(dynamoDbClient).putItem(any(PutItemRequest.class));
         }
-}
\ No newline at end of file
+
+        @Test
+        void transactWriteItems_SharedKey_WrittenWithoutCondition() {
+                // Given
+                TestItem item = new TestItem("test-key", "payload");
+                TestItem shared = new TestItem("test-item-shared-3", "payload");
+                shared.addAttribute("shared_key", true);
+                TransactWriteItemsResponse expectedResponse = TransactWriteItemsResponse.builder().build();
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenReturn(CompletableFuture.completedFuture(expectedResponse));
+
+                // When
+                TransactWriteItemsResponse result = repository.transactWriteItems(List.of(item, shared)).join();
+
+                // Then
+                assertThat(result).isSameAs(expectedResponse);
+
+                ArgumentCaptor<TransactWriteItemsRequest> requestCaptor = ArgumentCaptor
+                                .forClass(TransactWriteItemsRequest.class);
+                verify(dynamoDbClient).transactWriteItems(requestCaptor.capture());
+
+                List<TransactWriteItem> transactItems = requestCaptor.getValue().transactItems();
+                assertThat(transactItems).hasSize(2);
+                assertThat(transactItems.get(0).put().tableName()).isEqualTo(tableName);
+                assertThat(transactItems.get(0).put().conditionExpression()).isEqualTo("attribute_not_exists(pk)");
+                assertThat(transactItems.get(1).put().conditionExpression()).isNull();
+        }
+
+        @Test
+        void transactWriteItems_TooManyItems_FailsWithoutRequest() {
+                // Given
+                List<TestItem> items = java.util.stream.IntStream.range(0, 101)
+                                .mapToObj(i -> new TestItem("key-" + i, "payload"))
+                                .toList();
+
+                // When & Then
+                assertThatThrownBy(() -> repository.transactWriteItems(items).join())
+                                .isInstanceOf(CompletionException.class)
+                                .hasCauseInstanceOf(IllegalArgumentException.class);
+                verify(dynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+        }
+}
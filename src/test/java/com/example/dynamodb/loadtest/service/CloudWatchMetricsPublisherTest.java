@@ -0,0 +1,115 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudWatchMetricsPublisherTest {
+
+    @Test
+    void publishPending_CompletedSeconds_PublishesEachSecondOnce() throws InterruptedException {
+        // Arrange - 100ms timeline buckets stand in for seconds
+        MetricsCollectionService metricsService = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(100), 100);
+        InMemoryMetricSink sink = new InMemoryMetricSink();
+        CloudWatchMetricsPublisher publisher = new CloudWatchMetricsPublisher(metricsService, Optional.of(sink),
+                "load-test-table");
+        metricsService.startTest();
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+        metricsService.recordSuccess(Duration.ofMillis(30), 1);
+        metricsService.recordThrottlingError(Duration.ofMillis(5), 1);
+        Thread.sleep(130);
+
+        // Act
+        int firstRun = publisher.publishPending();
+        int secondRun = publisher.publishPending();
+
+        // Assert - the first bucket is shipped once; the running one waits
+        assertTrue(firstRun > 0);
+        assertEquals(0, secondRun);
+        List<MetricDatum> datums = sink.getDatums();
+        assertEquals(3.0, value(datums, "Operations", null), 0.001);
+        assertEquals(1.0, value(datums, "Errors", null), 0.001);
+        assertEquals(1.0, value(datums, "Errors", TestMetrics.ERROR_TYPE_THROTTLING), 0.001);
+        assertEquals(30.0, value(datums, "Throughput", null), 0.001);
+        assertTrue(value(datums, "P99ResponseTime", null) >= 29.0);
+        assertTrue(datums.stream().allMatch(datum -> datum.storageResolution() == 1));
+        assertEquals("load-test-table", datums.get(0).dimensions().get(0).value());
+    }
+
+    @Test
+    void publishPending_EndedTest_PublishesLastPartialSecond() {
+        // Arrange
+        MetricsCollectionService metricsService = new MetricsCollectionService();
+        InMemoryMetricSink sink = new InMemoryMetricSink();
+        CloudWatchMetricsPublisher publisher = new CloudWatchMetricsPublisher(metricsService, Optional.of(sink),
+                "load-test-table");
+        metricsService.startTest();
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+
+        // Act
+        int whileRunning = publisher.publishPending();
+        metricsService.endTest();
+        publisher.publishPending();
+
+        // Assert
+        assertEquals(0, whileRunning);
+        assertEquals(1.0, value(sink.getDatums(), "Operations", null), 0.001);
+    }
+
+    @Test
+    void publishPending_ManySeconds_SplitsIntoBatchesOfAtMostMaxDatums() throws InterruptedException {
+        // Arrange - 1ms buckets, so a short run spans hundreds of points
+        MetricsCollectionService metricsService = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(1), 5000);
+        InMemoryMetricSink sink = new InMemoryMetricSink();
+        CloudWatchMetricsPublisher publisher = new CloudWatchMetricsPublisher(metricsService, Optional.of(sink),
+                "load-test-table");
+        metricsService.startTest();
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+        Thread.sleep(600);
+        metricsService.endTest();
+
+        // Act
+        int published = publisher.publishPending();
+
+        // Assert
+        assertTrue(published > CloudWatchMetricsPublisher.MAX_DATUMS_PER_REQUEST);
+        assertTrue(sink.getBatches().size() > 1);
+        assertTrue(sink.getBatches().stream()
+                .allMatch(batch -> batch.size() <= CloudWatchMetricsPublisher.MAX_DATUMS_PER_REQUEST));
+        assertEquals(published, sink.getDatums().size());
+    }
+
+    @Test
+    void publishPending_NoSinkConfigured_PublishesNothing() {
+        // Arrange
+        MetricsCollectionService metricsService = new MetricsCollectionService();
+        CloudWatchMetricsPublisher publisher = new CloudWatchMetricsPublisher(metricsService, Optional.empty(),
+                "load-test-table");
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+        metricsService.endTest();
+
+        // Act & Assert
+        publisher.start();
+        assertEquals(0, publisher.publishPending());
+        publisher.stop();
+    }
+
+    private static double value(List<MetricDatum> datums, String metricName, String errorType) {
+        return datums.stream()
+                .filter(datum -> datum.metricName().equals(metricName))
+                .filter(datum -> errorType == null
+                        ? datum.dimensions().size() == 1
+                        : datum.dimensions().contains(Dimension.builder().name("ErrorType").value(errorType).build()))
+                .mapToDouble(MetricDatum::value)
+                .sum();
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -92,6 +93,164 @@ class ConfigurationManagerTest {
         assertTrue(exception.getCause().getMessage().contains("Configuration validation failed"));
     }
 
+    @Test
+    void loadConfiguration_ConstantRateParameters() throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/load-pattern", "Constant-Rate");
+        parameters.put(TEST_PREFIX + "/target-requests-per-second", "20000");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertTrue(config.isConstantRateMode());
+        assertEquals(20000, config.getTargetRequestsPerSecond());
+    }
+
+    @Test
+    void loadConfiguration_RampStepDurationParameter() throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/ramp-step-duration-seconds", "30");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertEquals(30, config.getRampStepDurationSeconds());
+        assertEquals(Duration.ofSeconds(30), config.getRampStepDuration());
+    }
+
+    @Test
+    void loadConfiguration_TestDurationParameter_EnablesDurationMode() throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/test-duration-seconds", "14400");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertTrue(config.isDurationMode());
+        assertEquals(Duration.ofHours(4), config.getTestDuration());
+    }
+
+    @Test
+    void loadConfiguration_WorkloadTypeParameter_EnablesBatchWriteMode() throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/workload-type", "Batch-Write");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertTrue(config.isBatchWriteMode());
+        assertEquals(TestConfiguration.WORKLOAD_TYPE_BATCH_WRITE, config.getWorkloadType());
+    }
+
+    @Test
+    void loadConfiguration_TransactionParameters_ConfigureTransactWriteMode()
+            throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/workload-type", "transact-write");
+        parameters.put(TEST_PREFIX + "/transaction-size", "10");
+        parameters.put(TEST_PREFIX + "/transaction-overlap-percentage", "20.0");
+        parameters.put(TEST_PREFIX + "/transaction-conflict-percentage", "5.5");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertTrue(config.isTransactWriteMode());
+        assertEquals(10, config.getTransactionSize());
+        assertEquals(20.0, config.getTransactionOverlapPercentage());
+        assertEquals(5.5, config.getTransactionConflictPercentage());
+    }
+
+    @Test
+    void loadConfiguration_WorkloadMixParameter_EnablesMixedWorkload()
+            throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/workload-mix", "PUT:20, Get:70, query:10");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertTrue(config.isMixedWorkload());
+        assertEquals("put:20,get:70,query:10", config.getWorkloadMix());
+    }
+
+    @Test
+    void loadConfiguration_KeyDistributionParameters_ConfigureHotspot()
+            throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/key-distribution", "HotSpot");
+        parameters.put(TEST_PREFIX + "/key-space-size", "5000");
+        parameters.put(TEST_PREFIX + "/hotspot-traffic-percentage", "90");
+        parameters.put(TEST_PREFIX + "/hotspot-key-percentage", "1");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertEquals(TestConfiguration.KEY_DISTRIBUTION_HOTSPOT, config.getKeyDistribution());
+        assertEquals(5000, config.getKeySpaceSize());
+        assertEquals(90.0, config.getHotspotTrafficPercentage());
+        assertEquals(1.0, config.getHotspotKeyPercentage());
+        assertEquals(TestConfiguration.DEFAULT_ZIPFIAN_SKEW, config.getZipfianSkew());
+    }
+
+    @Test
+    void loadConfiguration_ItemSeedParameter_SetsSeed() throws ExecutionException, InterruptedException {
+        // Arrange
+        Map<String, String> parameters = createValidParameterMap();
+        parameters.put(TEST_PREFIX + "/item-seed", "-8446744073709551");
+        when(ssmParameterRepository.getParametersByPath(TEST_PREFIX))
+                .thenReturn(CompletableFuture.completedFuture(parameters));
+        when(validator.validate(any(TestConfiguration.class)))
+                .thenReturn(Set.of());
+
+        // Act
+        TestConfiguration config = configurationManager.loadConfiguration().get();
+
+        // Assert
+        assertEquals(-8446744073709551L, config.getItemSeed());
+    }
+
     @Test
     void loadConfiguration_MissingRequiredParameter() {
         // Arrange
@@ -0,0 +1,160 @@
+package com.example.dynamodb.loadtest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstantRateExecutorTest {
+
+    private final Executor virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Test
+    void run_FastOperations_AchievesTargetRate() {
+        // Arrange
+        AtomicInteger processed = new AtomicInteger(0);
+        ConstantRateExecutor<Integer> executor = new ConstantRateExecutor<>(
+                IntStream.range(0, 200).iterator(), 1000, 50,
+                (item, intended) -> {
+                    processed.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        // Act
+        ConstantRateExecutor.RateStats stats = executor.run();
+
+        // Assert - 200 requests at 1000 req/s should take roughly 200ms
+        assertEquals(200, processed.get());
+        assertEquals(200, stats.getSentRequests());
+        assertEquals(0, stats.getQueuedRequests());
+        assertTrue(stats.getPacingDuration().toMillis() >= 190,
+                "Pacing finished too early: " + stats.getPacingDuration());
+        assertTrue(stats.getAchievedRatePerSecond() <= 1100,
+                "Achieved rate too high: " + stats.getAchievedRatePerSecond());
+    }
+
+    @Test
+    void run_SlowOperations_QueuesSendsAtOutstandingLimit() {
+        // Arrange - operations never complete while pacing is in progress
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        AtomicLong maxWaitNanos = new AtomicLong(0);
+        ConstantRateExecutor<Integer> executor = new ConstantRateExecutor<>(
+                IntStream.range(0, 50).iterator(), 5000, 10,
+                (item, intended) -> {
+                    maxWaitNanos.accumulateAndGet(System.nanoTime() - intended, Math::max);
+                    return gate;
+                });
+        virtualThreadExecutor.execute(() -> {
+            sleepQuietly(200);
+            gate.complete(null);
+        });
+
+        // Act
+        ConstantRateExecutor.RateStats stats = executor.run();
+
+        // Assert - nothing is dropped: the 11th send waits for the gate, the rest
+        // follow late, and the wait for a slot counts from the intended time.
+        // Catching up, sends can also wait for slots still held by send threads
+        assertEquals(50, stats.getSentRequests());
+        assertTrue(stats.getQueuedRequests() >= 1 && stats.getQueuedRequests() <= 40,
+                "Queued sends: " + stats.getQueuedRequests());
+        assertTrue(stats.getLateRequests() >= 40, "Late sends: " + stats.getLateRequests());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()) >= 150,
+                "Queued send waited only " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()) + "ms");
+    }
+
+    @Test
+    void run_QueuedBehindSlowCalls_LatencyMeasuredFromIntendedTime() {
+        // Arrange - each operation blocks for 20ms but only one may be outstanding,
+        // so later requests are issued late relative to their schedule
+        AtomicLong maxMeasuredNanos = new AtomicLong(0);
+        ConstantRateExecutor<Integer> executor = new ConstantRateExecutor<>(
+                IntStream.range(0, 5).iterator(), 1000, 100,
+                (item, intended) -> CompletableFuture.runAsync(() -> {
+                    sleepQuietly(20);
+                    maxMeasuredNanos.accumulateAndGet(System.nanoTime() - intended, Math::max);
+                }, virtualThreadExecutor));
+
+        // Act
+        ConstantRateExecutor.RateStats stats = executor.run();
+
+        // Assert
+        assertEquals(5, stats.getSentRequests());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(maxMeasuredNanos.get()) >= 20);
+    }
+
+    @Test
+    void run_SlowItemConstruction_DoesNotDelayPacing() {
+        // Arrange - every item takes 20ms to build, four times the 5ms interval
+        SlowSource slowSource = new SlowSource(20);
+        AtomicInteger processed = new AtomicInteger(0);
+        ConstantRateExecutor<Integer> executor = new ConstantRateExecutor<>(
+                slowSource, 200, 50,
+                (item, intended) -> {
+                    processed.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }, virtualThreadExecutor);
+
+        // Act
+        ConstantRateExecutor.RateStats stats = executor.run();
+
+        // Assert - built inline, the 20 items alone would take 400ms
+        assertEquals(20, processed.get());
+        assertEquals(20, stats.getSentRequests());
+        assertEquals(0, stats.getQueuedRequests());
+        assertTrue(stats.getPacingDuration().toMillis() < 300,
+                "Pacing was held up by item construction: " + stats.getPacingDuration());
+    }
+
+    @Test
+    void constructor_InvalidArguments_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> new ConstantRateExecutor<>(
+                IntStream.range(0, 1).iterator(), 0, 1, (item, intended) -> null));
+        assertThrows(IllegalArgumentException.class, () -> new ConstantRateExecutor<>(
+                IntStream.range(0, 1).iterator(), 10, 0, (item, intended) -> null));
+    }
+
+    private static final class SlowSource implements Iterator<Integer>, ConcurrentSource<Integer> {
+        private final AtomicInteger remaining;
+
+        private SlowSource(int count) {
+            this.remaining = new AtomicInteger(count);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining.get() > 0;
+        }
+
+        @Override
+        public Integer next() {
+            return poll();
+        }
+
+        @Override
+        public Integer poll() {
+            int item = remaining.getAndDecrement();
+            if (item <= 0) {
+                return null;
+            }
+            sleepQuietly(20);
+            return item;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -98,6 +98,57 @@ class CostEstimationServiceTest {
         assertEquals(0, estimate.totalCost.compareTo(BigDecimal.ZERO));
     }
 
+    @Test
+    void testTransactionalWritesCostTwoWriteUnits() {
+        // Arrange
+        TestSummary plain = createTestSummary(100000, 100000, Duration.ofMinutes(10));
+        TestSummary transactional = createTestSummary(100000, 100000, Duration.ofMinutes(10));
+        transactional.setTransactionStats(new MetricsCollectionService.TransactionStats(
+                25000, 25000, 0, 0, 100000, 100000, java.util.Map.of(), Duration.ofMillis(30),
+                Duration.ofMillis(25), Duration.ofMillis(90), Duration.ofMillis(120)));
+
+        // Act
+        CostEstimate plainEstimate = costEstimationService.calculateCostEstimate(plain);
+        CostEstimate transactionalEstimate = costEstimationService.calculateCostEstimate(transactional);
+
+        // Assert
+        assertEquals(0, transactionalEstimate.dynamoDbWriteCost
+                .compareTo(plainEstimate.dynamoDbWriteCost.multiply(new BigDecimal(2))));
+    }
+
+    @Test
+    void testMixedWorkloadReadCostUsesConsumedCapacity() {
+        // Arrange - 800K reads that consumed 400K read units, and 200K puts
+        TestSummary summary = createTestSummary(1_000_000, 1_000_000, Duration.ofMinutes(10));
+        summary.setOperationStats(java.util.Map.of(
+                "put", new MetricsCollectionService.OperationStats("put", 200_000, 0, java.util.Map.of(), 0.0,
+                        Duration.ofMillis(20), Duration.ofMillis(18), Duration.ofMillis(60), Duration.ofMillis(90)),
+                "get", new MetricsCollectionService.OperationStats("get", 800_000, 0, java.util.Map.of(), 400_000.0,
+                        Duration.ofMillis(5), Duration.ofMillis(4), Duration.ofMillis(15), Duration.ofMillis(30))));
+
+        // Act
+        CostEstimate estimate = costEstimationService.calculateCostEstimate(summary);
+
+        // Assert - 400K read units at $0.25/million, 200K writes at $1.25/million
+        assertEquals(0, estimate.dynamoDbReadCost.compareTo(new BigDecimal("0.100000")));
+        assertEquals(0, estimate.dynamoDbWriteCost.compareTo(new BigDecimal("0.250000")));
+    }
+
+    @Test
+    void testCostUsesReportedConsumedCapacity() {
+        // Arrange - 100K puts of items large enough to consume 3 write units each
+        TestSummary summary = createTestSummary(100000, 100000, Duration.ofMinutes(10));
+        summary.setCapacityStats(new MetricsCollectionService.CapacityStats(300_000.0, 40_000.0, 600.0, 80.0,
+                Duration.ofMinutes(10)));
+
+        // Act
+        CostEstimate estimate = costEstimationService.calculateCostEstimate(summary);
+
+        // Assert - 300K write units at $1.25/million, 40K read units at $0.25/million
+        assertEquals(0, estimate.dynamoDbWriteCost.compareTo(new BigDecimal("0.375000")));
+        assertEquals(0, estimate.dynamoDbReadCost.compareTo(new BigDecimal("0.010000")));
+    }
+
     private TestSummary createTestSummary(long totalOps, long successfulOps, Duration duration) {
         Instant endTime = Instant.now();
         Instant startTime = endTime.minus(duration);
@@ -0,0 +1,85 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmfMetricSinkTest {
+
+    private static final Instant SECOND = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void publish_DatumsOfOneSecond_WritesOneEmfLinePerDimensionSet() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EmfMetricSink sink = new EmfMetricSink(new PrintStream(output), "DynamoDBLoadTest");
+        List<Dimension> table = List.of(Dimension.builder().name("TableName").value("orders").build());
+        List<Dimension> throttling = List.of(Dimension.builder().name("TableName").value("orders").build(),
+                Dimension.builder().name("ErrorType").value("Throttling").build());
+
+        // Act
+        sink.publish(List.of(
+                datum("Operations", 120, StandardUnit.COUNT, table),
+                datum("P99ResponseTime", 42.5, StandardUnit.MILLISECONDS, table),
+                datum("Errors", 3, StandardUnit.COUNT, throttling))).join();
+
+        // Assert
+        String[] lines = output.toString().trim().split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode document = new ObjectMapper().readTree(lines[0]);
+        assertEquals(SECOND.toEpochMilli(), document.at("/_aws/Timestamp").asLong());
+        JsonNode directive = document.at("/_aws/CloudWatchMetrics/0");
+        assertEquals("DynamoDBLoadTest", directive.get("Namespace").asText());
+        assertEquals("TableName", directive.at("/Dimensions/0/0").asText());
+        assertEquals("Operations", directive.at("/Metrics/0/Name").asText());
+        assertEquals("Count", directive.at("/Metrics/0/Unit").asText());
+        assertEquals(1, directive.at("/Metrics/0/StorageResolution").asInt());
+        assertEquals("orders", document.get("TableName").asText());
+        assertEquals(120.0, document.get("Operations").asDouble(), 0.001);
+        assertEquals(42.5, document.get("P99ResponseTime").asDouble(), 0.001);
+
+        JsonNode errors = new ObjectMapper().readTree(lines[1]);
+        assertEquals("Throttling", errors.get("ErrorType").asText());
+        assertEquals(3.0, errors.get("Errors").asDouble(), 0.001);
+    }
+
+    @Test
+    void publish_MoreThanMaxMetrics_SplitsDocuments() {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EmfMetricSink sink = new EmfMetricSink(new PrintStream(output), "DynamoDBLoadTest");
+        List<MetricDatum> datums = new ArrayList<>();
+        for (int i = 0; i < EmfMetricSink.MAX_METRICS_PER_DOCUMENT + 1; i++) {
+            datums.add(datum("Metric" + i, i, StandardUnit.COUNT, List.of()));
+        }
+
+        // Act
+        sink.publish(datums).join();
+
+        // Assert
+        assertEquals(2, output.toString().trim().split("\n").length);
+    }
+
+    private static MetricDatum datum(String name, double value, StandardUnit unit, List<Dimension> dimensions) {
+        return MetricDatum.builder()
+                .metricName(name)
+                .value(value)
+                .unit(unit)
+                .timestamp(SECOND)
+                .dimensions(dimensions)
+                .storageResolution(1)
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedExce
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
 import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 import java.io.IOException;
 import java.net.ConnectException;
@@ -83,6 +84,18 @@ class ErrorHandlerTest {
         assertEquals(TestMetrics.ERROR_TYPE_DUPLICATE_KEY, errorType);
     }
 
+    @Test
+    void testCategorizeError_TransactionCanceled() {
+        TransactionCanceledException exception = TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .build();
+
+        String errorType = errorHandler.categorizeError(exception);
+
+        assertEquals(TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED, errorType);
+        assertFalse(errorHandler.shouldRetry(exception, 1));
+    }
+
     @Test
     void testCategorizeError_ValidationExceptionByErrorCode() {
         AwsErrorDetails errorDetails = AwsErrorDetails.builder()
@@ -0,0 +1,158 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import com.example.dynamodb.loadtest.util.TestDataGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Before/after throughput comparison of key and payload generation. The
+ * "before" generator reproduces the previous hot path: String.format keys and
+ * payloads drawn one character at a time from a shared {@link Random}. The
+ * "after" generator calls the production key generator of
+ * {@link LoadTestServiceImpl} and the current payload generator. Generation
+ * has to stay well above the 50,000 writes per second a single load generator
+ * is expected to drive.
+ * Wall-clock benchmark, run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class GenerationThroughputTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationThroughputTest.class);
+
+    private static final int TARGET_WRITES_PER_SECOND = 50_000;
+    private static final int PAYLOAD_SIZE = 300;
+    private static final Duration MEASUREMENT_WINDOW = Duration.ofMillis(1000);
+
+    private final Random sharedRandom = new Random();
+    private final AtomicLong keyCounter = new AtomicLong(0);
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4, 16 })
+    void currentGenerator_ConcurrentThreads_OutperformsSharedRandomGenerator(int threads) throws Exception {
+        // Arrange
+        Supplier<Object> before = () -> new TestItem(
+                String.format("test-item-%d-%d-%d", System.currentTimeMillis(), keyCounter.incrementAndGet(),
+                        ThreadLocalRandom.current().nextInt(1000, 9999)),
+                sharedRandomPayload(PAYLOAD_SIZE));
+        LoadTestService service = new LoadTestServiceImpl(mock(MetricsCollectionService.class),
+                mock(ResilientDynamoDBService.class), mock(AccurateDuplicateCounter.class), Runnable::run);
+        Supplier<Object> after = () -> new TestItem(service.generateUniqueKey(),
+                TestDataGenerator.randomPayload(PAYLOAD_SIZE));
+
+        // Act - the first pass warms up both paths
+        measureThroughput(before, threads);
+        measureThroughput(after, threads);
+        double beforeRate = measureThroughput(before, threads);
+        double afterRate = measureThroughput(after, threads);
+
+        // Assert
+        logger.info("Generation throughput with {} threads: before {} items/s, after {} items/s",
+                threads, String.format("%.0f", beforeRate), String.format("%.0f", afterRate));
+
+        assertTrue(afterRate > beforeRate * 2,
+                "Current generator " + afterRate + " items/s should clearly beat shared Random " + beforeRate);
+        assertTrue(afterRate > TARGET_WRITES_PER_SECOND * 4,
+                "Generation " + afterRate + " items/s leaves too little headroom over "
+                        + TARGET_WRITES_PER_SECOND + " writes/s");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4 })
+    void seededItemSource_DisjointRanges_StaysAboveTargetRate(int workers) throws Exception {
+        // Arrange - workers generate disjoint index ranges of one seeded run
+        SeededItemSource source = new SeededItemSource(11L, 10_000_000, 10.0, PAYLOAD_SIZE);
+
+        // Act - the first pass warms up the generator
+        measureRangeThroughput(ranges(source, workers));
+        double rate = measureRangeThroughput(ranges(source, workers));
+
+        // Assert
+        logger.info("Seeded generation throughput with {} workers: {} items/s",
+                workers, String.format("%.0f", rate));
+        assertTrue(rate > TARGET_WRITES_PER_SECOND * 2,
+                "Seeded generation " + rate + " items/s is too close to " + TARGET_WRITES_PER_SECOND + " writes/s");
+    }
+
+    private static List<Iterator<TestItem>> ranges(SeededItemSource source, int workers) {
+        long share = source.getItemCount() / workers;
+        List<Iterator<TestItem>> ranges = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            ranges.add(source.iterator(worker * share, (worker + 1) * share));
+        }
+        return ranges;
+    }
+
+    private String sharedRandomPayload(int size) {
+        StringBuilder payload = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            payload.append(TestDataGenerator.PAYLOAD_CHARS.charAt(
+                    sharedRandom.nextInt(TestDataGenerator.PAYLOAD_CHARS.length())));
+        }
+        return payload.toString();
+    }
+
+    private double measureThroughput(Supplier<Object> generator, int threads) throws Exception {
+        List<Iterator<Object>> generators = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            generators.add(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Object next() {
+                    return generator.get();
+                }
+            });
+        }
+        return measureRangeThroughput(generators);
+    }
+
+    private static double measureRangeThroughput(List<? extends Iterator<?>> generators) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(generators.size());
+        try {
+            long start = System.nanoTime();
+            long deadline = start + MEASUREMENT_WINDOW.toNanos();
+            List<Future<Long>> counts = new ArrayList<>();
+            for (Iterator<?> generator : generators) {
+                counts.add(executor.submit(() -> {
+                    long generated = 0;
+                    while (System.nanoTime() < deadline && generator.hasNext()) {
+                        assertNotNull(generator.next());
+                        generated++;
+                    }
+                    return generated;
+                }));
+            }
+
+            long total = 0;
+            for (Future<Long> count : counts) {
+                total += count.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return total / seconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
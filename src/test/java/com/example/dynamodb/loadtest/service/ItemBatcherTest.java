@@ -0,0 +1,99 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemBatcherTest {
+
+    @Test
+    void next_UniqueItems_FillsBatchesUpToLimit() {
+        // Arrange
+        ItemBatcher batcher = new ItemBatcher(items(60).iterator());
+
+        // Act
+        List<List<TestItem>> batches = drain(batcher);
+
+        // Assert
+        assertEquals(3, batches.size());
+        assertEquals(25, batches.get(0).size());
+        assertEquals(25, batches.get(1).size());
+        assertEquals(10, batches.get(2).size());
+    }
+
+    @Test
+    void next_RepeatedKey_StartsNewBatch() {
+        // Arrange - the third item repeats the first key
+        List<TestItem> source = new ArrayList<>(items(2));
+        source.add(new TestItem("key-0", "payload"));
+        source.add(new TestItem("key-3", "payload"));
+        ItemBatcher batcher = new ItemBatcher(source.iterator());
+
+        // Act
+        List<List<TestItem>> batches = drain(batcher);
+
+        // Assert
+        assertEquals(2, batches.size());
+        assertEquals(List.of("key-0", "key-1"), keys(batches.get(0)));
+        assertEquals(List.of("key-0", "key-3"), keys(batches.get(1)));
+    }
+
+    @Test
+    void next_SizeLimit_ClosesBatchBeforeExceedingIt() {
+        // Arrange - each item is 10 bytes ("key-N" + "12345")
+        List<TestItem> source = IntStream.range(0, 5)
+                .mapToObj(i -> {
+                    TestItem item = new TestItem("key-" + i, "12345");
+                    item.setTimestamp(null);
+                    return item;
+                })
+                .toList();
+        ItemBatcher batcher = new ItemBatcher(source.iterator(), 25, 25);
+
+        // Act
+        List<List<TestItem>> batches = drain(batcher);
+
+        // Assert
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void next_ExhaustedSource_Throws() {
+        // Arrange
+        ItemBatcher batcher = new ItemBatcher(List.<TestItem>of().iterator());
+
+        // Act & Assert
+        assertFalse(batcher.hasNext());
+        assertThrows(NoSuchElementException.class, batcher::next);
+    }
+
+    @Test
+    void constructor_BatchSizeAboveLimit_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ItemBatcher(List.<TestItem>of().iterator(), 26, ItemBatcher.MAX_BATCH_BYTES));
+    }
+
+    private static List<TestItem> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TestItem("key-" + i, "payload"))
+                .toList();
+    }
+
+    private static List<List<TestItem>> drain(ItemBatcher batcher) {
+        List<List<TestItem>> batches = new ArrayList<>();
+        while (batcher.hasNext()) {
+            batches.add(batcher.next());
+        }
+        return batches;
+    }
+
+    private static List<String> keys(List<TestItem> batch) {
+        return batch.stream().map(TestItem::getPrimaryKey).toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyDistributionTest {
+
+    private static final int DRAWS = 100_000;
+
+    @Test
+    void uniform_Draws_StayInKeySpaceAndSpreadEvenly() {
+        // Arrange
+        KeyDistribution distribution = new KeyDistribution.Uniform(10);
+
+        // Act
+        long[] counts = draw(distribution, DRAWS);
+
+        // Assert - every key gets close to a tenth of the draws
+        for (long count : counts) {
+            assertEquals(DRAWS / 10.0, count, DRAWS * 0.01);
+        }
+    }
+
+    @Test
+    void zipfian_Draws_FollowZipfLaw() {
+        // Arrange
+        KeyDistribution distribution = new KeyDistribution.Zipfian(1000, 1.0);
+
+        // Act
+        long[] counts = draw(distribution, DRAWS);
+
+        // Assert - rank 1 is drawn about twice as often as rank 2, and 1 / H(1000) of the time
+        assertEquals(2.0, (double) counts[0] / counts[1], 0.15);
+        assertEquals(DRAWS / 7.485, counts[0], DRAWS * 0.01);
+        assertTrue(counts[0] > counts[9] && counts[9] > counts[99]);
+    }
+
+    @Test
+    void zipfian_HigherSkew_ConcentratesDraws() {
+        // Arrange
+        KeyDistribution mild = new KeyDistribution.Zipfian(1000, 0.5);
+        KeyDistribution steep = new KeyDistribution.Zipfian(1000, 1.5);
+
+        // Act
+        long mildTop = draw(mild, DRAWS)[0];
+        long steepTop = draw(steep, DRAWS)[0];
+
+        // Assert
+        assertTrue(steepTop > mildTop * 5, "steep=" + steepTop + ", mild=" + mildTop);
+    }
+
+    @Test
+    void hotspot_Draws_SendConfiguredShareToHotKeys() {
+        // Arrange - 90% of traffic to the first 10% of keys
+        KeyDistribution distribution = new KeyDistribution.Hotspot(100, 90.0, 10.0);
+
+        // Act
+        long[] counts = draw(distribution, DRAWS);
+
+        // Assert
+        long hotDraws = 0;
+        for (int i = 0; i < 10; i++) {
+            hotDraws += counts[i];
+        }
+        assertEquals(DRAWS * 0.9, hotDraws, DRAWS * 0.01);
+    }
+
+    @Test
+    void monotonic_Draws_IncreaseAndWrapAround() {
+        // Arrange
+        KeyDistribution distribution = new KeyDistribution.Monotonic(3);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // Act & Assert
+        long[] expected = { 0, 1, 2, 0, 1 };
+        for (long index : expected) {
+            assertEquals(index, distribution.nextIndex(random));
+        }
+    }
+
+    @Test
+    void forConfiguration_ConfiguredDistribution_UsesItsParameters() {
+        // Arrange
+        TestConfiguration config = new TestConfiguration();
+        config.setKeyDistribution(TestConfiguration.KEY_DISTRIBUTION_ZIPFIAN);
+        config.setZipfianSkew(1.2);
+
+        // Act
+        KeyDistribution distribution = KeyDistribution.forConfiguration(config, 500);
+
+        // Assert
+        assertInstanceOf(KeyDistribution.Zipfian.class, distribution);
+        assertEquals(500, distribution.getKeySpaceSize());
+        assertEquals("zipfian(s=1.20)", distribution.getDescription());
+    }
+
+    @Test
+    void constructor_EmptyKeySpace_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyDistribution.Uniform(0));
+        assertThrows(IllegalArgumentException.class, () -> new KeyDistribution.Zipfian(10, 0.0));
+    }
+
+    private static long[] draw(KeyDistribution distribution, int draws) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] counts = new long[(int) distribution.getKeySpaceSize()];
+        for (int i = 0; i < draws; i++) {
+            long index = distribution.nextIndex(random);
+            assertTrue(index >= 0 && index < counts.length, "index out of range: " + index);
+            counts[(int) index]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.service.KeyHeatMap.Counter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyHeatMapTest {
+
+    @Test
+    void snapshot_SkewedWrites_ReportsHotKeyFirst() {
+        // Arrange - 1,000 keys written 10 times each, one key written 2,000 times
+        KeyHeatMap heatMap = new KeyHeatMap();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 1_000; i++) {
+                heatMap.record(Counter.WRITES, "key-" + i);
+            }
+        }
+        for (int i = 0; i < 2_000; i++) {
+            heatMap.record(Counter.WRITES, "hot-key");
+        }
+
+        // Act
+        KeyHeatMap.Snapshot snapshot = heatMap.snapshot();
+
+        // Assert - estimates are off by at most a small share of the 12,000 writes
+        List<KeyHeatMap.KeyHeat> top = snapshot.getTopKeys(Counter.WRITES);
+        assertEquals(KeyHeatMap.DEFAULT_TOP_KEYS, top.size());
+        assertEquals("hot-key", top.get(0).getKey());
+        assertTrue(top.get(0).getWrites() >= 2_000);
+        assertTrue(top.get(0).getWrites() <= 2_000 + 24, "Estimate " + top.get(0).getWrites());
+        assertEquals(12_000, snapshot.getTotal(Counter.WRITES));
+        assertTrue(snapshot.getBucketSkew(Counter.WRITES) > 2.0);
+        assertTrue(snapshot.getTopKeys(Counter.THROTTLES).isEmpty());
+    }
+
+    @Test
+    void snapshot_ThrottlesOnOneKey_AttributedToItsBucket() {
+        // Arrange
+        KeyHeatMap heatMap = new KeyHeatMap();
+        for (int i = 0; i < 500; i++) {
+            heatMap.record(Counter.WRITES, "key-" + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            heatMap.record(Counter.THROTTLES, "key-7");
+        }
+        heatMap.record(Counter.CONDITIONAL_FAILURES, "key-9");
+
+        // Act
+        KeyHeatMap.Snapshot snapshot = heatMap.snapshot();
+
+        // Assert
+        List<KeyHeatMap.KeyHeat> throttled = snapshot.getTopKeys(Counter.THROTTLES);
+        assertEquals(1, throttled.size());
+        assertEquals("key-7", throttled.get(0).getKey());
+        assertEquals(50, throttled.get(0).getThrottles());
+        assertEquals(1, throttled.get(0).getWrites());
+        assertEquals(100.0, snapshot.getHottestBucketShare(Counter.THROTTLES), 0.001);
+        List<KeyHeatMap.BucketHeat> buckets = snapshot.getHottestBuckets(Counter.THROTTLES, 5);
+        assertEquals(1, buckets.size());
+        assertEquals(50, buckets.get(0).getThrottles());
+        assertEquals("key-9", snapshot.getTopKeys(Counter.CONDITIONAL_FAILURES).get(0).getKey());
+    }
+
+    @Test
+    void estimate_ManyKeys_NeverBelowActualCount() {
+        // Arrange - key i written i % 7 + 1 times
+        KeyHeatMap heatMap = new KeyHeatMap(16, 5);
+        for (int i = 0; i < 20_000; i++) {
+            for (int n = 0; n <= i % 7; n++) {
+                heatMap.record(Counter.WRITES, "key-" + i);
+            }
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(heatMap.estimate(Counter.WRITES, "key-" + i) >= i % 7 + 1);
+        }
+        assertEquals(0, heatMap.estimate(Counter.THROTTLES, "key-1"));
+        assertEquals(16, heatMap.snapshot().getBuckets().size());
+    }
+
+    @Test
+    void record_ConcurrentThreads_CountsEveryEvent() throws Exception {
+        // Arrange
+        KeyHeatMap heatMap = new KeyHeatMap();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> recorders = new ArrayList<>();
+
+        // Act - every thread writes its own keys and the shared hot key
+        for (int thread = 0; thread < 8; thread++) {
+            int t = thread;
+            recorders.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    heatMap.record(Counter.WRITES, "key-" + t + "-" + i);
+                    heatMap.record(Counter.WRITES, "hot-key");
+                }
+            }));
+        }
+        for (Future<?> recorder : recorders) {
+            recorder.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        KeyHeatMap.Snapshot snapshot = heatMap.snapshot();
+        assertEquals(80_000, snapshot.getTotal(Counter.WRITES));
+        assertEquals("hot-key", snapshot.getTopKeys(Counter.WRITES).get(0).getKey());
+        assertTrue(snapshot.getTopKeys(Counter.WRITES).get(0).getWrites() >= 40_000);
+    }
+
+    @Test
+    void reset_AfterRecording_ClearsCounts() {
+        // Arrange
+        KeyHeatMap heatMap = new KeyHeatMap();
+        heatMap.record(Counter.THROTTLES, "key-1");
+
+        // Act
+        heatMap.reset();
+
+        // Assert
+        KeyHeatMap.Snapshot snapshot = heatMap.snapshot();
+        assertEquals(0, snapshot.getTotal(Counter.THROTTLES));
+        assertTrue(snapshot.getTopKeys(Counter.THROTTLES).isEmpty());
+        assertEquals(0.0, snapshot.getBucketSkew(Counter.THROTTLES));
+    }
+
+    @Test
+    void record_NullKey_Ignored() {
+        // Arrange
+        KeyHeatMap heatMap = new KeyHeatMap();
+
+        // Act
+        heatMap.record(Counter.WRITES, null);
+
+        // Assert
+        assertEquals(0, heatMap.snapshot().getTotal(Counter.WRITES));
+    }
+
+    @Test
+    void constructor_NoBuckets_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyHeatMap(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new KeyHeatMap(64, 0));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedItemSourceTest {
+
+    @Test
+    void next_RepeatedKey_MarksItemAsDuplicate() {
+        // Arrange - a key space of 2 repeats keys from the third item on
+        KeyedItemSource source = new KeyedItemSource(new KeyDistribution.Monotonic(2), "test-item-1-k", 4,
+                () -> "payload", new SplittableRandom(1));
+
+        // Act
+        List<TestItem> items = new ArrayList<>();
+        while (source.hasNext()) {
+            items.add(source.next());
+        }
+
+        // Assert
+        assertEquals(List.of("test-item-1-k0", "test-item-1-k1", "test-item-1-k0", "test-item-1-k1"),
+                items.stream().map(TestItem::getPrimaryKey).toList());
+        assertEquals(List.of(false, false, true, true),
+                items.stream().map(item -> item.getAttribute("is_duplicate")).toList());
+        assertEquals("DUPLICATE_ERROR", items.get(2).getAttribute("expected_result"));
+        assertThrows(NoSuchElementException.class, source::next);
+    }
+
+    @Test
+    void getStats_SkewedKeys_ReportsHottestKeyShare() {
+        // Arrange - all traffic goes to 1 of 200 keys, which is within the hottest 1%
+        KeyedItemSource source = new KeyedItemSource(new KeyDistribution.Hotspot(200, 100.0, 0.5), "k", -1,
+                () -> "payload", new SplittableRandom(1));
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            source.next();
+        }
+        KeyedItemSource.KeyUsageStats stats = source.getStats();
+
+        // Assert
+        assertTrue(source.hasNext());
+        assertEquals(50, stats.getGeneratedItems());
+        assertEquals(1, stats.getDistinctKeys());
+        assertEquals(100.0, stats.getHottestKeyPercentage(), 0.001);
+        assertEquals(98.0, stats.getRepeatedKeyPercentage(), 0.001);
+    }
+}
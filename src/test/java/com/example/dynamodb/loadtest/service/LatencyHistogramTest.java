@@ -0,0 +1,180 @@
+package com.example.dynamodb.loadtest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void snapshot_Empty_ReturnsZeroes() {
+        // Act
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        // Assert
+        assertEquals(0, snapshot.getCount());
+        assertEquals(Duration.ZERO, snapshot.getValueAtPercentile(99));
+        assertEquals(Duration.ZERO, snapshot.getMin());
+        assertEquals(Duration.ZERO, snapshot.getMax());
+        assertEquals(Duration.ZERO, snapshot.getMean());
+    }
+
+    @Test
+    void getValueAtPercentile_WideRange_StaysWithinRelativeError() {
+        // Arrange - log-normal response times from microseconds to seconds
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(1);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextGaussian() * 1.5 + Math.log(5_000_000));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        for (double percentile : new double[] { 1, 50, 90, 99, 99.9, 99.99 }) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long recorded = snapshot.getValueAtPercentile(percentile).toNanos();
+            assertEquals(exact, recorded, exact * 0.002 + 1_000, "p" + percentile);
+        }
+        assertEquals(values[0], snapshot.getMin().toNanos());
+        assertEquals(values[values.length - 1], snapshot.getMax().toNanos());
+    }
+
+    @Test
+    void getValueAtPercentile_CoarsePrecision_StaysWithinItsRelativeError() {
+        // Arrange - 5 bits keep values within 2^-4 (6.25%)
+        LatencyHistogram histogram = new LatencyHistogram(1, 5);
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 100_000L);
+        }
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(1_000, snapshot.getCount());
+        assertEquals(50_000_000, snapshot.getValueAtPercentile(50).toNanos(), 50_000_000 * 0.0625);
+        assertEquals(99_000_000, snapshot.getValueAtPercentile(99).toNanos(), 99_000_000 * 0.0625);
+        assertEquals(Duration.ofMillis(100), snapshot.getMax());
+    }
+
+    @Test
+    void constructor_PrecisionOutOfRange_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1, 17));
+    }
+
+    @Test
+    void getValueAtPercentile_SingleValue_ReturnsExactValue() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMillis(42).plusNanos(17).toNanos());
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(Duration.ofMillis(42).plusNanos(17), snapshot.getValueAtPercentile(50));
+        assertEquals(Duration.ofMillis(42).plusNanos(17), snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void record_AboveHighestTrackableValue_KeepsExactMaximum() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        Duration outlier = LatencyHistogram.HIGHEST_TRACKABLE_VALUE.multipliedBy(3);
+        histogram.record(Duration.ofMillis(5).toNanos());
+        histogram.record(outlier.toNanos());
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(outlier, snapshot.getMax());
+        assertTrue(snapshot.getValueAtPercentile(100).compareTo(LatencyHistogram.HIGHEST_TRACKABLE_VALUE) >= 0);
+    }
+
+    @Test
+    void record_ConcurrentThreads_CountsEveryValue() throws Exception {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> recorders = new ArrayList<>();
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            recorders.add(executor.submit(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    histogram.record(i * 1_000L);
+                }
+            }));
+        }
+        for (Future<?> recorder : recorders) {
+            recorder.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(Duration.ofNanos(5_000_500), snapshot.getMean());
+        assertEquals(Duration.ofMillis(10), snapshot.getMax());
+    }
+
+    @Test
+    void reset_AfterRecording_ClearsValues() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+
+        // Act
+        histogram.reset();
+
+        // Assert
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+
+    @Test
+    void merge_TwoSnapshots_CombinesCountsAndExtremes() {
+        // Arrange
+        LatencyHistogram first = new LatencyHistogram(1, 5);
+        LatencyHistogram second = new LatencyHistogram(1, 5);
+        for (int i = 1; i <= 50; i++) {
+            first.record(i * 1_000_000L);
+            second.record((50 + i) * 1_000_000L);
+        }
+
+        // Act
+        LatencyHistogram.Snapshot merged = first.snapshot().merge(second.snapshot());
+
+        // Assert
+        assertEquals(100, merged.getCount());
+        assertEquals(Duration.ofMillis(1), merged.getMin());
+        assertEquals(Duration.ofMillis(100), merged.getMax());
+        assertEquals(50, merged.getValueAtPercentile(50).toMillis(), 2);
+        assertEquals(99, merged.getValueAtPercentile(99).toMillis(), 4);
+    }
+
+    @Test
+    void merge_DifferentPrecision_Throws() {
+        // Arrange
+        LatencyHistogram.Snapshot coarse = new LatencyHistogram(1, 5).snapshot();
+        LatencyHistogram.Snapshot fine = new LatencyHistogram(1, 7).snapshot();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> coarse.merge(fine));
+    }
+}
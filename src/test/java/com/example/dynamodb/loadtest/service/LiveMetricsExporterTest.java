@@ -0,0 +1,112 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveMetricsExporterTest {
+
+    private MetricsCollectionService metricsService;
+    private LiveMetricsExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsCollectionService();
+        metricsService.startTest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (exporter != null) {
+            exporter.stop();
+        }
+    }
+
+    @Test
+    void scrape_RecordedOperations_RendersPrometheusText() {
+        // Arrange
+        exporter = new LiveMetricsExporter(metricsService, 0);
+        metricsService.beginPhase("ramp-up-1", 4);
+        metricsService.recordSuccess(Duration.ofMillis(10), 4);
+        metricsService.recordSuccess(Duration.ofMillis(30), 4);
+        metricsService.recordThrottlingError(Duration.ofMillis(5), 4);
+        metricsService.recordConsumedCapacity(2.0, 0.5);
+
+        // Act
+        String text = exporter.scrape();
+
+        // Assert
+        assertTrue(text.contains("# TYPE dynamodb_load_test_operations_total counter\n"));
+        assertTrue(text.contains("dynamodb_load_test_operations_total{outcome=\"success\"} 2\n"));
+        assertTrue(text.contains("dynamodb_load_test_operations_total{outcome=\"error\"} 1\n"));
+        assertTrue(text.contains("dynamodb_load_test_errors_total{type=\"" + TestMetrics.ERROR_TYPE_THROTTLING
+                + "\"} 1\n"));
+        assertTrue(text.contains("# TYPE dynamodb_load_test_response_time_seconds summary\n"));
+        assertTrue(text.contains("dynamodb_load_test_response_time_seconds{quantile=\"0.99\"} 0.03"));
+        assertTrue(text.contains("dynamodb_load_test_response_time_seconds_count 3\n"));
+        assertTrue(text.contains("dynamodb_load_test_consumed_capacity_units_total{capacity=\"write\"} 2\n"));
+        assertTrue(text.contains("dynamodb_load_test_consumed_capacity_units_total{capacity=\"read\"} 0.5\n"));
+        assertTrue(text.contains("dynamodb_load_test_active_phase{phase=\"ramp-up-1\"} 1\n"));
+    }
+
+    @Test
+    void start_RegistersMBean_ExposesLiveCounters() throws Exception {
+        // Arrange
+        exporter = new LiveMetricsExporter(metricsService, 0);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(LiveMetricsExporter.OBJECT_NAME);
+
+        // Act
+        exporter.start();
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+        metricsService.recordNetworkError(1);
+
+        // Assert
+        assertEquals(2L, mBeanServer.getAttribute(name, "Operations"));
+        assertEquals(1L, mBeanServer.getAttribute(name, "Errors"));
+        assertEquals(50.0, (Double) mBeanServer.getAttribute(name, "ErrorRate"), 0.01);
+
+        exporter.stop();
+        assertFalse(mBeanServer.isRegistered(name));
+    }
+
+    @Test
+    void start_WithPrometheusPort_ServesMetricsOverHttp() throws Exception {
+        // Arrange
+        int port = freePort();
+        exporter = new LiveMetricsExporter(metricsService, port);
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+
+        // Act
+        exporter.start();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + LiveMetricsExporter.METRICS_PATH))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+        assertTrue(response.body().contains("dynamodb_load_test_operations_total{outcome=\"success\"} 1\n"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
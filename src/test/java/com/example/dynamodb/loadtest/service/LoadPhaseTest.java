@@ -0,0 +1,164 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadPhaseTest {
+
+    @Test
+    void planProgressive_ItemBasedRamp_SplitsRampUpItemsAcrossSteps() {
+        // Arrange - 100 items: 20 at max concurrency 2, 80 for ramp-up
+        TestConfiguration config = new TestConfiguration("test-table", 10, 100, 20.0, 0.0, false, "test");
+
+        // Act
+        List<LoadPhase> phases = LoadPhase.planProgressive(config);
+
+        // Assert - max level 2 gives 2 ramp-up steps plus the max concurrency phase
+        assertEquals(3, phases.size());
+        assertEquals(1, phases.get(0).getConcurrency());
+        assertEquals(40, phases.get(0).getItemBudget());
+        assertEquals(2, phases.get(1).getConcurrency());
+        assertEquals(40, phases.get(1).getItemBudget());
+        assertNull(phases.get(0).getHoldDuration());
+
+        LoadPhase max = phases.get(2);
+        assertEquals("max-concurrency", max.getName());
+        assertEquals(config.getMaxConcurrencyLevel(), max.getConcurrency());
+        assertEquals(-1, max.getItemBudget());
+    }
+
+    @Test
+    void planProgressive_TimeBoxedRamp_HoldsEachStepForConfiguredDuration() {
+        // Arrange
+        TestConfiguration config = new TestConfiguration("test-table", 100, 1000, 50.0, 0.0, false, "test");
+        config.setRampStepDurationSeconds(30);
+
+        // Act
+        List<LoadPhase> phases = LoadPhase.planProgressive(config);
+
+        // Assert - 10 steps of increasing concurrency, then max concurrency
+        assertEquals(11, phases.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Duration.ofSeconds(30), phases.get(i).getHoldDuration());
+            assertEquals(-1, phases.get(i).getItemBudget());
+            assertEquals((i + 1) * 5, phases.get(i).getConcurrency());
+        }
+        assertNull(phases.get(10).getHoldDuration());
+    }
+
+    @Test
+    void planProgressive_DurationMode_SplitsRampUpShareOfDurationAcrossSteps() {
+        // Arrange - 1000s run, 20% at max concurrency: 800s of ramp-up over 10 steps
+        TestConfiguration config = new TestConfiguration("test-table", 100, 1000, 20.0, 0.0, false, "test");
+        config.setTestDurationSeconds(1000);
+
+        // Act
+        List<LoadPhase> phases = LoadPhase.planProgressive(config);
+
+        // Assert
+        assertEquals(11, phases.size());
+        assertEquals(Duration.ofSeconds(80), phases.get(0).getHoldDuration());
+        assertEquals(-1, phases.get(0).getItemBudget());
+        assertEquals("max-concurrency", phases.get(10).getName());
+    }
+
+    @Test
+    void planProgressive_DurationModeAllAtMax_SkipsRampUp() {
+        // Arrange
+        TestConfiguration config = new TestConfiguration("test-table", 10, 1000, 100.0, 0.0, false, "test");
+        config.setTestDurationSeconds(60);
+
+        // Act
+        List<LoadPhase> phases = LoadPhase.planProgressive(config);
+
+        // Assert
+        assertEquals(1, phases.size());
+        assertEquals(10, phases.get(0).getConcurrency());
+    }
+
+    @Test
+    void forDuration_EndlessSource_EndsWhenDurationElapses() throws InterruptedException {
+        // Arrange
+        Iterator<Integer> endless = LoadPhase.forDuration(IntStream.iterate(0, i -> i + 1).iterator(),
+                Duration.ofMillis(50));
+
+        // Act
+        assertEquals(0, endless.next());
+        Thread.sleep(60);
+
+        // Assert
+        assertFalse(endless.hasNext());
+    }
+
+    @Test
+    void bound_ItemBudget_StopsAtBudgetAndLeavesRestForNextPhase() {
+        // Arrange
+        Iterator<Integer> source = IntStream.range(0, 10).iterator();
+        LoadPhase first = new LoadPhase("first", 1, 4, null);
+
+        // Act
+        List<Integer> firstItems = drain(first.bound(source));
+        List<Integer> rest = drain(LoadPhase.untilExhausted("rest", 1).bound(source));
+
+        // Assert
+        assertEquals(List.of(0, 1, 2, 3), firstItems);
+        assertEquals(List.of(4, 5, 6, 7, 8, 9), rest);
+    }
+
+    @Test
+    void bound_ConcurrentLanes_TakeExactlyItemBudget() {
+        // Arrange
+        Iterator<Integer> source = IntStream.range(0, 1_000).iterator();
+        ConcurrentSource<Integer> bounded = (ConcurrentSource<Integer>) new LoadPhase("first", 8, 300, null)
+                .bound(source);
+        AtomicInteger taken = new AtomicInteger(0);
+
+        // Act - lanes poll the phase concurrently
+        try (ExecutorService lanes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int lane = 0; lane < 8; lane++) {
+                lanes.submit(() -> {
+                    while (bounded.poll() != null) {
+                        taken.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        // Assert - the rest is left for the next phase
+        assertEquals(300, taken.get());
+        assertEquals(700, drain(LoadPhase.untilExhausted("rest", 1).bound(source)).size());
+    }
+
+    @Test
+    void bound_HoldDuration_StopsWhenDeadlinePasses() throws InterruptedException {
+        // Arrange - an unbounded source
+        Iterator<Integer> source = IntStream.iterate(0, i -> i + 1).iterator();
+        LoadPhase phase = new LoadPhase("timed", 1, -1, Duration.ofMillis(50));
+        Iterator<Integer> bounded = phase.bound(source);
+
+        // Act
+        assertTrue(bounded.hasNext());
+        bounded.next();
+        Thread.sleep(60);
+
+        // Assert
+        assertFalse(bounded.hasNext());
+    }
+
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import com.example.dynamodb.loadtest.repository.DynamoDBRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoadTestEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCircuitBreaker_StateChanges_EmitTransitionEvents() throws Exception {
+        // Arrange
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 1, Duration.ofMillis(1), 1);
+
+        // Act - open, probe after the timeout, close again
+        List<RecordedEvent> events = record(CircuitBreakerTransitionEvent.NAME, () -> {
+            circuitBreaker.onFailure();
+            circuitBreaker.onFailure();
+            Thread.sleep(10);
+            circuitBreaker.canExecute();
+            circuitBreaker.onSuccess();
+        });
+
+        // Assert
+        assertEquals(3, events.size());
+        assertTransition(events.get(0), "CLOSED", "OPEN");
+        assertEquals(2, events.get(0).getInt("failureCount"));
+        assertTransition(events.get(1), "OPEN", "HALF_OPEN");
+        assertTransition(events.get(2), "HALF_OPEN", "CLOSED");
+    }
+
+    @Test
+    void testExecuteWithRetry_Timeout_EmitsBackoffEvent() throws Exception {
+        // Arrange - the first attempt times out, the second succeeds
+        ErrorHandler errorHandler = new ErrorHandler();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        List<RecordedEvent> events = record(RetryBackoffEvent.NAME, () -> errorHandler.executeWithRetry(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new SocketTimeoutException("Read timed out");
+            }
+            return "done";
+        }));
+
+        // Assert
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(1, event.getInt("attempt"));
+        assertEquals(TestMetrics.ERROR_TYPE_TIMEOUT, event.getString("reason"));
+        assertTrue(event.getDuration("plannedDelay").compareTo(errorHandler.getBaseDelay()) >= 0);
+        assertTrue(event.getDuration().compareTo(Duration.ofMillis(40)) >= 0);
+    }
+
+    @Test
+    void testPhase_BeginAndEnd_EmitsPhaseEventWithOutcome() throws Exception {
+        // Arrange
+        MetricsCollectionService metrics = new MetricsCollectionService();
+
+        // Act
+        List<RecordedEvent> events = record(LoadPhaseEvent.NAME, () -> {
+            int phaseId = metrics.beginPhase("ramp-8", 8);
+            metrics.recordPhaseSuccess(Duration.ofMillis(5).toNanos(), phaseId);
+            metrics.recordPhaseSuccess(Duration.ofMillis(7).toNanos(), phaseId);
+            metrics.recordPhaseError(TestMetrics.ERROR_TYPE_THROTTLING, Duration.ofMillis(9).toNanos(), phaseId);
+            metrics.endPhase(phaseId);
+            metrics.endPhase(phaseId);
+        });
+
+        // Assert - ending a phase twice commits it once
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("ramp-8", event.getString("phase"));
+        assertEquals(8, event.getInt("concurrency"));
+        assertEquals(2, event.getLong("successes"));
+        assertEquals(1, event.getLong("errors"));
+    }
+
+    @Test
+    void testAttempt_AsyncRead_EmitsAttemptEvent() throws Exception {
+        // Arrange
+        DynamoDBRepository repository = mock(DynamoDBRepository.class);
+        when(repository.getItem("key-1"))
+                .thenReturn(CompletableFuture.completedFuture(GetItemResponse.builder().build()));
+        ResilientDynamoDBService service = new ResilientDynamoDBService(repository, new ErrorHandler(),
+                new CircuitBreaker());
+
+        // Act
+        List<RecordedEvent> events = record(DynamoDBAttemptEvent.NAME,
+                () -> service.getItemWithResilience("key-1").get());
+
+        // Assert
+        assertEquals(1, events.size());
+        assertEquals("get key-1", events.get(0).getString("request"));
+        assertEquals(1, events.get(0).getInt("attempt"));
+        assertNull(events.get(0).getString("errorType"));
+    }
+
+    private List<RecordedEvent> record(String eventName, RecordedAction action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    private static void assertTransition(RecordedEvent event, String from, String to) {
+        assertEquals(from, event.getString("fromState"));
+        assertEquals(to, event.getString("toState"));
+    }
+
+    @FunctionalInterface
+    private interface RecordedAction {
+        void run() throws Exception;
+    }
+}
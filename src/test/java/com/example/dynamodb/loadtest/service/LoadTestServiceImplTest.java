@@ -19,6 +19,7 @@ import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.lenient;
 
@@ -44,7 +45,7 @@ class LoadTestServiceImplTest {
         // (lenient for tests that don't use it)
         lenient().when(resilientDynamoDBService.putItemWithResilience(any(), any()))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        lenient().when(resilientDynamoDBService.putItemWithEnhancedResilience(any(), any()))
+        lenient().when(resilientDynamoDBService.putItemWithEnhancedResilience(any()))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         loadTestService = new LoadTestServiceImpl(metricsCollectionService, resilientDynamoDBService,
@@ -217,6 +218,20 @@ class LoadTestServiceImplTest {
         assertFalse(result.isCompletedExceptionally());
     }
 
+    @Test
+    void executeWithConcurrency_ValidItems_RecordsQueueWaitPerOperation() throws Exception {
+        // Arrange
+        List<TestItem> items = List.of(
+                new TestItem("key1", "payload1"),
+                new TestItem("key2", "payload2"));
+
+        // Act
+        loadTestService.executeWithConcurrency(items, 1).get();
+
+        // Assert - closed-loop operations are issued as soon as they are taken
+        verify(metricsCollectionService, times(2)).recordQueueWait(anyLong());
+    }
+
     @Test
     void executeWithConcurrency_EmptyItems_CompletesSuccessfully() throws ExecutionException, InterruptedException {
         // Arrange
@@ -1,5 +1,6 @@
 package com.example.dynamodb.loadtest.service;
 
+import com.example.dynamodb.loadtest.model.TestItem;
 import com.example.dynamodb.loadtest.model.TestMetrics;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,8 +10,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -223,6 +226,23 @@ class MetricsCollectionServiceTest {
         assertEquals(2, metrics.getTotalOperations());
     }
 
+    @Test
+    void getMetricsForConcurrencyLevel_SubMillisecondResponses_KeepsAverage() {
+        // Arrange - responses too fast to show up in whole milliseconds
+        for (int i = 0; i < 3; i++) {
+            metricsService.recordPhaseSuccess(400_000L + i * 100_000L, MetricsCollectionService.NO_PHASE);
+            metricsService.recordSuccess(Duration.ofNanos(400_000L + i * 100_000L), 2);
+        }
+
+        // Act
+        TestMetrics metrics = metricsService.getMetricsForConcurrencyLevel(2);
+
+        // Assert
+        assertEquals(0.5, metrics.getAverageResponseTimeMs(), 0.0001);
+        assertEquals(Duration.ofNanos(3_000_000), metricsService.getAllMetrics().get(0).getResponseTime());
+        assertEquals(Duration.ofNanos(500_000), metricsService.generateSummary().getAverageResponseTime());
+    }
+
     @Test
     void getMetricsForConcurrencyLevel_NonExistingLevel_ReturnsNull() {
         // Act
@@ -233,7 +253,7 @@ class MetricsCollectionServiceTest {
     }
 
     @Test
-    void getAllMetrics_ReturnsAllRecordedMetrics() {
+    void getAllMetrics_ReturnsMetricsRolledUpPerWindow() {
         // Arrange
         metricsService.recordSuccess(Duration.ofMillis(100), 1);
         metricsService.recordError(TestMetrics.ERROR_TYPE_TIMEOUT, Duration.ofMillis(200), 2);
@@ -241,8 +261,576 @@ class MetricsCollectionServiceTest {
         // Act
         List<TestMetrics> allMetrics = metricsService.getAllMetrics();
 
+        // Assert - both metrics fall into the first one-minute window
+        assertEquals(1, allMetrics.size());
+        TestMetrics window = allMetrics.get(0);
+        assertEquals(1, window.getSuccessCount());
+        assertEquals(1, window.getErrorCount());
+        assertEquals(1, window.getErrorCount(TestMetrics.ERROR_TYPE_TIMEOUT));
+        assertEquals(Duration.ofMillis(300), window.getResponseTime());
+        assertEquals(2, window.getConcurrencyLevel());
+    }
+
+    @Test
+    void getAllMetrics_TimelineEvicted_KeepsMinuteWindow() throws InterruptedException {
+        // Arrange - one-minute windows, but only two 5ms timeline buckets retained
+        MetricsCollectionService service = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(5), 2);
+        service.startTest();
+        for (int i = 0; i < 5; i++) {
+            service.recordSuccess(Duration.ofMillis(2), i + 1);
+            Thread.sleep(6);
+        }
+        service.recordError(TestMetrics.ERROR_TYPE_THROTTLING, Duration.ofMillis(4), 1);
+        service.endTest();
+
+        // Act
+        List<TestMetrics> windows = service.getAllMetrics();
+
+        // Assert - the minute window outlives the buckets the timeline evicted
+        assertTrue(service.getTimeline().size() <= 2);
+        assertEquals(1, windows.size());
+        assertEquals(5, windows.get(0).getSuccessCount());
+        assertEquals(1, windows.get(0).getErrorCount(TestMetrics.ERROR_TYPE_THROTTLING));
+        assertEquals(Duration.ofMillis(14), windows.get(0).getResponseTime());
+        assertEquals(5, windows.get(0).getConcurrencyLevel());
+    }
+
+    @Test
+    void getAllMetrics_LongRun_RetainsOnlyMostRecentWindows() throws InterruptedException {
+        // Arrange - 5ms windows, only 3 retained
+        MetricsCollectionService bounded = new MetricsCollectionService(Duration.ofMillis(5), 3);
+        bounded.startTest();
+
+        // Act - record across many more windows than are retained
+        for (int i = 0; i < 20; i++) {
+            bounded.recordSuccess(Duration.ofMillis(1), 1);
+            Thread.sleep(6);
+        }
+
+        // Assert - totals stay exact while the timeline is bounded
+        List<TestMetrics> windows = bounded.getAllMetrics();
+        assertTrue(windows.size() <= 3, "Retained " + windows.size() + " windows");
+        assertFalse(windows.isEmpty());
+        for (int i = 1; i < windows.size(); i++) {
+            assertTrue(windows.get(i).getTimestamp().isAfter(windows.get(i - 1).getTimestamp()));
+        }
+        assertEquals(20, bounded.generateSummary().getTotalOperations());
+    }
+
+    @Test
+    void getTimeline_SeveralBuckets_ReportsThroughputAndLatencyPerBucket() throws InterruptedException {
+        // Arrange - 50ms timeline buckets
+        MetricsCollectionService service = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(50), 100);
+        service.startTest();
+        for (int i = 0; i < 3; i++) {
+            service.recordSuccess(Duration.ofMillis(10), 4);
+        }
+        service.recordError(TestMetrics.ERROR_TYPE_THROTTLING, Duration.ofMillis(40), 4);
+        Thread.sleep(120);
+        service.recordSuccess(Duration.ofMillis(20), 4);
+        service.endTest();
+
+        // Act
+        List<MetricsCollectionService.TimelinePoint> timeline = service.getTimeline();
+
+        // Assert - seconds without operations are filled in as empty points
+        assertTrue(timeline.size() >= 3, "Timeline has " + timeline.size() + " points");
+        MetricsCollectionService.TimelinePoint first = timeline.get(0);
+        assertEquals(Duration.ZERO, first.getOffset());
+        assertEquals(Duration.ofMillis(50), first.getDuration());
+        assertEquals(4, first.getOperations());
+        assertEquals(1, first.getErrors());
+        assertEquals(1L, first.getErrorTypeCounts().get(TestMetrics.ERROR_TYPE_THROTTLING).longValue());
+        assertEquals(80.0, first.getThroughputPerSecond(), 0.001);
+        assertEquals(10, first.getP50ResponseTime().toMillis(), 1);
+        assertEquals(Duration.ofMillis(40), first.getMaxResponseTime());
+        assertEquals(0, timeline.get(1).getOperations());
+        assertEquals(Duration.ZERO, timeline.get(1).getP99ResponseTime());
+        MetricsCollectionService.TimelinePoint last = timeline.get(timeline.size() - 1);
+        assertEquals(1, last.getOperations());
+        assertEquals(Duration.ofMillis(20), last.getMaxResponseTime());
+        for (int i = 1; i < timeline.size(); i++) {
+            assertEquals(Duration.ofMillis(50L * i), timeline.get(i).getOffset());
+        }
+        assertEquals(timeline.size(), service.generateSummary().getTimeline().size());
+    }
+
+    @Test
+    void getTimeline_LongRun_CoversOnlyRetainedBuckets() throws InterruptedException {
+        // Arrange - 5ms timeline buckets, only 3 retained
+        MetricsCollectionService service = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(5), 3);
+        service.startTest();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            service.recordSuccess(Duration.ofMillis(1), 1);
+            Thread.sleep(6);
+        }
+        service.endTest();
+        List<MetricsCollectionService.TimelinePoint> timeline = service.getTimeline();
+
+        // Assert
+        assertTrue(timeline.size() <= 3, "Timeline has " + timeline.size() + " points");
+        assertFalse(timeline.isEmpty());
+        assertTrue(timeline.get(0).getOffset().compareTo(Duration.ofMillis(50)) > 0);
+        assertEquals(20, service.generateSummary().getTotalOperations());
+    }
+
+    @Test
+    void getLiveStats_DuringTest_ReportsCountersAndLastCompleteBucket() throws InterruptedException {
+        // Arrange - 200ms timeline buckets
+        MetricsCollectionService service = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(200), 100);
+        service.startTest();
+        service.beginPhase("steady", 4);
+        for (int i = 0; i < 3; i++) {
+            service.recordSuccess(Duration.ofMillis(10), 4);
+        }
+        service.recordThrottlingError(Duration.ofMillis(40), 4);
+        service.recordConsumedCapacity(3.0, 0);
+        service.recordOperationIssued();
+        Thread.sleep(250);
+
+        // Act
+        MetricsCollectionService.LiveStats stats = service.getLiveStats();
+
+        // Assert - 4 operations in the first complete 200ms bucket
+        assertEquals(4, stats.getOperations());
+        assertEquals(1, stats.getErrors());
+        assertEquals(1L, stats.getErrorTypeCounts().get(TestMetrics.ERROR_TYPE_THROTTLING).longValue());
+        assertEquals(20.0, stats.getRecentThroughputPerSecond(), 0.01);
+        assertEquals(4, stats.getLatency().getCount());
+        assertEquals(3.0, stats.getWriteCapacityUnits(), 0.001);
+        assertEquals("steady", stats.getActivePhase());
+        assertEquals(4, stats.getActiveConcurrency());
+        assertEquals(1, stats.getInFlightOperations());
+        assertTrue(stats.getElapsed().compareTo(Duration.ofMillis(250)) >= 0);
+    }
+
+    @Test
+    void getRecentLatency_EndedTest_CoversOnlyTheLastBuckets() throws InterruptedException {
+        // Arrange - 50ms timeline buckets, slow operations first, fast ones last
+        MetricsCollectionService service = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(50), 100);
+        service.startTest();
+        for (int i = 0; i < 10; i++) {
+            service.recordSuccess(Duration.ofMillis(500), 4);
+        }
+        Thread.sleep(160);
+        for (int i = 0; i < 4; i++) {
+            service.recordSuccess(Duration.ofMillis(5), 4);
+        }
+        service.endTest();
+
+        // Act
+        LatencyHistogram.Snapshot recent = service.getRecentLatency(Duration.ofMillis(50));
+        LatencyHistogram.Snapshot whole = service.getRecentLatency(Duration.ofMinutes(1));
+
+        // Assert
+        assertEquals(4, recent.getCount());
+        assertEquals(5, recent.getValueAtPercentile(99).toMillis(), 1);
+        assertEquals(14, whole.getCount());
+        assertEquals(Duration.ofMillis(500), whole.getMax());
+    }
+
+    @Test
+    void getRecentLatency_BeforeFirstBucketCompletes_ReturnsEmptySnapshot() {
+        // Arrange
+        metricsService.startTest();
+        metricsService.recordSuccess(Duration.ofMillis(5), 1);
+
+        // Act & Assert
+        assertEquals(0, metricsService.getRecentLatency(Duration.ofSeconds(10)).getCount());
+    }
+
+    @Test
+    void generateSummary_KeyActivity_IncludesKeyHeat() {
+        // Arrange
+        metricsService.recordKeyActivity(KeyHeatMap.Counter.WRITES, "key-1");
+        metricsService.recordKeyActivity(KeyHeatMap.Counter.THROTTLES, "key-1");
+
+        // Act
+        TestSummary summary = metricsService.generateSummary();
+
+        // Assert
+        assertNotNull(summary.getKeyHeat());
+        assertEquals("key-1", summary.getKeyHeat().getTopKeys(KeyHeatMap.Counter.THROTTLES).get(0).getKey());
+
+        // A reset clears the heat map
+        metricsService.reset();
+        assertNull(metricsService.generateSummary().getKeyHeat());
+    }
+
+    @Test
+    void getInFlightOperations_IssuedAndCompleted_CountsOutstandingOperations() {
+        // Act
+        metricsService.recordOperationIssued();
+        metricsService.recordOperationIssued();
+        metricsService.recordOperationCompleted();
+
+        // Assert
+        assertEquals(1, metricsService.getInFlightOperations());
+        assertEquals(0, metricsService.getLiveStats().getActiveConcurrency());
+    }
+
+    @Test
+    void getTimeline_NothingRecorded_ReturnsEmptyTimeline() {
+        // Act & Assert
+        assertTrue(metricsService.getTimeline().isEmpty());
+        assertTrue(metricsService.generateSummary().getTimeline().isEmpty());
+    }
+
+    @Test
+    void generateSummary_ManyResponseTimes_ReportsTailPercentilesAtMicrosecondResolution() {
+        // Arrange - 10,000 response times from 1ms to 100ms, plus one 2.5s outlier
+        for (int i = 0; i < 10_000; i++) {
+            metricsService.recordSuccess(Duration.ofMillis(1 + (i % 100)), 1);
+        }
+        metricsService.recordSuccess(Duration.ofMillis(2500).plusNanos(123_456), 1);
+
+        // Act
+        TestSummary summary = metricsService.generateSummary();
+
         // Assert
-        assertEquals(2, allMetrics.size());
+        Map<String, Duration> percentiles = summary.getResponseTimePercentiles();
+        assertEquals(MetricsCollectionService.PERCENTILE_KEYS.size(), percentiles.size());
+        assertEquals(10_001, summary.getTotalOperations());
+        assertEquals(51, percentiles.get("p50").toMillis());
+        assertEquals(100, percentiles.get("p99").toMillis());
+        assertEquals(100, percentiles.get("p99.9").toMillis());
+        assertEquals(100, percentiles.get("p99.99").toMillis());
+        assertEquals(Duration.ofMillis(2500).plusNanos(123_456), percentiles.get("max"));
+    }
+
+    @Test
+    void getLatencySnapshot_DuringTest_ReturnsPercentilesSoFar() {
+        // Arrange
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+        metricsService.recordSuccess(Duration.ofMillis(20), 1);
+        metricsService.recordError("Timeout", Duration.ofMillis(30), 1);
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = metricsService.getLatencySnapshot();
+
+        // Assert
+        assertEquals(3, snapshot.getCount());
+        assertEquals(20, snapshot.getValueAtPercentile(50).toMillis());
+        assertEquals(Duration.ofMillis(30), snapshot.getMax());
+        assertEquals(Duration.ofMillis(20), snapshot.getMean());
+    }
+
+    @Test
+    void getLatencyBreakdown_RecordedComponents_KeepsThemApart() {
+        // Arrange - an operation that waited 5ms, was throttled once and retried after 50ms
+        metricsService.recordQueueWait(Duration.ofMillis(5).toNanos());
+        metricsService.recordServiceTime(Duration.ofMillis(8).toNanos());
+        metricsService.recordBackoff(Duration.ofMillis(50).toNanos());
+        metricsService.recordServiceTime(Duration.ofMillis(10).toNanos());
+        metricsService.recordSuccess(Duration.ofMillis(73), 1);
+
+        // Act
+        MetricsCollectionService.LatencyBreakdown breakdown = metricsService.generateSummary().getLatencyBreakdown();
+
+        // Assert
+        assertEquals(1, breakdown.getQueueWait().getCount());
+        assertEquals(Duration.ofMillis(5), breakdown.getQueueWait().getMax());
+        assertEquals(2, breakdown.getServiceTime().getCount());
+        assertEquals(Duration.ofMillis(10), breakdown.getServiceTime().getMax());
+        assertEquals(Duration.ofMillis(50), breakdown.getBackoff().getMax());
+        assertEquals(Duration.ofMillis(73), breakdown.getTotal().getMax());
+
+        metricsService.reset();
+        assertEquals(0, metricsService.getLatencyBreakdown().getServiceTime().getCount());
+    }
+
+    @Test
+    void beginPhase_SequentialPhases_AttributesMetricsToActivePhase() {
+        // Arrange
+        int first = metricsService.beginPhase("ramp-up-1", 2);
+        metricsService.recordSuccess(Duration.ofMillis(10), 2);
+        metricsService.recordSuccess(Duration.ofMillis(30), 2);
+        metricsService.endPhase(first);
+
+        int second = metricsService.beginPhase("max-concurrency", 8);
+        metricsService.recordSuccess(Duration.ofMillis(50), 8);
+        metricsService.recordThrottlingError(Duration.ofMillis(5), 8);
+        metricsService.endPhase(second);
+
+        // Recorded outside any phase: counted in totals only
+        metricsService.recordSuccess(Duration.ofMillis(1), 8);
+
+        // Act
+        TestSummary summary = metricsService.generateSummary();
+        List<MetricsCollectionService.PhaseSummary> phases = summary.getPhaseSummaries();
+
+        // Assert
+        assertEquals(5, summary.getTotalOperations());
+        assertEquals(2, phases.size());
+
+        MetricsCollectionService.PhaseSummary rampUp = phases.get(0);
+        assertEquals("ramp-up-1", rampUp.getName());
+        assertEquals(2, rampUp.getConcurrency());
+        assertEquals(2, rampUp.getSuccesses());
+        assertEquals(0, rampUp.getErrors());
+        assertEquals(Duration.ofMillis(20), rampUp.getAverageResponseTime());
+        assertEquals(Duration.ofMillis(30), rampUp.getMaxResponseTime());
+        assertNotNull(rampUp.getEndTime());
+
+        MetricsCollectionService.PhaseSummary max = phases.get(1);
+        assertEquals(8, max.getConcurrency());
+        assertEquals(2, max.getTotalOperations());
+        assertEquals(50.0, max.getErrorRate(), 0.01);
+        assertEquals(1L, max.getErrorTypeCounts().get(TestMetrics.ERROR_TYPE_THROTTLING));
+    }
+
+    @Test
+    void recordBatch_BatchOutcomes_AggregatesFillAndUnprocessedRate() {
+        // Arrange - a full batch that needed one re-drive of 5 items, and a half-full batch
+        List<TestItem> fullBatch = items(25);
+        long[] completed = new long[25];
+        Arrays.fill(completed, 1);
+        metricsService.recordBatch(new ResilientDynamoDBService.BatchWriteResult(
+                fullBatch, completed, List.of(), 1, 5), 2, Duration.ofMillis(40));
+
+        List<TestItem> halfBatch = items(12);
+        long[] partlyCompleted = new long[12];
+        metricsService.recordBatch(new ResilientDynamoDBService.BatchWriteResult(
+                halfBatch, partlyCompleted, halfBatch.subList(0, 2), 5, 0), 0, Duration.ofMillis(20));
+
+        // Act
+        MetricsCollectionService.BatchWriteStats stats = metricsService.generateSummary().getBatchWriteStats();
+
+        // Assert
+        assertEquals(2, stats.getBatches());
+        assertEquals(37, stats.getBatchedItems());
+        assertEquals(74.0, stats.getFillRatio(), 0.01);
+        assertEquals(5, stats.getRedrivenItems());
+        assertEquals(2, stats.getUnprocessedItems());
+        assertEquals(7 * 100.0 / 42, stats.getUnprocessedRate(), 0.01);
+        assertEquals(2, stats.getDuplicateItems());
+        assertEquals(Duration.ofMillis(30), stats.getAverageBatchResponseTime());
+        assertEquals(Duration.ofMillis(40), stats.getMaxBatchResponseTime());
+    }
+
+    @Test
+    void generateSummary_NoBatches_OmitsBatchStats() {
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+
+        assertNull(metricsService.generateSummary().getBatchWriteStats());
+    }
+
+    @Test
+    void recordAttempts_RetriedOperations_CalculatesAmplification() {
+        // Arrange - 8 first-try operations, 1 retried once, 1 retried past the tracked range
+        for (int i = 0; i < 8; i++) {
+            metricsService.recordAttempts(1);
+        }
+        metricsService.recordAttempts(2);
+        metricsService.recordAttempts(MetricsCollectionService.MAX_TRACKED_ATTEMPTS + 2);
+        metricsService.recordRetry(TestMetrics.ERROR_TYPE_THROTTLING);
+        metricsService.recordHttpAttempt(false);
+        metricsService.recordHttpAttempt(true);
+
+        // Act
+        MetricsCollectionService.RetryStats stats = metricsService.generateSummary().getRetryStats();
+
+        // Assert - 22 requests plus 1 SDK retry for 10 operations
+        assertEquals(10, stats.getOperations());
+        assertEquals(22, stats.getRequests());
+        assertEquals(12, stats.getApplicationRetries());
+        assertEquals(2, stats.getHttpAttempts());
+        assertEquals(1, stats.getSdkRetries());
+        assertEquals(2.3, stats.getAmplificationFactor(), 0.001);
+        assertEquals(8, stats.getOperationsWithAttempts(1));
+        assertEquals(1, stats.getOperationsWithAttempts(2));
+        assertEquals(1, stats.getOperationsWithAttempts(MetricsCollectionService.MAX_TRACKED_ATTEMPTS));
+        assertEquals(MetricsCollectionService.MAX_TRACKED_ATTEMPTS, stats.getMaxAttempts());
+        assertEquals(1L, stats.getRetriedErrorCounts().get(TestMetrics.ERROR_TYPE_THROTTLING).longValue());
+    }
+
+    @Test
+    void generateSummary_NoAttemptsRecorded_OmitsRetryStats() {
+        // Arrange
+        metricsService.recordAttempts(3);
+        metricsService.reset();
+
+        // Act & Assert
+        assertNull(metricsService.generateSummary().getRetryStats());
+    }
+
+    @Test
+    void recordConnectionAcquire_FullPool_CountsSaturatedAcquires() {
+        // Arrange - 3 of 4 requests find the 50-connection pool fully leased or contended
+        metricsService.recordConnectionAcquire(Duration.ofMillis(1).toNanos(), 10, 0, 50);
+        metricsService.recordConnectionAcquire(Duration.ofMillis(30).toNanos(), 50, 0, 50);
+        metricsService.recordConnectionAcquire(Duration.ofMillis(40).toNanos(), 50, 7, 50);
+        metricsService.recordConnectionAcquire(Duration.ofMillis(50).toNanos(), 49, 12, 50);
+        metricsService.recordHttpResponse(200, Duration.ofMillis(5).toNanos());
+        metricsService.recordHttpResponse(200, Duration.ofMillis(6).toNanos());
+        metricsService.recordHttpResponse(400, Duration.ofMillis(4).toNanos());
+        metricsService.recordHttpResponse(0, -1);
+
+        // Act
+        MetricsCollectionService.HttpClientStats stats = metricsService.generateSummary().getHttpClientStats();
+
+        // Assert
+        assertEquals(4, stats.getConnectionAcquire().getCount());
+        assertEquals(3, stats.getSaturatedAcquires());
+        assertEquals(75.0, stats.getSaturationRate(), 0.001);
+        assertEquals(50, stats.getMaxConnections());
+        assertEquals(50, stats.getPeakLeasedConnections());
+        assertEquals(12, stats.getPeakPendingAcquires());
+        assertEquals(3, stats.getServiceCall().getCount());
+        assertEquals(Map.of(0, 1L, 200, 2L, 400, 1L), stats.getStatusCodeCounts());
+    }
+
+    @Test
+    void generateSummary_NoClientMetrics_OmitsHttpClientStats() {
+        // Arrange
+        metricsService.recordHttpResponse(200, 1_000_000);
+        metricsService.reset();
+
+        // Act & Assert
+        assertNull(metricsService.generateSummary().getHttpClientStats());
+    }
+
+    @Test
+    void recordConsumedCapacity_DuringPhases_AggregatesPerPhaseAndPerSecond() {
+        // Arrange
+        metricsService.startTest();
+        int first = metricsService.beginPhase("ramp-up-1", 2);
+        metricsService.recordSuccess(Duration.ofMillis(10), 2);
+        metricsService.recordConsumedCapacity(1.0, 0);
+        metricsService.recordSuccess(Duration.ofMillis(10), 2);
+        metricsService.recordConsumedCapacity(2.0, 0);
+        metricsService.endPhase(first);
+
+        int second = metricsService.beginPhase("max-concurrency", 8);
+        metricsService.recordSuccess(Duration.ofMillis(5), 8);
+        metricsService.recordConsumedCapacity(0, 0.5);
+        metricsService.recordSuccess(Duration.ofMillis(20), 8);
+        metricsService.recordConsumedCapacity(4.0, 1.5);
+        metricsService.endPhase(second);
+        metricsService.endTest();
+
+        // Act
+        TestSummary summary = metricsService.generateSummary();
+        MetricsCollectionService.CapacityStats capacity = summary.getCapacityStats();
+
+        // Assert
+        assertEquals(7.0, capacity.getWriteCapacityUnits(), 0.001);
+        assertEquals(2.0, capacity.getReadCapacityUnits(), 0.001);
+        assertEquals(3.0, summary.getPhaseSummaries().get(0).getWriteCapacityUnits(), 0.001);
+        assertEquals(0.0, summary.getPhaseSummaries().get(0).getReadCapacityUnits(), 0.001);
+        assertEquals(4.0, summary.getPhaseSummaries().get(1).getWriteCapacityUnits(), 0.001);
+        assertEquals(2.0, summary.getPhaseSummaries().get(1).getReadCapacityUnits(), 0.001);
+
+        // All units fall in the first one-second bucket
+        assertEquals(7.0, summary.getTimeline().get(0).getWriteCapacityUnits(), 0.001);
+        assertEquals(7.0, capacity.getPeakWriteUnitsPerSecond(), 0.001);
+        assertEquals(2.0, capacity.getPeakReadUnitsPerSecond(), 0.001);
+    }
+
+    @Test
+    void recordConsumedCapacity_PeakBucketEvicted_KeepsPeakOfWholeRun() throws InterruptedException {
+        // Arrange - 10ms timeline buckets, only two retained
+        MetricsCollectionService service = new MetricsCollectionService(Duration.ofMinutes(1), 10,
+                Duration.ofMillis(10), 2);
+        service.startTest();
+        service.recordSuccess(Duration.ofMillis(1), 1);
+        service.recordConsumedCapacity(5.0, 2.0);
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(12);
+            service.recordConsumedCapacity(1.0, 0.5);
+        }
+        service.endTest();
+
+        // Act
+        TestSummary summary = service.generateSummary();
+
+        // Assert - the busiest bucket is long gone from the timeline
+        assertTrue(summary.getTimeline().size() <= 2);
+        MetricsCollectionService.CapacityStats capacity = summary.getCapacityStats();
+        assertEquals(10.0, capacity.getWriteCapacityUnits(), 0.001);
+        assertEquals(500.0, capacity.getPeakWriteUnitsPerSecond(), 0.001);
+        assertEquals(200.0, capacity.getPeakReadUnitsPerSecond(), 0.001);
+    }
+
+    @Test
+    void generateSummary_NoConsumedCapacity_OmitsCapacityStats() {
+        // Arrange
+        metricsService.recordSuccess(Duration.ofMillis(10), 1);
+        metricsService.recordConsumedCapacity(0, 0);
+
+        // Act & Assert
+        assertNull(metricsService.generateSummary().getCapacityStats());
+    }
+
+    @Test
+    void recordKeyUsageStats_UntilReset_IsIncludedInSummary() {
+        // Arrange
+        KeyedItemSource.KeyUsageStats stats = new KeyedItemSource.KeyUsageStats("uniform", 100, 10, 9, 1);
+
+        // Act
+        metricsService.recordKeyUsageStats(stats);
+        KeyedItemSource.KeyUsageStats recorded = metricsService.generateSummary().getKeyUsageStats();
+        metricsService.reset();
+
+        // Assert
+        assertSame(stats, recorded);
+        assertNull(metricsService.generateSummary().getKeyUsageStats());
+    }
+
+    @Test
+    void recordTransactions_MixedOutcomes_CountsCancellationReasons() {
+        // Arrange
+        metricsService.recordCommittedTransaction(4, Duration.ofMillis(20));
+        metricsService.recordCanceledTransaction(4, List.of("TransactionConflict"), Duration.ofMillis(30));
+        metricsService.recordCanceledTransaction(4, List.of("ConditionalCheckFailed", "TransactionConflict"),
+                Duration.ofMillis(40));
+        metricsService.recordFailedTransaction(2, Duration.ofMillis(50));
+
+        // Act
+        MetricsCollectionService.TransactionStats stats = metricsService.generateSummary().getTransactionStats();
+
+        // Assert
+        assertEquals(4, stats.getTransactions());
+        assertEquals(1, stats.getCommittedTransactions());
+        assertEquals(2, stats.getCanceledTransactions());
+        assertEquals(1, stats.getFailedTransactions());
+        assertEquals(14, stats.getTransactedItems());
+        assertEquals(4, stats.getCommittedItems());
+        assertEquals(50.0, stats.getCancellationRate(), 0.01);
+        assertEquals(Map.of("ConditionalCheckFailed", 1L, "TransactionConflict", 2L), stats.getCancellationReasons());
+        assertEquals(Duration.ofMillis(35), stats.getAverageResponseTime());
+        assertEquals(Duration.ofMillis(50), stats.getMaxResponseTime());
+    }
+
+    @Test
+    void recordOperation_MixedWorkload_SplitsStatsPerOperationType() {
+        // Arrange
+        metricsService.recordOperation("put", Duration.ofMillis(20).toNanos(), null, 0.0);
+        metricsService.recordOperation("get", Duration.ofMillis(4).toNanos(), null, 0.5);
+        metricsService.recordOperation("get", Duration.ofMillis(6).toNanos(), null, 0.5);
+        metricsService.recordOperation("get", Duration.ofMillis(50).toNanos(), TestMetrics.ERROR_TYPE_THROTTLING, 0.0);
+
+        // Act
+        Map<String, MetricsCollectionService.OperationStats> stats = metricsService.generateSummary()
+                .getOperationStats();
+
+        // Assert
+        assertEquals(List.of("get", "put"), List.copyOf(stats.keySet()));
+        MetricsCollectionService.OperationStats gets = stats.get("get");
+        assertEquals(3, gets.getOperations());
+        assertEquals(2, gets.getSuccesses());
+        assertEquals(Map.of(TestMetrics.ERROR_TYPE_THROTTLING, 1L), gets.getErrorTypeCounts());
+        assertEquals(1.0, gets.getConsumedCapacityUnits(), 0.001);
+        assertEquals(Duration.ofMillis(20), gets.getAverageResponseTime());
+        assertEquals(Duration.ofMillis(50), gets.getMaxResponseTime());
+        assertEquals(1, stats.get("put").getOperations());
     }
 
     @Test
@@ -344,6 +932,81 @@ class MetricsCollectionServiceTest {
         assertEquals(threadCount * operationsPerThread / 2, summary.getTotalErrors());
     }
 
+    @Test
+    void recordSuccess_TenThousandVirtualThreads_KeepsExactCounts() throws InterruptedException {
+        // Arrange
+        int threadCount = 10_000;
+        int operationsPerThread = 50;
+        int phaseId = metricsService.beginPhase("max-concurrency", 16);
+        List<Thread> threads = new java.util.ArrayList<>();
+
+        // Act - both recording APIs, attributed to the same phase and concurrency level
+        for (int i = 0; i < threadCount; i++) {
+            final boolean legacy = i % 2 == 0;
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < operationsPerThread; j++) {
+                    if (j % 5 == 0 && legacy) {
+                        metricsService.recordThrottlingError(Duration.ofMillis(2), 16);
+                    } else if (j % 5 == 0) {
+                        metricsService.recordPhaseError(TestMetrics.ERROR_TYPE_THROTTLING, 2_000_000L, phaseId);
+                    } else if (legacy) {
+                        metricsService.recordSuccess(Duration.ofMillis(1), 16);
+                    } else {
+                        metricsService.recordPhaseSuccess(1_000_000L, phaseId);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        metricsService.endPhase(phaseId);
+
+        // Assert
+        long total = (long) threadCount * operationsPerThread;
+        TestSummary summary = metricsService.generateSummary();
+        assertEquals(total, summary.getTotalOperations());
+        assertEquals(total / 5, summary.getTotalErrors());
+        assertEquals(total / 5, metricsService.getErrorTypeCount(TestMetrics.ERROR_TYPE_THROTTLING));
+        assertEquals(total, metricsService.getLatencySnapshot().getCount());
+
+        TestMetrics level = metricsService.getMetricsForConcurrencyLevel(16);
+        assertEquals(total * 4 / 5, level.getSuccessCount().longValue());
+        assertEquals(total / 5, level.getErrorCount().longValue());
+        assertEquals(total / 5, level.getErrorTypes().get(TestMetrics.ERROR_TYPE_THROTTLING).longValue());
+
+        MetricsCollectionService.PhaseSummary phase = summary.getPhaseSummaries().get(0);
+        assertEquals(total, phase.getTotalOperations());
+        assertEquals(total / 5, phase.getErrors());
+        assertEquals(Duration.ofMillis(2), phase.getMaxResponseTime());
+    }
+
+    @Test
+    void recordPhaseSuccess_PhaseId_AttributesToPhaseConcurrencyLevel() {
+        // Arrange
+        int first = metricsService.beginPhase("ramp-up-1", 4);
+        int second = metricsService.beginPhase("max-concurrency", 8);
+
+        // Act - an operation issued in the first phase completes after the second began
+        metricsService.recordPhaseSuccess(10_000_000L, first);
+        metricsService.recordPhaseSuccess(20_000_000L, second);
+        metricsService.recordPhaseError(TestMetrics.ERROR_TYPE_TIMEOUT, 0L, second);
+        metricsService.recordPhaseSuccess(30_000_000L, MetricsCollectionService.NO_PHASE);
+        metricsService.recordPhaseSuccess(40_000_000L, 99);
+
+        // Assert
+        TestSummary summary = metricsService.generateSummary();
+        assertEquals(5, summary.getTotalOperations());
+        assertEquals(1, summary.getPhaseSummaries().get(0).getSuccesses());
+        assertEquals(Duration.ofMillis(10), summary.getPhaseSummaries().get(0).getMaxResponseTime());
+        assertEquals(2, summary.getPhaseSummaries().get(1).getTotalOperations());
+        assertEquals(1, metricsService.getMetricsForConcurrencyLevel(4).getSuccessCount());
+        assertEquals(1, metricsService.getMetricsForConcurrencyLevel(8).getErrorCount());
+        assertEquals(2, summary.getConcurrencyLevelMetrics().size());
+        // The untimed error stays out of the percentiles
+        assertEquals(4, metricsService.getLatencySnapshot().getCount());
+    }
+
     @Test
     void testSummary_CalculatesPercentiles() {
         // Arrange
@@ -389,4 +1052,10 @@ class MetricsCollectionServiceTest {
         assertTrue(summary.getThroughputPerSecond() > 0);
         assertTrue(summary.getTestDuration().toMillis() > 0);
     }
-}
\ No newline at end of file
+
+    private static List<TestItem> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TestItem("key-" + i, "payload"))
+                .toList();
+    }
+}
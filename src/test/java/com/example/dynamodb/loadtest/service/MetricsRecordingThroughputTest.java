@@ -0,0 +1,195 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Before/after throughput comparison of metric recording. The "before"
+ * recorder reproduces the previous hot path: a TestMetrics allocated and
+ * validated per operation, snapshotted and merged into a per-concurrency
+ * TestMetrics under a read lock. The "after" recorder is
+ * {@link MetricsCollectionService#recordPhaseSuccess(long, int)}.
+ * Wall-clock benchmark, run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class MetricsRecordingThroughputTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRecordingThroughputTest.class);
+
+    private static final Duration MEASUREMENT_WINDOW = Duration.ofMillis(1000);
+    private static final int CONCURRENCY = 16;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4, 16 })
+    void recordSuccess_ConcurrentThreads_OutperformsLockedMergePath(int threads) throws Exception {
+        // Arrange
+        MetricsCollectionService service = new MetricsCollectionService();
+        int phaseId = service.beginPhase("benchmark", CONCURRENCY);
+        LockedMergeRecorder lockedMerge = new LockedMergeRecorder();
+        Runnable before = () -> lockedMerge.record(new TestMetrics(Duration.ofNanos(1_500_000), 1, 0, CONCURRENCY));
+        Runnable after = () -> service.recordPhaseSuccess(1_500_000L, phaseId);
+
+        // Act - the first pass warms up both paths
+        measureThroughput(before, threads);
+        measureThroughput(after, threads);
+        double beforeRate = measureThroughput(before, threads);
+        double afterRate = measureThroughput(after, threads);
+
+        // Assert
+        logger.info("Recording throughput with {} threads: before {} ops/s, after {} ops/s",
+                threads, String.format("%.0f", beforeRate), String.format("%.0f", afterRate));
+        assertTrue(afterRate > beforeRate * 1.5,
+                "Lock-free recording " + afterRate + " ops/s should clearly beat the locked merge " + beforeRate);
+    }
+
+    @Test
+    void recordSuccess_WarmedUp_DoesNotAllocate() {
+        // Arrange
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MetricsCollectionService service = new MetricsCollectionService();
+        int phaseId = service.beginPhase("benchmark", CONCURRENCY);
+        for (int i = 0; i < 100_000; i++) {
+            service.recordPhaseSuccess(1_000L + i, phaseId);
+            service.recordPhaseError(TestMetrics.ERROR_TYPE_THROTTLING, 1_000L + i, phaseId);
+        }
+
+        // Act
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1_000_000; i++) {
+            service.recordPhaseSuccess(1_000L + i, phaseId);
+            service.recordPhaseError(TestMetrics.ERROR_TYPE_THROTTLING, 1_000L + i, phaseId);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // Assert - a window rollover may allocate once, nothing per operation
+        assertTrue(allocated < 64 * 1024, "Recording 2,000,000 operations allocated " + allocated + " bytes");
+        assertEquals(2_200_000, service.generateSummary().getTotalOperations());
+    }
+
+    private static double measureThroughput(Runnable recorder, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            long deadline = start + MEASUREMENT_WINDOW.toNanos();
+            List<Future<Long>> counts = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                counts.add(executor.submit(() -> {
+                    long recorded = 0;
+                    while (System.nanoTime() < deadline) {
+                        for (int j = 0; j < 100; j++) {
+                            recorder.run();
+                        }
+                        recorded += 100;
+                    }
+                    return recorded;
+                }));
+            }
+
+            long total = 0;
+            for (Future<Long> count : counts) {
+                total += count.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return total / seconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The previous recording path, reduced to its per-operation costs: the
+     * reservoir sample, window, totals, concurrency level merge and phase
+     * updates of one recordMetric call.
+     */
+    private static final class LockedMergeRecorder {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicLongArray sample = new AtomicLongArray(100_000);
+        private final AtomicLong sampled = new AtomicLong(0);
+        private final LongAdder recordedMetrics = new LongAdder();
+        private final LongAdder totalResponseTimeMillis = new LongAdder();
+        private final LongAdder windowSuccesses = new LongAdder();
+        private final LongAdder windowErrors = new LongAdder();
+        private final LongAdder windowResponseTimeMillis = new LongAdder();
+        private final AtomicLong windowMaxConcurrency = new AtomicLong(0);
+        private final Map<Integer, TestMetrics> concurrencyLevelMetrics = new ConcurrentHashMap<>();
+        private final AtomicLong totalOperations = new AtomicLong(0);
+        private final AtomicLong totalSuccesses = new AtomicLong(0);
+        private final AtomicLong totalErrors = new AtomicLong(0);
+        private final Map<String, AtomicLong> errorTypeCounts = new ConcurrentHashMap<>();
+        private final LongAdder phaseSuccesses = new LongAdder();
+        private final LongAdder phaseErrors = new LongAdder();
+        private final LongAdder phaseResponseNanos = new LongAdder();
+        private final AtomicLong phaseMaxResponseNanos = new AtomicLong(0);
+
+        private void record(TestMetrics metric) {
+            if (!metric.isValid()) {
+                return;
+            }
+            lock.readLock().lock();
+            try {
+                long nanos = metric.getResponseTime().toNanos();
+                recordedMetrics.increment();
+                totalResponseTimeMillis.add(metric.getResponseTime().toMillis());
+                long position = sampled.getAndIncrement();
+                if (position < sample.length()) {
+                    sample.set((int) position, nanos);
+                } else {
+                    long replace = ThreadLocalRandom.current().nextLong(position + 1);
+                    if (replace < sample.length()) {
+                        sample.set((int) replace, nanos);
+                    }
+                }
+
+                windowSuccesses.add(metric.getSuccessCount());
+                windowErrors.add(metric.getErrorCount());
+                windowResponseTimeMillis.add(metric.getResponseTime().toMillis());
+                windowMaxConcurrency.accumulateAndGet(metric.getConcurrencyLevel(), Math::max);
+
+                totalOperations.addAndGet(metric.getTotalOperations());
+                totalSuccesses.addAndGet(metric.getSuccessCount());
+                totalErrors.addAndGet(metric.getErrorCount());
+                for (Map.Entry<String, Integer> errorEntry : metric.getErrorTypes().entrySet()) {
+                    errorTypeCounts.computeIfAbsent(errorEntry.getKey(), k -> new AtomicLong(0))
+                            .addAndGet(errorEntry.getValue());
+                }
+                concurrencyLevelMetrics.merge(metric.getConcurrencyLevel(), metric.createSnapshot(),
+                        (existing, incoming) -> {
+                            existing.merge(incoming);
+                            return existing;
+                        });
+
+                phaseSuccesses.add(metric.getSuccessCount());
+                phaseErrors.add(metric.getErrorCount());
+                phaseResponseNanos.add(nanos);
+                phaseMaxResponseNanos.accumulateAndGet(nanos, Math::max);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
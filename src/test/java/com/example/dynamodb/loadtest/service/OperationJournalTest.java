@@ -0,0 +1,212 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import com.example.dynamodb.loadtest.service.OperationJournal.Operation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationJournalTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testAppend_ReadBack_KeepsEveryField() throws Exception {
+        // Arrange
+        Path path = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(path);
+        long origin = System.nanoTime();
+
+        // Act
+        journal.append(Operation.GET, origin, origin + 5 * MILLIS, 1, null, 0, "key-1");
+        journal.append(Operation.PUT, origin, origin + 40 * MILLIS, 3, TestMetrics.ERROR_TYPE_THROTTLING, 2,
+                "key-2");
+        journal.close();
+
+        // Assert
+        List<OperationJournalReader.Entry> entries = readAll(path);
+        assertEquals(2, entries.size());
+        assertEquals(2, journal.getRecordCount());
+
+        OperationJournalReader.Entry get = entries.get(0).getOperation() == Operation.GET ? entries.get(0)
+                : entries.get(1);
+        assertTrue(get.isSuccess());
+        assertNull(get.getErrorType());
+        assertEquals(1, get.getAttempts());
+        assertEquals(0, get.getPhaseId());
+        assertEquals(5 * MILLIS, get.getResponseNanos());
+        assertEquals(OperationJournal.keyHash("key-1"), get.getKeyHash());
+
+        OperationJournalReader.Entry put = entries.get(0).getOperation() == Operation.PUT ? entries.get(0)
+                : entries.get(1);
+        assertFalse(put.isSuccess());
+        assertEquals(TestMetrics.ERROR_TYPE_THROTTLING, put.getErrorType());
+        assertEquals(3, put.getAttempts());
+        assertEquals(2, put.getPhaseId());
+        assertEquals(40 * MILLIS, put.getResponseNanos());
+    }
+
+    @Test
+    void testAppend_UnknownErrorType_JournaledAsUnknown() throws Exception {
+        // Arrange
+        Path path = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(path);
+        long now = System.nanoTime();
+
+        // Act
+        journal.append(Operation.QUERY, now, now + MILLIS, 1, "SomethingNew", -1, null);
+        journal.close();
+
+        // Assert
+        OperationJournalReader.Entry entry = readAll(path).get(0);
+        assertEquals(TestMetrics.ERROR_TYPE_UNKNOWN, entry.getErrorType());
+        assertEquals(-1, entry.getPhaseId());
+        assertEquals(0, entry.getKeyHash());
+    }
+
+    @Test
+    void testAppend_ConcurrentWritersAcrossChunks_EveryOperationJournaledOnce() throws Exception {
+        // Arrange - small chunks so every writer claims several of them
+        Path path = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(path, 16);
+        int threads = 8;
+        int operationsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < operationsPerThread; i++) {
+                    long now = System.nanoTime();
+                    journal.append(Operation.PUT, now, now + MILLIS, 1, null, 0, "key-" + thread + "-" + i);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        journal.close();
+
+        // Assert
+        Set<Long> keyHashes = new HashSet<>();
+        new OperationJournalReader(path).forEach(entry -> keyHashes.add(entry.getKeyHash()));
+        assertEquals(threads * operationsPerThread, keyHashes.size());
+        assertEquals(threads * operationsPerThread, journal.getRecordCount());
+        assertEquals(0, journal.getDroppedRecords());
+    }
+
+    @Test
+    void testAppend_AfterClose_CountedAsDropped() throws Exception {
+        // Arrange
+        Path path = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(path);
+        journal.close();
+
+        // Act
+        long now = System.nanoTime();
+        journal.append(Operation.GET, now, now, 1, null, 0, "key");
+
+        // Assert
+        assertEquals(0, journal.getRecordCount());
+        assertEquals(1, journal.getDroppedRecords());
+        assertTrue(readAll(path).isEmpty());
+    }
+
+    @Test
+    void testHistogram_FilteredByPhase_RebuildsPercentiles() throws Exception {
+        // Arrange - 100 operations of 1..100 ms in phase 1, slow ones in phase 0
+        Path path = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(path);
+        long origin = System.nanoTime();
+        for (int i = 1; i <= 100; i++) {
+            journal.append(Operation.PUT, origin, origin + i * MILLIS, 1, null, 1, "key-" + i);
+            journal.append(Operation.PUT, origin, origin + 1_000 * MILLIS, 1, null, 0, "key-" + i);
+        }
+        journal.close();
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = new OperationJournalReader(path)
+                .histogram(entry -> entry.getPhaseId() == 1);
+
+        // Assert
+        assertEquals(100, snapshot.getCount());
+        assertEquals(50, snapshot.getValueAtPercentile(50).toMillis(), 1);
+        assertEquals(99, snapshot.getValueAtPercentile(99).toMillis(), 1);
+        assertEquals(Duration.ofMillis(100), snapshot.getMax());
+    }
+
+    @Test
+    void testTimeSeries_BucketsByCompletionTime() throws Exception {
+        // Arrange - three operations completing in second 0, one failure in second 2
+        Path path = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(path);
+        long origin = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            journal.append(Operation.GET, origin, origin + 10 * MILLIS, 1, null, 0, "key-" + i);
+        }
+        journal.append(Operation.GET, origin + 2_000 * MILLIS, origin + 2_050 * MILLIS, 3,
+                TestMetrics.ERROR_TYPE_TIMEOUT, 0, "key-3");
+        journal.close();
+
+        // Act
+        List<OperationJournalReader.TimeSeriesPoint> points = new OperationJournalReader(path)
+                .timeSeries(Duration.ofSeconds(1), entry -> true);
+
+        // Assert - the empty second in between is left out
+        assertEquals(2, points.size());
+        assertEquals(3, points.get(0).getOperations());
+        assertEquals(0, points.get(0).getErrors());
+        assertEquals(3.0, points.get(0).getThroughputPerSecond(), 0.001);
+        assertEquals(1, points.get(1).getOperations());
+        assertEquals(1, points.get(1).getErrors());
+        assertTrue(points.get(1).getOffset().compareTo(points.get(0).getOffset()) > 0);
+    }
+
+    @Test
+    void testReader_NotAJournal_Rejected() throws Exception {
+        // Arrange
+        Path path = tempDir.resolve("not-a-journal");
+        Files.write(path, new byte[64]);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> new OperationJournalReader(path));
+    }
+
+    @Test
+    void testKeyHash_StableAndDistinct() {
+        assertEquals(OperationJournal.keyHash("key-1"), OperationJournal.keyHash("key-1"));
+        assertNotEquals(OperationJournal.keyHash("key-1"), OperationJournal.keyHash("key-2"));
+        assertEquals(0, OperationJournal.keyHash(null));
+    }
+
+    private static List<OperationJournalReader.Entry> readAll(Path path) throws IOException {
+        List<OperationJournalReader.Entry> entries = new ArrayList<>();
+        new OperationJournalReader(path).forEach(entries::add);
+        return entries;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestConfiguration;
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressReporterTest {
+
+    private MetricsCollectionService metrics;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollectionService();
+        metrics.startTest();
+        output = new ByteArrayOutputStream();
+    }
+
+    @Test
+    void testStop_JsonFormat_PrintsFinalJsonLine() throws Exception {
+        // Arrange - 40 of 100 items written
+        TestConfiguration config = new TestConfiguration();
+        config.setTotalItems(100);
+        ProgressReporter reporter = reporter(ProgressReporter.FORMAT_JSON);
+        int phaseId = metrics.beginPhase("ramp-8", 8);
+        for (int i = 0; i < 39; i++) {
+            metrics.recordPhaseSuccess(Duration.ofMillis(5).toNanos(), phaseId);
+        }
+        metrics.recordPhaseError(TestMetrics.ERROR_TYPE_THROTTLING, Duration.ofMillis(9).toNanos(), phaseId);
+        metrics.recordOperationIssued();
+        Thread.sleep(10);
+
+        // Act
+        reporter.start(config);
+        reporter.stop();
+
+        // Assert
+        String[] lines = lines();
+        assertEquals(1, lines.length);
+        JsonNode report = new ObjectMapper().readTree(lines[0]);
+        assertEquals("progress-final", report.get("type").asText());
+        assertEquals("ramp-8", report.get("phase").asText());
+        assertEquals(8, report.get("concurrency").asInt());
+        assertEquals(40, report.get("operations").asLong());
+        assertEquals(1, report.get("errorsByType").get(TestMetrics.ERROR_TYPE_THROTTLING).asLong());
+        assertEquals(2.5, report.get("errorRatePercent").asDouble(), 0.001);
+        assertEquals(1, report.get("inFlight").asLong());
+        assertEquals(40.0, report.get("percentComplete").asDouble(), 0.001);
+        assertTrue(report.get("throughputPerSecond").asDouble() > 0);
+        assertTrue(report.get("etaSeconds").asDouble() > 0);
+    }
+
+    @Test
+    void testProgress_DurationMode_EstimatesRemainingDuration() {
+        // Arrange
+        TestConfiguration config = new TestConfiguration();
+        config.setTestDurationSeconds(3600);
+        ProgressReporter reporter = reporter(ProgressReporter.FORMAT_TEXT);
+        reporter.start(config);
+
+        // Act
+        ProgressReporter.Progress progress = reporter.progress();
+        reporter.stop();
+
+        // Assert
+        assertTrue(progress.getRemaining().compareTo(Duration.ofMinutes(59)) > 0);
+        assertTrue(progress.getRemaining().compareTo(Duration.ofHours(1)) <= 0);
+        assertTrue(progress.getPercentComplete() < 1.0);
+        assertTrue(lines()[0].startsWith("Final progress: 0m "));
+        assertTrue(lines()[0].contains("ETA 59m"));
+    }
+
+    @Test
+    void testProgress_NothingSinceLastReport_ReportsZeroCurrentThroughput() throws Exception {
+        // Arrange
+        ProgressReporter reporter = reporter(ProgressReporter.FORMAT_TEXT);
+        for (int i = 0; i < 10; i++) {
+            metrics.recordSuccess(Duration.ofMillis(5), 1);
+        }
+        Thread.sleep(10);
+        ProgressReporter.Progress first = reporter.progress();
+        Thread.sleep(10);
+
+        // Act
+        ProgressReporter.Progress second = reporter.progress();
+
+        // Assert - the first report falls back to the average since the start
+        assertTrue(first.getThroughputPerSecond() > 0);
+        assertEquals(0.0, second.getThroughputPerSecond(), 0.001);
+        assertEquals(10, second.getOperations());
+        assertNull(second.getRemaining());
+    }
+
+    @Test
+    void testFormat_Text_ShowsEveryFigure() {
+        // Arrange
+        ProgressReporter reporter = reporter(ProgressReporter.FORMAT_TEXT);
+        ProgressReporter.Progress progress = new ProgressReporter.Progress(Duration.ofSeconds(130), "ramp-64", 64,
+                84_211, 652.3, Duration.ofMillis(8), Duration.ofMillis(61), 0.35,
+                Map.of(TestMetrics.ERROR_TYPE_THROTTLING, 295L), 64, 42.1, Duration.ofSeconds(179));
+
+        // Act
+        String line = reporter.format(progress, false);
+
+        // Assert
+        assertTrue(line.startsWith("Progress: 2m 10s | phase ramp-64 @ 64 | 84211 ops, 652.3 ops/s"), line);
+        assertTrue(line.contains("p50 8.00 ms, p99 61.00 ms"), line);
+        assertTrue(line.contains("errors 0.35% {Throttling=295}"), line);
+        assertTrue(line.contains("in flight 64"), line);
+        assertTrue(line.endsWith("42.1% done, ETA 2m 59s"), line);
+    }
+
+    @Test
+    void testStop_NotStarted_PrintsNothing() {
+        // Arrange
+        ProgressReporter reporter = reporter(ProgressReporter.FORMAT_JSON);
+
+        // Act
+        reporter.stop();
+
+        // Assert
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void testConstructor_UnknownFormat_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProgressReporter(metrics, Duration.ofSeconds(1), "xml", System.out));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProgressReporter(metrics, Duration.ZERO, ProgressReporter.FORMAT_TEXT, System.out));
+    }
+
+    private ProgressReporter reporter(String format) {
+        return new ProgressReporter(metrics, Duration.ofHours(1), format,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private String[] lines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toArray(String[]::new);
+    }
+}
@@ -10,14 +10,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.lenient;
 
@@ -44,7 +50,7 @@ class ProgressiveLoadTestTest {
                 // (lenient for tests that don't use it)
                 lenient().when(resilientDynamoDBService.putItemWithResilience(any(), any()))
                                 .thenReturn(CompletableFuture.completedFuture(null));
-                lenient().when(resilientDynamoDBService.putItemWithEnhancedResilience(any(), any()))
+                lenient().when(resilientDynamoDBService.putItemWithEnhancedResilience(any()))
                                 .thenReturn(CompletableFuture.completedFuture(null));
 
                 loadTestService = new LoadTestServiceImpl(metricsCollectionService, resilientDynamoDBService,
@@ -86,7 +92,7 @@ class ProgressiveLoadTestTest {
 
                 // Verify that metrics were recorded (should have multiple calls due to
                 // progressive ramping)
-                verify(metricsCollectionService, atLeastOnce()).recordSuccess(any(Duration.class), anyInt());
+                verify(metricsCollectionService, atLeastOnce()).recordPhaseSuccess(anyLong(), anyInt());
         }
 
         @Test
@@ -183,7 +189,7 @@ class ProgressiveLoadTestTest {
                 assertEquals(mockSummary, summary);
 
                 // Verify that many operations were recorded
-                verify(metricsCollectionService, atLeast(400)).recordSuccess(any(Duration.class), anyInt());
+                verify(metricsCollectionService, atLeast(400)).recordPhaseSuccess(anyLong(), anyInt());
         }
 
         @Test
@@ -215,7 +221,7 @@ class ProgressiveLoadTestTest {
                 assertEquals(mockSummary, summary);
 
                 // Verify that most operations were recorded at high concurrency
-                verify(metricsCollectionService, atLeast(90)).recordSuccess(any(Duration.class), anyInt());
+                verify(metricsCollectionService, atLeast(90)).recordPhaseSuccess(anyLong(), anyInt());
         }
 
         @Test
@@ -247,7 +253,7 @@ class ProgressiveLoadTestTest {
                 assertEquals(mockSummary, summary);
 
                 // Most operations should be in ramp-up phase with lower concurrency
-                verify(metricsCollectionService, atLeast(90)).recordSuccess(any(Duration.class), anyInt());
+                verify(metricsCollectionService, atLeast(90)).recordPhaseSuccess(anyLong(), anyInt());
         }
 
         @Test
@@ -306,4 +312,110 @@ class ProgressiveLoadTestTest {
                 assertNotNull(summary);
                 assertEquals(mockSummary, summary);
         }
-}
\ No newline at end of file
+
+        @Test
+        void executeLoadTest_ConstantRateMode_RecordsArrivalRateStats()
+                        throws ExecutionException, InterruptedException {
+                // Arrange
+                TestConfiguration config = new TestConfiguration(
+                                "test-table", 10, 100, 50.0, 0.0, false, "test");
+                config.setLoadPattern(TestConfiguration.LOAD_PATTERN_CONSTANT_RATE);
+                config.setTargetRequestsPerSecond(1000);
+
+                TestSummary mockSummary = new TestSummary(
+                                100, 100, 0,
+                                Map.of(),
+                                Duration.ofMillis(100),
+                                Instant.now().minusMillis(100),
+                                Instant.now(),
+                                Map.of(),
+                                Map.of(),
+                                Duration.ofMillis(1),
+                                1000.0);
+
+                when(metricsCollectionService.generateSummary()).thenReturn(mockSummary);
+
+                // Act
+                TestSummary summary = loadTestService.executeLoadTest(config).get();
+
+                // Assert
+                assertEquals(mockSummary, summary);
+                verify(metricsCollectionService).recordArrivalRateStats(argThat(stats ->
+                                stats.getSentRequests() == 100
+                                                && stats.getTargetRatePerSecond() == 1000.0));
+                verify(metricsCollectionService).beginPhase("constant-rate", 10);
+                verify(metricsCollectionService, atLeast(1)).recordPhaseSuccess(anyLong(), anyInt());
+        }
+
+        @Test
+        void executeLoadTest_ProgressiveRamping_RunsPhasesSequentially()
+                        throws ExecutionException, InterruptedException {
+                // Arrange - max level 5: five ramp-up steps of 10 items, then max concurrency
+                TestConfiguration config = new TestConfiguration(
+                                "test-table", 10, 100, 50.0, 0.0, false, "test");
+
+                AtomicInteger phaseConcurrency = new AtomicInteger(0);
+                AtomicInteger inFlight = new AtomicInteger(0);
+                AtomicInteger violations = new AtomicInteger(0);
+                List<Integer> startedPhases = new CopyOnWriteArrayList<>();
+
+                when(metricsCollectionService.beginPhase(anyString(), anyInt())).thenAnswer(invocation -> {
+                        int concurrency = invocation.getArgument(1);
+                        phaseConcurrency.set(concurrency);
+                        startedPhases.add(concurrency);
+                        return startedPhases.size() - 1;
+                });
+                when(resilientDynamoDBService.putItemWithEnhancedResilience(any())).thenAnswer(invocation -> {
+                        if (inFlight.incrementAndGet() > phaseConcurrency.get()) {
+                                violations.incrementAndGet();
+                        }
+                        return CompletableFuture.runAsync(() -> {
+                                try {
+                                        Thread.sleep(1);
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                }
+                                inFlight.decrementAndGet();
+                        }, virtualThreadExecutor);
+                });
+                when(metricsCollectionService.generateSummary()).thenReturn(mock(TestSummary.class));
+
+                // Act
+                loadTestService.executeLoadTest(config).get();
+
+                // Assert - no phase ever overlaps with the next one
+                assertEquals(List.of(1, 2, 3, 4, 5, 5), startedPhases);
+                assertEquals(0, violations.get());
+                verify(metricsCollectionService, times(6)).endPhase(anyInt());
+                verify(metricsCollectionService, times(100)).recordPhaseSuccess(anyLong(), anyInt());
+        }
+
+        @Test
+        void executeLoadTest_DurationMode_GeneratesItemsUntilDurationElapses()
+                        throws ExecutionException, InterruptedException {
+                // Arrange - totalItems is tiny, but the run is sized by duration
+                TestConfiguration config = new TestConfiguration(
+                                "test-table", 4, 10, 50.0, 10.0, false, "test");
+                config.setTestDurationSeconds(1);
+
+                when(resilientDynamoDBService.putItemWithEnhancedResilience(any()))
+                                .thenAnswer(invocation -> CompletableFuture.runAsync(() -> {
+                                        try {
+                                                Thread.sleep(1);
+                                        } catch (InterruptedException e) {
+                                                Thread.currentThread().interrupt();
+                                        }
+                                }, virtualThreadExecutor));
+                when(metricsCollectionService.generateSummary()).thenReturn(mock(TestSummary.class));
+
+                // Act
+                long start = System.nanoTime();
+                loadTestService.executeLoadTest(config).get();
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+                // Assert - ran for the configured duration and wrote far more than totalItems
+                assertTrue(elapsedMillis >= 1000, "Finished after " + elapsedMillis + "ms");
+                verify(metricsCollectionService, atLeast(100)).recordPhaseSuccess(anyLong(), anyInt());
+                verifyNoInteractions(accurateDuplicateCounter);
+        }
+}
@@ -2,14 +2,18 @@ package com.example.dynamodb.loadtest.service;
 
 import com.example.dynamodb.loadtest.model.TestMetrics;
 import com.example.dynamodb.loadtest.service.MetricsCollectionService.TestSummary;
+import com.example.dynamodb.loadtest.service.MetricsCollectionService.TimelinePoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +27,10 @@ class ReportGenerationServiceTest {
     @BeforeEach
     void setUp() {
         reportService = new ReportGenerationService();
+        CostEstimationService costEstimationService = new CostEstimationService();
+        ReflectionTestUtils.setField(costEstimationService, "taskCpu", 4096);
+        ReflectionTestUtils.setField(costEstimationService, "taskMemory", 8192);
+        ReflectionTestUtils.setField(reportService, "costEstimationService", costEstimationService);
         outputStream = new ByteArrayOutputStream();
         printStream = new PrintStream(outputStream);
     }
@@ -72,6 +80,432 @@ class ReportGenerationServiceTest {
         assertTrue(output.contains("Report generated at:"));
     }
 
+    @Test
+    void testGenerateReport_WithTailPercentiles_ShouldPrintThemInOrderWithMicroseconds() {
+        // Given
+        Map<String, Duration> percentiles = new HashMap<>();
+        percentiles.put("max", Duration.ofMillis(2500));
+        percentiles.put("p99.99", Duration.ofMillis(870).plusNanos(250_000));
+        percentiles.put("p99.9", Duration.ofMillis(310));
+        percentiles.put("p50", Duration.ofNanos(1_234_567));
+        TestSummary summary = new TestSummary(10L, 10L, 0L, new HashMap<>(), Duration.ofSeconds(1),
+                Instant.now().minusSeconds(1), Instant.now(), new HashMap<>(), percentiles,
+                Duration.ofMillis(2), 10.0);
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("  P50:             1.234ms"));
+        assertTrue(output.contains("  P99.99:          870.250ms"));
+        assertTrue(output.indexOf("P99.9:") < output.indexOf("P99.99:"));
+        assertTrue(output.indexOf("P99.99:") < output.indexOf("MAX:"));
+    }
+
+    @Test
+    void testGenerateReport_WithSaturatedClient_ShouldAttributeTailToQueueWait() {
+        // Given - operations waited up to 400ms for a slot, DynamoDB answered in 5ms
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordQueueWait(Duration.ofMillis(4L * i).toNanos());
+            metrics.recordServiceTime(Duration.ofMillis(5).toNanos());
+            metrics.recordSuccess(Duration.ofMillis(4L * i + 5), 1);
+        }
+        TestSummary summary = createTestSummary();
+        summary.setLatencyBreakdown(metrics.getLatencyBreakdown());
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("LATENCY BREAKDOWN"));
+        assertTrue(output.contains("Queue Wait     100        200.191ms"));
+        assertTrue(output.contains("Service Time   100        5.000ms"));
+        assertTrue(output.contains("Backoff        0          0.000ms"));
+        assertTrue(output.contains("dominated by queue wait"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutServiceTimes_ShouldOmitLatencyBreakdown() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("LATENCY BREAKDOWN"));
+    }
+
+    @Test
+    void testGenerateReport_WithSaturatedHttpClient_ShouldPrintPoolDiagnosis() {
+        // Given - every request waited 20ms for a connection, DynamoDB answered in 4ms
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        for (int i = 0; i < 100; i++) {
+            metrics.recordConnectionAcquire(Duration.ofMillis(20).toNanos(), 50, 30, 50);
+            metrics.recordHttpResponse(i < 98 ? 200 : 400, Duration.ofMillis(4).toNanos());
+        }
+        TestSummary summary = createTestSummary();
+        summary.setHttpClientStats(metrics.getHttpClientStats());
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("HTTP CLIENT ANALYSIS"));
+        assertTrue(output.contains("Connection Pool:   50 connections (peak 50 leased, 30 waiting)"));
+        assertTrue(output.contains("Pool Saturation:   100.00% of requests found no free connection"));
+        assertTrue(output.contains("Pool Acquire   100        20.000ms"));
+        assertTrue(output.contains("Service Call   100        4.000ms"));
+        assertTrue(output.contains("  200              98"));
+        assertTrue(output.contains("  400              2"));
+        assertTrue(output.contains("The connection pool is saturated"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutHttpClientStats_ShouldOmitHttpClientSection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("HTTP CLIENT ANALYSIS"));
+    }
+
+    @Test
+    void testGenerateReport_WithRetryStats_ShouldPrintAmplification() {
+        // Given - 1,000 operations, 150 retried once and 50 twice, 40 SDK retries
+        TestSummary summary = createTestSummary();
+        long[] attemptCounts = new long[MetricsCollectionService.MAX_TRACKED_ATTEMPTS + 1];
+        attemptCounts[1] = 800;
+        attemptCounts[2] = 150;
+        attemptCounts[3] = 50;
+        summary.setRetryStats(new MetricsCollectionService.RetryStats(1_000, 1_250, 1_290, 40, attemptCounts,
+                Map.of(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED, 250L)));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("RETRY AMPLIFICATION"));
+        assertTrue(output.contains("Requests:          1,250 (250 application retries and re-drives)"));
+        assertTrue(output.contains("HTTP Requests:     1,290 (40 SDK retries)"));
+        assertTrue(output.contains("Amplification:     1.29x physical requests per operation"));
+        assertTrue(output.contains("  2                150 (15.00%)"));
+        assertTrue(output.contains("  Capacity Exceeded 250"));
+        assertFalse(output.contains("Retries add"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutRetryStats_ShouldOmitRetrySection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("RETRY AMPLIFICATION"));
+    }
+
+    @Test
+    void testGenerateReport_WithSubMillisecondResponses_ShouldPrintMicroseconds() {
+        // Given
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        metrics.recordSuccess(Duration.ofNanos(350_000), 8);
+        metrics.recordSuccess(Duration.ofNanos(490_000), 8);
+        TestSummary summary = metrics.generateSummary();
+
+        // When
+        reportService.generateReport(summary, printStream);
+        String brief = reportService.generateSummaryReport(summary);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("  Average:         0.420ms"));
+        assertTrue(output.contains("% 0.420ms"));
+        assertTrue(brief.contains("Average Response Time: 0.420ms"));
+    }
+
+    @Test
+    void testGenerateReport_WithArrivalRateStats_ShouldPrintOpenLoopSection() {
+        // Given
+        TestSummary summary = createTestSummary();
+        summary.setArrivalRateStats(new ConstantRateExecutor.RateStats(
+                20000, 1_800_000, 150, 4_200, Duration.ofMillis(35), Duration.ofSeconds(100)));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("ARRIVAL RATE (OPEN LOOP)"));
+        assertTrue(output.contains("Target Rate:       20000.00 requests/second"));
+        assertTrue(output.contains("Achieved Rate:     18000.00 requests/second (90.0% of target)"));
+        assertTrue(output.contains("Queued Sends:      150"));
+        assertTrue(output.contains("Late Sends:        4,200 (max lateness 35ms)"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutArrivalRateStats_ShouldOmitOpenLoopSection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("ARRIVAL RATE"));
+    }
+
+    @Test
+    void testGenerateReport_WithKeyUsageStats_ShouldPrintKeyDistributionSection() {
+        // Given - 50 capacity errors out of 1000 operations
+        TestSummary summary = createTestSummary();
+        summary.setKeyUsageStats(new KeyedItemSource.KeyUsageStats("zipfian(s=0.99)", 10_000, 1000, 600, 450));
+        Instant start = Instant.now().minusSeconds(20);
+        summary.setPhaseSummaries(List.of(
+                new MetricsCollectionService.PhaseSummary(0, "ramp-up-1", 5, start, start.plusSeconds(10),
+                        Duration.ofSeconds(10), 160, 40, Map.of(TestMetrics.ERROR_TYPE_THROTTLING, 40L),
+                        Duration.ofMillis(12), Duration.ofMillis(35), Duration.ofMillis(40)),
+                new MetricsCollectionService.PhaseSummary(1, "max-concurrency", 50, start.plusSeconds(10),
+                        start.plusSeconds(20), Duration.ofSeconds(10), 800, 0, Map.of(),
+                        Duration.ofMillis(20), Duration.ofMillis(75), Duration.ofMillis(90))));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("KEY DISTRIBUTION ANALYSIS"));
+        assertTrue(output.contains("Distribution:      zipfian(s=0.99)"));
+        assertTrue(output.contains("Distinct Keys:     600 of 1,000 items (40.00% repeated keys)"));
+        assertTrue(output.contains("Hottest 1% Keys:   45.00% of items"));
+        assertTrue(output.contains("Throttled:         50 (5.00% of operations)"));
+        assertTrue(output.contains("ramp-up-1        40 (20.00%)"));
+        assertTrue(output.contains("max-concurrency  0 (0.00%)"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutKeyUsageStats_ShouldOmitKeyDistributionSection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("KEY DISTRIBUTION ANALYSIS"));
+    }
+
+    @Test
+    void testGenerateReport_WithBatchWriteStats_ShouldPrintBatchSection() {
+        // Given
+        TestSummary summary = createTestSummary();
+        summary.setBatchWriteStats(new MetricsCollectionService.BatchWriteStats(
+                40, 0, 800, 40, 0, 4, 25, Duration.ofMillis(30), Duration.ofMillis(25), Duration.ofMillis(90),
+                Duration.ofMillis(120)));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("BATCH WRITE ANALYSIS"));
+        assertTrue(output.contains("Batch Fill Ratio:  80.00% (avg 20.0 of 25 items)"));
+        assertTrue(output.contains("Unprocessed Rate:  4.76% of item writes"));
+        assertTrue(output.contains("Duplicate Items:   25 submitted"));
+        assertTrue(output.contains("counted as successes, not as Duplicate Key errors"));
+    }
+
+    @Test
+    void testGenerateReport_WithTransactionStats_ShouldPrintTransactionSection() {
+        // Given
+        TestSummary summary = createTestSummary();
+        summary.setTransactionStats(new MetricsCollectionService.TransactionStats(
+                200, 150, 50, 0, 800, 600, Map.of("TransactionConflict", 40L, "ConditionalCheckFailed", 10L),
+                Duration.ofMillis(30), Duration.ofMillis(25), Duration.ofMillis(90), Duration.ofMillis(120)));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("TRANSACTION ANALYSIS"));
+        assertTrue(output.contains("Committed:         150 (75.00%, 600 items)"));
+        assertTrue(output.contains("Canceled:          50 (25.00%)"));
+        assertTrue(output.contains("TransactionConflict"));
+        assertTrue(output.contains("ConditionalCheckFailed"));
+        assertTrue(output.contains("2 WCU each in transactions"));
+    }
+
+    @Test
+    void testGenerateReport_WithOperationStats_ShouldPrintOperationMixSection() {
+        // Given
+        TestSummary summary = createTestSummary();
+        summary.setOperationStats(Map.of(
+                "put", new MetricsCollectionService.OperationStats("put", 200, 0, Map.of(), 0.0,
+                        Duration.ofMillis(20), Duration.ofMillis(18), Duration.ofMillis(60), Duration.ofMillis(90)),
+                "get", new MetricsCollectionService.OperationStats("get", 800, 8, Map.of("Throttling", 8L), 400.0,
+                        Duration.ofMillis(5), Duration.ofMillis(4), Duration.ofMillis(15), Duration.ofMillis(30))));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("OPERATION MIX ANALYSIS"));
+        assertTrue(output.contains("80.0%"));
+        assertTrue(output.contains("1.00%"));
+        assertTrue(output.contains("400.0"));
+        assertTrue(output.contains("consumed read capacity"));
+    }
+
+    @Test
+    void testGenerateReport_WithPhaseSummaries_ShouldPrintPhaseSection() {
+        // Given
+        TestSummary summary = createTestSummary();
+        Instant start = Instant.now().minusSeconds(20);
+        summary.setPhaseSummaries(List.of(
+                new MetricsCollectionService.PhaseSummary(0, "ramp-up-1", 5, start, start.plusSeconds(10),
+                        Duration.ofSeconds(10), 1000, 0, Map.of(), Duration.ofMillis(12), Duration.ofMillis(35),
+                        Duration.ofMillis(40)),
+                new MetricsCollectionService.PhaseSummary(1, "max-concurrency", 50, start.plusSeconds(10),
+                        start.plusSeconds(20), Duration.ofSeconds(10), 4000, 1000,
+                        Map.of("ThrottlingError", 1000L), Duration.ofMillis(80), Duration.ofMillis(640),
+                        Duration.ofMillis(900))));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("PHASE ANALYSIS"));
+        assertTrue(output.contains("ramp-up-1"));
+        assertTrue(output.contains("100.00"));
+        assertTrue(output.contains("max-concurrency"));
+        assertTrue(output.contains("20.00%"));
+        assertTrue(output.contains("500.00"));
+        assertTrue(output.contains("640.000ms"));
+    }
+
+    @Test
+    void testGenerateReport_WithTimeline_ShouldPrintOneRowPerSecond() {
+        // Given
+        TestSummary summary = createTestSummary();
+        Instant start = Instant.now().minusSeconds(3);
+        summary.setTimeline(List.of(
+                timelinePoint(start, 0, 1000, 0, Map.of(), 12),
+                timelinePoint(start, 1, 400, 600, Map.of(TestMetrics.ERROR_TYPE_THROTTLING, 600L), 480),
+                timelinePoint(start, 2, 950, 0, Map.of(), 15)));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("THROUGHPUT TIMELINE"));
+        assertTrue(output.contains("00:01      1000.00"));
+        assertTrue(output.contains("600        600        480.000ms"));
+        assertTrue(output.contains("00:02      950.00"));
+        assertFalse(output.contains("Each row covers"));
+    }
+
+    @Test
+    void testGenerateReport_WithLongTimeline_ShouldMergeRows() {
+        // Given - 150 seconds are printed as 50 rows of 3 seconds
+        TestSummary summary = createTestSummary();
+        Instant start = Instant.now().minusSeconds(150);
+        List<TimelinePoint> timeline = new ArrayList<>();
+        for (int second = 0; second < 150; second++) {
+            timeline.add(timelinePoint(start, second, second == 4 ? 100 : 1000, 0, Map.of(), 10 + second));
+        }
+        summary.setTimeline(timeline);
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("00:03      700.00       100.00       0          0          15.000ms"));
+        assertTrue(output.contains("02:27      1000.00"));
+        assertFalse(output.contains("02:28"));
+        assertTrue(output.contains("Each row covers 3 timeline points"));
+    }
+
+    @Test
+    void testGenerateReport_WithCapacityStats_ShouldPrintConsumedCapacitySection() {
+        // Given
+        TestSummary summary = createTestSummary();
+        Instant start = Instant.now().minusSeconds(20);
+        summary.setCapacityStats(new MetricsCollectionService.CapacityStats(3000.0, 500.0, 412.5, 60.0,
+                Duration.ofSeconds(20)));
+        summary.setPhaseSummaries(List.of(
+                new MetricsCollectionService.PhaseSummary(0, "ramp-up-1", 5, start, start.plusSeconds(10),
+                        Duration.ofSeconds(10), 1000, 0, Map.of(), Duration.ofMillis(12), Duration.ofMillis(35),
+                        Duration.ofMillis(40), 1000.0, 100.0)));
+        summary.setTimeline(List.of(new TimelinePoint(start, Duration.ZERO, Duration.ofSeconds(1), 400, 0,
+                Map.of(), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(20), 412.5, 60.0)));
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("CONSUMED CAPACITY"));
+        assertTrue(output.contains("Write (WCU)    3000.0         150.00       412.50"));
+        assertTrue(output.contains("Read (RCU)     500.0          25.00        60.00"));
+        assertTrue(output.contains("  ramp-up-1        100.00       10.00"));
+        assertTrue(output.contains("at least 413 WCU and 60 RCU"));
+        assertTrue(output.contains("WCU/s      RCU/s"));
+        assertTrue(output.contains("10.000ms   412.50     60.00"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutCapacityStats_ShouldOmitCapacitySection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("CONSUMED CAPACITY"));
+    }
+
+    @Test
+    void testGenerateReport_WithKeyHeat_ShouldPrintHotBucketsAndKeys() {
+        // Given - one key takes every throttle
+        TestSummary summary = createTestSummary();
+        KeyHeatMap heatMap = new KeyHeatMap();
+        for (int i = 0; i < 100; i++) {
+            heatMap.record(KeyHeatMap.Counter.WRITES, "key-" + i);
+            heatMap.record(KeyHeatMap.Counter.WRITES, "hot-key");
+        }
+        for (int i = 0; i < 25; i++) {
+            heatMap.record(KeyHeatMap.Counter.THROTTLES, "hot-key");
+        }
+        summary.setKeyHeat(heatMap.snapshot());
+
+        // When
+        reportService.generateReport(summary, printStream);
+
+        // Then
+        String output = outputStream.toString();
+        assertTrue(output.contains("KEY HEAT MAP"));
+        assertTrue(output.contains("Writes:            200"));
+        assertTrue(output.contains("Throttled:         25 requests (100.0% in the hottest bucket)"));
+        assertTrue(output.contains("Most Throttled Keys:"));
+        assertTrue(output.contains("  hot-key                          100          25           0"));
+        assertFalse(output.contains("Most Failed Conditions:"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutKeyHeat_ShouldOmitKeyHeatSection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("KEY HEAT MAP"));
+    }
+
+    @Test
+    void testGenerateReport_WithoutTimeline_ShouldOmitTimelineSection() {
+        // When
+        reportService.generateReport(createTestSummary(), printStream);
+
+        // Then
+        assertFalse(outputStream.toString().contains("THROUGHPUT TIMELINE"));
+    }
+
     @Test
     void testGenerateReport_WithNullSummary_ShouldHandleGracefully() {
         // When
@@ -111,6 +545,13 @@ class ReportGenerationServiceTest {
 
     // Helper methods to create test data
 
+    private static TimelinePoint timelinePoint(Instant start, int second, long successes,
+            long errors, Map<String, Long> errorTypeCounts, long p99Millis) {
+        return new TimelinePoint(start.plusSeconds(second), Duration.ofSeconds(second),
+                Duration.ofSeconds(1), successes, errors, errorTypeCounts, Duration.ofMillis(p99Millis / 2),
+                Duration.ofMillis(p99Millis), Duration.ofMillis(p99Millis * 2));
+    }
+
     private TestSummary createTestSummary() {
         Map<String, Long> errorCounts = new HashMap<>();
         errorCounts.put(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED, 50L);
@@ -6,18 +6,34 @@ import com.example.dynamodb.loadtest.repository.DynamoDBRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
 import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +49,9 @@ class ResilientDynamoDBServiceTest {
     @Mock
     private CircuitBreaker circuitBreaker;
 
+    @TempDir
+    Path tempDir;
+
     private ResilientDynamoDBService resilientService;
     private TestItem testItem;
     private TestMetrics testMetrics;
@@ -358,4 +377,344 @@ class ResilientDynamoDBServiceTest {
 
         assertThrows(ExecutionException.class, () -> result.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPutItemWithEnhancedResilience_PendingWrite_ReturnsWithoutBlocking() throws Exception {
+        // Arrange - the repository future is completed later by the "SDK"
+        CompletableFuture<PutItemResponse> repositoryFuture = new CompletableFuture<>();
+        when(dynamoDBRepository.putItem(testItem)).thenReturn(repositoryFuture);
+
+        // Act
+        CompletableFuture<PutItemResponse> result = resilientService.putItemWithEnhancedResilience(testItem,
+                testMetrics);
+
+        // Assert - nothing has waited on the write yet
+        assertFalse(result.isDone());
+        assertEquals(0, testMetrics.getSuccessCount());
+
+        repositoryFuture.complete(PutItemResponse.builder().build());
+        assertNotNull(result.get());
+        assertEquals(1, testMetrics.getSuccessCount());
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_DuplicateKey_NotRetried() {
+        // Arrange
+        ConditionalCheckFailedException duplicate = ConditionalCheckFailedException.builder().build();
+        when(dynamoDBRepository.putItem(testItem)).thenReturn(CompletableFuture.failedFuture(duplicate));
+        when(errorHandler.categorizeError(duplicate)).thenReturn(TestMetrics.ERROR_TYPE_DUPLICATE_KEY);
+
+        // Act
+        CompletableFuture<PutItemResponse> result = resilientService.putItemWithEnhancedResilience(testItem,
+                testMetrics);
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertTrue(exception.getCause().getMessage().contains("Failed to put item: test-key"));
+        assertSame(duplicate, exception.getCause().getCause());
+        verify(dynamoDBRepository, times(1)).putItem(testItem);
+        verify(errorHandler, never()).shouldRetry(any(), anyInt());
+        verify(errorHandler).handleDynamoDBError(duplicate, testMetrics);
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_Throttled_RetriesAfterBackoff() throws Exception {
+        // Arrange - first attempt is throttled, second succeeds
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        when(dynamoDBRepository.putItem(testItem))
+                .thenReturn(CompletableFuture.failedFuture(throttled))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(throttled, 1)).thenReturn(true);
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(20));
+
+        // Act
+        long start = System.nanoTime();
+        PutItemResponse response = resilientService.putItemWithEnhancedResilience(testItem, testMetrics).get();
+
+        // Assert
+        assertNotNull(response);
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(20).toNanos());
+        assertEquals(1, testMetrics.getSuccessCount());
+        verify(dynamoDBRepository, times(2)).putItem(testItem);
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_Throttled_RecordsAttemptsAndBackoffSeparately() throws Exception {
+        // Arrange - first attempt is throttled, second succeeds
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ResilientDynamoDBService instrumented = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, metrics);
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        when(dynamoDBRepository.putItem(testItem))
+                .thenReturn(CompletableFuture.failedFuture(throttled))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(throttled, 1)).thenReturn(true);
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(20));
+
+        // Act
+        instrumented.putItemWithEnhancedResilience(testItem, testMetrics).get();
+
+        // Assert - two attempts answered at once, one backoff of at least 20ms
+        MetricsCollectionService.LatencyBreakdown breakdown = metrics.getLatencyBreakdown();
+        assertEquals(2, breakdown.getServiceTime().getCount());
+        assertTrue(breakdown.getServiceTime().getMax().compareTo(Duration.ofMillis(20)) < 0);
+        assertEquals(1, breakdown.getBackoff().getCount());
+        assertTrue(breakdown.getBackoff().getMax().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_Throttled_IssuesRetryFromRetryExecutor() throws Exception {
+        // Arrange - first attempt is throttled, the retry records its thread
+        ResilientDynamoDBService retrying = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, null, Optional.empty());
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        List<Thread> retryThreads = new ArrayList<>();
+        when(dynamoDBRepository.putItem(testItem))
+                .thenReturn(CompletableFuture.failedFuture(throttled))
+                .thenAnswer(invocation -> {
+                    retryThreads.add(Thread.currentThread());
+                    return CompletableFuture.completedFuture(PutItemResponse.builder().build());
+                });
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(throttled, 1)).thenReturn(true);
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(5));
+
+        // Act
+        retrying.putItemWithEnhancedResilience(testItem).get();
+
+        // Assert - not the JDK's shared delay scheduler thread
+        assertEquals(1, retryThreads.size());
+        assertTrue(retryThreads.get(0).isVirtual(), "Retry issued from " + retryThreads.get(0));
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_Throttled_RecordsAttemptsPerOperation() throws Exception {
+        // Arrange - first attempt is throttled, second succeeds
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ResilientDynamoDBService instrumented = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, metrics);
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        when(dynamoDBRepository.putItem(testItem))
+                .thenReturn(CompletableFuture.failedFuture(throttled))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(throttled, 1)).thenReturn(true);
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(1));
+
+        // Act
+        instrumented.putItemWithEnhancedResilience(testItem, testMetrics).get();
+
+        // Assert - one logical operation, two requests
+        MetricsCollectionService.RetryStats stats = metrics.getRetryStats();
+        assertEquals(1, stats.getOperations());
+        assertEquals(2, stats.getRequests());
+        assertEquals(1, stats.getOperationsWithAttempts(2));
+        assertEquals(2.0, stats.getAmplificationFactor(), 0.001);
+        assertEquals(Map.of(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED, 1L), stats.getRetriedErrorCounts());
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_Throttled_JournalsOperationWithAttemptsAndPhase() throws Exception {
+        // Arrange - first attempt is throttled, second succeeds
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        int phaseId = metrics.beginPhase("ramp", 4);
+        Path journalPath = tempDir.resolve("operations.journal");
+        OperationJournal journal = new OperationJournal(journalPath);
+        ResilientDynamoDBService journaled = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, metrics, Optional.of(journal));
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        when(dynamoDBRepository.putItem(testItem))
+                .thenReturn(CompletableFuture.failedFuture(throttled))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(throttled, 1)).thenReturn(true);
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(1));
+
+        // Act
+        journaled.putItemWithEnhancedResilience(testItem, testMetrics).get();
+        journal.close();
+
+        // Assert - one record for the logical operation
+        List<OperationJournalReader.Entry> entries = new ArrayList<>();
+        new OperationJournalReader(journalPath).forEach(entries::add);
+        assertEquals(1, entries.size());
+        OperationJournalReader.Entry entry = entries.get(0);
+        assertEquals(OperationJournal.Operation.PUT, entry.getOperation());
+        assertEquals(2, entry.getAttempts());
+        assertTrue(entry.isSuccess());
+        assertEquals(phaseId, entry.getPhaseId());
+        assertEquals(OperationJournal.keyHash("test-key"), entry.getKeyHash());
+        assertTrue(entry.getResponseNanos() >= Duration.ofMillis(1).toNanos());
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_Throttled_AttributesThrottleToKey() throws Exception {
+        // Arrange - first attempt is throttled, second succeeds
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ResilientDynamoDBService instrumented = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, metrics);
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        when(dynamoDBRepository.putItem(testItem))
+                .thenReturn(CompletableFuture.failedFuture(throttled))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(throttled, 1)).thenReturn(true);
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(1));
+
+        // Act
+        instrumented.putItemWithEnhancedResilience(testItem, testMetrics).get();
+
+        // Assert - one write, one throttled attempt
+        KeyHeatMap.KeyHeat heat = metrics.generateSummary().getKeyHeat()
+                .getTopKeys(KeyHeatMap.Counter.THROTTLES).get(0);
+        assertEquals("test-key", heat.getKey());
+        assertEquals(1, heat.getWrites());
+        assertEquals(1, heat.getThrottles());
+    }
+
+    @Test
+    void testPutItemWithEnhancedResilience_RetriesExhausted_FailsWithLastError() {
+        // Arrange
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().build();
+        when(dynamoDBRepository.putItem(testItem)).thenReturn(CompletableFuture.failedFuture(throttled));
+        when(errorHandler.categorizeError(throttled)).thenReturn(TestMetrics.ERROR_TYPE_CAPACITY_EXCEEDED);
+        when(errorHandler.shouldRetry(eq(throttled), anyInt())).thenReturn(true);
+        when(errorHandler.calculateBackoff(anyInt())).thenReturn(Duration.ofMillis(1));
+
+        // Act
+        CompletableFuture<PutItemResponse> result = resilientService.putItemWithEnhancedResilience(testItem,
+                testMetrics);
+
+        // Assert - three attempts in total
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertSame(throttled, exception.getCause().getCause());
+        verify(dynamoDBRepository, times(3)).putItem(testItem);
+        assertEquals(0, testMetrics.getSuccessCount());
+    }
+
+    @Test
+    void testBatchWriteWithRedrive_UnprocessedItems_ReDrivenUntilWritten() throws Exception {
+        // Arrange - the first round leaves the second item unprocessed
+        TestItem second = new TestItem("second-key", "payload");
+        List<TestItem> batch = List.of(testItem, second);
+        when(dynamoDBRepository.batchWriteItems(batch))
+                .thenReturn(CompletableFuture.completedFuture(unprocessed(second)));
+        when(dynamoDBRepository.batchWriteItems(List.of(second)))
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(10));
+
+        // Act
+        ResilientDynamoDBService.BatchWriteResult result = resilientService.batchWriteWithRedrive(batch).get();
+
+        // Assert
+        assertEquals(2, result.getWrittenItems());
+        assertTrue(result.getUnprocessedItems().isEmpty());
+        assertEquals(1, result.getRedriveRounds());
+        assertEquals(1, result.getRedrivenItems());
+        assertTrue(result.getCompletedNanos(1) > result.getCompletedNanos(0));
+    }
+
+    @Test
+    void testBatchWriteWithRedrive_UnprocessedItems_CountsRoundsAsAttemptsOfOneBatch() throws Exception {
+        // Arrange - the first round leaves the second item unprocessed
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ResilientDynamoDBService instrumented = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, metrics);
+        TestItem second = new TestItem("second-key", "payload");
+        List<TestItem> batch = List.of(testItem, second);
+        when(dynamoDBRepository.batchWriteItems(batch))
+                .thenReturn(CompletableFuture.completedFuture(unprocessed(second)));
+        when(dynamoDBRepository.batchWriteItems(List.of(second)))
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        when(errorHandler.calculateBackoff(1)).thenReturn(Duration.ofMillis(1));
+
+        // Act
+        instrumented.batchWriteWithRedrive(batch).get();
+
+        // Assert
+        MetricsCollectionService.RetryStats stats = metrics.getRetryStats();
+        assertEquals(1, stats.getOperations());
+        assertEquals(2, stats.getRequests());
+        assertTrue(stats.getRetriedErrorCounts().isEmpty());
+    }
+
+    @Test
+    void testBatchWriteWithRedrive_RedriveExhausted_ReportsUnprocessedItems() throws Exception {
+        // Arrange - the item is never processed
+        List<TestItem> batch = List.of(testItem);
+        when(dynamoDBRepository.batchWriteItems(batch))
+                .thenReturn(CompletableFuture.completedFuture(unprocessed(testItem)));
+        when(errorHandler.calculateBackoff(anyInt())).thenReturn(Duration.ofMillis(1));
+
+        // Act
+        ResilientDynamoDBService.BatchWriteResult result = resilientService.batchWriteWithRedrive(batch).get();
+
+        // Assert
+        assertEquals(0, result.getWrittenItems());
+        assertEquals(List.of(testItem), result.getUnprocessedItems());
+        assertEquals(ResilientDynamoDBService.MAX_BATCH_REDRIVE_ROUNDS, result.getRedriveRounds());
+        assertEquals(0, result.getCompletedNanos(0));
+        verify(dynamoDBRepository, times(ResilientDynamoDBService.MAX_BATCH_REDRIVE_ROUNDS + 1))
+                .batchWriteItems(batch);
+    }
+
+    @Test
+    void testTransactWriteWithResilience_Canceled_NotRetried() {
+        // Arrange
+        List<TestItem> transaction = List.of(testItem, new TestItem("second-key", "payload"));
+        TransactionCanceledException canceled = TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .build();
+        when(dynamoDBRepository.transactWriteItems(transaction)).thenReturn(CompletableFuture.failedFuture(canceled));
+        when(errorHandler.categorizeError(canceled)).thenReturn(TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED);
+        when(errorHandler.shouldRetry(canceled, 1)).thenReturn(false);
+
+        // Act
+        CompletableFuture<TransactWriteItemsResponse> result = resilientService
+                .transactWriteWithResilience(transaction);
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertSame(canceled, exception.getCause());
+        verify(dynamoDBRepository, times(1)).transactWriteItems(transaction);
+    }
+
+    @Test
+    void testTransactWriteWithResilience_ConditionFailed_AttributedToFailingItem() {
+        // Arrange - the second item fails its condition
+        MetricsCollectionService metrics = new MetricsCollectionService();
+        ResilientDynamoDBService instrumented = new ResilientDynamoDBService(dynamoDBRepository, errorHandler,
+                circuitBreaker, metrics);
+        List<TestItem> transaction = List.of(testItem, new TestItem("second-key", "payload"));
+        TransactionCanceledException canceled = TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(CancellationReason.builder().code("None").build(),
+                        CancellationReason.builder().code("ConditionalCheckFailed").build())
+                .build();
+        when(dynamoDBRepository.transactWriteItems(transaction)).thenReturn(CompletableFuture.failedFuture(canceled));
+        when(errorHandler.categorizeError(canceled)).thenReturn(TestMetrics.ERROR_TYPE_TRANSACTION_CANCELED);
+
+        // Act
+        CompletableFuture<TransactWriteItemsResponse> result = instrumented.transactWriteWithResilience(transaction);
+
+        // Assert
+        assertThrows(ExecutionException.class, result::get);
+        KeyHeatMap.Snapshot heat = metrics.generateSummary().getKeyHeat();
+        assertEquals(2, heat.getTotal(KeyHeatMap.Counter.WRITES));
+        assertEquals(1, heat.getTotal(KeyHeatMap.Counter.CONDITIONAL_FAILURES));
+        assertEquals("second-key", heat.getTopKeys(KeyHeatMap.Counter.CONDITIONAL_FAILURES).get(0).getKey());
+    }
+
+    private static BatchWriteItemResponse unprocessed(TestItem item) {
+        WriteRequest writeRequest = WriteRequest.builder()
+                .putRequest(PutRequest.builder()
+                        .item(Map.of("pk", AttributeValue.builder().s(item.getPrimaryKey()).build()))
+                        .build())
+                .build();
+        return BatchWriteItemResponse.builder()
+                .unprocessedItems(Map.of("test-table", List.of(writeRequest)))
+                .build();
+    }
+}
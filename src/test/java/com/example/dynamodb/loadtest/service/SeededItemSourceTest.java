@@ -0,0 +1,170 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededItemSourceTest {
+
+    @Test
+    void iterator_DuplicatePercentage_GeneratesExactDuplicateCount() {
+        // Arrange
+        SeededItemSource source = new SeededItemSource(7L, 1000, 15.5, 20);
+
+        // Act
+        List<TestItem> items = drain(source.iterator());
+
+        // Assert
+        long duplicates = items.stream().filter(item -> Boolean.TRUE.equals(item.getAttribute("is_duplicate")))
+                .count();
+        assertEquals(1000, items.size());
+        assertEquals(155, duplicates);
+        assertEquals(155, source.getDuplicateCount());
+    }
+
+    @Test
+    void iterator_Duplicates_ReuseKeysOfUniqueItems() {
+        // Arrange
+        SeededItemSource source = new SeededItemSource(7L, 500, 30.0, 20);
+        List<TestItem> items = drain(source.iterator());
+        Set<String> uniqueKeys = new HashSet<>();
+        for (TestItem item : items) {
+            if (!Boolean.TRUE.equals(item.getAttribute("is_duplicate"))) {
+                assertTrue(uniqueKeys.add(item.getPrimaryKey()), "Unique key repeated: " + item.getPrimaryKey());
+            }
+        }
+
+        // Act & Assert
+        for (TestItem item : items) {
+            if (Boolean.TRUE.equals(item.getAttribute("is_duplicate"))) {
+                assertTrue(uniqueKeys.contains(item.getPrimaryKey()), "Dangling duplicate: " + item.getPrimaryKey());
+                assertEquals("DUPLICATE_ERROR", item.getAttribute("expected_result"));
+            }
+        }
+        assertEquals(350, uniqueKeys.size());
+    }
+
+    @Test
+    void targetIndexAt_Duplicates_PointToEarlierUniqueItems() {
+        // Arrange - a high duplicate share leaves few unique items to pick from
+        for (long seed = 0; seed < 20; seed++) {
+            SeededItemSource source = new SeededItemSource(seed, 2_000, 85.0, 10);
+
+            // Act & Assert
+            assertFalse(source.isDuplicate(0));
+            for (long i = 0; i < source.getItemCount(); i++) {
+                long target = source.targetIndexAt(i);
+                if (source.isDuplicate(i)) {
+                    assertTrue(target < i, "Duplicate " + i + " targets later item " + target);
+                    assertFalse(source.isDuplicate(target), "Duplicate " + i + " targets duplicate " + target);
+                    assertEquals(source.keyAt(target), source.keyAt(i));
+                } else {
+                    assertEquals(i, target);
+                }
+            }
+        }
+    }
+
+    @Test
+    void iterator_AllDuplicates_KeepsFirstItemUnique() {
+        // Arrange
+        SeededItemSource source = new SeededItemSource(5L, 10, 100.0, 10);
+
+        // Act
+        List<TestItem> items = drain(source.iterator());
+
+        // Assert
+        assertEquals(9, source.getDuplicateCount());
+        assertEquals("SUCCESS", items.get(0).getAttribute("expected_result"));
+        for (TestItem item : items.subList(1, items.size())) {
+            assertEquals(items.get(0).getPrimaryKey(), item.getPrimaryKey());
+        }
+    }
+
+    @Test
+    void itemAt_SameSeed_ReproducesItems() {
+        // Arrange
+        SeededItemSource first = new SeededItemSource(42L, 100, 20.0, 50);
+        SeededItemSource second = new SeededItemSource(42L, 100, 20.0, 50);
+        SeededItemSource otherSeed = new SeededItemSource(43L, 100, 20.0, 50);
+
+        // Act & Assert
+        for (long i = 0; i < 100; i++) {
+            assertEquals(first.itemAt(i).getPrimaryKey(), second.itemAt(i).getPrimaryKey());
+            assertEquals(first.itemAt(i).getPayload(), second.itemAt(i).getPayload());
+            assertEquals(first.isDuplicate(i), second.isDuplicate(i));
+        }
+        assertNotEquals(first.itemAt(0).getPrimaryKey(), otherSeed.itemAt(0).getPrimaryKey());
+        assertEquals(50, first.itemAt(0).getPayload().length());
+    }
+
+    @Test
+    void iterator_SplitRanges_MatchFullRun() {
+        // Arrange
+        SeededItemSource source = new SeededItemSource(3L, 90, 10.0, 10);
+
+        // Act - three workers over disjoint ranges
+        List<TestItem> split = new ArrayList<>();
+        split.addAll(drain(source.iterator(0, 30)));
+        split.addAll(drain(source.iterator(30, 60)));
+        split.addAll(drain(source.iterator(60, 90)));
+
+        // Assert
+        List<TestItem> full = drain(source.iterator());
+        assertEquals(full.stream().map(TestItem::getPrimaryKey).toList(),
+                split.stream().map(TestItem::getPrimaryKey).toList());
+    }
+
+    @Test
+    void poll_ConcurrentLanes_ClaimEachItemOnce() throws Exception {
+        // Arrange
+        SeededItemSource source = new SeededItemSource(5L, 2_000, 0.0, 10);
+        ConcurrentSource<TestItem> shared = (ConcurrentSource<TestItem>) source.iterator();
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        // Act - several threads poll the same iterator without a lock
+        try (ExecutorService lanes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int lane = 0; lane < 8; lane++) {
+                lanes.submit(() -> {
+                    for (TestItem item = shared.poll(); item != null; item = shared.poll()) {
+                        keys.add(item.getPrimaryKey());
+                    }
+                });
+            }
+        }
+
+        // Assert
+        Set<String> expected = new HashSet<>();
+        source.forEach(item -> expected.add(item.getPrimaryKey()));
+        assertEquals(expected, keys);
+        assertNull(shared.poll());
+    }
+
+    @Test
+    void iterator_Exhausted_Throws() {
+        // Arrange
+        Iterator<TestItem> iterator = new SeededItemSource(1L, 1, 0.0, 10).iterator();
+        iterator.next();
+
+        // Act & Assert
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static List<TestItem> drain(Iterator<TestItem> iterator) {
+        List<TestItem> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
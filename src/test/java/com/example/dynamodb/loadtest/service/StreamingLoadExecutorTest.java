@@ -0,0 +1,166 @@
+package com.example.dynamodb.loadtest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingLoadExecutorTest {
+
+    private final Executor virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Test
+    void run_EmptySource_CompletesImmediately() {
+        // Act
+        CompletableFuture<Void> result = StreamingLoadExecutor.run(List.<Integer>of().iterator(), 10,
+                item -> CompletableFuture.completedFuture(null));
+
+        // Assert
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+    }
+
+    @Test
+    void run_AsyncOperations_KeepsExactlyConcurrencyInFlight() throws Exception {
+        // Arrange
+        int concurrency = 8;
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        AtomicInteger processed = new AtomicInteger(0);
+
+        // Act
+        CompletableFuture<Void> result = StreamingLoadExecutor.run(range(200), concurrency,
+                item -> CompletableFuture.runAsync(() -> {
+                    int current = inFlight.incrementAndGet();
+                    maxInFlight.accumulateAndGet(current, Math::max);
+                    sleepQuietly(2);
+                    inFlight.decrementAndGet();
+                    processed.incrementAndGet();
+                }, virtualThreadExecutor));
+        result.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(200, processed.get());
+        assertEquals(concurrency, maxInFlight.get());
+    }
+
+    @Test
+    void run_LazySource_PullsOnlyWhatIsInFlight() {
+        // Arrange - an unbounded source that counts how many items were pulled
+        AtomicLong pulled = new AtomicLong(0);
+        Iterator<Long> unbounded = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Long next() {
+                return pulled.incrementAndGet();
+            }
+        };
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+
+        // Act - operations never complete until the gate opens
+        StreamingLoadExecutor<Long> executor = new StreamingLoadExecutor<>(unbounded, 4, item -> gate);
+        executor.start();
+
+        // Assert - only one item per lane has been pulled from the source
+        assertEquals(4, pulled.get());
+        assertEquals(4, executor.getInFlightOperations());
+    }
+
+    @Test
+    void run_SynchronousOperations_DoNotOverflowStack() throws Exception {
+        // Arrange
+        AtomicInteger processed = new AtomicInteger(0);
+
+        // Act - every operation completes inline on the calling thread
+        CompletableFuture<Void> result = StreamingLoadExecutor.run(range(200_000), 2, item -> {
+            processed.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        result.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(200_000, processed.get());
+    }
+
+    @Test
+    void run_OperationFailure_ProcessesRemainingItemsAndFails() {
+        // Arrange
+        AtomicInteger processed = new AtomicInteger(0);
+
+        // Act
+        CompletableFuture<Void> result = StreamingLoadExecutor.run(range(50), 5, item -> {
+            processed.incrementAndGet();
+            if (item == 10) {
+                return CompletableFuture.failedFuture(new IllegalStateException("boom"));
+            }
+            return CompletableFuture.runAsync(() -> sleepQuietly(1), virtualThreadExecutor);
+        });
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(50, processed.get());
+    }
+
+    @Test
+    void run_TimedOperation_ReadyTimeTakenBeforePollingSource() throws Exception {
+        // Arrange - a source that is slow to hand out each item
+        Iterator<Integer> slowSource = new Iterator<>() {
+            private final Iterator<Integer> items = range(5);
+
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                sleepQuietly(5);
+                return items.next();
+            }
+        };
+        AtomicLong minWaitNanos = new AtomicLong(Long.MAX_VALUE);
+
+        // Act
+        CompletableFuture<Void> result = StreamingLoadExecutor.run(slowSource, 1, (item, readyNanos) -> {
+            minWaitNanos.accumulateAndGet(System.nanoTime() - readyNanos, Math::min);
+            return CompletableFuture.completedFuture(null);
+        });
+        result.get(10, TimeUnit.SECONDS);
+
+        // Assert - every operation saw the time spent waiting for its item
+        assertTrue(minWaitNanos.get() >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    void constructor_InvalidConcurrency_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingLoadExecutor<>(range(1), 0, item -> CompletableFuture.completedFuture(null)));
+    }
+
+    private Iterator<Integer> range(int count) {
+        return IntStream.range(0, count).iterator();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionPlannerTest {
+
+    @Test
+    void next_NoContention_GroupsItemsIntoTransactions() {
+        // Arrange
+        TransactionPlanner planner = new TransactionPlanner(items(10).iterator(), 4, 0.0, 0.0);
+
+        // Act
+        List<List<TestItem>> transactions = drain(planner);
+
+        // Assert
+        assertEquals(List.of(4, 4, 2), transactions.stream().map(List::size).toList());
+        assertTrue(transactions.stream().flatMap(List::stream)
+                .noneMatch(item -> Boolean.TRUE.equals(item.getAttribute("is_duplicate"))));
+    }
+
+    @Test
+    void next_FullOverlap_MovesOneItemPerTransactionOntoSharedKey() {
+        // Arrange
+        TransactionPlanner planner = new TransactionPlanner(items(20).iterator(), 5, 100.0, 0.0, new Random(7));
+
+        // Act
+        List<List<TestItem>> transactions = drain(planner);
+
+        // Assert
+        for (List<TestItem> transaction : transactions) {
+            List<TestItem> shared = transaction.stream()
+                    .filter(item -> Boolean.TRUE.equals(item.getAttribute(TransactionPlanner.SHARED_KEY_ATTRIBUTE)))
+                    .toList();
+            assertEquals(1, shared.size());
+            assertTrue(shared.get(0).getPrimaryKey().startsWith(TransactionPlanner.SHARED_KEY_PREFIX));
+            assertUniqueKeys(transaction);
+        }
+    }
+
+    @Test
+    void next_FullConflict_ReusesKeyFromEarlierTransaction() {
+        // Arrange
+        TransactionPlanner planner = new TransactionPlanner(items(12).iterator(), 4, 0.0, 100.0, new Random(7));
+
+        // Act
+        List<List<TestItem>> transactions = drain(planner);
+
+        // Assert - the first transaction has nothing to conflict with
+        Set<String> earlierKeys = new HashSet<>(keys(transactions.get(0)));
+        assertTrue(transactions.get(0).stream()
+                .noneMatch(item -> Boolean.TRUE.equals(item.getAttribute("is_duplicate"))));
+        for (List<TestItem> transaction : transactions.subList(1, transactions.size())) {
+            TestItem conflicting = transaction.get(transaction.size() - 1);
+            assertEquals(true, conflicting.getAttribute("is_duplicate"));
+            assertEquals("DUPLICATE_ERROR", conflicting.getAttribute("expected_result"));
+            assertTrue(earlierKeys.contains(conflicting.getPrimaryKey()));
+            assertUniqueKeys(transaction);
+            earlierKeys.addAll(keys(transaction));
+        }
+    }
+
+    @Test
+    void next_RepeatedKey_StartsNewTransaction() {
+        // Arrange
+        List<TestItem> source = new ArrayList<>(items(2));
+        source.add(new TestItem("key-0", "payload"));
+        TransactionPlanner planner = new TransactionPlanner(source.iterator(), 4, 0.0, 0.0);
+
+        // Act
+        List<List<TestItem>> transactions = drain(planner);
+
+        // Assert
+        assertEquals(List.of("key-0", "key-1"), keys(transactions.get(0)));
+        assertEquals(List.of("key-0"), keys(transactions.get(1)));
+    }
+
+    @Test
+    void next_ExhaustedSource_Throws() {
+        TransactionPlanner planner = new TransactionPlanner(List.<TestItem>of().iterator(), 2, 0.0, 0.0);
+
+        assertFalse(planner.hasNext());
+        assertThrows(NoSuchElementException.class, planner::next);
+    }
+
+    @Test
+    void constructor_SizeOutOfRange_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionPlanner(List.<TestItem>of().iterator(), 1, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionPlanner(List.<TestItem>of().iterator(), 101, 0.0, 0.0));
+    }
+
+    private static List<TestItem> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    TestItem item = new TestItem("key-" + i, "payload");
+                    item.addAttribute("is_duplicate", false);
+                    item.addAttribute("expected_result", "SUCCESS");
+                    return item;
+                })
+                .toList();
+    }
+
+    private static List<List<TestItem>> drain(TransactionPlanner planner) {
+        List<List<TestItem>> transactions = new ArrayList<>();
+        while (planner.hasNext()) {
+            transactions.add(planner.next());
+        }
+        return transactions;
+    }
+
+    private static List<String> keys(List<TestItem> transaction) {
+        return transaction.stream().map(TestItem::getPrimaryKey).toList();
+    }
+
+    private static void assertUniqueKeys(List<TestItem> transaction) {
+        assertEquals(transaction.size(), new HashSet<>(keys(transaction)).size());
+    }
+}
@@ -7,7 +7,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -19,6 +18,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.lenient;
 
@@ -45,8 +45,9 @@ class VirtualThreadConcurrencyTest {
         // (lenient for tests that don't use it)
         lenient().when(resilientDynamoDBService.putItemWithResilience(any(), any()))
                 .thenReturn(CompletableFuture.completedFuture(null));
-        lenient().when(resilientDynamoDBService.putItemWithEnhancedResilience(any(), any()))
+        lenient().when(resilientDynamoDBService.putItemWithEnhancedResilience(any()))
                 .thenReturn(CompletableFuture.completedFuture(null));
+        lenient().when(metricsCollectionService.getActivePhaseId()).thenReturn(MetricsCollectionService.NO_PHASE);
 
         loadTestService = new LoadTestServiceImpl(metricsCollectionService, resilientDynamoDBService,
                 accurateDuplicateCounter, virtualThreadExecutor);
@@ -73,7 +74,7 @@ class VirtualThreadConcurrencyTest {
 
             currentThreads.decrementAndGet();
             return null;
-        }).when(metricsCollectionService).recordSuccess(any(Duration.class), anyInt());
+        }).when(metricsCollectionService).recordPhaseSuccess(anyLong(), anyInt());
 
         // Act
         CompletableFuture<Void> result = loadTestService.executeWithConcurrency(items, concurrencyLimit);
@@ -89,7 +90,7 @@ class VirtualThreadConcurrencyTest {
                 "Max concurrent threads: " + maxConcurrentThreads.get() + ", limit: " + concurrencyLimit);
 
         // Verify all items were processed
-        verify(metricsCollectionService, times(items.size())).recordSuccess(any(Duration.class), eq(concurrencyLimit));
+        verify(metricsCollectionService, times(items.size())).recordPhaseSuccess(anyLong(), eq(MetricsCollectionService.NO_PHASE));
     }
 
     @Test
@@ -126,7 +127,7 @@ class VirtualThreadConcurrencyTest {
         assertFalse(result.isCompletedExceptionally());
 
         // Verify metrics were recorded
-        verify(metricsCollectionService).recordSuccess(any(Duration.class), eq(concurrency));
+        verify(metricsCollectionService).recordPhaseSuccess(anyLong(), eq(MetricsCollectionService.NO_PHASE));
     }
 
     @Test
@@ -146,7 +147,7 @@ class VirtualThreadConcurrencyTest {
         assertFalse(result.isCompletedExceptionally());
 
         // Verify all items were processed
-        verify(metricsCollectionService, times(items.size())).recordSuccess(any(Duration.class), eq(concurrency));
+        verify(metricsCollectionService, times(items.size())).recordPhaseSuccess(anyLong(), eq(MetricsCollectionService.NO_PHASE));
 
         // Verify it completed in reasonable time (should be much faster with high
         // concurrency)
@@ -171,7 +172,7 @@ class VirtualThreadConcurrencyTest {
         assertFalse(result.isCompletedExceptionally());
 
         // Verify all items were processed
-        verify(metricsCollectionService, times(items.size())).recordSuccess(any(Duration.class), eq(concurrency));
+        verify(metricsCollectionService, times(items.size())).recordPhaseSuccess(anyLong(), eq(MetricsCollectionService.NO_PHASE));
 
         // Performance check - should handle 1000 items efficiently
         long executionTime = endTime - startTime;
@@ -195,7 +196,7 @@ class VirtualThreadConcurrencyTest {
 
             currentThreads.decrementAndGet();
             return null;
-        }).when(metricsCollectionService).recordSuccess(any(Duration.class), anyInt());
+        }).when(metricsCollectionService).recordPhaseSuccess(anyLong(), anyInt());
 
         // Act
         CompletableFuture<Void> result = loadTestService.executeWithConcurrency(items, concurrency);
@@ -208,7 +209,7 @@ class VirtualThreadConcurrencyTest {
         // once
         assertEquals(1, maxConcurrentThreads.get());
 
-        verify(metricsCollectionService, times(items.size())).recordSuccess(any(Duration.class), eq(concurrency));
+        verify(metricsCollectionService, times(items.size())).recordPhaseSuccess(anyLong(), eq(MetricsCollectionService.NO_PHASE));
     }
 
     @Test
@@ -225,11 +226,11 @@ class VirtualThreadConcurrencyTest {
         result.get();
 
         // Assert
-        verify(metricsCollectionService).recordSuccess(any(Duration.class), eq(concurrency));
+        verify(metricsCollectionService).recordPhaseSuccess(anyLong(), eq(MetricsCollectionService.NO_PHASE));
 
         // Verify the duration is reasonable (should be > 0 due to simulated work)
-        verify(metricsCollectionService).recordSuccess(
-                argThat(duration -> duration.toMillis() >= 0 && duration.toMillis() < 1000), eq(concurrency));
+        verify(metricsCollectionService).recordPhaseSuccess(
+                longThat(nanos -> nanos >= 0 && nanos < 1_000_000_000L), eq(MetricsCollectionService.NO_PHASE));
     }
 
     private List<TestItem> createTestItems(int count) {
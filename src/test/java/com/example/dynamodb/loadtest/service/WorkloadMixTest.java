@@ -0,0 +1,60 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.service.WorkloadMix.OperationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadMixTest {
+
+    @Test
+    void parse_ValidSpecification_ReadsWeights() {
+        // Act
+        WorkloadMix mix = WorkloadMix.parse("put:20, GET:70,query:10");
+
+        // Assert
+        assertEquals(Map.of(OperationType.PUT, 20, OperationType.GET, 70, OperationType.QUERY, 10),
+                mix.getWeights());
+        assertEquals(80.0, mix.getReadPercentage(), 0.001);
+        assertEquals("put:20,get:70,query:10", mix.toString());
+    }
+
+    @Test
+    void parse_InvalidSpecification_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("scan:10"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("put:10,put:20"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("put:0,get:0"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("put:x"));
+    }
+
+    @Test
+    void select_ManyDraws_FollowsWeights() {
+        // Arrange
+        WorkloadMix mix = WorkloadMix.parse("put:20,get:80,batch-get:0");
+        Random random = new Random(42);
+        Map<OperationType, Integer> counts = new EnumMap<>(OperationType.class);
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.select(random.nextDouble()), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(20_000, counts.get(OperationType.PUT), 1_000);
+        assertEquals(80_000, counts.get(OperationType.GET), 1_000);
+        assertFalse(counts.containsKey(OperationType.BATCH_GET));
+    }
+
+    @Test
+    void select_Boundaries_MapToFirstAndLastOperation() {
+        WorkloadMix mix = WorkloadMix.parse("put:1,query:1");
+
+        assertEquals(OperationType.PUT, mix.select(0.0));
+        assertEquals(OperationType.QUERY, mix.select(0.999999));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.dynamodb.loadtest.service;
+
+import com.example.dynamodb.loadtest.model.TestItem;
+import com.example.dynamodb.loadtest.model.TestMetrics;
+import com.example.dynamodb.loadtest.repository.DynamoDBRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Before/after throughput comparison of the write path against a repository
+ * with a fixed simulated latency. The "before" path reproduces the previous
+ * composition: a virtual thread per item joining a common-pool task that
+ * blocks on the repository future. The "after" path is the asynchronous
+ * {@link ResilientDynamoDBService#putItemWithEnhancedResilience}.
+ * Wall-clock benchmark, run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WritePathThroughputTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WritePathThroughputTest.class);
+
+    private static final Duration SIMULATED_LATENCY = Duration.ofMillis(20);
+    private static final Duration MEASUREMENT_WINDOW = Duration.ofMillis(1500);
+
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private DynamoDBRepository repository;
+    private ResilientDynamoDBService resilientService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DynamoDBRepository.class);
+        when(repository.putItem(any())).thenAnswer(invocation -> {
+            CompletableFuture<PutItemResponse> response = new CompletableFuture<>();
+            CompletableFuture.delayedExecutor(SIMULATED_LATENCY.toMillis(), TimeUnit.MILLISECONDS, Runnable::run)
+                    .execute(() -> response.complete(PutItemResponse.builder().build()));
+            return response;
+        });
+        resilientService = new ResilientDynamoDBService(repository, new ErrorHandler(), new CircuitBreaker());
+    }
+
+    @AfterEach
+    void tearDown() {
+        virtualThreadExecutor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1000, 5000 })
+    void asyncWritePath_HighConcurrency_OutperformsBlockingPath(int concurrency) {
+        // Arrange
+        Function<TestItem, CompletableFuture<?>> blockingPath = item -> CompletableFuture.runAsync(
+                () -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return repository.putItem(item).get();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }).join(), virtualThreadExecutor);
+        Function<TestItem, CompletableFuture<?>> asyncPath = item -> resilientService
+                .putItemWithEnhancedResilience(item, new TestMetrics(Duration.ZERO, 0, 0, concurrency));
+
+        // Act
+        double before = measureThroughput(blockingPath, concurrency);
+        double after = measureThroughput(asyncPath, concurrency);
+
+        // Assert
+        double ceiling = concurrency * 1000.0 / SIMULATED_LATENCY.toMillis();
+        logger.info("Write path throughput at concurrency {}: before {} ops/s, after {} ops/s (ceiling {} ops/s)",
+                concurrency, String.format("%.0f", before), String.format("%.0f", after),
+                String.format("%.0f", ceiling));
+
+        assertTrue(after > before * 2,
+                "Async path " + after + " ops/s should clearly beat blocking path " + before + " ops/s");
+    }
+
+    private double measureThroughput(Function<TestItem, CompletableFuture<?>> writePath, int concurrency) {
+        AtomicLong completed = new AtomicLong(0);
+        Iterator<TestItem> items = LoadPhase.forDuration(new Iterator<>() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public TestItem next() {
+                return new TestItem("throughput-" + index++, "payload");
+            }
+        }, MEASUREMENT_WINDOW);
+
+        long start = System.nanoTime();
+        StreamingLoadExecutor.run(items, concurrency,
+                item -> writePath.apply(item).whenComplete((result, throwable) -> completed.incrementAndGet()))
+                .join();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return completed.get() / seconds;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.dynamodb.loadtest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WrittenKeyPoolTest {
+
+    @Test
+    void randomKey_EmptyPool_ReturnsNull() {
+        WrittenKeyPool pool = new WrittenKeyPool(4);
+
+        assertTrue(pool.isEmpty());
+        assertNull(pool.randomKey());
+        assertTrue(pool.randomKeys(3).isEmpty());
+    }
+
+    @Test
+    void add_BeyondCapacity_KeepsMostRecentKeys() {
+        // Arrange
+        WrittenKeyPool pool = new WrittenKeyPool(3);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            pool.add("key-" + i);
+        }
+
+        // Assert
+        assertEquals(3, pool.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            seen.add(pool.randomKey());
+        }
+        assertEquals(Set.of("key-2", "key-3", "key-4"), seen);
+    }
+
+    @Test
+    void randomKeys_ReturnsDistinctKeys() {
+        // Arrange
+        WrittenKeyPool pool = new WrittenKeyPool(100);
+        for (int i = 0; i < 100; i++) {
+            pool.add("key-" + i);
+        }
+
+        // Act
+        List<String> keys = pool.randomKeys(10);
+
+        // Assert
+        assertTrue(keys.size() > 1 && keys.size() <= 10);
+        assertEquals(keys.size(), new HashSet<>(keys).size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.dynamodb.loadtest.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TestDataGenerator.
+ */
+class TestDataGeneratorTest {
+
+    @Test
+    void randomPayload_ValidLength_UsesPayloadCharacters() {
+        // When
+        String payload = TestDataGenerator.randomPayload(300);
+
+        // Then
+        assertThat(payload).hasSize(300);
+        assertThat(payload.chars()).allMatch(c -> TestDataGenerator.PAYLOAD_CHARS.indexOf(c) >= 0);
+    }
+
+    @Test
+    void randomPayload_NonPositiveLength_ReturnsEmptyString() {
+        assertThat(TestDataGenerator.randomPayload(0)).isEmpty();
+        assertThat(TestDataGenerator.randomPayload(-5)).isEmpty();
+    }
+
+    @Test
+    void payloadAt_SameValue_ReturnsSamePayload() {
+        // When
+        String first = TestDataGenerator.payloadAt(12345L, 100);
+        String second = TestDataGenerator.payloadAt(12345L, 100);
+        String other = TestDataGenerator.payloadAt(-987654321L, 100);
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(other);
+    }
+
+    @Test
+    void payloadAt_LengthAbovePoolSize_WrapsAroundPool() {
+        // When
+        String payload = TestDataGenerator.payloadAt(7L, TestDataGenerator.POOL_SIZE + 10);
+
+        // Then
+        assertThat(payload).hasSize(TestDataGenerator.POOL_SIZE + 10);
+        assertThat(payload.chars()).allMatch(c -> TestDataGenerator.PAYLOAD_CHARS.indexOf(c) >= 0);
+    }
+
+    @Test
+    void threadRandom_DifferentThreads_GetSeparateGenerators() {
+        // When
+        Object current = TestDataGenerator.threadRandom();
+        Object other = CompletableFuture.supplyAsync(TestDataGenerator::threadRandom).join();
+
+        // Then
+        assertThat(TestDataGenerator.threadRandom()).isSameAs(current);
+        assertThat(other).isNotSameAs(current);
+    }
+}